@@ -13,6 +13,7 @@
 import org.hibernate.search.backend.elasticsearch.index.layout.impl.SimpleIndexLayoutStrategy;
 import org.hibernate.search.backend.elasticsearch.mapping.TypeNameMappingStrategyName;
 import org.hibernate.search.backend.elasticsearch.multitenancy.MultiTenancyStrategyName;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchScrollMode;
 import org.hibernate.search.engine.environment.bean.BeanReference;
 
 /**
@@ -286,6 +287,20 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String SCROLL_TIMEOUT = "scroll_timeout";
 
+	/**
+	 * How {@link org.hibernate.search.engine.search.query.SearchFetchable#scroll(int) scrolls}
+	 * retrieve successive chunks of hits from Elasticsearch.
+	 * <p>
+	 * Expects a {@link org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchScrollMode} value,
+	 * or a String representation of such value.
+	 * <p>
+	 * The mode can also be selected for each scroll,
+	 * see {@link org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchQuery#scroll(int, org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchScrollMode)}.
+	 * <p>
+	 * Defaults to {@link Defaults#SCROLL_MODE}.
+	 */
+	public static final String SCROLL_MODE = "scroll_mode";
+
 	/**
 	 * How long connections to the Elasticsearch cluster can be kept idle.
 	 * <p>
@@ -301,6 +316,21 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String MAX_KEEP_ALIVE = "max_keep_alive";
 
+	/**
+	 * Whether HTTP requests and responses should be compressed.
+	 * <p>
+	 * When enabled, the body of requests sent to Elasticsearch is compressed to the gzip format,
+	 * and Elasticsearch is asked to compress its responses.
+	 * This reduces network usage, in particular for bulk indexing requests,
+	 * at the cost of additional CPU usage on both ends.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#COMPRESSION}.
+	 */
+	public static final String COMPRESSION = "compression";
+
 	/**
 	 * This property defines if partial shard failures are ignored.
 	 * <p>
@@ -318,6 +348,58 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String QUERY_SHARD_FAILURE_IGNORE = "query.shard_failure.ignore";
 
+	/**
+	 * The maximum number of times indexing requests rejected by Elasticsearch because it is overloaded
+	 * (HTTP status 429, e.g. {@code es_rejected_execution_exception}) will be retried.
+	 * <p>
+	 * Only the rejected requests of a bulk are retried, after a delay that doubles on each attempt:
+	 * see {@link #BULK_RETRY_INITIAL_DELAY}.
+	 * When all retries are exhausted, the failure is reported as usual.
+	 * <p>
+	 * Expects a positive or zero Integer value, such as 3,
+	 * or a String that can be parsed into such Integer value.
+	 * {@code 0} disables retries.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to {@link Defaults#BULK_RETRY_MAX_RETRIES}.
+	 */
+	public static final String BULK_RETRY_MAX_RETRIES = "bulk.retry.max_retries";
+
+	/**
+	 * The delay before the first retry of indexing requests rejected by Elasticsearch because it is overloaded.
+	 * <p>
+	 * The delay doubles on each subsequent retry.
+	 * <p>
+	 * Expects a strictly positive Long value in milliseconds, such as 100,
+	 * or a String that can be parsed into such Long value.
+	 * <p>
+	 * Defaults to {@link Defaults#BULK_RETRY_INITIAL_DELAY}.
+	 *
+	 * @see #BULK_RETRY_MAX_RETRIES
+	 */
+	public static final String BULK_RETRY_INITIAL_DELAY = "bulk.retry.initial_delay";
+
+	/**
+	 * The maximum number of bulk requests sent to Elasticsearch concurrently, across all indexes.
+	 * <p>
+	 * When set, the number of concurrent bulk requests is adjusted dynamically between {@code 1} and this value:
+	 * it is halved whenever Elasticsearch rejects indexing requests because it is overloaded,
+	 * then grows slowly back as bulk requests succeed.
+	 * Bulk requests exceeding the current limit wait for another bulk request to complete,
+	 * which eventually slows down indexing queues and applies backpressure to the application.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as 10,
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to no limit.
+	 */
+	public static final String BULK_MAX_CONCURRENT_REQUESTS = "bulk.max_concurrent_requests";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -336,6 +418,7 @@ private Defaults() {
 		public static final boolean DISCOVERY_ENABLED = false;
 		public static final int DISCOVERY_REFRESH_INTERVAL = 10;
 		public static final boolean LOG_JSON_PRETTY_PRINTING = false;
+		public static final boolean COMPRESSION = false;
 		/**
 		 * @deprecated The default for the {@link ElasticsearchBackendSettings#VERSION_CHECK_ENABLED} property
 		 * is now dynamic and depends on the value of the {@link ElasticsearchBackendSettings#VERSION} property.
@@ -356,6 +439,9 @@ private Defaults() {
 		public static final BeanReference<IndexLayoutStrategy> LAYOUT_STRATEGY =
 				BeanReference.of( IndexLayoutStrategy.class, SimpleIndexLayoutStrategy.NAME );
 		public static final int SCROLL_TIMEOUT = 60;
+		public static final ElasticsearchSearchScrollMode SCROLL_MODE = ElasticsearchSearchScrollMode.SCROLL;
 		public static final boolean QUERY_SHARD_FAILURE_IGNORE = false;
+		public static final int BULK_RETRY_MAX_RETRIES = 3;
+		public static final long BULK_RETRY_INITIAL_DELAY = 100L;
 	}
 }
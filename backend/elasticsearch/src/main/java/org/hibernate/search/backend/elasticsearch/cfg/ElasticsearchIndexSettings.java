@@ -155,6 +155,25 @@ private ElasticsearchIndexSettings() {
 	 */
 	public static final String INDEXING_MAX_BULK_SIZE = INDEXING_PREFIX + IndexingRadicals.MAX_BULK_SIZE;
 
+	/**
+	 * The maximum size, in bytes, of bulk requests created when processing indexing queues.
+	 * <p>
+	 * Expects a strictly positive long value,
+	 * or a string that can be parsed into a long value.
+	 * <p>
+	 * Bulk requests are sent as soon as they reach either this size or {@link #INDEXING_MAX_BULK_SIZE},
+	 * whichever comes first.
+	 * The size of each indexing request is estimated by serializing it to JSON,
+	 * so setting this property incurs some additional CPU usage.
+	 * A single indexing request larger than this limit will be sent in its own bulk request.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to no limit.
+	 */
+	public static final String INDEXING_MAX_BULK_BYTES = INDEXING_PREFIX + IndexingRadicals.MAX_BULK_BYTES;
+
 	/**
 	 * Configuration property keys for indexing, without the {@link #INDEXING_PREFIX prefix}.
 	 */
@@ -166,6 +185,7 @@ private IndexingRadicals() {
 		public static final String QUEUE_COUNT = "queue_count";
 		public static final String QUEUE_SIZE = "queue_size";
 		public static final String MAX_BULK_SIZE = "max_bulk_size";
+		public static final String MAX_BULK_BYTES = "max_bulk_bytes";
 	}
 
 	/**
@@ -131,6 +131,12 @@ public class ElasticsearchClientFactoryImpl implements ElasticsearchClientFactor
 					.asLongStrictlyPositive()
 					.build();
 
+	private static final ConfigurationProperty<Boolean> COMPRESSION =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.COMPRESSION )
+					.asBoolean()
+					.withDefault( ElasticsearchBackendSettings.Defaults.COMPRESSION )
+					.build();
+
 	@Override
 	public ElasticsearchClientImplementor create(BeanResolver beanResolver, ConfigurationPropertySource propertySource,
 			ThreadProvider threadProvider, String threadNamePrefix,
@@ -159,7 +165,7 @@ public ElasticsearchClientImplementor create(BeanResolver beanResolver, Configur
 
 		return new ElasticsearchClientImpl(
 				restClientHolder, sniffer, timeoutExecutorService,
-				requestTimeoutMs, connectionTimeoutMs,
+				requestTimeoutMs, connectionTimeoutMs, COMPRESSION.get( propertySource ),
 				gsonProvider.getGson(), gsonProvider.getLogHelper()
 		);
 	}
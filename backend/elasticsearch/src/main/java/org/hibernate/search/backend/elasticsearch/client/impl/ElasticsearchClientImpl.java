@@ -4,6 +4,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.client.impl;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -11,6 +12,7 @@
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.List;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -20,6 +22,7 @@
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientImplementor;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponseBodyParser;
 import org.hibernate.search.backend.elasticsearch.gson.spi.JsonLogHelper;
 import org.hibernate.search.backend.elasticsearch.logging.impl.ElasticsearchClientLog;
 import org.hibernate.search.backend.elasticsearch.logging.impl.ElasticsearchMiscLog;
@@ -32,8 +35,10 @@
 
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.entity.ContentType;
 import org.elasticsearch.client.Request;
@@ -46,6 +51,14 @@
 
 public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 
+	/**
+	 * Asks Elasticsearch to compress responses.
+	 * Decompression is handled transparently by the {@link RestClient}.
+	 */
+	private static final RequestOptions COMPRESSED_RESPONSE_OPTIONS = RequestOptions.DEFAULT.toBuilder()
+			.addHeader( HttpHeaders.ACCEPT_ENCODING, "gzip" )
+			.build();
+
 	private final BeanHolder<? extends RestClient> restClientHolder;
 
 	private final Sniffer sniffer;
@@ -54,19 +67,21 @@ public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 
 	private final Optional<Integer> requestTimeoutMs;
 	private final int connectionTimeoutMs;
+	private final boolean compression;
 
 	private final Gson gson;
 	private final JsonLogHelper jsonLogHelper;
 
 	ElasticsearchClientImpl(BeanHolder<? extends RestClient> restClientHolder, Sniffer sniffer,
 			SimpleScheduledExecutor timeoutExecutorService,
-			Optional<Integer> requestTimeoutMs, int connectionTimeoutMs,
+			Optional<Integer> requestTimeoutMs, int connectionTimeoutMs, boolean compression,
 			Gson gson, JsonLogHelper jsonLogHelper) {
 		this.restClientHolder = restClientHolder;
 		this.sniffer = sniffer;
 		this.timeoutExecutorService = timeoutExecutorService;
 		this.requestTimeoutMs = requestTimeoutMs;
 		this.connectionTimeoutMs = connectionTimeoutMs;
+		this.compression = compression;
 		this.gson = gson;
 		this.jsonLogHelper = jsonLogHelper;
 	}
@@ -74,7 +89,7 @@ public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 	@Override
 	public CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest request) {
 		CompletableFuture<ElasticsearchResponse> result = Futures.create( () -> send( request ) )
-				.thenApply( this::convertResponse );
+				.thenApply( response -> convertResponse( request, response ) );
 		if ( ElasticsearchRequestLog.INSTANCE.isDebugEnabled() ) {
 			long startTime = System.nanoTime();
 			result.thenAccept( response -> log( request, startTime, response ) );
@@ -96,7 +111,7 @@ private CompletableFuture<Response> send(ElasticsearchRequest elasticsearchReque
 
 		HttpEntity entity;
 		try {
-			entity = ElasticsearchClientUtils.toEntity( gson, elasticsearchRequest );
+			entity = ElasticsearchClientUtils.toEntity( gson, elasticsearchRequest, compression );
 		}
 		catch (IOException | RuntimeException e) {
 			completableFuture.completeExceptionally( e );
@@ -162,6 +177,9 @@ public void onFailure(Exception exception) {
 
 	private Request toRequest(ElasticsearchRequest elasticsearchRequest, HttpEntity entity) {
 		Request request = new Request( elasticsearchRequest.method(), elasticsearchRequest.path() );
+		if ( compression ) {
+			request.setOptions( COMPRESSED_RESPONSE_OPTIONS );
+		}
 		setPerRequestSocketTimeout( elasticsearchRequest, request );
 
 		for ( Entry<String, String> parameter : elasticsearchRequest.parameters().entrySet() ) {
@@ -189,15 +207,15 @@ private void setPerRequestSocketTimeout(ElasticsearchRequest elasticsearchReques
 				.setConnectTimeout( connectionTimeoutMs )
 				.build();
 
-		RequestOptions.Builder requestOptions = RequestOptions.DEFAULT.toBuilder()
+		RequestOptions.Builder requestOptions = request.getOptions().toBuilder()
 				.setRequestConfig( requestConfig );
 
 		request.setOptions( requestOptions );
 	}
 
-	private ElasticsearchResponse convertResponse(Response response) {
+	private ElasticsearchResponse convertResponse(ElasticsearchRequest request, Response response) {
 		try {
-			JsonObject body = parseBody( response );
+			JsonObject body = parseBody( request, response );
 			return new ElasticsearchResponse(
 					response.getHost(),
 					response.getStatusLine().getStatusCode(),
@@ -210,7 +228,7 @@ private ElasticsearchResponse convertResponse(Response response) {
 		}
 	}
 
-	private JsonObject parseBody(Response response) throws IOException {
+	private JsonObject parseBody(ElasticsearchRequest request, Response response) throws IOException {
 		HttpEntity entity = response.getEntity();
 		if ( entity == null ) {
 			return null;
@@ -219,7 +237,19 @@ private JsonObject parseBody(Response response) throws IOException {
 		Charset charset = getCharset( entity );
 		try ( InputStream inputStream = entity.getContent();
 				Reader reader = new InputStreamReader( inputStream, charset ) ) {
-			return gson.fromJson( reader, JsonObject.class );
+			ElasticsearchResponseBodyParser responseBodyParser = request.responseBodyParser();
+			if ( responseBodyParser == null ) {
+				return gson.fromJson( reader, JsonObject.class );
+			}
+			JsonReader jsonReader = gson.newJsonReader( reader );
+			try {
+				jsonReader.peek();
+			}
+			catch (EOFException e) {
+				// Empty body
+				return null;
+			}
+			return responseBodyParser.parse( gson, jsonReader );
 		}
 	}
 
@@ -236,20 +266,22 @@ private void log(ElasticsearchRequest request, long start, ElasticsearchResponse
 		}
 		long executionTimeNs = System.nanoTime() - start;
 		long executionTimeMs = TimeUnit.NANOSECONDS.toMillis( executionTimeNs );
+		// Serialized body parts are parsed back on each call, so only do that once.
+		List<JsonObject> bodyParts = request.bodyParts();
 		if ( successCode ) {
 			ElasticsearchRequestLog.INSTANCE.executedRequest( request.method(), response.host(), request.path(),
 					request.parameters(),
-					request.bodyParts().size(), executionTimeMs,
+					bodyParts.size(), executionTimeMs,
 					response.statusCode(), response.statusMessage(),
-					jsonLogHelper.toString( request.bodyParts() ),
+					jsonLogHelper.toString( bodyParts ),
 					jsonLogHelper.toString( response.body() ) );
 		}
 		else {
 			ElasticsearchRequestLog.INSTANCE.executedRequestWithFailure( request.method(), response.host(), request.path(),
 					request.parameters(),
-					request.bodyParts().size(), executionTimeMs,
+					bodyParts.size(), executionTimeMs,
 					response.statusCode(), response.statusMessage(),
-					jsonLogHelper.toString( request.bodyParts() ),
+					jsonLogHelper.toString( bodyParts ),
 					jsonLogHelper.toString( response.body() ) );
 		}
 	}
@@ -13,6 +13,7 @@
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.gson.spi.SerializedJsonObject;
 import org.hibernate.search.backend.elasticsearch.logging.impl.ElasticsearchClientLog;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.impl.Futures;
@@ -38,11 +39,24 @@ public static boolean isSuccessCode(int code) {
 	}
 
 	public static HttpEntity toEntity(Gson gson, ElasticsearchRequest request) throws IOException {
-		final List<JsonObject> bodyParts = request.bodyParts();
+		return toEntity( gson, request, false );
+	}
+
+	public static HttpEntity toEntity(Gson gson, ElasticsearchRequest request, boolean compressed) throws IOException {
+		final List<?> bodyParts = request.rawBodyParts();
 		if ( bodyParts.isEmpty() ) {
 			return null;
 		}
-		return new GsonHttpEntity( gson, bodyParts );
+		return new GsonHttpEntity( gson, bodyParts, compressed );
+	}
+
+	/**
+	 * @param gson The Gson instance used to render the body parts.
+	 * @param bodyParts The body parts of a request: {@link JsonObject}s or {@link SerializedJsonObject}s.
+	 * @return The number of bytes those body parts will take up once rendered in a request.
+	 */
+	public static long computeContentLength(Gson gson, List<?> bodyParts) {
+		return GsonHttpEntity.computeContentLength( gson, bodyParts );
 	}
 
 	public static ElasticsearchVersion tryGetElasticsearchVersion(ElasticsearchClient client) {
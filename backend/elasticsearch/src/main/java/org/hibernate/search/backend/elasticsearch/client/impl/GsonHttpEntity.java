@@ -12,7 +12,10 @@
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
+import org.hibernate.search.backend.elasticsearch.gson.spi.SerializedJsonObject;
+import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.impl.Contracts;
 
 import com.google.gson.Gson;
@@ -53,6 +56,14 @@
  * report the content length; if not the encoding completion will be deferred
  * but not resetting so to avoid repeating encoding work.
  *
+ * Body parts may also be {@link SerializedJsonObject}s, i.e. JSON already rendered to bytes,
+ * in which case the bytes are simply copied to the byte buffer pages.
+ *
+ * When compression is enabled, the byte buffer pages are compressed to the gzip format
+ * as they are written to the output, see {@link GzipCompressingContentEncoder}.
+ * The compressed content length is only known once the whole content has been compressed,
+ * so compressed entities always use chunked-encoding.
+ *
  * @author Sanne Grinovero (C) 2017 Red Hat Inc.
  */
 final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
@@ -62,6 +73,9 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 	private static final BasicHeader CONTENT_TYPE =
 			new BasicHeader( HTTP.CONTENT_TYPE, ContentType.APPLICATION_JSON.toString() );
 
+	private static final BasicHeader CONTENT_ENCODING_GZIP =
+			new BasicHeader( HTTP.CONTENT_ENCODING, "gzip" );
+
 	/**
 	 * The size of byte buffer pages in {@link ProgressiveCharBufferWriter}
 	 * It's a rather large size: a tradeoff for very large JSON
@@ -80,7 +94,11 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 	private static final int CHAR_BUFFER_SIZE = BYTE_BUFFER_PAGE_SIZE;
 
 	private final Gson gson;
-	private final List<JsonObject> bodyParts;
+	/**
+	 * Each element is either a {@link JsonObject} or a {@link SerializedJsonObject}.
+	 */
+	private final List<?> bodyParts;
+	private final boolean compressed;
 
 	/**
 	 * We don't want to compute the length in advance as it would defeat the optimisations
@@ -120,12 +138,26 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 	private ProgressiveCharBufferWriter writer =
 			new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE );
 
-	public GsonHttpEntity(Gson gson, List<JsonObject> bodyParts) throws IOException {
+	/**
+	 * Sink for the byte buffer pages of the writer when compression is enabled, {@code null} otherwise.
+	 * Like the writer, it may hold compressed content while flow control refuses to accept more bytes.
+	 */
+	private GzipCompressingContentEncoder compressingEncoder;
+
+	public GsonHttpEntity(Gson gson, List<?> bodyParts) throws IOException {
+		this( gson, bodyParts, false );
+	}
+
+	public GsonHttpEntity(Gson gson, List<?> bodyParts, boolean compressed) throws IOException {
 		Contracts.assertNotNull( gson, "gson" );
 		Contracts.assertNotNull( bodyParts, "bodyParts" );
 		this.gson = gson;
 		this.bodyParts = bodyParts;
+		this.compressed = compressed;
 		this.contentLength = -1;
+		if ( compressed ) {
+			this.compressingEncoder = new GzipCompressingContentEncoder( BYTE_BUFFER_PAGE_SIZE );
+		}
 		attemptOnePassEncoding();
 	}
 
@@ -152,6 +184,9 @@ public Header getContentType() {
 
 	@Override
 	public Header getContentEncoding() {
+		if ( compressed ) {
+			return CONTENT_ENCODING_GZIP;
+		}
 		//Apparently this is the correct value:
 		return null;
 	}
@@ -170,16 +205,55 @@ public void writeTo(OutputStream out) throws IOException {
 		 * because we must not close the output stream that was passed as a parameter.
 		 */
 		CountingOutputStream countingStream = new CountingOutputStream( out );
-		Writer outWriter = new OutputStreamWriter( countingStream, CHARSET );
-		for ( JsonObject bodyPart : bodyParts ) {
-			gson.toJson( bodyPart, outWriter );
+		GZIPOutputStream gzipStream = compressed ? new GZIPOutputStream( countingStream, BYTE_BUFFER_PAGE_SIZE ) : null;
+		OutputStream outStream = compressed ? gzipStream : countingStream;
+		Writer outWriter = new OutputStreamWriter( outStream, CHARSET );
+		for ( Object bodyPart : bodyParts ) {
+			if ( bodyPart instanceof SerializedJsonObject serialized ) {
+				outWriter.flush();
+				serialized.writeTo( outStream );
+			}
+			else {
+				gson.toJson( (JsonObject) bodyPart, outWriter );
+			}
 			outWriter.append( '\n' );
 		}
 		outWriter.flush();
+		if ( compressed ) {
+			gzipStream.finish();
+		}
 		//Now we finally know the content size in bytes:
 		hintContentLength( countingStream.getBytesWritten() );
 	}
 
+	/**
+	 * @param gson The Gson instance used to render the body parts.
+	 * @param bodyParts The body parts, as they would be passed to the constructor.
+	 * @return The number of bytes that an entity with the given body parts would produce.
+	 */
+	static long computeContentLength(Gson gson, List<?> bodyParts) {
+		CountingOutputStream countingStream = new CountingOutputStream( OutputStream.nullOutputStream() );
+		Writer outWriter = new OutputStreamWriter( countingStream, CHARSET );
+		long serializedLength = 0L;
+		try {
+			for ( Object bodyPart : bodyParts ) {
+				if ( bodyPart instanceof SerializedJsonObject serialized ) {
+					// No need to write anything, we already know the length
+					serializedLength += serialized.length();
+				}
+				else {
+					gson.toJson( (JsonObject) bodyPart, outWriter );
+				}
+				outWriter.append( '\n' );
+			}
+			outWriter.flush();
+		}
+		catch (IOException e) {
+			throw new AssertionFailure( "Unexpected failure while writing to a null output stream", e );
+		}
+		return countingStream.getBytesWritten() + serializedLength;
+	}
+
 	@Override
 	public boolean isStreaming() {
 		return false;
@@ -198,6 +272,10 @@ public void close() {
 		this.nextBodyToEncodeIndex = 0;
 		//Discard previous buffers as they might contain in-process content:
 		this.writer = new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE );
+		if ( compressed ) {
+			this.compressingEncoder.close();
+			this.compressingEncoder = new GzipCompressingContentEncoder( BYTE_BUFFER_PAGE_SIZE );
+		}
 	}
 
 	/**
@@ -215,7 +293,8 @@ private void attemptOnePassEncoding() throws IOException {
 		// Essentially attempt to use the writer without going NPE on the output sink
 		// as it's not set yet.
 		triggerFullWrite();
-		if ( nextBodyToEncodeIndex == bodyParts.size() ) {
+		// With compression, the content length will only be known after compressing, which requires an output.
+		if ( !compressed && nextBodyToEncodeIndex == bodyParts.size() ) {
 			writer.flush();
 			// The buffer's content length so far is the final content length,
 			// as we know the entire content has been encoded already.
@@ -233,8 +312,13 @@ private void attemptOnePassEncoding() throws IOException {
 	 */
 	private void triggerFullWrite() throws IOException {
 		while ( nextBodyToEncodeIndex < bodyParts.size() ) {
-			JsonObject bodyPart = bodyParts.get( nextBodyToEncodeIndex++ );
-			gson.toJson( bodyPart, writer );
+			Object bodyPart = bodyParts.get( nextBodyToEncodeIndex++ );
+			if ( bodyPart instanceof SerializedJsonObject serialized ) {
+				writer.writeEncoded( serialized.asByteBuffer() );
+			}
+			else {
+				gson.toJson( (JsonObject) bodyPart, writer );
+			}
 			writer.append( '\n' );
 			writer.flush();
 			if ( writer.isFlowControlPushingBack() ) {
@@ -252,7 +336,13 @@ public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOEx
 		// Production of data is expected to complete only after we invoke ContentEncoder#complete.
 
 		//Re-set the encoder as it might be a different one than a previously used instance:
-		writer.setOutput( encoder );
+		if ( compressed ) {
+			compressingEncoder.setOutput( encoder );
+			writer.setOutput( compressingEncoder );
+		}
+		else {
+			writer.setOutput( encoder );
+		}
 
 		//First write unfinished business from previous attempts
 		writer.resumePendingWrites();
@@ -272,6 +362,10 @@ public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOEx
 			//Just quit: return control to the caller and trust we'll be called again.
 			return;
 		}
+		if ( compressed && !compressingEncoder.finish() ) {
+			//Just quit: return control to the caller and trust we'll be called again.
+			return;
+		}
 
 		// If we haven't aborted yet, we finished!
 
@@ -281,7 +375,7 @@ public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOEx
 		// Note this is only useful if produceContent was called by some process
 		// that is not the HTTP client itself (e.g. for request signing),
 		// because the HTTP Client itself will request the size before it starts writing content.
-		hintContentLength( writer.contentLength() );
+		hintContentLength( compressed ? compressingEncoder.contentLength() : writer.contentLength() );
 
 		encoder.complete();
 	}
@@ -0,0 +1,182 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import org.apache.http.nio.ContentEncoder;
+
+/**
+ * A {@link ContentEncoder} that compresses its input to the gzip format
+ * before passing it to another {@link ContentEncoder}.
+ * <p>
+ * Compression happens progressively, as input comes in,
+ * so that we never need to hold the whole compressed content in memory.
+ * <p>
+ * Flow control is preserved: as long as compressed content could not be passed
+ * to the {@link #setOutput(ContentEncoder) output}, this encoder will not accept more input.
+ * Since input comes in small pages (see {@link ProgressiveCharBufferWriter}),
+ * the compressed content waiting to be written stays small.
+ */
+final class GzipCompressingContentEncoder implements ContentEncoder {
+
+	private static final byte[] GZIP_HEADER = {
+			(byte) 0x1f, (byte) 0x8b, // Magic number
+			Deflater.DEFLATED, // Compression method
+			0, // Flags
+			0, 0, 0, 0, // Modification time
+			0, // Extra flags
+			(byte) 0xff // Operating system: unknown
+	};
+
+	private static final int GZIP_TRAILER_SIZE = 8;
+
+	private final Deflater deflater = new Deflater( Deflater.DEFAULT_COMPRESSION, true );
+	private final CRC32 crc = new CRC32();
+
+	/**
+	 * Compressed content that could not be written to the output yet, in write mode.
+	 * Its content always starts at position 0, so that it can be written without further copying.
+	 */
+	private ByteBuffer pending;
+
+	/**
+	 * Initially null: must be set before writing is started and each
+	 * time it's resumed as it might change between writes during
+	 * chunked encoding.
+	 */
+	private ContentEncoder output;
+
+	private boolean finished = false;
+
+	private long contentLength = 0L;
+
+	GzipCompressingContentEncoder(int pageSize) {
+		this.pending = ByteBuffer.allocate( Math.max( pageSize, GZIP_HEADER.length + GZIP_TRAILER_SIZE ) );
+		pending.put( GZIP_HEADER );
+	}
+
+	/**
+	 * Set the encoder to write compressed content to.
+	 */
+	void setOutput(ContentEncoder output) {
+		this.output = output;
+	}
+
+	@Override
+	public int write(ByteBuffer src) throws IOException {
+		if ( finished ) {
+			throw new IllegalStateException( "Cannot write to a finished gzip encoder" );
+		}
+		if ( !flushPending() ) {
+			// Flow control is pushing back: don't accept more input until the compressed content is written.
+			return 0;
+		}
+		int toWrite = src.remaining();
+		crc.update( src.duplicate() );
+		// The deflater consumes the buffer, advancing its position.
+		deflater.setInput( src );
+		while ( !deflater.needsInput() ) {
+			deflate();
+		}
+		// Attempt to write eagerly, but whatever could not be written will be written on the next call.
+		flushPending();
+		return toWrite;
+	}
+
+	/**
+	 * Compress any remaining input, write the gzip trailer,
+	 * and attempt to write all compressed content to the {@link #setOutput(ContentEncoder) output}.
+	 * <p>
+	 * Flow control may push back, in which case this method should be called again later.
+	 *
+	 * @return {@code true} if all compressed content was written to the output,
+	 * {@code false} if flow control pushed back.
+	 * @throws IOException when {@link ContentEncoder#write(ByteBuffer)} fails.
+	 */
+	boolean finish() throws IOException {
+		if ( !finished ) {
+			deflater.finish();
+			while ( !deflater.finished() ) {
+				deflate();
+			}
+			ensurePendingCapacity( GZIP_TRAILER_SIZE );
+			writeIntLittleEndian( (int) crc.getValue() );
+			writeIntLittleEndian( (int) deflater.getBytesRead() );
+			deflater.end();
+			finished = true;
+		}
+		return flushPending();
+	}
+
+	/**
+	 * @return The number of compressed bytes written to the {@link #setOutput(ContentEncoder) output} so far.
+	 */
+	long contentLength() {
+		return contentLength;
+	}
+
+	/**
+	 * Release the native resources held by this encoder.
+	 * Calling this method is only necessary if {@link #finish()} was never called.
+	 */
+	void close() {
+		deflater.end();
+	}
+
+	@Override
+	public void complete() throws IOException {
+		output.complete();
+	}
+
+	@Override
+	public boolean isCompleted() {
+		return output != null && output.isCompleted();
+	}
+
+	private void deflate() throws IOException {
+		if ( !pending.hasRemaining() && !flushPending() ) {
+			// Flow control is pushing back and the pending buffer is full: grow it.
+			ensurePendingCapacity( pending.capacity() );
+		}
+		deflater.deflate( pending, Deflater.NO_FLUSH );
+	}
+
+	private void ensurePendingCapacity(int additionalCapacity) {
+		if ( pending.remaining() >= additionalCapacity ) {
+			return;
+		}
+		ByteBuffer newPending = ByteBuffer.allocate( pending.position() + additionalCapacity );
+		pending.flip();
+		newPending.put( pending );
+		pending = newPending;
+	}
+
+	private void writeIntLittleEndian(int value) {
+		pending.put( (byte) value );
+		pending.put( (byte) ( value >> 8 ) );
+		pending.put( (byte) ( value >> 16 ) );
+		pending.put( (byte) ( value >> 24 ) );
+	}
+
+	private boolean flushPending() throws IOException {
+		if ( pending.position() == 0 ) {
+			return true;
+		}
+		if ( output == null ) {
+			return false;
+		}
+		pending.flip();
+		// We should never do 0-length writes, see HSEARCH-2854
+		int written = output.write( pending );
+		contentLength += written;
+		pending.compact();
+		return pending.position() == 0;
+	}
+
+}
@@ -33,5 +33,6 @@ private Paths() {
 	public static final URLEncodedString SCROLL = URLEncodedString.fromString( "scroll" );
 	public static final URLEncodedString HEALTH = URLEncodedString.fromString( "health" );
 	public static final URLEncodedString _ANALYZE = URLEncodedString.fromString( "_analyze" );
+	public static final URLEncodedString _PIT = URLEncodedString.fromString( "_pit" );
 
 }
@@ -142,6 +142,36 @@ else if ( len > charBuffer.remaining() ) {
 		}
 	}
 
+	/**
+	 * Write bytes that are already encoded with the charset of this writer,
+	 * copying them directly to the byte buffer pages.
+	 *
+	 * @param input The encoded bytes.
+	 * @throws IOException when {@link ContentEncoder#write(ByteBuffer)} fails.
+	 */
+	public void writeEncoded(ByteBuffer input) throws IOException {
+		// Pending chars must be written first, to preserve ordering.
+		flush();
+		while ( input.hasRemaining() ) {
+			if ( currentPage == null ) {
+				currentPage = ByteBuffer.allocate( pageSize );
+			}
+			int length = Math.min( input.remaining(), currentPage.remaining() );
+			currentPage.put( input.slice( input.position(), length ) );
+			input.position( input.position() + length );
+			contentLength += length;
+			if ( !currentPage.hasRemaining() ) {
+				// Same as an overflow in writeToByteBuffer
+				attemptFlushPendingBuffers( true );
+				if ( currentPage != null ) {
+					currentPage.flip();
+					needWritingPages.add( currentPage );
+					currentPage = null;
+				}
+			}
+		}
+	}
+
 	@Override
 	public void flush() throws IOException {
 		if ( charBuffer.position() == 0 ) {
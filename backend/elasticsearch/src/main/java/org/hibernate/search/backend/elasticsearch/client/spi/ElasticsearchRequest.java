@@ -12,6 +12,7 @@
 import java.util.Map;
 import java.util.StringJoiner;
 
+import org.hibernate.search.backend.elasticsearch.gson.spi.SerializedJsonObject;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.engine.common.timing.Deadline;
 
@@ -42,8 +43,10 @@ public static Builder builder(String method) {
 	private final String method;
 	private final String path;
 	private final Map<String, String> parameters;
-	private final List<JsonObject> bodyParts;
+	private final List<Object> bodyParts;
+	private final boolean hasSerializedBodyParts;
 	private final Deadline deadline;
+	private final ElasticsearchResponseBodyParser responseBodyParser;
 
 	private ElasticsearchRequest(Builder builder) {
 		this.method = builder.method;
@@ -52,7 +55,9 @@ private ElasticsearchRequest(Builder builder) {
 				builder.parameters == null ? Collections.emptyMap() : Collections.unmodifiableMap( builder.parameters );
 		this.bodyParts =
 				builder.bodyParts == null ? Collections.emptyList() : Collections.unmodifiableList( builder.bodyParts );
+		this.hasSerializedBodyParts = builder.hasSerializedBodyParts;
 		this.deadline = builder.deadline;
+		this.responseBodyParser = builder.responseBodyParser;
 	}
 
 	public String method() {
@@ -67,7 +72,31 @@ public Map<String, String> parameters() {
 		return parameters;
 	}
 
+	/**
+	 * @return The body parts as JSON objects.
+	 * Body parts that were {@link Builder#body(SerializedJsonObject) added in serialized form}
+	 * are parsed back on each call, so this should be avoided on hot paths:
+	 * see {@link #rawBodyParts()}.
+	 */
+	@SuppressWarnings("unchecked") // The list only contains JsonObjects if hasSerializedBodyParts is false
 	public List<JsonObject> bodyParts() {
+		if ( !hasSerializedBodyParts ) {
+			return (List<JsonObject>) (List<?>) bodyParts;
+		}
+		List<JsonObject> result = new ArrayList<>( bodyParts.size() );
+		for ( Object bodyPart : bodyParts ) {
+			result.add( bodyPart instanceof SerializedJsonObject serialized
+					? serialized.toJsonObject()
+					: (JsonObject) bodyPart );
+		}
+		return Collections.unmodifiableList( result );
+	}
+
+	/**
+	 * @return The body parts as they were added to the builder:
+	 * each element is either a {@link JsonObject} or a {@link SerializedJsonObject}.
+	 */
+	public List<?> rawBodyParts() {
 		return bodyParts;
 	}
 
@@ -75,6 +104,14 @@ public Deadline deadline() {
 		return deadline;
 	}
 
+	/**
+	 * @return The parser to use for the response body,
+	 * or {@code null} to parse the response body entirely.
+	 */
+	public ElasticsearchResponseBodyParser responseBodyParser() {
+		return responseBodyParser;
+	}
+
 	@Override
 	public String toString() {
 		return new StringJoiner( ", ", ElasticsearchRequest.class.getSimpleName() + "[", "]" )
@@ -93,8 +130,10 @@ public static final class Builder {
 		private final StringBuilder pathBuilder = new StringBuilder( 20 );
 
 		private Map<String, String> parameters;
-		private List<JsonObject> bodyParts;
+		private List<Object> bodyParts;
+		private boolean hasSerializedBodyParts;
 		private Deadline deadline;
+		private ElasticsearchResponseBodyParser responseBodyParser;
 
 		private Builder(String method) {
 			super();
@@ -159,11 +198,25 @@ public Builder body(JsonObject object) {
 			return this;
 		}
 
+		public Builder body(SerializedJsonObject object) {
+			if ( bodyParts == null ) {
+				bodyParts = new ArrayList<>();
+			}
+			bodyParts.add( object );
+			hasSerializedBodyParts = true;
+			return this;
+		}
+
 		public Builder deadline(Deadline deadline) {
 			this.deadline = deadline;
 			return this;
 		}
 
+		public Builder responseBodyParser(ElasticsearchResponseBodyParser responseBodyParser) {
+			this.responseBodyParser = responseBodyParser;
+			return this;
+		}
+
 		public ElasticsearchRequest build() {
 			return new ElasticsearchRequest( this );
 		}
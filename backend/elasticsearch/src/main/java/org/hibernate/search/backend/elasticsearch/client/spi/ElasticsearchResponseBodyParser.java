@@ -0,0 +1,30 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.client.spi;
+
+import java.io.IOException;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+
+/**
+ * A parser for the body of Elasticsearch responses,
+ * for requests whose response bodies do not need to be parsed entirely.
+ *
+ * @see ElasticsearchRequest.Builder#responseBodyParser(ElasticsearchResponseBodyParser)
+ */
+@FunctionalInterface
+public interface ElasticsearchResponseBodyParser {
+
+	/**
+	 * @param gson The Gson instance of the client, to parse parts of the body that should be retained as-is.
+	 * @param reader A reader positioned at the start of a non-empty response body.
+	 * @return The parsed body.
+	 * @throws IOException If the body cannot be read or parsed.
+	 */
+	JsonObject parse(Gson gson, JsonReader reader) throws IOException;
+
+}
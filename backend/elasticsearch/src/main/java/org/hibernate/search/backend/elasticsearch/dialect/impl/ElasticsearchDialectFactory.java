@@ -11,6 +11,7 @@
 import org.hibernate.search.backend.elasticsearch.dialect.model.impl.Elasticsearch7ModelDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.model.impl.Elasticsearch812ModelDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.model.impl.Elasticsearch814ModelDialect;
+import org.hibernate.search.backend.elasticsearch.dialect.model.impl.Elasticsearch818ModelDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.model.impl.Elasticsearch8ModelDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.model.impl.ElasticsearchModelDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.model.impl.OpenSearch1ModelDialect;
@@ -19,9 +20,13 @@
 import org.hibernate.search.backend.elasticsearch.dialect.model.impl.OpenSearch2ModelDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.AmazonOpenSearchServerlessProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch70ProtocolDialect;
+import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch712ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch80ProtocolDialect;
+import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch814ProtocolDialect;
+import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch818ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch81ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.ElasticsearchProtocolDialect;
+import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.OpenSearch1ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.logging.impl.VersionLog;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.annotation.Incubating;
@@ -103,8 +108,11 @@ else if ( major == 7 ) {
 			if ( major == 8 && minorOptional.getAsInt() < 14 ) {
 				return new Elasticsearch812ModelDialect();
 			}
+			if ( major == 8 && minorOptional.getAsInt() < 18 ) {
+				return new Elasticsearch814ModelDialect();
+			}
 
-			return new Elasticsearch814ModelDialect();
+			return new Elasticsearch818ModelDialect();
 		}
 	}
 
@@ -191,7 +199,7 @@ else if ( major == 9 ) {
 		}
 		else {
 			VersionLog.INSTANCE.unknownElasticsearchVersion( version );
-			return new Elasticsearch81ProtocolDialect();
+			return new Elasticsearch818ProtocolDialect();
 		}
 	}
 
@@ -199,7 +207,10 @@ private ElasticsearchProtocolDialect createProtocolDialectElasticV7(Elasticsearc
 		if ( minor > 17 ) {
 			VersionLog.INSTANCE.unknownElasticsearchVersion( version );
 		}
-		return new Elasticsearch70ProtocolDialect();
+		else if ( minor < 12 ) {
+			return new Elasticsearch70ProtocolDialect();
+		}
+		return new Elasticsearch712ProtocolDialect();
 	}
 
 	private ElasticsearchProtocolDialect createProtocolDialectElasticV8(ElasticsearchVersion version, int minor) {
@@ -209,14 +220,20 @@ private ElasticsearchProtocolDialect createProtocolDialectElasticV8(Elasticsearc
 		else if ( minor == 0 ) {
 			return new Elasticsearch80ProtocolDialect();
 		}
-		return new Elasticsearch81ProtocolDialect();
+		else if ( minor < 14 ) {
+			return new Elasticsearch81ProtocolDialect();
+		}
+		else if ( minor < 18 ) {
+			return new Elasticsearch814ProtocolDialect();
+		}
+		return new Elasticsearch818ProtocolDialect();
 	}
 
 	private ElasticsearchProtocolDialect createProtocolDialectElasticV9(ElasticsearchVersion version, int minor) {
 		if ( minor > 0 ) {
 			VersionLog.INSTANCE.unknownElasticsearchVersion( version );
 		}
-		return new Elasticsearch81ProtocolDialect();
+		return new Elasticsearch818ProtocolDialect();
 	}
 
 	private ElasticsearchProtocolDialect createProtocolDialectOpenSearch(ElasticsearchVersion version) {
@@ -246,7 +263,7 @@ else if ( major == 3 ) {
 		}
 		else {
 			VersionLog.INSTANCE.unknownElasticsearchVersion( version );
-			return new Elasticsearch70ProtocolDialect();
+			return new OpenSearch1ProtocolDialect();
 		}
 	}
 
@@ -254,21 +271,21 @@ private ElasticsearchProtocolDialect createProtocolDialectOpenSearchV1(Elasticse
 		if ( minor > 3 ) {
 			VersionLog.INSTANCE.unknownElasticsearchVersion( version );
 		}
-		return new Elasticsearch70ProtocolDialect();
+		return new OpenSearch1ProtocolDialect();
 	}
 
 	private ElasticsearchProtocolDialect createProtocolDialectOpenSearchV2(ElasticsearchVersion version, int minor) {
 		if ( minor > 19 ) {
 			VersionLog.INSTANCE.unknownElasticsearchVersion( version );
 		}
-		return new Elasticsearch70ProtocolDialect();
+		return new OpenSearch1ProtocolDialect();
 	}
 
 	private ElasticsearchProtocolDialect createProtocolDialectOpenSearchV3(ElasticsearchVersion version, int minor) {
 		if ( minor > 0 ) {
 			VersionLog.INSTANCE.unknownElasticsearchVersion( version );
 		}
-		return new Elasticsearch70ProtocolDialect();
+		return new OpenSearch1ProtocolDialect();
 	}
 
 	private ElasticsearchProtocolDialect createProtocolDialectAmazonOpenSearchServerless(ElasticsearchVersion version) {
@@ -0,0 +1,19 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.dialect.protocol.impl;
+
+import org.hibernate.search.backend.elasticsearch.lowlevel.syntax.search.impl.Elasticsearch818SearchSyntax;
+import org.hibernate.search.backend.elasticsearch.lowlevel.syntax.search.impl.ElasticsearchSearchSyntax;
+
+/**
+ * The protocol dialect for Elasticsearch 8.18 and later.
+ */
+public class Elasticsearch818ProtocolDialect extends Elasticsearch814ProtocolDialect {
+
+	@Override
+	public ElasticsearchSearchSyntax createSearchSyntax() {
+		return new Elasticsearch818SearchSyntax();
+	}
+}
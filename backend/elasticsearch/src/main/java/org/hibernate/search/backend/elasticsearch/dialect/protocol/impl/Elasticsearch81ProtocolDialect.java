@@ -15,7 +15,7 @@
 import org.hibernate.search.backend.elasticsearch.work.factory.impl.ElasticsearchWorkFactory;
 
 /**
- * The protocol dialect for Elasticsearch 8.1 and later 8.x.
+ * The protocol dialect for Elasticsearch 8.1 to 8.13.
  */
 public class Elasticsearch81ProtocolDialect implements ElasticsearchProtocolDialect {
 
@@ -0,0 +1,20 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.dialect.protocol.impl;
+
+import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+import org.hibernate.search.backend.elasticsearch.work.factory.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.backend.elasticsearch.work.factory.impl.OpenSearch1WorkFactory;
+
+/**
+ * The protocol dialect for OpenSearch 1.0 and later.
+ */
+public class OpenSearch1ProtocolDialect extends Elasticsearch70ProtocolDialect {
+
+	@Override
+	public ElasticsearchWorkFactory createWorkFactory(GsonProvider gsonProvider, Boolean ignoreShardFailures) {
+		return new OpenSearch1WorkFactory( gsonProvider, ignoreShardFailures );
+	}
+}
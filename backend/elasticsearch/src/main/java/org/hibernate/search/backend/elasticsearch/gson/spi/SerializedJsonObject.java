@@ -0,0 +1,102 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.gson.spi;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.hibernate.search.util.common.AssertionFailure;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * A JSON object rendered once and for all to compact, UTF-8 encoded bytes.
+ * <p>
+ * Useful for JSON objects that must be held in memory for some time before being sent,
+ * e.g. documents waiting in an indexing queue:
+ * a byte array takes much less heap than a tree of {@link JsonObject}s,
+ * and sending the object only involves copying bytes.
+ */
+public final class SerializedJsonObject {
+
+	private static final int INITIAL_BUFFER_SIZE = 256;
+
+	/**
+	 * @param gson The Gson instance to render the object with;
+	 * should be the same as the one used to render the rest of the request.
+	 * @param object The JSON object to render.
+	 * @return The rendered object.
+	 */
+	public static SerializedJsonObject of(Gson gson, JsonObject object) {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream( INITIAL_BUFFER_SIZE );
+		try ( Writer writer = new OutputStreamWriter( buffer, StandardCharsets.UTF_8 ) ) {
+			gson.toJson( object, writer );
+		}
+		catch (IOException e) {
+			throw new AssertionFailure( "Unexpected failure while writing to an in-memory buffer", e );
+		}
+		return new SerializedJsonObject( buffer.toByteArray() );
+	}
+
+	private final byte[] bytes;
+
+	private SerializedJsonObject(byte[] bytes) {
+		this.bytes = bytes;
+	}
+
+	@Override
+	public String toString() {
+		return new String( bytes, StandardCharsets.UTF_8 );
+	}
+
+	/**
+	 * @return The length of the rendered object, in bytes.
+	 */
+	public int length() {
+		return bytes.length;
+	}
+
+	/**
+	 * @return A read-only buffer over the rendered object.
+	 */
+	public ByteBuffer asByteBuffer() {
+		return ByteBuffer.wrap( bytes ).asReadOnlyBuffer();
+	}
+
+	/**
+	 * @param out The stream to write the rendered object to.
+	 * @throws IOException If writing to the stream fails.
+	 */
+	public void writeTo(OutputStream out) throws IOException {
+		out.write( bytes );
+	}
+
+	/**
+	 * Parses the rendered object back to a JSON tree.
+	 * <p>
+	 * This is costly and should be reserved to logging, testing, or other uncommon operations.
+	 *
+	 * @return A new JSON object equal to the object that was rendered.
+	 */
+	public JsonObject toJsonObject() {
+		try ( Reader reader = new InputStreamReader( new ByteArrayInputStream( bytes ), StandardCharsets.UTF_8 ) ) {
+			return JsonParser.parseReader( reader ).getAsJsonObject();
+		}
+		catch (IOException e) {
+			throw new AssertionFailure( "Unexpected failure while reading from an in-memory buffer", e );
+		}
+	}
+
+}
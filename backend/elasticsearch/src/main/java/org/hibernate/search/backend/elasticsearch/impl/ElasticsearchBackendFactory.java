@@ -135,7 +135,8 @@ dialectFactory, configuredVersion, createTypeNameMapping( propertySource )
 					propertyMappingValidatorProvider,
 					userFacingGson,
 					multiTenancyStrategy,
-					buildContext.failureHandler(), buildContext.timingSource()
+					buildContext.failureHandler(), buildContext.timingSource(),
+					buildContext.metrics()
 			);
 		}
 		catch (RuntimeException e) {
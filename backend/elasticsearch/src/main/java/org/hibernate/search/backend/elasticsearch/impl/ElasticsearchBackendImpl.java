@@ -43,6 +43,7 @@
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.engine.common.metrics.spi.SearchMetrics;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.BeanReference;
@@ -102,7 +103,8 @@ class ElasticsearchBackendImpl implements BackendImplementor, ElasticsearchBacke
 			ElasticsearchPropertyMappingValidatorProvider propertyMappingValidatorProvider,
 			Gson userFacingGson,
 			MultiTenancyStrategy multiTenancyStrategy,
-			FailureHandler failureHandler, TimingSource timingSource) {
+			FailureHandler failureHandler, TimingSource timingSource,
+			SearchMetrics metrics) {
 		this.backendName = backendName;
 		this.eventContext = eventContext;
 		this.threads = threads;
@@ -120,7 +122,7 @@ class ElasticsearchBackendImpl implements BackendImplementor, ElasticsearchBacke
 				this, eventContext, threads, link,
 				userFacingGson,
 				multiTenancyStrategy,
-				failureHandler, timingSource,
+				failureHandler, timingSource, metrics,
 				generalPurposeOrchestrator,
 				propertyMappingValidatorProvider
 		);
@@ -24,9 +24,11 @@
 import org.hibernate.search.backend.elasticsearch.lowlevel.syntax.search.impl.ElasticsearchSearchSyntax;
 import org.hibernate.search.backend.elasticsearch.mapping.impl.TypeNameMapping;
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchBulkBackpressure;
 import org.hibernate.search.backend.elasticsearch.resources.impl.BackendThreads;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ProjectionExtractionHelper;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionBackendContext;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchScrollMode;
 import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchSearchResultExtractorFactory;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.factory.impl.ElasticsearchWorkFactory;
@@ -59,6 +61,12 @@ class ElasticsearchLinkImpl implements ElasticsearchLink {
 					.withDefault( ElasticsearchBackendSettings.Defaults.SCROLL_TIMEOUT )
 					.build();
 
+	private static final ConfigurationProperty<ElasticsearchSearchScrollMode> SCROLL_MODE =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.SCROLL_MODE )
+					.as( ElasticsearchSearchScrollMode.class, ElasticsearchSearchScrollMode::of )
+					.withDefault( ElasticsearchBackendSettings.Defaults.SCROLL_MODE )
+					.build();
+
 	private static final ConfigurationProperty<Boolean> QUERY_SHARD_FAILURE_IGNORE =
 			ConfigurationProperty.forKey( ElasticsearchBackendSettings.QUERY_SHARD_FAILURE_IGNORE )
 					.asBoolean()
@@ -88,6 +96,8 @@ class ElasticsearchLinkImpl implements ElasticsearchLink {
 	private ElasticsearchWorkFactory workFactory;
 	private ElasticsearchSearchResultExtractorFactory searchResultExtractorFactory;
 	private Integer scrollTimeout;
+	private ElasticsearchSearchScrollMode scrollMode;
+	private ElasticsearchBulkBackpressure bulkBackpressure;
 	private BeanHolder<? extends IndexLayoutStrategy> indexLayoutStrategyHolder;
 	private SearchProjectionBackendContext searchProjectionBackendContext;
 
@@ -148,6 +158,18 @@ public Integer getScrollTimeout() {
 		return scrollTimeout;
 	}
 
+	@Override
+	public ElasticsearchSearchScrollMode getScrollMode() {
+		checkStarted();
+		return scrollMode;
+	}
+
+	@Override
+	public ElasticsearchBulkBackpressure getBulkBackpressure() {
+		checkStarted();
+		return bulkBackpressure;
+	}
+
 	@Override
 	public IndexLayoutStrategy getIndexLayoutStrategy() {
 		checkStarted();
@@ -221,6 +243,8 @@ void onStart(BeanResolver beanResolver, MultiTenancyStrategy multiTenancyStrateg
 			workFactory = protocolDialect.createWorkFactory( gsonProvider, QUERY_SHARD_FAILURE_IGNORE.get( propertySource ) );
 			searchResultExtractorFactory = protocolDialect.createSearchResultExtractorFactory();
 			scrollTimeout = SCROLL_TIMEOUT.get( propertySource );
+			scrollMode = SCROLL_MODE.get( propertySource );
+			bulkBackpressure = ElasticsearchBulkBackpressure.create( propertySource );
 		}
 		indexLayoutStrategyHolder = createIndexLayoutStrategy( beanResolver, propertySource );
 		ProjectionExtractionHelper<String> projectionExtractionHelper =
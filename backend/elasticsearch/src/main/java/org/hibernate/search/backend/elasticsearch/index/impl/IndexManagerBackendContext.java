@@ -4,6 +4,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.index.impl;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -46,6 +47,8 @@
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.engine.common.metrics.spi.SearchMetrics;
+import org.hibernate.search.engine.common.metrics.spi.SearchMetricNames;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContextBuilder;
@@ -74,6 +77,7 @@ public class IndexManagerBackendContext implements SearchBackendContext, WorkExe
 	private final MultiTenancyStrategy multiTenancyStrategy;
 	private final FailureHandler failureHandler;
 	private final TimingSource timingSource;
+	private final SearchMetrics metrics;
 	private final ElasticsearchParallelWorkOrchestrator generalPurposeOrchestrator;
 	private final ElasticsearchPropertyMappingValidatorProvider propertyMappingValidatorProvider;
 
@@ -83,6 +87,7 @@ public IndexManagerBackendContext(ElasticsearchBackend backendAPI,
 			MultiTenancyStrategy multiTenancyStrategy,
 			FailureHandler failureHandler,
 			TimingSource timingSource,
+			SearchMetrics metrics,
 			ElasticsearchParallelWorkOrchestrator generalPurposeOrchestrator,
 			ElasticsearchPropertyMappingValidatorProvider propertyMappingValidatorProvider) {
 		this.backendAPI = backendAPI;
@@ -93,6 +98,7 @@ public IndexManagerBackendContext(ElasticsearchBackend backendAPI,
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.failureHandler = failureHandler;
 		this.timingSource = timingSource;
+		this.metrics = metrics;
 		this.generalPurposeOrchestrator = generalPurposeOrchestrator;
 		this.propertyMappingValidatorProvider = propertyMappingValidatorProvider;
 	}
@@ -169,7 +175,7 @@ public <H> ElasticsearchSearchQueryBuilder<H> createSearchQueryBuilder(
 				link.getWorkFactory(), link.getSearchResultExtractorFactory(),
 				generalPurposeOrchestrator,
 				scope, sessionContext, loadingContextBuilder, rootProjection,
-				link.getScrollTimeout()
+				link.getScrollTimeout(), link.getScrollMode()
 		);
 	}
 
@@ -224,7 +230,8 @@ ElasticsearchBatchingWorkOrchestrator createIndexingOrchestrator(String indexNam
 		return new ElasticsearchBatchingWorkOrchestrator(
 				"Elasticsearch indexing orchestrator for index " + indexName,
 				threads, link,
-				failureHandler
+				failureHandler,
+				metrics, Map.of( SearchMetricNames.TAG_INDEX, indexName )
 		);
 	}
 
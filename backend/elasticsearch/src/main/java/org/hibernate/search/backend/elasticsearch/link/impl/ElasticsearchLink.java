@@ -11,7 +11,9 @@
 import org.hibernate.search.backend.elasticsearch.lowlevel.syntax.metadata.impl.ElasticsearchIndexMetadataSyntax;
 import org.hibernate.search.backend.elasticsearch.lowlevel.syntax.search.impl.ElasticsearchSearchSyntax;
 import org.hibernate.search.backend.elasticsearch.mapping.impl.TypeNameMapping;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchBulkBackpressure;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionBackendContext;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchScrollMode;
 import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchSearchResultExtractorFactory;
 import org.hibernate.search.backend.elasticsearch.work.factory.impl.ElasticsearchWorkFactory;
 
@@ -37,6 +39,10 @@ public interface ElasticsearchLink {
 
 	Integer getScrollTimeout();
 
+	ElasticsearchSearchScrollMode getScrollMode();
+
+	ElasticsearchBulkBackpressure getBulkBackpressure();
+
 	IndexLayoutStrategy getIndexLayoutStrategy();
 
 	TypeNameMapping getTypeNameMapping();
@@ -76,6 +76,10 @@ public interface ConfigurationLog {
 			+ " Valid names are: %2$s.")
 	SearchException invalidTypeNameMappingStrategyName(String invalidRepresentation, List<String> validRepresentations);
 
+	@Message(id = ID_OFFSET + 194, value = "Invalid scroll mode: '%1$s'."
+			+ " Valid names are: %2$s.")
+	SearchException invalidScrollMode(String invalidRepresentation, List<String> validRepresentations);
+
 	@Message(id = ID_OFFSET + 121, value = "Invalid dynamic type: '%1$s'."
 			+ " Valid values are: %2$s.")
 	SearchException invalidDynamicType(String invalidRepresentation, List<String> validRepresentations);
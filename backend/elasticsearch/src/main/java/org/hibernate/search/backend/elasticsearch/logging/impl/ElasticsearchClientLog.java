@@ -167,4 +167,14 @@ SearchException elasticsearchIndexNameAndAliasesMatchMultipleIndexes(URLEncodedS
 	@Message(id = ID_OFFSET + 125,
 			value = "Unable to update aliases for index '%1$s': %2$s")
 	SearchException elasticsearchAliasUpdateFailed(Object indexName, String causeMessage, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 195,
+			value = "Elasticsearch rejected the request because it is overloaded (HTTP status 429).")
+	SearchException elasticsearchStatus429TooManyRequests();
+
+	@LogMessage(level = Logger.Level.DEBUG)
+	@Message(id = ID_OFFSET + 196,
+			value = "Elasticsearch rejected %1$d bulked requests because it is overloaded."
+					+ " Retrying in %2$d ms (retry %3$d of %4$d).")
+	void retryingRejectedBulkedRequests(int rejectedCount, long delayMillis, int retry, int maxRetries);
 }
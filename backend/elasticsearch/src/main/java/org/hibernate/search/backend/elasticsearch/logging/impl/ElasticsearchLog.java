@@ -40,6 +40,6 @@
 	 * here to the next value.
 	 */
 	@LogMessage(level = TRACE)
-	@Message(id = ID_OFFSET + 193, value = "")
+	@Message(id = ID_OFFSET + 205, value = "")
 	void nextLoggerIdForConvenience();
 }
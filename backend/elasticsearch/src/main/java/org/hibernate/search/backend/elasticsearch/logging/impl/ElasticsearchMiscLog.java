@@ -84,6 +84,16 @@ SearchException indexManagerUnwrappingWithUnknownType(@FormatWith(ClassFormatter
 			+ " so index status requirements cannot be enforced.")
 	SearchException cannotRequireIndexStatus();
 
+	@Message(id = ID_OFFSET + 193,
+			value = "Cannot execute '%s' because point-in-time searches are only supported with the Elasticsearch distribution."
+					+ " Either use the default scroll mode or switch to the Elasticsearch distribution.")
+	SearchException cannotUsePointInTimeOnOpenSearch(String operation);
+
+	@Message(id = ID_OFFSET + 201,
+			value = "Cannot execute '%s' because point-in-time searches require Elasticsearch 7.12 or later."
+					+ " Either use the default scroll mode or upgrade your Elasticsearch cluster.")
+	SearchException cannotUsePointInTimeBeforeElasticsearch712(String operation);
+
 	@LogMessage(level = DEBUG)
 	@Message(id = ID_OFFSET + 191, value = "Normalizing index name from '%1$s' to '%2$s'")
 	void normalizeIndexName(String indexName, String esIndexName);
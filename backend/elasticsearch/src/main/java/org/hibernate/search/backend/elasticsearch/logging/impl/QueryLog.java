@@ -22,6 +22,7 @@
 import org.hibernate.search.engine.search.highlighter.SearchHighlighter;
 import org.hibernate.search.engine.search.highlighter.spi.SearchHighlighterType;
 import org.hibernate.search.engine.search.predicate.SearchPredicate;
+import org.hibernate.search.engine.search.predicate.dsl.RankFusionMethod;
 import org.hibernate.search.engine.search.projection.SearchProjection;
 import org.hibernate.search.engine.search.sort.SearchSort;
 import org.hibernate.search.util.common.SearchException;
@@ -333,4 +334,41 @@ SearchException vectorKnnMatchVectorTypeDiffersFromField(String absoluteFieldPat
 	@Message(id = ID_OFFSET + 190, value = "A single-valued highlight projection requested, "
 			+ "but the corresponding highlighter does not set number of fragments to 1.")
 	SearchException highlighterIncompatibleCardinality();
+
+	@Message(id = ID_OFFSET + 197,
+			value = "An OpenSearch distribution does not allow specifying the `number of candidates` option of knn predicates. "
+					+ "This option is only applicable to an Elastic distribution of an Elasticsearch backend.")
+	SearchException knnNumCandidatesUnsupportedOption();
+
+	@Message(id = ID_OFFSET + 198,
+			value = "This Elasticsearch distribution or version does not support the `exact rescoring` option of knn predicates. "
+					+ "This option requires the Elastic distribution of Elasticsearch 8.18 or later.")
+	SearchException knnExactRescoringUnsupportedOption();
+
+	@Message(id = ID_OFFSET + 199,
+			value = "Cannot use a rank fusion predicate as a clause of another predicate."
+					+ " With the Elasticsearch backend, rank fusion predicates can only be used as the top-level predicate of a query.")
+	SearchException rankFusionNotTopLevel();
+
+	@Message(id = ID_OFFSET + 200,
+			value = "The Elasticsearch backend does not support clause weights with reciprocal rank fusion (weight: '%1$s')."
+					+ " Use normalized score fusion to assign weights to clauses.")
+	SearchException rankFusionReciprocalRankWeightUnsupported(float weight);
+
+	@Message(id = ID_OFFSET + 202,
+			value = "This Elasticsearch distribution or version does not support rank fusion with method '%1$s'."
+					+ " Reciprocal rank fusion requires the Elastic distribution of Elasticsearch 8.14 or later,"
+					+ " and normalized score fusion requires the Elastic distribution of Elasticsearch 8.18 or later.")
+	SearchException rankFusionUnsupported(RankFusionMethod method);
+
+	@Message(id = ID_OFFSET + 203,
+			value = "Cannot sort the hits of a query whose top-level predicate is a rank fusion predicate."
+					+ " With the Elasticsearch backend, hits of rank fusion queries are always sorted by fused rank.")
+	SearchException rankFusionSortUnsupported();
+
+	@Message(id = ID_OFFSET + 204,
+			value = "Cannot scroll through the hits of a query whose top-level predicate is a rank fusion predicate."
+					+ " With the Elasticsearch backend, rank fusion queries only return their top hits:"
+					+ " fetch them with an offset and limit instead.")
+	SearchException rankFusionScrollUnsupported();
 }
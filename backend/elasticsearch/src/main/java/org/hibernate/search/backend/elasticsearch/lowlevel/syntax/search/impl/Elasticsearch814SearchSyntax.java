@@ -0,0 +1,19 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.lowlevel.syntax.search.impl;
+
+import org.hibernate.search.engine.search.predicate.dsl.RankFusionMethod;
+
+/**
+ * The search syntax for ES8.14 and later.
+ */
+public class Elasticsearch814SearchSyntax extends Elasticsearch81SearchSyntax {
+
+	@Override
+	public boolean supportsRankFusion(RankFusionMethod method) {
+		// The rrf retriever was introduced in ES8.14
+		return RankFusionMethod.RECIPROCAL_RANK.equals( method );
+	}
+}
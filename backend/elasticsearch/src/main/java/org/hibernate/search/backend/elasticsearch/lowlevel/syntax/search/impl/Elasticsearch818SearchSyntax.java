@@ -0,0 +1,19 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.lowlevel.syntax.search.impl;
+
+import org.hibernate.search.engine.search.predicate.dsl.RankFusionMethod;
+
+/**
+ * The search syntax for ES8.18 and later.
+ */
+public class Elasticsearch818SearchSyntax extends Elasticsearch814SearchSyntax {
+
+	@Override
+	public boolean supportsRankFusion(RankFusionMethod method) {
+		// The linear retriever was introduced in ES8.18
+		return true;
+	}
+}
@@ -8,6 +8,7 @@
 
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonArrayAccessor;
+import org.hibernate.search.engine.search.predicate.dsl.RankFusionMethod;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonNull;
@@ -67,4 +68,10 @@ public JsonElement encodeLongForAggregation(Long value) {
 		// https://github.com/elastic/elasticsearch/issues/81529 was solved in ES8.1
 		return value == null ? JsonNull.INSTANCE : new JsonPrimitive( value );
 	}
+
+	@Override
+	public boolean supportsRankFusion(RankFusionMethod method) {
+		// Retrievers were introduced in ES8.14
+		return false;
+	}
 }
@@ -6,6 +6,8 @@
 
 import java.util.List;
 
+import org.hibernate.search.engine.search.predicate.dsl.RankFusionMethod;
+
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
@@ -22,4 +24,11 @@ public interface ElasticsearchSearchSyntax {
 
 	JsonElement encodeLongForAggregation(Long value);
 
+	/**
+	 * @param method A rank fusion method.
+	 * @return {@code true} if the retriever implementing this rank fusion method is available,
+	 * {@code false} otherwise.
+	 */
+	boolean supportsRankFusion(RankFusionMethod method);
+
 }
@@ -4,23 +4,38 @@
  */
 package org.hibernate.search.backend.elasticsearch.orchestration.impl;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
 
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexSettings;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClientUtils;
 import org.hibernate.search.backend.elasticsearch.link.impl.ElasticsearchLink;
 import org.hibernate.search.backend.elasticsearch.resources.impl.BackendThreads;
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
 import org.hibernate.search.backend.elasticsearch.work.impl.IndexingWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
 import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutor;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.engine.common.metrics.spi.SearchMetricNames;
+import org.hibernate.search.engine.common.metrics.spi.SearchMetrics;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.data.impl.HashTable;
 import org.hibernate.search.util.common.data.impl.ModuloHashTable;
 import org.hibernate.search.util.common.data.impl.SimpleHashFunction;
 import org.hibernate.search.util.common.impl.Closer;
 
+import com.google.gson.Gson;
+
 /**
  * An orchestrator sending works to a queue which is processed periodically
  * in a separate thread.
@@ -52,8 +67,15 @@
 					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_MAX_BULK_SIZE )
 					.build();
 
+	private static final OptionalConfigurationProperty<Long> MAX_BULK_BYTES =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_MAX_BULK_BYTES )
+					.asLongStrictlyPositive()
+					.build();
+
 	private final BackendThreads threads;
 	private final FailureHandler failureHandler;
+	private final SearchMetrics metrics;
+	private final Map<String, String> metricTags;
 
 	private HashTable<BatchingExecutor<ElasticsearchBatchedWorkProcessor, ElasticsearchBatchedWork<?>>> executors;
 
@@ -62,13 +84,18 @@
 	 * @param threads The threads for this backend.
 	 * @param link The Elasticsearch link for this backend.
 	 * @param failureHandler A failure handler to report failures of the background thread.
+	 * @param metrics Metrics to report the state of indexing queues to.
+	 * @param metricTags Tags identifying the index in metrics.
 	 */
 	public ElasticsearchBatchingWorkOrchestrator(
 			String name, BackendThreads threads, ElasticsearchLink link,
-			FailureHandler failureHandler) {
+			FailureHandler failureHandler,
+			SearchMetrics metrics, Map<String, String> metricTags) {
 		super( name, link );
 		this.threads = threads;
 		this.failureHandler = failureHandler;
+		this.metrics = metrics;
+		this.metricTags = metricTags;
 	}
 
 	@Override
@@ -83,20 +110,24 @@ protected void doStart(ConfigurationPropertySource propertySource) {
 		int queueCount = QUEUE_COUNT.get( propertySource );
 		int queueSize = QUEUE_SIZE.get( propertySource );
 		int maxBulkSize = MAX_BULK_SIZE.get( propertySource );
+		long maxBulkBytes = MAX_BULK_BYTES.get( propertySource ).orElse( Long.MAX_VALUE );
 
 		ElasticsearchWorkExecutionContext executionContext = createWorkExecutionContext();
 
 		executors = new ModuloHashTable<>( SimpleHashFunction.INSTANCE, queueCount );
 		for ( int i = 0; i < executors.size(); i++ ) {
 			// Processors are not thread-safe: create one per executor.
-			ElasticsearchBatchedWorkProcessor processor = createProcessor( executionContext, maxBulkSize );
+			ElasticsearchBatchedWorkProcessor processor = createProcessor( executionContext, maxBulkSize, maxBulkBytes );
+			Map<String, String> queueMetricTags = new HashMap<>( metricTags );
+			queueMetricTags.put( SearchMetricNames.TAG_QUEUE, String.valueOf( i ) );
 			executors.set( i, new BatchingExecutor<>(
 					name() + " - " + i,
 					processor,
 					queueSize,
 					true,
 					failureHandler,
-					blockingRetryProducer
+					blockingRetryProducer,
+					metrics, queueMetricTags
 			) );
 		}
 
@@ -128,12 +159,24 @@ protected void doStop() {
 	}
 
 	private ElasticsearchBatchedWorkProcessor createProcessor(ElasticsearchWorkExecutionContext context,
-			int maxBulkSize) {
+			int maxBulkSize, long maxBulkBytes) {
 		ElasticsearchWorkSequenceBuilder sequenceBuilder = new ElasticsearchDefaultWorkSequenceBuilder( context );
+		Gson gson = link.getGsonProvider().getGson();
+		BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory =
+				(worksToBulk, refreshStrategy) -> link.getWorkFactory().bulk( worksToBulk ).refresh( refreshStrategy ).build();
+		ElasticsearchBulkBackpressure backpressure = link.getBulkBackpressure();
+		if ( backpressure.isEnabled() ) {
+			BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> delegate =
+					bulkWorkFactory;
+			bulkWorkFactory = (worksToBulk, refreshStrategy) -> new ElasticsearchRetryingBulkWork( worksToBulk,
+					refreshStrategy, delegate, backpressure, threads.getWorkExecutor() );
+		}
 		ElasticsearchWorkBulker bulker = new ElasticsearchDefaultWorkBulker(
 				sequenceBuilder,
-				(worksToBulk, refreshStrategy) -> link.getWorkFactory().bulk( worksToBulk ).refresh( refreshStrategy ).build(),
-				maxBulkSize
+				bulkWorkFactory,
+				maxBulkSize,
+				work -> ElasticsearchClientUtils.computeContentLength( gson, BulkWork.bodyParts( work ) ),
+				maxBulkBytes
 		);
 		return new ElasticsearchBatchedWorkProcessor( sequenceBuilder, bulker );
 	}
@@ -0,0 +1,152 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+
+/**
+ * Reacts to Elasticsearch rejecting bulked requests because it is overloaded (HTTP status 429):
+ * defines how rejected requests are retried,
+ * and limits the number of concurrent bulk requests with an AIMD (additive increase, multiplicative decrease) strategy.
+ * <p>
+ * A single instance is shared by all indexes of a backend, since they all send requests to the same cluster.
+ */
+public final class ElasticsearchBulkBackpressure {
+
+	private static final ConfigurationProperty<Integer> BULK_RETRY_MAX_RETRIES =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.BULK_RETRY_MAX_RETRIES )
+					.asIntegerPositiveOrZero()
+					.withDefault( ElasticsearchBackendSettings.Defaults.BULK_RETRY_MAX_RETRIES )
+					.build();
+
+	private static final ConfigurationProperty<Long> BULK_RETRY_INITIAL_DELAY =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.BULK_RETRY_INITIAL_DELAY )
+					.asLongStrictlyPositive()
+					.withDefault( ElasticsearchBackendSettings.Defaults.BULK_RETRY_INITIAL_DELAY )
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> BULK_MAX_CONCURRENT_REQUESTS =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.BULK_MAX_CONCURRENT_REQUESTS )
+					.asIntegerStrictlyPositive()
+					.build();
+
+	private static final CompletableFuture<Void> PERMIT_GRANTED = CompletableFuture.completedFuture( null );
+
+	public static ElasticsearchBulkBackpressure create(ConfigurationPropertySource propertySource) {
+		return new ElasticsearchBulkBackpressure(
+				BULK_RETRY_MAX_RETRIES.get( propertySource ),
+				BULK_RETRY_INITIAL_DELAY.get( propertySource ),
+				BULK_MAX_CONCURRENT_REQUESTS.get( propertySource ).orElse( null )
+		);
+	}
+
+	private final int maxRetries;
+	private final long initialRetryDelayMillis;
+	private final Integer maxConcurrentRequests;
+
+	private final Deque<CompletableFuture<Void>> waitingRequests = new ArrayDeque<>();
+	private double concurrentRequestsLimit;
+	private int concurrentRequests = 0;
+
+	ElasticsearchBulkBackpressure(int maxRetries, long initialRetryDelayMillis, Integer maxConcurrentRequests) {
+		this.maxRetries = maxRetries;
+		this.initialRetryDelayMillis = initialRetryDelayMillis;
+		this.maxConcurrentRequests = maxConcurrentRequests;
+		this.concurrentRequestsLimit = maxConcurrentRequests == null ? Double.MAX_VALUE : maxConcurrentRequests;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "maxRetries=" + maxRetries
+				+ ", initialRetryDelayMillis=" + initialRetryDelayMillis
+				+ ", maxConcurrentRequests=" + maxConcurrentRequests
+				+ "]";
+	}
+
+	/**
+	 * @return {@code true} if bulk requests need to go through this object,
+	 * {@code false} if retries are disabled and concurrency is not limited.
+	 */
+	boolean isEnabled() {
+		return maxRetries > 0 || maxConcurrentRequests != null;
+	}
+
+	int maxRetries() {
+		return maxRetries;
+	}
+
+	/**
+	 * @param retry The index of the retry, starting at {@code 0} for the first retry.
+	 * @return The delay to wait for before that retry, in milliseconds.
+	 */
+	long retryDelayMillis(int retry) {
+		// Exponential backoff; the shift is capped to avoid overflows.
+		return initialRetryDelayMillis << Math.min( retry, 20 );
+	}
+
+	/**
+	 * @return A future that will complete when a bulk request can be sent.
+	 * Callers must call {@link #release(boolean)} once the request completes.
+	 */
+	CompletableFuture<Void> acquire() {
+		if ( maxConcurrentRequests == null ) {
+			return PERMIT_GRANTED;
+		}
+		synchronized (this) {
+			if ( concurrentRequests < (int) concurrentRequestsLimit ) {
+				++concurrentRequests;
+				return PERMIT_GRANTED;
+			}
+			CompletableFuture<Void> permit = new CompletableFuture<>();
+			waitingRequests.addLast( permit );
+			return permit;
+		}
+	}
+
+	/**
+	 * @param overloaded Whether the request failed, or Elasticsearch rejected some of the requests,
+	 * because it is overloaded.
+	 */
+	void release(boolean overloaded) {
+		if ( maxConcurrentRequests == null ) {
+			return;
+		}
+		List<CompletableFuture<Void>> grantedPermits = new ArrayList<>();
+		synchronized (this) {
+			--concurrentRequests;
+			if ( overloaded ) {
+				concurrentRequestsLimit = Math.max( 1.0, concurrentRequestsLimit / 2 );
+			}
+			else {
+				// Grows by roughly one for every "limit" successful requests.
+				concurrentRequestsLimit = Math.min( maxConcurrentRequests,
+						concurrentRequestsLimit + 1.0 / concurrentRequestsLimit );
+			}
+			while ( !waitingRequests.isEmpty() && concurrentRequests < (int) concurrentRequestsLimit ) {
+				++concurrentRequests;
+				grantedPermits.add( waitingRequests.removeFirst() );
+			}
+		}
+		// Complete outside of the lock: this will trigger the execution of requests.
+		for ( CompletableFuture<Void> permit : grantedPermits ) {
+			permit.complete( null );
+		}
+	}
+
+	synchronized int currentConcurrentRequestsLimit() {
+		return (int) concurrentRequestsLimit;
+	}
+
+}
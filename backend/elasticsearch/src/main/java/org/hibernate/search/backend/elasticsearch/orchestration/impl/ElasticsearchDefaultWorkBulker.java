@@ -8,6 +8,7 @@
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
+import java.util.function.ToLongFunction;
 
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
@@ -21,8 +22,11 @@ class ElasticsearchDefaultWorkBulker implements ElasticsearchWorkBulker {
 			DocumentRefreshStrategy,
 			NonBulkableWork<BulkResult>> bulkWorkFactory;
 	private final int maxBulkSize;
+	private final ToLongFunction<BulkableWork<?>> bulkableWorkSizeFunction;
+	private final long maxBulkBytes;
 
 	private final List<BulkableWork<?>> currentBulkItems;
+	private long currentBulkBytes;
 	private DocumentRefreshStrategy currentBulkRefreshStrategy;
 	private CompletableFuture<NonBulkableWork<BulkResult>> currentBulkWorkFuture;
 	private CompletableFuture<BulkResult> currentBulkResultFuture;
@@ -37,11 +41,34 @@ class ElasticsearchDefaultWorkBulker implements ElasticsearchWorkBulker {
 	public ElasticsearchDefaultWorkBulker(ElasticsearchWorkSequenceBuilder sequenceBuilder,
 			BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory,
 			int maxBulkSize) {
+		this( sequenceBuilder, bulkWorkFactory, maxBulkSize, null, Long.MAX_VALUE );
+	}
+
+	/**
+	 * @param sequenceBuilder The sequence builder to add works to
+	 * @param bulkWorkFactory The factory for bulk works
+	 * @param maxBulkSize Maximum number of works in a single bulk.
+	 * If a bulk reaches this size, it will be automatically
+	 * {@link #finalizeBulkWork() finalized}.
+	 * @param bulkableWorkSizeFunction A function returning the size, in bytes, of a work once rendered in a bulk.
+	 * Only called if {@code maxBulkBytes} is lower than {@link Long#MAX_VALUE}.
+	 * @param maxBulkBytes Maximum size, in bytes, of a single bulk.
+	 * If adding a work would make the bulk exceed this size, the bulk will be automatically
+	 * {@link #finalizeBulkWork() finalized} before the work is added.
+	 * Use {@link Long#MAX_VALUE} for no limit.
+	 */
+	public ElasticsearchDefaultWorkBulker(ElasticsearchWorkSequenceBuilder sequenceBuilder,
+			BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory,
+			int maxBulkSize,
+			ToLongFunction<BulkableWork<?>> bulkableWorkSizeFunction, long maxBulkBytes) {
 		this.sequenceBuilder = sequenceBuilder;
 		this.bulkWorkFactory = bulkWorkFactory;
 		this.maxBulkSize = maxBulkSize;
+		this.bulkableWorkSizeFunction = bulkableWorkSizeFunction;
+		this.maxBulkBytes = maxBulkBytes;
 
 		this.currentBulkItems = new ArrayList<>();
+		this.currentBulkBytes = 0L;
 		this.currentBulkWorkFuture = null;
 		this.currentBulkResultFuture = null;
 	}
@@ -58,6 +85,16 @@ else if ( currentBulkRefreshStrategy != workRefreshStrategy ) {
 			currentBulkRefreshStrategy = workRefreshStrategy;
 		}
 
+		long workBytes = 0L;
+		if ( maxBulkBytes < Long.MAX_VALUE ) {
+			workBytes = bulkableWorkSizeFunction.applyAsLong( work );
+			if ( !currentBulkItems.isEmpty() && currentBulkBytes + workBytes > maxBulkBytes ) {
+				// This work would make the current bulk too large; send the current bulk without it.
+				finalizeBulkWork();
+				currentBulkRefreshStrategy = workRefreshStrategy;
+			}
+		}
+
 		if ( currentBulkWorkFuture == null ) {
 			currentBulkWorkFuture = new CompletableFuture<>();
 			currentBulkResultFuture = sequenceBuilder.addBulkExecution( currentBulkWorkFuture );
@@ -65,12 +102,13 @@ else if ( currentBulkRefreshStrategy != workRefreshStrategy ) {
 
 		int currentBulkWorkIndex = currentBulkItems.size();
 		currentBulkItems.add( work );
+		currentBulkBytes += workBytes;
 
 		CompletableFuture<T> future = sequenceBuilder.addBulkResultExtraction(
 				currentBulkResultFuture, work, currentBulkWorkIndex
 		);
 
-		if ( currentBulkItems.size() >= maxBulkSize ) {
+		if ( currentBulkItems.size() >= maxBulkSize || currentBulkBytes >= maxBulkBytes ) {
 			finalizeBulkWork();
 		}
 
@@ -92,6 +130,7 @@ public void finalizeBulkWork() {
 	@Override
 	public void reset() {
 		this.currentBulkItems.clear();
+		this.currentBulkBytes = 0L;
 		this.currentBulkRefreshStrategy = null;
 		this.currentBulkWorkFuture = null;
 		this.currentBulkResultFuture = null;
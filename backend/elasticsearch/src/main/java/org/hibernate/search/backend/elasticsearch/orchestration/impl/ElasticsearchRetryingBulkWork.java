@@ -0,0 +1,149 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.ElasticsearchClientLog;
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.impl.Throwables;
+
+/**
+ * A bulk work that goes through {@link ElasticsearchBulkBackpressure}:
+ * it waits for a permit before sending the bulk request,
+ * and sends again, after a delay, the bulked works that Elasticsearch rejected because it was overloaded.
+ * <p>
+ * The resulting {@link BulkResult} exposes the result of the last attempt for each bulked work,
+ * so from the point of view of bulked works, retries are transparent.
+ */
+final class ElasticsearchRetryingBulkWork implements NonBulkableWork<BulkResult> {
+
+	private final List<? extends BulkableWork<?>> bulkableWorks;
+	private final DocumentRefreshStrategy refreshStrategy;
+	private final BiFunction<List<? extends BulkableWork<?>>,
+			DocumentRefreshStrategy,
+			NonBulkableWork<BulkResult>> bulkWorkFactory;
+	private final ElasticsearchBulkBackpressure backpressure;
+	private final SimpleScheduledExecutor scheduler;
+
+	ElasticsearchRetryingBulkWork(List<? extends BulkableWork<?>> bulkableWorks, DocumentRefreshStrategy refreshStrategy,
+			BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory,
+			ElasticsearchBulkBackpressure backpressure, SimpleScheduledExecutor scheduler) {
+		// Copy the list: the bulker reuses its list for the next bulk.
+		this.bulkableWorks = new ArrayList<>( bulkableWorks );
+		this.refreshStrategy = refreshStrategy;
+		this.bulkWorkFactory = bulkWorkFactory;
+		this.backpressure = backpressure;
+		this.scheduler = scheduler;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[size = " + bulkableWorks.size() + "]";
+	}
+
+	@Override
+	public CompletableFuture<BulkResult> execute(ElasticsearchWorkExecutionContext context) {
+		RetryingBulkResult result = new RetryingBulkResult( bulkableWorks.size() );
+		List<Integer> workIndexes = new ArrayList<>( bulkableWorks.size() );
+		for ( int i = 0; i < bulkableWorks.size(); i++ ) {
+			workIndexes.add( i );
+		}
+		return attempt( context, result, workIndexes, 0 ).thenApply( ignored -> result );
+	}
+
+	private CompletableFuture<Void> attempt(ElasticsearchWorkExecutionContext context, RetryingBulkResult result,
+			List<Integer> workIndexes, int retry) {
+		List<BulkableWork<?>> attemptWorks = new ArrayList<>( workIndexes.size() );
+		for ( int workIndex : workIndexes ) {
+			attemptWorks.add( bulkableWorks.get( workIndex ) );
+		}
+		NonBulkableWork<BulkResult> bulkWork = bulkWorkFactory.apply( attemptWorks, refreshStrategy );
+
+		return backpressure.acquire()
+				.thenCompose( ignored -> Futures.create( () -> bulkWork.execute( context ) )
+						.handle( Futures.handler( (BulkResult attemptResult, Throwable throwable) -> {
+							List<Integer> rejectedWorkIndexes = new ArrayList<>();
+							if ( attemptResult != null ) {
+								for ( int i = 0; i < workIndexes.size(); i++ ) {
+									int workIndex = workIndexes.get( i );
+									result.set( workIndex, attemptResult, i );
+									if ( attemptResult.isRejected( i ) ) {
+										rejectedWorkIndexes.add( workIndex );
+									}
+								}
+							}
+							// A failure to send the request (timeout, connection failure, ...)
+							// is just as much a sign of an overloaded cluster as rejected works.
+							backpressure.release( throwable != null || !rejectedWorkIndexes.isEmpty() );
+							if ( throwable != null ) {
+								throw Throwables.toRuntimeException( throwable );
+							}
+							return rejectedWorkIndexes;
+						} ) ) )
+				.thenCompose( rejectedWorkIndexes -> {
+					int maxRetries = backpressure.maxRetries();
+					if ( rejectedWorkIndexes.isEmpty() || retry >= maxRetries ) {
+						return CompletableFuture.completedFuture( null );
+					}
+					long delayMillis = backpressure.retryDelayMillis( retry );
+					ElasticsearchClientLog.INSTANCE.retryingRejectedBulkedRequests( rejectedWorkIndexes.size(),
+							delayMillis, retry + 1, maxRetries );
+					return delay( delayMillis )
+							.thenCompose( ignored -> attempt( context, result, rejectedWorkIndexes, retry + 1 ) );
+				} );
+	}
+
+	private CompletableFuture<Void> delay(long delayMillis) {
+		CompletableFuture<Void> future = new CompletableFuture<>();
+		try {
+			scheduler.schedule( () -> future.complete( null ), delayMillis, TimeUnit.MILLISECONDS );
+		}
+		catch (RejectedExecutionException e) {
+			// The backend is shutting down: don't wait.
+			future.complete( null );
+		}
+		return future;
+	}
+
+	/**
+	 * Redirects each bulked work to the result of the last attempt that included it.
+	 */
+	private static final class RetryingBulkResult implements BulkResult {
+		private final BulkResult[] attemptResults;
+		private final int[] attemptIndexes;
+
+		private RetryingBulkResult(int size) {
+			this.attemptResults = new BulkResult[size];
+			this.attemptIndexes = new int[size];
+		}
+
+		void set(int index, BulkResult attemptResult, int attemptIndex) {
+			attemptResults[index] = attemptResult;
+			attemptIndexes[index] = attemptIndex;
+		}
+
+		@Override
+		public <T> T extract(ElasticsearchWorkExecutionContext context, BulkableWork<T> work, int index) {
+			return attemptResults[index].extract( context, work, attemptIndexes[index] );
+		}
+
+		@Override
+		public boolean isRejected(int index) {
+			return attemptResults[index].isRejected( attemptIndexes[index] );
+		}
+	}
+}
@@ -65,6 +65,19 @@ public KnnPredicateBuilder create(ElasticsearchSearchIndexScope<?> scope,
 		}
 	}
 
+	public static class Elasticsearch818Factory<F>
+			extends AbstractElasticsearchCodecAwareSearchQueryElementFactory<KnnPredicateBuilder, F> {
+		public Elasticsearch818Factory(ElasticsearchFieldCodec<F> codec) {
+			super( codec );
+		}
+
+		@Override
+		public KnnPredicateBuilder create(ElasticsearchSearchIndexScope<?> scope,
+				ElasticsearchSearchIndexValueFieldContext<F> field) {
+			return new Elasticsearch818Impl.Builder<>( codec, scope, field );
+		}
+	}
+
 	public static class OpenSearch2Factory<F>
 			extends AbstractElasticsearchCodecAwareSearchQueryElementFactory<KnnPredicateBuilder, F> {
 		public OpenSearch2Factory(ElasticsearchFieldCodec<F> codec) {
@@ -145,6 +158,11 @@ public void filter(SearchPredicate filter) {
 			this.filter = elasticsearchFilter;
 		}
 
+		@Override
+		public void exactRescoring() {
+			throw QueryLog.INSTANCE.knnExactRescoringUnsupportedOption();
+		}
+
 	}
 
 	private static JsonArray vectorToJsonArray(Object vector, Class<?> vectorElementsType) {
@@ -173,8 +191,11 @@ private static class Elasticsearch812Impl extends ElasticsearchKnnPredicate {
 		private static final JsonAccessor<Float> SIMILARITY_ACCESSOR = JsonAccessor.root().property( "similarity" ).asFloat();
 
 
+		protected final Integer numCandidates;
+
 		private Elasticsearch812Impl(Builder<?> builder) {
 			super( builder );
+			this.numCandidates = builder.numCandidates;
 		}
 
 		@Override
@@ -182,7 +203,7 @@ protected JsonObject doToJsonQuery(PredicateRequestContext context, JsonObject o
 			KNN_ACCESSOR.set( outerObject, innerObject );
 
 			FIELD_ACCESSOR.set( innerObject, absoluteFieldPath );
-			NUM_CANDIDATES_ACCESSOR.set( innerObject, k );
+			NUM_CANDIDATES_ACCESSOR.set( innerObject, numCandidates == null ? k : numCandidates );
 			VECTOR_ACCESSOR.set( innerObject, vector );
 
 			JsonObject filter = prepareFilter( context );
@@ -198,6 +219,8 @@ protected JsonObject doToJsonQuery(PredicateRequestContext context, JsonObject o
 
 		private static class Builder<F> extends AbstractKnnBuilder<F> {
 
+			private Integer numCandidates;
+
 			private Builder(ElasticsearchFieldCodec<F> codec, ElasticsearchSearchIndexScope<?> scope,
 					ElasticsearchSearchIndexValueFieldContext<F> field) {
 				super( codec, scope, field );
@@ -213,6 +236,11 @@ public void requiredMinimumScore(float score) {
 				requiredMinimumSimilarity( codec.scoreToSimilarity( score ) );
 			}
 
+			@Override
+			public void numCandidates(int numCandidates) {
+				this.numCandidates = numCandidates;
+			}
+
 			@Override
 			public SearchPredicate build() {
 				return new Elasticsearch812Impl( this );
@@ -220,6 +248,54 @@ public SearchPredicate build() {
 		}
 	}
 
+	private static class Elasticsearch818Impl extends Elasticsearch812Impl {
+
+		private static final JsonAccessor<Integer> K_ACCESSOR = JsonAccessor.root().property( "k" ).asInteger();
+		private static final JsonAccessor<Float> RESCORE_OVERSAMPLE_ACCESSOR =
+				JsonAccessor.root().property( "rescore_vector" ).property( "oversample" ).asFloat();
+
+		private final boolean exactRescoring;
+
+		private Elasticsearch818Impl(Builder<?> builder) {
+			super( builder );
+			this.exactRescoring = builder.exactRescoring;
+		}
+
+		@Override
+		protected JsonObject doToJsonQuery(PredicateRequestContext context, JsonObject outerObject, JsonObject innerObject) {
+			super.doToJsonQuery( context, outerObject, innerObject );
+			if ( exactRescoring ) {
+				// Elasticsearch rescores the best k * oversample candidates of each shard, then keeps the best k:
+				// pick the factor so that all gathered candidates get rescored.
+				K_ACCESSOR.set( innerObject, k );
+				RESCORE_OVERSAMPLE_ACCESSOR.set( innerObject,
+						numCandidates == null ? 1.0f : (float) numCandidates / k );
+			}
+			return outerObject;
+		}
+
+		private static class Builder<F> extends Elasticsearch812Impl.Builder<F> {
+
+			private boolean exactRescoring;
+
+			private Builder(ElasticsearchFieldCodec<F> codec, ElasticsearchSearchIndexScope<?> scope,
+					ElasticsearchSearchIndexValueFieldContext<F> field) {
+				super( codec, scope, field );
+			}
+
+			@Override
+			public void exactRescoring() {
+				// Elasticsearch ignores this option for non-quantized vectors, whose scores are already exact.
+				this.exactRescoring = true;
+			}
+
+			@Override
+			public SearchPredicate build() {
+				return new Elasticsearch818Impl( this );
+			}
+		}
+	}
+
 	private static class OpenSearch214Impl extends AbstractOpenSearchKnnPredicate {
 
 		private final Float score;
@@ -261,6 +337,11 @@ public void requiredMinimumScore(float score) {
 				this.score = score;
 			}
 
+			@Override
+			public void numCandidates(int numCandidates) {
+				throw QueryLog.INSTANCE.knnNumCandidatesUnsupportedOption();
+			}
+
 			@Override
 			public SearchPredicate build() {
 				return new OpenSearch214Impl( this );
@@ -295,6 +376,11 @@ public void requiredMinimumScore(float score) {
 				throw QueryLog.INSTANCE.knnRequiredMinimumSimilarityUnsupportedOption();
 			}
 
+			@Override
+			public void numCandidates(int numCandidates) {
+				throw QueryLog.INSTANCE.knnNumCandidatesUnsupportedOption();
+			}
+
 			@Override
 			public SearchPredicate build() {
 				return new OpenSearch2Impl( this );
@@ -0,0 +1,174 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.search.predicate.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.QueryLog;
+import org.hibernate.search.backend.elasticsearch.lowlevel.query.impl.Queries;
+import org.hibernate.search.backend.elasticsearch.search.common.impl.ElasticsearchSearchIndexScope;
+import org.hibernate.search.engine.search.predicate.SearchPredicate;
+import org.hibernate.search.engine.search.predicate.dsl.RankFusionMethod;
+import org.hibernate.search.engine.search.predicate.spi.RankFusionPredicateBuilder;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+/**
+ * A rank fusion predicate, translated to an {@code rrf} or {@code linear} retriever.
+ * <p>
+ * Retrievers replace the {@code query} of a search request,
+ * so this predicate can only be used as the top-level predicate of a query:
+ * see {@link #toJsonRetriever(PredicateRequestContext)}.
+ * <p>
+ * Retrievers are only available on the Elastic distribution,
+ * starting with 8.14 for {@code rrf} and 8.18 for {@code linear}:
+ * see {@link org.hibernate.search.backend.elasticsearch.lowlevel.syntax.search.impl.ElasticsearchSearchSyntax#supportsRankFusion(RankFusionMethod)}.
+ */
+public class ElasticsearchRankFusionPredicate extends AbstractElasticsearchPredicate {
+
+	// Same as the Lucene backend, so that both backends fuse the same number of hits by default.
+	private static final int DEFAULT_WINDOW_SIZE = 100;
+
+	private final List<ElasticsearchSearchPredicate> clauses;
+	private final List<Float> weights;
+	private final RankFusionMethod method;
+	private final Integer rankConstant;
+	private final int windowSize;
+
+	private ElasticsearchRankFusionPredicate(Builder builder) {
+		super( builder );
+		clauses = builder.clauses;
+		weights = builder.weights;
+		method = builder.method;
+		rankConstant = builder.rankConstant;
+		windowSize = builder.windowSize;
+		// Ensure illegal attempts to mutate the predicate will fail
+		builder.clauses = null;
+		builder.weights = null;
+	}
+
+	@Override
+	public void checkNestableWithin(PredicateNestingContext context) {
+		throw QueryLog.INSTANCE.rankFusionNotTopLevel();
+	}
+
+	@Override
+	protected JsonObject doToJsonQuery(PredicateRequestContext context, JsonObject outerObject,
+			JsonObject innerObject) {
+		throw QueryLog.INSTANCE.rankFusionNotTopLevel();
+	}
+
+	/**
+	 * @param context The request context, for the top-level predicate.
+	 * @return The retriever to use instead of the {@code query} of the search request.
+	 */
+	public JsonObject toJsonRetriever(PredicateRequestContext context) {
+		JsonArray filters = context.tenantAndRoutingFilters();
+		JsonArray retrievers = new JsonArray();
+		JsonObject inner = new JsonObject();
+		inner.add( "retrievers", retrievers );
+		for ( int i = 0; i < clauses.size(); i++ ) {
+			JsonObject retriever = standardRetriever( context, clauses.get( i ), filters );
+			switch ( method ) {
+				case RECIPROCAL_RANK:
+					retrievers.add( retriever );
+					break;
+				case NORMALIZED_SCORE:
+					JsonObject weightedRetriever = new JsonObject();
+					weightedRetriever.add( "retriever", retriever );
+					weightedRetriever.addProperty( "weight", weights.get( i ) );
+					weightedRetriever.addProperty( "normalizer", "minmax" );
+					retrievers.add( weightedRetriever );
+					break;
+				default:
+					throw new IllegalStateException( "Unknown rank fusion method: " + method );
+			}
+		}
+		inner.addProperty( "rank_window_size", windowSize );
+		if ( rankConstant != null && RankFusionMethod.RECIPROCAL_RANK.equals( method ) ) {
+			inner.addProperty( "rank_constant", rankConstant );
+		}
+
+		JsonObject result = new JsonObject();
+		result.add( RankFusionMethod.RECIPROCAL_RANK.equals( method ) ? "rrf" : "linear", inner );
+		return result;
+	}
+
+	/**
+	 * @param context The request context, for the top-level predicate.
+	 * @return A query matching documents matched by any clause,
+	 * for requests that do not support retrievers (count, explain).
+	 */
+	public JsonObject toJsonUnionQuery(PredicateRequestContext context) {
+		JsonArray should = new JsonArray();
+		for ( ElasticsearchSearchPredicate clause : clauses ) {
+			should.add( clause.toJsonQuery( context ) );
+		}
+		JsonObject bool = new JsonObject();
+		bool.add( "should", should );
+		JsonObject union = new JsonObject();
+		union.add( "bool", bool );
+		return Queries.boolFilter( union, context.tenantAndRoutingFilters() );
+	}
+
+	private static JsonObject standardRetriever(PredicateRequestContext context, ElasticsearchSearchPredicate clause,
+			JsonArray filters) {
+		JsonObject standard = new JsonObject();
+		standard.add( "query", Queries.boolFilter( clause.toJsonQuery( context ), filters ) );
+		JsonObject retriever = new JsonObject();
+		retriever.add( "standard", standard );
+		return retriever;
+	}
+
+	static class Builder extends AbstractBuilder implements RankFusionPredicateBuilder {
+		private List<ElasticsearchSearchPredicate> clauses = new ArrayList<>();
+		private List<Float> weights = new ArrayList<>();
+		private RankFusionMethod method = RankFusionMethod.RECIPROCAL_RANK;
+		private Integer rankConstant;
+		private int windowSize = DEFAULT_WINDOW_SIZE;
+
+		Builder(ElasticsearchSearchIndexScope<?> scope) {
+			super( scope );
+		}
+
+		@Override
+		public void add(SearchPredicate clause, float weight) {
+			clauses.add( ElasticsearchSearchPredicate.from( scope, clause ) );
+			weights.add( weight );
+		}
+
+		@Override
+		public void method(RankFusionMethod method) {
+			this.method = method;
+		}
+
+		@Override
+		public void rankConstant(int rankConstant) {
+			this.rankConstant = rankConstant;
+		}
+
+		@Override
+		public void windowSize(int windowSize) {
+			this.windowSize = windowSize;
+		}
+
+		@Override
+		public SearchPredicate build() {
+			if ( !scope.searchSyntax().supportsRankFusion( method ) ) {
+				throw QueryLog.INSTANCE.rankFusionUnsupported( method );
+			}
+			if ( RankFusionMethod.RECIPROCAL_RANK.equals( method ) ) {
+				for ( Float weight : weights ) {
+					if ( weight != 1.0f ) {
+						throw QueryLog.INSTANCE.rankFusionReciprocalRankWeightUnsupported( weight );
+					}
+				}
+			}
+			return new ElasticsearchRankFusionPredicate( this );
+		}
+	}
+}
@@ -10,6 +10,7 @@
 import org.hibernate.search.engine.search.predicate.spi.MatchIdPredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.MatchNonePredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.QueryStringPredicateBuilder;
+import org.hibernate.search.engine.search.predicate.spi.RankFusionPredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.SearchPredicateBuilderFactory;
 import org.hibernate.search.engine.search.predicate.spi.SimpleQueryStringPredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.WithParametersPredicateBuilder;
@@ -59,6 +60,11 @@ public WithParametersPredicateBuilder withParameters() {
 		return new ElasticsearchWithParametersPredicate.Builder( scope );
 	}
 
+	@Override
+	public RankFusionPredicateBuilder rankFusion() {
+		return new ElasticsearchRankFusionPredicate.Builder( scope );
+	}
+
 	public ElasticsearchSearchPredicate fromJson(JsonObject jsonObject) {
 		return new ElasticsearchUserProvidedJsonPredicate( scope, jsonObject );
 	}
@@ -186,6 +186,11 @@ private Builder(Function<JsonElement, T> decodeFunction, boolean canDecodeArrays
 			this.converter = converter;
 		}
 
+		@Override
+		public void fromDocValues() {
+			// Values are always extracted from the document source: ignore.
+		}
+
 		@Override
 		public <P> SearchProjection<P> build(ProjectionCollector.Provider<V, P> collectorProvider) {
 			if ( collectorProvider.isSingleValued() && field.multiValued() ) {
@@ -5,7 +5,9 @@
 package org.hibernate.search.backend.elasticsearch.search.query;
 
 import org.hibernate.search.engine.search.query.ExtendedSearchQuery;
+import org.hibernate.search.util.common.annotation.Incubating;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 
 public interface ElasticsearchSearchQuery<H>
@@ -41,4 +43,43 @@
 	 */
 	JsonObject explain(String typeName, Object id);
 
+	/**
+	 * Execute the query and return the {@link ElasticsearchSearchResult},
+	 * limiting to hits that sort strictly after the given cursor.
+	 * <p>
+	 * This relies on Elasticsearch's {@code search_after} feature
+	 * and allows paging through large result sets with a constant cost per page,
+	 * whereas {@link #fetch(Integer, Integer) offset-based paging} gets more expensive as the offset grows,
+	 * and is limited to {@code index.max_result_window} hits.
+	 * <p>
+	 * The cursor is typically the {@code sort} array of the last hit
+	 * in the {@link ElasticsearchSearchResult#responseBody() response body}
+	 * returned by a previous execution of this query.
+	 * The query sort must be deterministic: make sure it ends with a unique field
+	 * (e.g. the identifier) so that no hit gets skipped or returned twice.
+	 *
+	 * @param searchAfter The cursor: the sort values of the last hit of the previous page,
+	 * or {@code null} to fetch the first page.
+	 * @param limit The maximum number of hits to be included in the {@link ElasticsearchSearchResult}.
+	 * {@code null} means no limit.
+	 * @return The {@link ElasticsearchSearchResult}.
+	 * @throws org.hibernate.search.util.common.SearchException If something goes wrong while executing the query.
+	 */
+	@Incubating
+	ElasticsearchSearchResult<H> fetchAfter(JsonArray searchAfter, Integer limit);
+
+	/**
+	 * Execute the query continuously to deliver results in small chunks through a {@link ElasticsearchSearchScroll},
+	 * using the given scroll mode regardless of the backend configuration.
+	 *
+	 * @param chunkSize The maximum number of hits to be returned for each call to {@link ElasticsearchSearchScroll#next()}
+	 * @param scrollMode How to retrieve chunks from Elasticsearch.
+	 * @return The {@link ElasticsearchSearchScroll}.
+	 * @throws org.hibernate.search.util.common.SearchException If something goes wrong while executing the query,
+	 * or if the scroll mode is not supported by the Elasticsearch distribution.
+	 * @see org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings#SCROLL_MODE
+	 */
+	@Incubating
+	ElasticsearchSearchScroll<H> scroll(int chunkSize, ElasticsearchSearchScrollMode scrollMode);
+
 }
@@ -0,0 +1,52 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.search.query;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.ConfigurationLog;
+import org.hibernate.search.engine.cfg.spi.ParseUtils;
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * How {@link ElasticsearchSearchScroll scrolls} retrieve successive chunks of hits from Elasticsearch.
+ */
+@Incubating
+public enum ElasticsearchSearchScrollMode {
+
+	/**
+	 * Rely on the scroll API, which keeps a search context open on the cluster for the whole duration of the scroll.
+	 */
+	SCROLL( "scroll" ),
+	/**
+	 * Open a point in time, then retrieve each chunk with a separate search request
+	 * that starts after the last hit of the previous chunk ({@code search_after}).
+	 * <p>
+	 * This is lighter on the cluster than the scroll API, but requires Elasticsearch 7.12 or later,
+	 * and is not supported on OpenSearch.
+	 */
+	POINT_IN_TIME( "point-in-time" );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static ElasticsearchSearchScrollMode of(String value) {
+		return ParseUtils.parseDiscreteValues(
+				ElasticsearchSearchScrollMode.values(),
+				ElasticsearchSearchScrollMode::externalRepresentation,
+				ConfigurationLog.INSTANCE::invalidScrollMode,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	ElasticsearchSearchScrollMode(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	/**
+	 * @return The expected string representation in configuration properties.
+	 */
+	private String externalRepresentation() {
+		return externalRepresentation;
+	}
+}
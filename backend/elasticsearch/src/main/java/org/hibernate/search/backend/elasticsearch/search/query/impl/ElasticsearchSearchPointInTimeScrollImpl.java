@@ -0,0 +1,125 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.util.function.Supplier;
+
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchParallelWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchScroll;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchScrollResult;
+import org.hibernate.search.backend.elasticsearch.work.factory.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.backend.elasticsearch.work.impl.OpenPointInTimeWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
+import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
+import org.hibernate.search.util.common.impl.Futures;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+/**
+ * A scroll relying on a point in time and {@code search_after},
+ * instead of the scroll API.
+ * <p>
+ * Each chunk is retrieved with a separate search request starting after the last hit of the previous chunk,
+ * so the cluster doesn't need to keep a scroll context around,
+ * and the cost of retrieving a chunk doesn't depend on how far we are in the scroll.
+ */
+public class ElasticsearchSearchPointInTimeScrollImpl<H> implements ElasticsearchSearchScroll<H> {
+
+	private static final JsonAccessor<JsonArray> HITS_HITS_ACCESSOR =
+			JsonAccessor.root().property( "hits" ).property( "hits" ).asArray();
+
+	private static final JsonAccessor<JsonArray> HIT_SORT_ACCESSOR =
+			JsonAccessor.root().property( "sort" ).asArray();
+
+	private static final JsonAccessor<String> POINT_IN_TIME_ID_ACCESSOR =
+			JsonAccessor.root().property( "pit_id" ).asString();
+
+	private final ElasticsearchParallelWorkOrchestrator queryOrchestrator;
+	private final ElasticsearchWorkFactory workFactory;
+	private final OpenPointInTimeWork.Builder openPointInTime;
+	private final Supplier<SearchWork.Builder<ElasticsearchLoadableSearchResult<H>>> searchWorkBuilderSupplier;
+	private final String keepAlive;
+	private final int chunkSize;
+	private final TimeoutManager timeoutManager;
+
+	private String pointInTimeId;
+	private JsonArray searchAfter;
+	private SearchResultTotal total;
+
+	public ElasticsearchSearchPointInTimeScrollImpl(ElasticsearchParallelWorkOrchestrator queryOrchestrator,
+			ElasticsearchWorkFactory workFactory,
+			OpenPointInTimeWork.Builder openPointInTime,
+			Supplier<SearchWork.Builder<ElasticsearchLoadableSearchResult<H>>> searchWorkBuilderSupplier,
+			String keepAlive, int chunkSize,
+			TimeoutManager timeoutManager) {
+		this.queryOrchestrator = queryOrchestrator;
+		this.workFactory = workFactory;
+		this.openPointInTime = openPointInTime;
+		this.searchWorkBuilderSupplier = searchWorkBuilderSupplier;
+		this.keepAlive = keepAlive;
+		this.chunkSize = chunkSize;
+		this.timeoutManager = timeoutManager;
+	}
+
+	@Override
+	public void close() {
+		if ( pointInTimeId != null ) {
+			Futures.unwrappedExceptionJoin(
+					queryOrchestrator.submit(
+							workFactory.closePointInTime( pointInTimeId ).build(),
+							OperationSubmitter.blocking()
+					)
+			);
+		}
+	}
+
+	@Override
+	public ElasticsearchSearchScrollResult<H> next() {
+		timeoutManager.start();
+
+		if ( pointInTimeId == null ) {
+			pointInTimeId = Futures.unwrappedExceptionJoin(
+					queryOrchestrator.submit( openPointInTime.build(), OperationSubmitter.blocking() )
+			);
+		}
+
+		SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> searchWorkBuilder = searchWorkBuilderSupplier.get()
+				.pointInTime( pointInTimeId, keepAlive )
+				.searchAfter( searchAfter )
+				.paging( chunkSize, null );
+		if ( total != null ) {
+			// The point in time is frozen: the total hit count cannot change from one chunk to the next.
+			searchWorkBuilder.disableTrackTotalHits();
+		}
+
+		ElasticsearchLoadableSearchResult<H> loadableSearchResult = Futures.unwrappedExceptionJoin(
+				queryOrchestrator.submit(
+						searchWorkBuilder.build(),
+						OperationSubmitter.blocking()
+				)
+		);
+		ElasticsearchSearchResultImpl<H> searchResult = loadableSearchResult.loadBlocking();
+
+		JsonObject responseBody = searchResult.responseBody();
+		// Elasticsearch may return an updated identifier, which should be used in subsequent requests.
+		pointInTimeId = POINT_IN_TIME_ID_ACCESSOR.get( responseBody ).orElse( pointInTimeId );
+		JsonArray hits = HITS_HITS_ACCESSOR.get( responseBody ).orElseGet( JsonArray::new );
+		if ( !hits.isEmpty() ) {
+			searchAfter = HIT_SORT_ACCESSOR.get( hits.get( hits.size() - 1 ).getAsJsonObject() ).orElse( null );
+		}
+		if ( total == null ) {
+			total = searchResult.total();
+		}
+
+		timeoutManager.stop();
+
+		return new ElasticsearchSearchScrollResultImpl<>( total, loadableSearchResult.hasHits(),
+				searchResult.hits(), searchResult.took(), searchResult.timedOut() );
+	}
+}
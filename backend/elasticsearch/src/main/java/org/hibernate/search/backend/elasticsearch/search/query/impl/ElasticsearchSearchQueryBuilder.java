@@ -21,12 +21,14 @@
 import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregation;
 import org.hibernate.search.backend.elasticsearch.search.common.impl.ElasticsearchSearchIndexScope;
 import org.hibernate.search.backend.elasticsearch.search.highlighter.impl.ElasticsearchSearchHighlighter;
+import org.hibernate.search.backend.elasticsearch.search.predicate.impl.ElasticsearchRankFusionPredicate;
 import org.hibernate.search.backend.elasticsearch.search.predicate.impl.ElasticsearchSearchPredicate;
 import org.hibernate.search.backend.elasticsearch.search.predicate.impl.PredicateRequestContext;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.DistanceSortKey;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchQuery;
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchRequestTransformer;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchScrollMode;
 import org.hibernate.search.backend.elasticsearch.search.sort.impl.ElasticsearchSearchSort;
 import org.hibernate.search.backend.elasticsearch.search.sort.impl.ElasticsearchSearchSortCollector;
 import org.hibernate.search.backend.elasticsearch.work.factory.impl.ElasticsearchWorkFactory;
@@ -52,7 +54,7 @@
 import com.google.gson.JsonPrimitive;
 
 public class ElasticsearchSearchQueryBuilder<H>
-		implements SearchQueryBuilder<H>, ElasticsearchSearchSortCollector {
+		implements SearchQueryBuilder<H> {
 
 	private static final JsonAccessor<JsonElement> REQUEST_SOURCE_ACCESSOR = JsonAccessor.root().property( "_source" );
 
@@ -63,15 +65,13 @@
 	private final ElasticsearchSearchIndexScope<?> scope;
 	private final BackendSessionContext sessionContext;
 
-	private final PredicateRequestContext rootPredicateContext;
 	private final SearchLoadingContextBuilder<?, ?> loadingContextBuilder;
 	private final ElasticsearchSearchProjection<H> rootProjection;
 	private final Integer scrollTimeout;
+	private final ElasticsearchSearchScrollMode scrollMode;
 	private final Set<String> routingKeys;
 	private ElasticsearchSearchPredicate elasticsearchPredicate;
-	private JsonArray jsonSort;
 	private List<ElasticsearchSearchSort> elasticsearchSearchSorts;
-	private Map<DistanceSortKey, Integer> distanceSorts;
 	private Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations;
 	private Long timeoutValue;
 	private TimeUnit timeoutUnit;
@@ -90,7 +90,7 @@ public ElasticsearchSearchQueryBuilder(
 			BackendSessionContext sessionContext,
 			SearchLoadingContextBuilder<?, ?> loadingContextBuilder,
 			ElasticsearchSearchProjection<H> rootProjection,
-			Integer scrollTimeout) {
+			Integer scrollTimeout, ElasticsearchSearchScrollMode scrollMode) {
 		this.workFactory = workFactory;
 		this.searchResultExtractorFactory = searchResultExtractorFactory;
 		this.queryOrchestrator = queryOrchestrator;
@@ -99,10 +99,38 @@ public ElasticsearchSearchQueryBuilder(
 		this.sessionContext = sessionContext;
 		this.routingKeys = new HashSet<>();
 
-		this.rootPredicateContext = new PredicateRequestContext( sessionContext, scope, routingKeys, parameters );
 		this.loadingContextBuilder = loadingContextBuilder;
 		this.rootProjection = rootProjection;
 		this.scrollTimeout = scrollTimeout;
+		this.scrollMode = scrollMode;
+	}
+
+	private ElasticsearchSearchQueryBuilder(ElasticsearchSearchQueryBuilder<H> original) {
+		this.workFactory = original.workFactory;
+		this.searchResultExtractorFactory = original.searchResultExtractorFactory;
+		this.queryOrchestrator = original.queryOrchestrator;
+
+		this.scope = original.scope;
+		this.sessionContext = null;
+		this.routingKeys = new HashSet<>( original.routingKeys );
+
+		this.loadingContextBuilder = null;
+		this.rootProjection = original.rootProjection;
+		this.scrollTimeout = original.scrollTimeout;
+		this.scrollMode = original.scrollMode;
+
+		this.elasticsearchPredicate = original.elasticsearchPredicate;
+		this.elasticsearchSearchSorts = original.elasticsearchSearchSorts == null
+				? null
+				: new ArrayList<>( original.elasticsearchSearchSorts );
+		this.aggregations = original.aggregations == null ? null : new LinkedHashMap<>( original.aggregations );
+		this.timeoutValue = original.timeoutValue;
+		this.timeoutUnit = original.timeoutUnit;
+		this.exceptionOnTimeout = original.exceptionOnTimeout;
+		this.totalHitCountThreshold = original.totalHitCountThreshold;
+		this.queryHighlighter = original.queryHighlighter;
+		this.namedHighlighters.putAll( original.namedHighlighters );
+		this.requestTransformer = original.requestTransformer;
 	}
 
 	@Override
@@ -185,64 +213,66 @@ public void param(String parameterName, Object value) {
 		parameters.add( parameterName, value );
 	}
 
-	@Override
-	public PredicateRequestContext getRootPredicateContext() {
-		return rootPredicateContext;
+	public void requestTransformer(ElasticsearchSearchRequestTransformer transformer) {
+		Contracts.assertNotNull( transformer, "transformer" );
+		this.requestTransformer = transformer;
 	}
 
 	@Override
-	public void collectSort(JsonElement sort) {
-		if ( jsonSort == null ) {
-			jsonSort = new JsonArray();
-		}
-		this.jsonSort.add( sort );
+	public ElasticsearchSearchQuery<H> build() {
+		return build( sessionContext, loadingContextBuilder, parameters );
 	}
 
 	@Override
-	public void collectDistanceSort(JsonElement sort, String absoluteFieldPath, GeoPoint center) {
-		collectSort( sort );
-
-		int index = jsonSort.size() - 1;
-		if ( distanceSorts == null ) {
-			distanceSorts = CollectionHelper.newHashMap( 3 );
-		}
-
-		distanceSorts.put( new DistanceSortKey( absoluteFieldPath, center ), index );
-	}
-
-	public void requestTransformer(ElasticsearchSearchRequestTransformer transformer) {
-		Contracts.assertNotNull( transformer, "transformer" );
-		this.requestTransformer = transformer;
+	public ElasticsearchSearchQueryBuilder<H> prepare() {
+		return new ElasticsearchSearchQueryBuilder<>( this );
 	}
 
 	@Override
-	public ElasticsearchSearchQuery<H> build() {
+	public ElasticsearchSearchQuery<H> build(BackendSessionContext sessionContext,
+			SearchLoadingContextBuilder<?, ?> loadingContextBuilder, QueryParameters parameters) {
 		JsonObject payload = new JsonObject();
 
+		PredicateRequestContext rootPredicateContext =
+				new PredicateRequestContext( sessionContext, scope, routingKeys, parameters );
+		SortCollector sortCollector = new SortCollector( rootPredicateContext );
+
 		SearchLoadingContext<?> loadingContext = loadingContextBuilder.build();
 
 		ElasticsearchSearchQueryRequestContext requestContext = new ElasticsearchSearchQueryRequestContext(
-				scope, sessionContext, loadingContext, rootPredicateContext, distanceSorts,
+				scope, sessionContext, loadingContext, rootPredicateContext, sortCollector.distanceSorts,
 				namedHighlighters, queryHighlighter, parameters
 		);
 
-		JsonArray filters = rootPredicateContext.tenantAndRoutingFilters();
+		JsonObject jsonQuery;
+		if ( elasticsearchPredicate instanceof ElasticsearchRankFusionPredicate rankFusionPredicate ) {
+			if ( elasticsearchSearchSorts != null ) {
+				// Retrievers ignore the top-level sort
+				throw QueryLog.INSTANCE.rankFusionSortUnsupported();
+			}
+			payload.add( "retriever", rankFusionPredicate.toJsonRetriever( rootPredicateContext ) );
+			// Count and explain requests do not support retrievers
+			jsonQuery = rankFusionPredicate.toJsonUnionQuery( rootPredicateContext );
+		}
+		else {
+			JsonArray filters = rootPredicateContext.tenantAndRoutingFilters();
 
-		JsonObject jsonPredicate = elasticsearchPredicate.toJsonQuery( rootPredicateContext );
+			JsonObject jsonPredicate = elasticsearchPredicate.toJsonQuery( rootPredicateContext );
 
-		JsonObject jsonQuery = Queries.boolFilter( jsonPredicate, filters );
-		if ( jsonQuery != null ) {
-			payload.add( "query", jsonQuery );
+			jsonQuery = Queries.boolFilter( jsonPredicate, filters );
+			if ( jsonQuery != null ) {
+				payload.add( "query", jsonQuery );
+			}
 		}
 
 		if ( elasticsearchSearchSorts != null ) {
 			for ( ElasticsearchSearchSort elasticsearchSearchSort : elasticsearchSearchSorts ) {
-				elasticsearchSearchSort.toJsonSorts( this );
+				elasticsearchSearchSort.toJsonSorts( sortCollector );
 			}
 		}
 
-		if ( jsonSort != null ) {
-			payload.add( "sort", jsonSort );
+		if ( sortCollector.jsonSort != null ) {
+			payload.add( "sort", sortCollector.jsonSort );
 		}
 
 		ElasticsearchSearchProjection.Extractor<?, H> rootExtractor = rootProjection.request( payload, requestContext );
@@ -284,10 +314,45 @@ public ElasticsearchSearchQuery<H> build() {
 		return new ElasticsearchSearchQueryImpl<>(
 				workFactory, queryOrchestrator,
 				scope, sessionContext, loadingContext, routingKeys,
-				payload, requestTransformer,
+				payload, jsonQuery, requestTransformer,
 				searchResultExtractor,
 				timeoutManager,
-				scrollTimeout, totalHitCountThreshold
+				scrollTimeout, scrollMode, totalHitCountThreshold
 		);
 	}
+
+	private static class SortCollector implements ElasticsearchSearchSortCollector {
+		private final PredicateRequestContext rootPredicateContext;
+		private JsonArray jsonSort;
+		private Map<DistanceSortKey, Integer> distanceSorts;
+
+		private SortCollector(PredicateRequestContext rootPredicateContext) {
+			this.rootPredicateContext = rootPredicateContext;
+		}
+
+		@Override
+		public PredicateRequestContext getRootPredicateContext() {
+			return rootPredicateContext;
+		}
+
+		@Override
+		public void collectSort(JsonElement sort) {
+			if ( jsonSort == null ) {
+				jsonSort = new JsonArray();
+			}
+			this.jsonSort.add( sort );
+		}
+
+		@Override
+		public void collectDistanceSort(JsonElement sort, String absoluteFieldPath, GeoPoint center) {
+			collectSort( sort );
+
+			int index = jsonSort.size() - 1;
+			if ( distanceSorts == null ) {
+				distanceSorts = CollectionHelper.newHashMap( 3 );
+			}
+
+			distanceSorts.put( new DistanceSortKey( absoluteFieldPath, center ), index );
+		}
+	}
 }
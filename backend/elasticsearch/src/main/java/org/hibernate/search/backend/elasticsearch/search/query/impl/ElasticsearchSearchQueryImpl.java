@@ -6,11 +6,12 @@
 
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
-import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
 import org.hibernate.search.backend.elasticsearch.logging.impl.QueryLog;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchParallelWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.search.common.impl.ElasticsearchSearchIndexContext;
@@ -19,11 +20,13 @@
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchRequestTransformer;
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult;
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchScroll;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchScrollMode;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.factory.impl.ElasticsearchWorkFactory;
 import org.hibernate.search.backend.elasticsearch.work.impl.CountWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
 import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.OpenPointInTimeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.ExplainResult;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
@@ -33,12 +36,13 @@
 import org.hibernate.search.engine.common.dsl.spi.DslExtensionState;
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContext;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
+import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.util.common.impl.Futures;
 
-import com.google.gson.JsonElement;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 
 public class ElasticsearchSearchQueryImpl<H> extends AbstractSearchQuery<H, ElasticsearchSearchResult<H>>
@@ -51,9 +55,11 @@
 	private final SearchLoadingContext<?> loadingContext;
 	private final Set<String> routingKeys;
 	private final JsonObject payload;
+	private final JsonObject query;
 	private final ElasticsearchSearchRequestTransformer requestTransformer;
 	private final ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor;
 	private final Integer scrollTimeout;
+	private final ElasticsearchSearchScrollMode scrollMode;
 	private final Long totalHitCountThreshold;
 
 	/**
@@ -69,10 +75,11 @@
 			BackendSessionContext sessionContext,
 			SearchLoadingContext<?> loadingContext,
 			Set<String> routingKeys,
-			JsonObject payload,
+			JsonObject payload, JsonObject query,
 			ElasticsearchSearchRequestTransformer requestTransformer,
 			ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor,
-			TimeoutManager timeoutManager, Integer scrollTimeout, Long totalHitCountThreshold) {
+			TimeoutManager timeoutManager, Integer scrollTimeout, ElasticsearchSearchScrollMode scrollMode,
+			Long totalHitCountThreshold) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
 		this.scope = scope;
@@ -80,10 +87,12 @@
 		this.loadingContext = loadingContext;
 		this.routingKeys = routingKeys;
 		this.payload = payload;
+		this.query = query;
 		this.requestTransformer = requestTransformer;
 		this.searchResultExtractor = searchResultExtractor;
 		this.timeoutManager = timeoutManager;
 		this.scrollTimeout = scrollTimeout;
+		this.scrollMode = scrollMode;
 		this.totalHitCountThreshold = totalHitCountThreshold;
 		this.maxResultWindow = scope.maxResultWindow();
 	}
@@ -107,30 +116,42 @@ public <Q> Q extension(SearchQueryExtension<Q, H> extension) {
 
 	@Override
 	public ElasticsearchSearchResult<H> fetch(Integer offset, Integer limit) {
+		timeoutManager.start();
+		Integer defaultedLimit = defaultedLimit( limit, offset );
+		return doFetch( searchWorkBuilder().paging( defaultedLimit, offset ), limit, defaultedLimit );
+	}
+
+	@Override
+	public CompletionStage<SearchResult<H>> fetchAsync(Integer offset, Integer limit, Executor loadingExecutor) {
+		Contracts.assertNotNull( loadingExecutor, "loadingExecutor" );
 		timeoutManager.start();
 		Integer defaultedLimit = defaultedLimit( limit, offset );
 		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = searchWorkBuilder()
 				.paging( defaultedLimit, offset )
 				.totalHitCountThreshold( totalHitCountThreshold )
 				.build();
+		return submitAsync( work )
+				.<SearchResult<H>>thenApplyAsync( loadable -> load( loadable, limit, defaultedLimit ), loadingExecutor );
+	}
 
-		ElasticsearchSearchResultImpl<H> result = Futures.unwrappedExceptionJoin(
-				queryOrchestrator.submit( work, OperationSubmitter.blocking() ) )
-				/*
-				 * WARNING: the following call must run in the user thread.
-				 * If we introduce async query execution, we will have to add a loadAsync method here,
-				 * as well as in ProjectionHitMapper and EntityLoader.
-				 * This method may not be easy to implement for blocking mappers,
-				 * so we may choose to throw exceptions for those.
-				 */
-				.loadBlocking();
-		timeoutManager.stop();
+	@Override
+	public ElasticsearchSearchResult<H> fetchAfter(JsonArray searchAfter, Integer limit) {
+		timeoutManager.start();
+		Integer defaultedLimit = defaultedLimit( limit, null );
+		return doFetch( searchWorkBuilder().paging( defaultedLimit, null ).searchAfter( searchAfter ),
+				limit, defaultedLimit );
+	}
 
-		if ( limit == null && result.total().hitCountLowerBound() > defaultedLimit ) {
-			// user may not be aware of this defaultedLimit
-			QueryLog.INSTANCE.defaultedLimitedHits( defaultedLimit, result.total().hitCountLowerBound() );
-		}
-		return result;
+	private ElasticsearchSearchResult<H> doFetch(SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> workBuilder,
+			Integer limit, Integer defaultedLimit) {
+		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = workBuilder
+				.totalHitCountThreshold( totalHitCountThreshold )
+				.build();
+
+		ElasticsearchLoadableSearchResult<H> loadable = Futures.unwrappedExceptionJoin(
+				queryOrchestrator.submit( work, OperationSubmitter.blocking() ) );
+		// The following call must run in the user thread, see load().
+		return load( loadable, limit, defaultedLimit );
 	}
 
 	@Override
@@ -142,33 +163,48 @@ public List<H> fetchHits(Integer offset, Integer limit) {
 				.disableTrackTotalHits()
 				.build();
 
-		ElasticsearchSearchResultImpl<H> result = Futures.unwrappedExceptionJoin(
-				queryOrchestrator.submit( work, OperationSubmitter.blocking() ) )
-				/*
-				 * WARNING: the following call must run in the user thread.
-				 * If we introduce async query execution, we will have to add a loadAsync method here,
-				 * as well as in ProjectionHitMapper and EntityLoader.
-				 * This method may not be easy to implement for blocking mappers,
-				 * so we may choose to throw exceptions for those.
-				 */
-				.loadBlocking();
-		timeoutManager.stop();
+		ElasticsearchLoadableSearchResult<H> loadable = Futures.unwrappedExceptionJoin(
+				queryOrchestrator.submit( work, OperationSubmitter.blocking() ) );
+		// The following call must run in the user thread, see load().
+		return load( loadable, limit, defaultedLimit ).hits();
+	}
 
-		if ( limit == null && result.total().hitCountLowerBound() > defaultedLimit ) {
-			// user may not be aware of this defaultedLimit
-			QueryLog.INSTANCE.defaultedLimitedHits( defaultedLimit, result.total().hitCountLowerBound() );
-		}
-		return result.hits();
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer offset, Integer limit, Executor loadingExecutor) {
+		Contracts.assertNotNull( loadingExecutor, "loadingExecutor" );
+		timeoutManager.start();
+		Integer defaultedLimit = defaultedLimit( limit, offset );
+		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = searchWorkBuilder()
+				.paging( defaultedLimit, offset )
+				.disableTrackTotalHits()
+				.build();
+		return submitAsync( work )
+				.thenApplyAsync( loadable -> load( loadable, limit, defaultedLimit ).hits(), loadingExecutor );
 	}
 
 	@Override
 	public long fetchTotalHitCount() {
 		timeoutManager.start();
+		Long result = Futures.unwrappedExceptionJoin(
+				queryOrchestrator.submit( countWork(), OperationSubmitter.blocking() ) );
+		timeoutManager.stop();
+		return result;
+	}
+
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		timeoutManager.start();
+		return submitAsync( countWork() )
+				.thenApply( result -> {
+					timeoutManager.stop();
+					return result;
+				} );
+	}
 
+	private NonBulkableWork<Long> countWork() {
 		JsonObject filteredPayload = new JsonObject();
-		Optional<JsonObject> querySubTree = JsonAccessor.root().property( "query" ).asObject().get( payload );
-		if ( querySubTree.isPresent() ) {
-			filteredPayload.add( "query", querySubTree.get() );
+		if ( query != null ) {
+			filteredPayload.add( "query", query );
 		}
 
 		CountWork.Builder builder = workFactory.count();
@@ -182,16 +218,55 @@ public long fetchTotalHitCount() {
 				.requestTransformer(
 						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
 				);
-		NonBulkableWork<Long> work = builder.build();
-		Long result = Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work, OperationSubmitter.blocking() ) );
+		return builder.build();
+	}
+
+	private <T> CompletableFuture<T> submitAsync(NonBulkableWork<T> work) {
+		// The query orchestrator doesn't queue works: it sends them immediately through the asynchronous client,
+		// so submitting never blocks and the future completes in a client thread.
+		return queryOrchestrator.submit( work, OperationSubmitter.rejecting() );
+	}
+
+	/*
+	 * WARNING: this method loads hits, which may block or require a particular context for some mappers:
+	 * it must run in the user thread, or in the loading executor the user passed to fetchAsync/fetchHitsAsync.
+	 */
+	private ElasticsearchSearchResultImpl<H> load(ElasticsearchLoadableSearchResult<H> loadable,
+			Integer limit, Integer defaultedLimit) {
+		ElasticsearchSearchResultImpl<H> result = loadable.loadBlocking();
 		timeoutManager.stop();
+
+		if ( limit == null && result.total().hitCountLowerBound() > defaultedLimit ) {
+			// user may not be aware of this defaultedLimit
+			QueryLog.INSTANCE.defaultedLimitedHits( defaultedLimit, result.total().hitCountLowerBound() );
+		}
 		return result;
 	}
 
 	@Override
 	public ElasticsearchSearchScroll<H> scroll(int chunkSize) {
+		return scroll( chunkSize, scrollMode );
+	}
+
+	@Override
+	public ElasticsearchSearchScroll<H> scroll(int chunkSize, ElasticsearchSearchScrollMode scrollMode) {
+		Contracts.assertNotNull( scrollMode, "scrollMode" );
+		if ( payload.has( "retriever" ) ) {
+			// Rank fusion retrievers support neither scrolls nor search_after
+			throw QueryLog.INSTANCE.rankFusionScrollUnsupported();
+		}
 		String scrollTimeoutString = this.scrollTimeout + "s";
 
+		if ( ElasticsearchSearchScrollMode.POINT_IN_TIME.equals( scrollMode ) ) {
+			OpenPointInTimeWork.Builder openPointInTime = workFactory.openPointInTime( scrollTimeoutString );
+			for ( ElasticsearchSearchIndexContext index : scope.indexes() ) {
+				openPointInTime.index( index.names().read() );
+			}
+			openPointInTime.routingKeys( routingKeys );
+			return new ElasticsearchSearchPointInTimeScrollImpl<>( queryOrchestrator, workFactory, openPointInTime,
+					this::searchWorkBuilder, scrollTimeoutString, chunkSize, timeoutManager );
+		}
+
 		SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> firstScroll = searchWorkBuilder()
 				.scrolling( chunkSize, scrollTimeoutString );
 
@@ -262,7 +337,6 @@ private Integer defaultedLimit(Integer limit, Integer offset) {
 
 	private JsonObject doExplain(ElasticsearchSearchIndexContext index, Object id) {
 		JsonObject queryOnlyPayload = new JsonObject();
-		JsonElement query = payload.get( "query" );
 		if ( query != null ) {
 			queryOnlyPayload.add( "query", query );
 		}
@@ -0,0 +1,28 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.types.dsl.provider.impl;
+
+import org.hibernate.search.backend.elasticsearch.types.mapping.impl.Elasticsearch818VectorFieldTypeMappingContributor;
+import org.hibernate.search.backend.elasticsearch.types.mapping.impl.ElasticsearchVectorFieldTypeMappingContributor;
+
+import com.google.gson.Gson;
+
+/**
+ * The index field type factory provider for ES8.18+.
+ */
+public class Elasticsearch818IndexFieldTypeFactoryProvider extends AbstractIndexFieldTypeFactoryProvider {
+
+	private final Elasticsearch818VectorFieldTypeMappingContributor vectorFieldTypeMappingContributor =
+			new Elasticsearch818VectorFieldTypeMappingContributor();
+
+	public Elasticsearch818IndexFieldTypeFactoryProvider(Gson userFacingGson) {
+		super( userFacingGson );
+	}
+
+	@Override
+	protected ElasticsearchVectorFieldTypeMappingContributor vectorFieldTypeMappingContributor() {
+		return vectorFieldTypeMappingContributor;
+	}
+}
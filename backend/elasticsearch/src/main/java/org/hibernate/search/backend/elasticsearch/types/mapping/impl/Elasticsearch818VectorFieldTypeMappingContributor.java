@@ -0,0 +1,20 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.types.mapping.impl;
+
+import org.hibernate.search.backend.elasticsearch.search.predicate.impl.ElasticsearchKnnPredicate;
+import org.hibernate.search.backend.elasticsearch.types.impl.ElasticsearchIndexValueFieldType;
+import org.hibernate.search.engine.search.predicate.spi.PredicateTypeKeys;
+
+public class Elasticsearch818VectorFieldTypeMappingContributor extends Elasticsearch814VectorFieldTypeMappingContributor {
+
+	@Override
+	public <F> void contribute(ElasticsearchIndexValueFieldType.Builder<F> builder, Context context) {
+		if ( context.searchable() ) {
+			builder.queryElementFactory( PredicateTypeKeys.KNN,
+					new ElasticsearchKnnPredicate.Elasticsearch818Factory<>( builder.codec() ) );
+		}
+	}
+}
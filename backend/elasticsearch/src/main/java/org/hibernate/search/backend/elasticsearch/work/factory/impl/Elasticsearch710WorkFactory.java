@@ -0,0 +1,32 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.work.factory.impl;
+
+import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+import org.hibernate.search.backend.elasticsearch.logging.impl.ElasticsearchMiscLog;
+import org.hibernate.search.backend.elasticsearch.work.impl.ClosePointInTimeWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.OpenPointInTimeWork;
+
+/**
+ * A work builder factory for Elasticsearch 7.10 and 7.11.
+ * <p>
+ * Point-in-time APIs are not supported, because these versions do not provide a {@code _shard_doc} tiebreaker.
+ */
+public class Elasticsearch710WorkFactory extends Elasticsearch7WorkFactory {
+
+	public Elasticsearch710WorkFactory(GsonProvider gsonProvider, Boolean ignoreShardFailures) {
+		super( gsonProvider, ignoreShardFailures );
+	}
+
+	@Override
+	public OpenPointInTimeWork.Builder openPointInTime(String keepAlive) {
+		throw ElasticsearchMiscLog.INSTANCE.cannotUsePointInTimeBeforeElasticsearch712( "openPointInTime" );
+	}
+
+	@Override
+	public ClosePointInTimeWork.Builder closePointInTime(String pointInTimeId) {
+		throw ElasticsearchMiscLog.INSTANCE.cannotUsePointInTimeBeforeElasticsearch712( "closePointInTime" );
+	}
+}
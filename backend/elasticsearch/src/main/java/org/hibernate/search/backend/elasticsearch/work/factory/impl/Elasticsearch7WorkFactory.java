@@ -8,6 +8,7 @@
 import java.util.Map;
 
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+import org.hibernate.search.backend.elasticsearch.gson.spi.SerializedJsonObject;
 import org.hibernate.search.backend.elasticsearch.index.IndexStatus;
 import org.hibernate.search.backend.elasticsearch.lowlevel.index.aliases.impl.IndexAliasDefinition;
 import org.hibernate.search.backend.elasticsearch.lowlevel.index.mapping.impl.RootTypeMapping;
@@ -18,6 +19,7 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ClearScrollWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.CloseIndexWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ClosePointInTimeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.CountWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.CreateIndexWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.DeleteByQueryWork;
@@ -30,6 +32,7 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.GetIndexMetadataWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.IndexWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.OpenIndexWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.OpenPointInTimeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexAliasesWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexMappingWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexSettingsWork;
@@ -57,8 +60,11 @@ public Elasticsearch7WorkFactory(GsonProvider gsonProvider, Boolean ignoreShardF
 	public IndexWork.Builder index(String entityTypeName, Object entityIdentifier,
 			URLEncodedString elasticsearchIndexName,
 			String documentIdentifier, String routingKey, JsonObject document) {
+		// Serialize the document right away: it may be queued for a while before being sent,
+		// and the serialized form takes up much less memory than the JSON tree.
 		return IndexWork.Builder.create( entityTypeName, entityIdentifier,
-				elasticsearchIndexName, documentIdentifier, routingKey, document );
+				elasticsearchIndexName, documentIdentifier, routingKey,
+				SerializedJsonObject.of( gsonProvider.getGson(), document ) );
 	}
 
 	@Override
@@ -143,6 +149,16 @@ public ClearScrollWork.Builder clearScroll(String scrollId) {
 		return new ClearScrollWork.Builder( scrollId );
 	}
 
+	@Override
+	public OpenPointInTimeWork.Builder openPointInTime(String keepAlive) {
+		return new OpenPointInTimeWork.Builder( keepAlive );
+	}
+
+	@Override
+	public ClosePointInTimeWork.Builder closePointInTime(String pointInTimeId) {
+		return new ClosePointInTimeWork.Builder( pointInTimeId );
+	}
+
 	@Override
 	public CreateIndexWork.Builder createIndex(URLEncodedString indexName) {
 		return CreateIndexWork.Builder.create( gsonProvider, indexName );
@@ -0,0 +1,33 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.work.factory.impl;
+
+import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+import org.hibernate.search.backend.elasticsearch.logging.impl.ElasticsearchMiscLog;
+import org.hibernate.search.backend.elasticsearch.work.impl.ClosePointInTimeWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.OpenPointInTimeWork;
+
+/**
+ * A work builder factory for OpenSearch 1.0+.
+ * <p>
+ * Point-in-time APIs are not supported, because the OpenSearch API differs from Elasticsearch's
+ * and does not provide a {@code _shard_doc} tiebreaker.
+ */
+public class OpenSearch1WorkFactory extends Elasticsearch7WorkFactory {
+
+	public OpenSearch1WorkFactory(GsonProvider gsonProvider, Boolean ignoreShardFailures) {
+		super( gsonProvider, ignoreShardFailures );
+	}
+
+	@Override
+	public OpenPointInTimeWork.Builder openPointInTime(String keepAlive) {
+		throw ElasticsearchMiscLog.INSTANCE.cannotUsePointInTimeOnOpenSearch( "openPointInTime" );
+	}
+
+	@Override
+	public ClosePointInTimeWork.Builder closePointInTime(String pointInTimeId) {
+		throw ElasticsearchMiscLog.INSTANCE.cannotUsePointInTimeOnOpenSearch( "closePointInTime" );
+	}
+}
@@ -4,6 +4,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import org.hibernate.search.backend.elasticsearch.gson.spi.SerializedJsonObject;
 import org.hibernate.search.backend.elasticsearch.logging.impl.ElasticsearchClientLog;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 
@@ -13,7 +14,7 @@
 		implements BulkableWork<Void>, SingleDocumentIndexingWork {
 
 	private final JsonObject bulkableActionMetadata;
-	private final JsonObject bulkableActionBody;
+	private final SerializedJsonObject bulkableActionBody;
 	protected final ElasticsearchRequestSuccessAssessor resultAssessor;
 
 	private final String entityTypeName;
@@ -58,7 +59,7 @@ public JsonObject getBulkableActionMetadata() {
 	}
 
 	@Override
-	public JsonObject getBulkableActionBody() {
+	public SerializedJsonObject getBulkableActionBody() {
 		return bulkableActionBody;
 	}
 
@@ -103,7 +104,7 @@ public B refresh(DocumentRefreshStrategy refreshStrategy) {
 
 		protected abstract JsonObject buildBulkableActionMetadata();
 
-		protected abstract JsonObject buildBulkableActionBody();
+		protected abstract SerializedJsonObject buildBulkableActionBody();
 
 		public abstract AbstractSingleDocumentIndexingWork build();
 
@@ -0,0 +1,208 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponseBodyParser;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * A streaming parser for bulk responses.
+ * <p>
+ * Only retains the parts of each item that are necessary to assess its success,
+ * i.e. the status, the number of failed shards and the error if any,
+ * the same parts as {@link #FILTER_PATH} asks Elasticsearch to return.
+ * Successful items are not materialized individually:
+ * items with the same action and outcome share a single {@link JsonObject} instance.
+ */
+final class BulkResponseParser implements ElasticsearchResponseBodyParser {
+
+	static final BulkResponseParser INSTANCE = new BulkResponseParser();
+
+	/**
+	 * The {@code filter_path} for bulk requests.
+	 * Also includes the error and status of the whole response, for requests rejected as a whole.
+	 */
+	static final String FILTER_PATH = "errors,items.*.status,items.*.error,items.*._shards.failed,error,status";
+
+	private static final String ITEMS = "items";
+	private static final String STATUS = "status";
+	private static final String ERROR = "error";
+	private static final String SHARDS = "_shards";
+	private static final String FAILED = "failed";
+
+	private BulkResponseParser() {
+	}
+
+	@Override
+	public JsonObject parse(Gson gson, JsonReader reader) throws IOException {
+		if ( reader.peek() != JsonToken.BEGIN_OBJECT ) {
+			// Let Gson report the error
+			return gson.fromJson( reader, JsonObject.class );
+		}
+		JsonObject body = new JsonObject();
+		reader.beginObject();
+		while ( reader.hasNext() ) {
+			String name = reader.nextName();
+			if ( ITEMS.equals( name ) && reader.peek() == JsonToken.BEGIN_ARRAY ) {
+				body.add( name, new ItemsParser( gson, reader ).parse() );
+			}
+			else {
+				body.add( name, gson.fromJson( reader, JsonElement.class ) );
+			}
+		}
+		reader.endObject();
+		return body;
+	}
+
+	private static final class ItemsParser {
+		private final Gson gson;
+		private final JsonReader reader;
+
+		// Shared instances for items without an error; there are usually very few distinct ones.
+		private final List<JsonObject> sharedItems = new ArrayList<>( 2 );
+
+		// State of the current item
+		private Integer status;
+		private Integer failedShards;
+		private JsonElement error;
+
+		private ItemsParser(Gson gson, JsonReader reader) {
+			this.gson = gson;
+			this.reader = reader;
+		}
+
+		JsonArray parse() throws IOException {
+			JsonArray items = new JsonArray();
+			reader.beginArray();
+			while ( reader.hasNext() ) {
+				items.add( parseItem() );
+			}
+			reader.endArray();
+			return items;
+		}
+
+		// Items have the following format: { "actionName" : { "status" : 201, ... } }
+		private JsonElement parseItem() throws IOException {
+			if ( reader.peek() != JsonToken.BEGIN_OBJECT ) {
+				return gson.fromJson( reader, JsonElement.class );
+			}
+			reader.beginObject();
+			JsonObject item;
+			if ( !reader.hasNext() ) {
+				item = new JsonObject();
+			}
+			else {
+				String action = reader.nextName();
+				if ( reader.peek() != JsonToken.BEGIN_OBJECT ) {
+					item = new JsonObject();
+					item.add( action, gson.fromJson( reader, JsonElement.class ) );
+				}
+				else {
+					parseActionResponse();
+					item = error == null ? sharedItem( action ) : createItem( action );
+				}
+				if ( reader.hasNext() ) {
+					// Unexpected format: retain everything.
+					item = item.deepCopy();
+					while ( reader.hasNext() ) {
+						item.add( reader.nextName(), gson.fromJson( reader, JsonElement.class ) );
+					}
+				}
+			}
+			reader.endObject();
+			return item;
+		}
+
+		private void parseActionResponse() throws IOException {
+			status = null;
+			failedShards = null;
+			error = null;
+			reader.beginObject();
+			while ( reader.hasNext() ) {
+				String name = reader.nextName();
+				if ( STATUS.equals( name ) && reader.peek() == JsonToken.NUMBER ) {
+					status = reader.nextInt();
+				}
+				else if ( ERROR.equals( name ) ) {
+					error = gson.fromJson( reader, JsonElement.class );
+				}
+				else if ( SHARDS.equals( name ) && reader.peek() == JsonToken.BEGIN_OBJECT ) {
+					parseShards();
+				}
+				else {
+					// Not necessary to assess success; usually filtered out by Elasticsearch already.
+					reader.skipValue();
+				}
+			}
+			reader.endObject();
+		}
+
+		private void parseShards() throws IOException {
+			reader.beginObject();
+			while ( reader.hasNext() ) {
+				if ( FAILED.equals( reader.nextName() ) && reader.peek() == JsonToken.NUMBER ) {
+					failedShards = reader.nextInt();
+				}
+				else {
+					reader.skipValue();
+				}
+			}
+			reader.endObject();
+		}
+
+		private JsonObject sharedItem(String action) {
+			for ( JsonObject candidate : sharedItems ) {
+				JsonObject actionResponse = candidate.getAsJsonObject( action );
+				if ( actionResponse != null
+						&& Objects.equals( status, intProperty( actionResponse, STATUS ) )
+						&& Objects.equals( failedShards, failedShards( actionResponse ) ) ) {
+					return candidate;
+				}
+			}
+			JsonObject item = createItem( action );
+			sharedItems.add( item );
+			return item;
+		}
+
+		private JsonObject createItem(String action) {
+			JsonObject actionResponse = new JsonObject();
+			if ( status != null ) {
+				actionResponse.addProperty( STATUS, status );
+			}
+			if ( failedShards != null ) {
+				JsonObject shards = new JsonObject();
+				shards.addProperty( FAILED, failedShards );
+				actionResponse.add( SHARDS, shards );
+			}
+			if ( error != null ) {
+				actionResponse.add( ERROR, error );
+			}
+			JsonObject item = new JsonObject();
+			item.add( action, actionResponse );
+			return item;
+		}
+
+		private static Integer failedShards(JsonObject actionResponse) {
+			JsonObject shards = actionResponse.getAsJsonObject( SHARDS );
+			return shards == null ? null : intProperty( shards, FAILED );
+		}
+
+		private static Integer intProperty(JsonObject object, String name) {
+			JsonElement element = object.get( name );
+			return element == null ? null : element.getAsInt();
+		}
+	}
+}
@@ -4,14 +4,18 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.gson.spi.SerializedJsonObject;
+import org.hibernate.search.backend.elasticsearch.logging.impl.ElasticsearchClientLog;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.util.common.SearchException;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
@@ -19,14 +23,42 @@
 public class BulkWork extends AbstractNonBulkableWork<BulkResult> {
 
 	private static final JsonAccessor<JsonArray> BULK_ITEMS = JsonAccessor.root().property( "items" ).asArray();
+	private static final JsonAccessor<Integer> BULK_ITEM_STATUS_CODE = JsonAccessor.root().property( "status" ).asInteger();
+
+	private static final int TOO_MANY_REQUESTS_HTTP_STATUS_CODE = 429;
+
+	// Requests rejected as a whole because Elasticsearch is overloaded are reported through the bulk result,
+	// so that they can be retried.
+	private static final ElasticsearchRequestSuccessAssessor RESULT_ASSESSOR =
+			ElasticsearchRequestSuccessAssessor.builder()
+					.ignoreErrorStatuses( TOO_MANY_REQUESTS_HTTP_STATUS_CODE )
+					.build();
 
 	protected BulkWork(Builder builder) {
 		super( builder );
 	}
 
+	/**
+	 * @param work A bulkable work.
+	 * @return The parts of the bulk request body that correspond to the given work:
+	 * {@link JsonObject}s or {@link SerializedJsonObject}s.
+	 */
+	public static List<?> bodyParts(BulkableWork<?> work) {
+		List<Object> bodyParts = new ArrayList<>( 2 );
+		bodyParts.add( work.getBulkableActionMetadata() );
+		SerializedJsonObject actionBody = work.getBulkableActionBody();
+		if ( actionBody != null ) {
+			bodyParts.add( actionBody );
+		}
+		return bodyParts;
+	}
+
 	@Override
 	protected BulkResult generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
 		JsonObject parsedResponseBody = response.body();
+		if ( response.statusCode() == TOO_MANY_REQUESTS_HTTP_STATUS_CODE ) {
+			return new RejectedBulkResultImpl( parsedResponseBody );
+		}
 		JsonArray resultItems = BULK_ITEMS.get( parsedResponseBody ).orElseGet( JsonArray::new );
 		return new BulkResultImpl( resultItems );
 	}
@@ -37,7 +69,7 @@ public static class Builder extends AbstractNonBulkableWork.AbstractBuilder<Buil
 		private DocumentRefreshStrategy refreshStrategy = DocumentRefreshStrategy.NONE;
 
 		public Builder(List<? extends BulkableWork<?>> bulkableWorks) {
-			super( ElasticsearchRequestSuccessAssessor.DEFAULT_INSTANCE );
+			super( RESULT_ASSESSOR );
 			this.bulkableWorks = bulkableWorks;
 		}
 
@@ -50,7 +82,11 @@ public Builder refresh(DocumentRefreshStrategy refreshStrategy) {
 		protected ElasticsearchRequest buildRequest() {
 			ElasticsearchRequest.Builder builder =
 					ElasticsearchRequest.post()
-							.pathComponent( Paths._BULK );
+							.pathComponent( Paths._BULK )
+							// Only retrieve what we need to assess the success of each item,
+							// and avoid materializing successful items when parsing the response.
+							.param( "filter_path", BulkResponseParser.FILTER_PATH )
+							.responseBodyParser( BulkResponseParser.INSTANCE );
 			switch ( refreshStrategy ) {
 				case FORCE:
 					builder.param( "refresh", true );
@@ -61,7 +97,7 @@ protected ElasticsearchRequest buildRequest() {
 
 			for ( BulkableWork<?> work : bulkableWorks ) {
 				builder.body( work.getBulkableActionMetadata() );
-				JsonObject actionBody = work.getBulkableActionBody();
+				SerializedJsonObject actionBody = work.getBulkableActionBody();
 				if ( actionBody != null ) {
 					builder.body( actionBody );
 				}
@@ -89,6 +125,36 @@ public <T> T extract(ElasticsearchWorkExecutionContext context, BulkableWork<T>
 			JsonObject bulkItemResponse = results.get( index ).getAsJsonObject();
 			return work.handleBulkResult( context, bulkItemResponse );
 		}
+
+		@Override
+		public boolean isRejected(int index) {
+			// Result items have the following format: { "actionName" : { "status" : 201, ... } }
+			JsonObject bulkItemResponse = results.get( index ).getAsJsonObject();
+			JsonObject actionResponse = bulkItemResponse.entrySet().iterator().next().getValue().getAsJsonObject();
+			return BULK_ITEM_STATUS_CODE.get( actionResponse )
+					.map( status -> status == TOO_MANY_REQUESTS_HTTP_STATUS_CODE )
+					.orElse( false );
+		}
+	}
+
+	private static class RejectedBulkResultImpl implements BulkResult {
+		private final JsonObject responseBody;
+
+		public RejectedBulkResultImpl(JsonObject responseBody) {
+			this.responseBody = responseBody;
+		}
+
+		@Override
+		public <T> T extract(ElasticsearchWorkExecutionContext context, BulkableWork<T> work, int index) {
+			SearchException cause = ElasticsearchClientLog.INSTANCE.elasticsearchStatus429TooManyRequests();
+			throw ElasticsearchClientLog.INSTANCE.elasticsearchBulkedRequestFailed(
+					work.getBulkableActionMetadata(), responseBody, cause.getMessage(), cause );
+		}
+
+		@Override
+		public boolean isRejected(int index) {
+			return true;
+		}
 	}
 
 }
@@ -4,6 +4,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import org.hibernate.search.backend.elasticsearch.gson.spi.SerializedJsonObject;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 
 import com.google.gson.JsonObject;
@@ -14,7 +15,11 @@
 
 	JsonObject getBulkableActionMetadata();
 
-	JsonObject getBulkableActionBody();
+	/**
+	 * @return The body of the action in the bulk request, if any,
+	 * already serialized so as to take up as little memory as possible while the work is queued.
+	 */
+	SerializedJsonObject getBulkableActionBody();
 
 	/**
 	 * @param context The execution context
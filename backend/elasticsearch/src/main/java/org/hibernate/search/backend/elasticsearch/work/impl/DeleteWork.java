@@ -4,6 +4,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import org.hibernate.search.backend.elasticsearch.gson.spi.SerializedJsonObject;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 
 import com.google.gson.JsonObject;
@@ -54,7 +55,7 @@ protected JsonObject buildBulkableActionMetadata() {
 		}
 
 		@Override
-		protected JsonObject buildBulkableActionBody() {
+		protected SerializedJsonObject buildBulkableActionBody() {
 			return null;
 		}
 
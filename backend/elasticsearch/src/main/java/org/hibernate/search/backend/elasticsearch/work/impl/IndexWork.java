@@ -4,6 +4,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import org.hibernate.search.backend.elasticsearch.gson.spi.SerializedJsonObject;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 
 import com.google.gson.JsonObject;
@@ -19,17 +20,17 @@ private IndexWork(Builder builder) {
 			extends AbstractSingleDocumentIndexingWork.AbstractBuilder<Builder> {
 		private final URLEncodedString indexName;
 		private final String routingKey;
-		private final JsonObject document;
+		private final SerializedJsonObject document;
 
 		public static Builder create(String entityTypeName, Object entityIdentifier,
 				URLEncodedString elasticsearchIndexName, String documentIdentifier, String routingKey,
-				JsonObject document) {
+				SerializedJsonObject document) {
 			return new Builder( entityTypeName, entityIdentifier,
 					elasticsearchIndexName, documentIdentifier, routingKey, document );
 		}
 
 		private Builder(String entityTypeName, Object entityIdentifier, URLEncodedString elasticsearchIndexName,
-				String documentIdentifier, String routingKey, JsonObject document) {
+				String documentIdentifier, String routingKey, SerializedJsonObject document) {
 			super( ElasticsearchRequestSuccessAssessor.DEFAULT_INSTANCE, entityTypeName, entityIdentifier,
 					documentIdentifier );
 			this.indexName = elasticsearchIndexName;
@@ -54,7 +55,7 @@ protected JsonObject buildBulkableActionMetadata() {
 		}
 
 		@Override
-		protected JsonObject buildBulkableActionBody() {
+		protected SerializedJsonObject buildBulkableActionBody() {
 			return document;
 		}
 
@@ -5,6 +5,7 @@
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
@@ -15,6 +16,8 @@
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.engine.common.timing.Deadline;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
 public class SearchWork<R> extends AbstractNonBulkableWork<R> {
@@ -65,6 +68,9 @@ public static <T> Builder<T> create(JsonObject payload, ElasticsearchSearchResul
 		private Integer size;
 		private Integer scrollSize;
 		private String scrollTimeout;
+		private String pointInTimeId;
+		private String pointInTimeKeepAlive;
+		private JsonArray searchAfter;
 		private Set<String> routingKeys;
 		private Deadline deadline;
 		private boolean failOnDeadline;
@@ -95,6 +101,21 @@ public Builder<R> scrolling(int scrollSize, String scrollTimeout) {
 			return this;
 		}
 
+		/*
+		 * Indexes and routing keys are ignored when searching a point in time:
+		 * they were defined when opening the point in time.
+		 */
+		public Builder<R> pointInTime(String pointInTimeId, String keepAlive) {
+			this.pointInTimeId = pointInTimeId;
+			this.pointInTimeKeepAlive = keepAlive;
+			return this;
+		}
+
+		public Builder<R> searchAfter(JsonArray searchAfter) {
+			this.searchAfter = searchAfter;
+			return this;
+		}
+
 		public Builder<R> routingKeys(Set<String> routingKeys) {
 			this.routingKeys = routingKeys;
 			return this;
@@ -131,11 +152,12 @@ public Builder<R> totalHitCountThreshold(Long totalHitCountThreshold) {
 
 		@Override
 		protected ElasticsearchRequest buildRequest() {
-			ElasticsearchRequest.Builder builder =
-					ElasticsearchRequest.post()
-							.multiValuedPathComponent( indexes )
-							.pathComponent( Paths._SEARCH )
-							.body( payload );
+			ElasticsearchRequest.Builder builder = ElasticsearchRequest.post();
+			if ( pointInTimeId == null ) {
+				builder.multiValuedPathComponent( indexes );
+			}
+			builder.pathComponent( Paths._SEARCH )
+					.body( pointInTimeId == null && searchAfter == null ? payload : pagingPayload() );
 
 			if ( from != null ) {
 				builder.param( "from", from );
@@ -150,7 +172,7 @@ protected ElasticsearchRequest buildRequest() {
 				builder.param( "scroll", scrollTimeout );
 			}
 
-			if ( routingKeys != null && !routingKeys.isEmpty() ) {
+			if ( pointInTimeId == null && routingKeys != null && !routingKeys.isEmpty() ) {
 				builder.multiValuedParam( "routing", routingKeys );
 			}
 
@@ -174,6 +196,41 @@ public SearchWork<R> build() {
 			return new SearchWork<>( this );
 		}
 
+		private JsonObject pagingPayload() {
+			// Shallow copy: we must not alter the payload, which is shared with other executions of the query.
+			JsonObject result = new JsonObject();
+			for ( Map.Entry<String, JsonElement> entry : payload.entrySet() ) {
+				result.add( entry.getKey(), entry.getValue() );
+			}
+
+			if ( pointInTimeId != null ) {
+				JsonObject pointInTime = new JsonObject();
+				pointInTime.addProperty( "id", pointInTimeId );
+				pointInTime.addProperty( "keep_alive", pointInTimeKeepAlive );
+				result.add( "pit", pointInTime );
+
+				// Add a tiebreaker so that the sort is total and search_after never skips hits.
+				JsonArray sort = new JsonArray();
+				JsonElement originalSort = payload.get( "sort" );
+				if ( originalSort != null && originalSort.isJsonArray() ) {
+					sort.addAll( originalSort.getAsJsonArray() );
+				}
+				else {
+					sort.add( "_score" );
+				}
+				JsonObject tiebreaker = new JsonObject();
+				tiebreaker.addProperty( "_shard_doc", "asc" );
+				sort.add( tiebreaker );
+				result.add( "sort", sort );
+			}
+
+			if ( searchAfter != null ) {
+				result.add( "search_after", searchAfter );
+			}
+
+			return result;
+		}
+
 		private void handleDeadline(ElasticsearchRequest.Builder builder) {
 			if ( deadline == null ) {
 				return;
@@ -11,4 +11,11 @@ public interface BulkResult {
 
 	<T> T extract(ElasticsearchWorkExecutionContext context, BulkableWork<T> work, int index);
 
+	/**
+	 * @param index The index of a work in the bulk.
+	 * @return {@code true} if Elasticsearch rejected that work because it is overloaded (HTTP status 429),
+	 * meaning the work can be sent again later, {@code false} otherwise.
+	 */
+	boolean isRejected(int index);
+
 }
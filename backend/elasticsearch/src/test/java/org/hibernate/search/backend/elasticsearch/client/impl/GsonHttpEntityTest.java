@@ -8,6 +8,7 @@
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -22,8 +23,10 @@
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+import org.hibernate.search.backend.elasticsearch.gson.spi.SerializedJsonObject;
 
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -139,19 +142,38 @@ public static List<? extends Arguments> params() {
 				)
 		) );
 
+		// Same payloads, with some body parts already serialized, as would be the case in bulk requests.
+		for ( Arguments jsonOnlyParams : new ArrayList<>( params ) ) {
+			List<?> payload = (List<?>) jsonOnlyParams.get()[1];
+			List<Object> mixedPayload = new ArrayList<>( payload.size() );
+			for ( int i = 0; i < payload.size(); i++ ) {
+				JsonObject bodyPart = (JsonObject) payload.get( i );
+				mixedPayload.add( i % 2 == 0 ? SerializedJsonObject.of( gson, bodyPart ) : bodyPart );
+			}
+			params.add( Arguments.of( jsonOnlyParams.get()[0] + " - partly serialized", mixedPayload ) );
+		}
 		return params;
 	}
 
 	private GsonHttpEntity gsonEntity;
+	private GsonHttpEntity compressedGsonEntity;
 	private String expectedPayloadString;
 	private int expectedContentLength;
 
-	public void init(List<JsonObject> payload) throws IOException {
-		Gson gson = GsonProvider.create( GsonBuilder::new, true ).getGson();
+	private Gson gson;
+
+	public void init(List<?> payload) throws IOException {
+		this.gson = GsonProvider.create( GsonBuilder::new, true ).getGson();
 		this.gsonEntity = new GsonHttpEntity( gson, payload );
+		this.compressedGsonEntity = new GsonHttpEntity( gson, payload, true );
 		StringBuilder builder = new StringBuilder();
-		for ( JsonObject object : payload ) {
-			gson.toJson( object, builder );
+		for ( Object object : payload ) {
+			if ( object instanceof SerializedJsonObject serialized ) {
+				builder.append( serialized );
+			}
+			else {
+				gson.toJson( (JsonObject) object, builder );
+			}
 			builder.append( "\n" );
 		}
 		this.expectedPayloadString = builder.toString();
@@ -160,7 +182,7 @@ public void init(List<JsonObject> payload) throws IOException {
 
 	@ParameterizedTest(name = "{0}")
 	@MethodSource("params")
-	void initialContentLength(String ignoredLabel, List<JsonObject> payload) throws IOException {
+	void initialContentLength(String ignoredLabel, List<?> payload) throws IOException {
 		init( payload );
 		// The content length cannot be known from the start for large, multi-object payloads
 		assumeTrue( payload.size() <= 1 || expectedContentLength < 1024 );
@@ -170,7 +192,14 @@ void initialContentLength(String ignoredLabel, List<JsonObject> payload) throws
 
 	@ParameterizedTest(name = "{0}")
 	@MethodSource("params")
-	void contentType(String ignoredLabel, List<JsonObject> payload) throws IOException {
+	void computeContentLength(String ignoredLabel, List<?> payload) throws IOException {
+		init( payload );
+		assertThat( GsonHttpEntity.computeContentLength( gson, payload ) ).isEqualTo( expectedContentLength );
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("params")
+	void contentType(String ignoredLabel, List<?> payload) throws IOException {
 		init( payload );
 		Header contentType = gsonEntity.getContentType();
 		assertThat( contentType.getName() ).isEqualTo( "Content-Type" );
@@ -179,7 +208,7 @@ void contentType(String ignoredLabel, List<JsonObject> payload) throws IOExcepti
 
 	@ParameterizedTest(name = "{0}")
 	@MethodSource("params")
-	void produceContent_noPushBack(String ignoredLabel, List<JsonObject> payload) throws IOException {
+	void produceContent_noPushBack(String ignoredLabel, List<?> payload) throws IOException {
 		init( payload );
 		int pushBackPeriod = Integer.MAX_VALUE;
 		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
@@ -192,7 +221,7 @@ void produceContent_noPushBack(String ignoredLabel, List<JsonObject> payload) th
 
 	@ParameterizedTest(name = "{0}")
 	@MethodSource("params")
-	void produceContent_pushBack_every5Bytes(String ignoredLabel, List<JsonObject> payload) throws IOException {
+	void produceContent_pushBack_every5Bytes(String ignoredLabel, List<?> payload) throws IOException {
 		init( payload );
 		int pushBackPeriod = 5;
 		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
@@ -205,7 +234,7 @@ void produceContent_pushBack_every5Bytes(String ignoredLabel, List<JsonObject> p
 
 	@ParameterizedTest(name = "{0}")
 	@MethodSource("params")
-	void produceContent_pushBack_every100Bytes(String ignoredLabel, List<JsonObject> payload)
+	void produceContent_pushBack_every100Bytes(String ignoredLabel, List<?> payload)
 			throws IOException {
 		init( payload );
 		int pushBackPeriod = 100;
@@ -219,7 +248,7 @@ void produceContent_pushBack_every100Bytes(String ignoredLabel, List<JsonObject>
 
 	@ParameterizedTest(name = "{0}")
 	@MethodSource("params")
-	void produceContent_pushBack_every500Bytes(String ignoredLabel, List<JsonObject> payload)
+	void produceContent_pushBack_every500Bytes(String ignoredLabel, List<?> payload)
 			throws IOException {
 		init( payload );
 		int pushBackPeriod = 500;
@@ -233,7 +262,7 @@ void produceContent_pushBack_every500Bytes(String ignoredLabel, List<JsonObject>
 
 	@ParameterizedTest(name = "{0}")
 	@MethodSource("params")
-	void writeTo(String ignoredLabel, List<JsonObject> payload) throws IOException {
+	void writeTo(String ignoredLabel, List<?> payload) throws IOException {
 		init( payload );
 		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
 			assertThat( doWriteTo( gsonEntity ) )
@@ -245,7 +274,7 @@ void writeTo(String ignoredLabel, List<JsonObject> payload) throws IOException {
 
 	@ParameterizedTest(name = "{0}")
 	@MethodSource("params")
-	void getContent(String ignoredLabel, List<JsonObject> payload) throws IOException {
+	void getContent(String ignoredLabel, List<?> payload) throws IOException {
 		init( payload );
 		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
 			assertThat( doGetContent( gsonEntity ) )
@@ -255,13 +284,90 @@ void getContent(String ignoredLabel, List<JsonObject> payload) throws IOExceptio
 		}
 	}
 
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("params")
+	void compressed_contentEncoding(String ignoredLabel, List<?> payload) throws IOException {
+		init( payload );
+		assertThat( gsonEntity.getContentEncoding() ).isNull();
+		Header contentEncoding = compressedGsonEntity.getContentEncoding();
+		assertThat( contentEncoding.getName() ).isEqualTo( "Content-Encoding" );
+		assertThat( contentEncoding.getValue() ).isEqualTo( "gzip" );
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("params")
+	void compressed_produceContent_noPushBack(String ignoredLabel, List<?> payload) throws IOException {
+		init( payload );
+		int pushBackPeriod = Integer.MAX_VALUE;
+		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
+			byte[] compressed = doProduceContentBytes( compressedGsonEntity, pushBackPeriod );
+			assertThat( decompress( compressed ) )
+					.isEqualTo( expectedPayloadString );
+			assertThat( compressedGsonEntity.getContentLength() )
+					.isIn( -1L, (long) compressed.length );
+		}
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("params")
+	void compressed_produceContent_pushBack_every5Bytes(String ignoredLabel, List<?> payload)
+			throws IOException {
+		init( payload );
+		int pushBackPeriod = 5;
+		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
+			assertThat( decompress( doProduceContentBytes( compressedGsonEntity, pushBackPeriod ) ) )
+					.isEqualTo( expectedPayloadString );
+		}
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("params")
+	void compressed_produceContent_pushBack_every500Bytes(String ignoredLabel, List<?> payload)
+			throws IOException {
+		init( payload );
+		int pushBackPeriod = 500;
+		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
+			assertThat( decompress( doProduceContentBytes( compressedGsonEntity, pushBackPeriod ) ) )
+					.isEqualTo( expectedPayloadString );
+		}
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("params")
+	void compressed_writeTo(String ignoredLabel, List<?> payload) throws IOException {
+		init( payload );
+		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
+			try ( ByteArrayOutputStream outputStream = new ByteArrayOutputStream() ) {
+				compressedGsonEntity.writeTo( outputStream );
+				assertThat( decompress( outputStream.toByteArray() ) )
+						.isEqualTo( expectedPayloadString );
+			}
+		}
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("params")
+	void compressed_getContent(String ignoredLabel, List<?> payload) throws IOException {
+		init( payload );
+		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
+			try ( InputStream inputStream = compressedGsonEntity.getContent() ) {
+				assertThat( decompress( inputStream.readAllBytes() ) )
+						.isEqualTo( expectedPayloadString );
+			}
+		}
+	}
+
 	private String doProduceContent(GsonHttpEntity entity, int pushBackPeriod) throws IOException {
+		return new String( doProduceContentBytes( entity, pushBackPeriod ), StandardCharsets.UTF_8 );
+	}
+
+	private byte[] doProduceContentBytes(GsonHttpEntity entity, int pushBackPeriod) throws IOException {
 		try ( ByteArrayOutputStream outputStream = new ByteArrayOutputStream() ) {
 			ContentEncoder contentEncoder = new OutputStreamContentEncoder( outputStream, pushBackPeriod );
 			while ( !contentEncoder.isCompleted() ) {
 				entity.produceContent( contentEncoder, StubIOControl.INSTANCE );
 			}
-			return outputStream.toString( StandardCharsets.UTF_8.name() );
+			return outputStream.toByteArray();
 		}
 		finally {
 			entity.close();
@@ -275,6 +381,12 @@ private String doWriteTo(GsonHttpEntity entity) throws IOException {
 		}
 	}
 
+	private static String decompress(byte[] compressed) throws IOException {
+		try ( InputStream inputStream = new GZIPInputStream( new ByteArrayInputStream( compressed ) ) ) {
+			return new String( inputStream.readAllBytes(), StandardCharsets.UTF_8 );
+		}
+	}
+
 	private String doGetContent(GsonHttpEntity entity) throws IOException {
 		try ( InputStream inputStream = entity.getContent();
 				Reader reader = new InputStreamReader( inputStream, StandardCharsets.UTF_8 );
@@ -310,7 +422,8 @@ public int write(ByteBuffer src) throws IOException {
 				return 0;
 			}
 			pushedBack = false;
-			outputStream.write( src.array(), src.arrayOffset(), toWrite );
+			outputStream.write( src.array(), src.arrayOffset() + src.position(), toWrite );
+			src.position( src.limit() );
 			written += toWrite;
 			return toWrite;
 		}
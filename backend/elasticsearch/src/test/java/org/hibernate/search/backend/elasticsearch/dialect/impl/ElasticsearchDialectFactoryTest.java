@@ -15,6 +15,7 @@
 import org.hibernate.search.backend.elasticsearch.dialect.model.impl.Elasticsearch7ModelDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.model.impl.Elasticsearch812ModelDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.model.impl.Elasticsearch814ModelDialect;
+import org.hibernate.search.backend.elasticsearch.dialect.model.impl.Elasticsearch818ModelDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.model.impl.Elasticsearch8ModelDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.model.impl.ElasticsearchModelDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.model.impl.OpenSearch1ModelDialect;
@@ -22,9 +23,13 @@
 import org.hibernate.search.backend.elasticsearch.dialect.model.impl.OpenSearch29ModelDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.model.impl.OpenSearch2ModelDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch70ProtocolDialect;
+import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch712ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch80ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch81ProtocolDialect;
+import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch814ProtocolDialect;
+import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch818ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.ElasticsearchProtocolDialect;
+import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.OpenSearch1ProtocolDialect;
 import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.impl.test.extension.ExpectedLog4jLog;
 
@@ -99,47 +104,47 @@ public static List<? extends Arguments> params() {
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "7.12", "7.12.1",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "7.12.0", "7.12.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "7.12.1", "7.12.1",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "7.13", "7.13.2",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "7.13.0", "7.13.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "7.13.2", "7.13.2",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "7.16", "7.16.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "7.16.0", "7.16.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "7.17", "7.17.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "7.17.0", "7.17.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 				),
 				successWithWarning(
 						ElasticsearchDistributionName.ELASTIC, "7.18.0", "7.18.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "8", "8.7.1",
@@ -259,71 +264,71 @@ public static List<? extends Arguments> params() {
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "8.14", "8.14.0",
-						Elasticsearch814ModelDialect.class, Elasticsearch81ProtocolDialect.class
+						Elasticsearch814ModelDialect.class, Elasticsearch814ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "8.14.0", "8.14.0",
-						Elasticsearch814ModelDialect.class, Elasticsearch81ProtocolDialect.class
+						Elasticsearch814ModelDialect.class, Elasticsearch814ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "8.15", "8.15.0",
-						Elasticsearch814ModelDialect.class, Elasticsearch81ProtocolDialect.class
+						Elasticsearch814ModelDialect.class, Elasticsearch814ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "8.15.0", "8.15.0",
-						Elasticsearch814ModelDialect.class, Elasticsearch81ProtocolDialect.class
+						Elasticsearch814ModelDialect.class, Elasticsearch814ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "8.16", "8.16.0",
-						Elasticsearch814ModelDialect.class, Elasticsearch81ProtocolDialect.class
+						Elasticsearch814ModelDialect.class, Elasticsearch814ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "8.16.0", "8.16.0",
-						Elasticsearch814ModelDialect.class, Elasticsearch81ProtocolDialect.class
+						Elasticsearch814ModelDialect.class, Elasticsearch814ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "8.17", "8.17.0",
-						Elasticsearch814ModelDialect.class, Elasticsearch81ProtocolDialect.class
+						Elasticsearch814ModelDialect.class, Elasticsearch814ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "8.17.0", "8.17.0",
-						Elasticsearch814ModelDialect.class, Elasticsearch81ProtocolDialect.class
+						Elasticsearch814ModelDialect.class, Elasticsearch814ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "8.17", "8.17.0",
-						Elasticsearch814ModelDialect.class, Elasticsearch81ProtocolDialect.class
+						Elasticsearch814ModelDialect.class, Elasticsearch814ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "8.18", "8.18.0",
-						Elasticsearch814ModelDialect.class, Elasticsearch81ProtocolDialect.class
+						Elasticsearch818ModelDialect.class, Elasticsearch818ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "8.18.0", "8.18.0",
-						Elasticsearch814ModelDialect.class, Elasticsearch81ProtocolDialect.class
+						Elasticsearch818ModelDialect.class, Elasticsearch818ProtocolDialect.class
 				),
 				successWithWarning(
 						ElasticsearchDistributionName.ELASTIC, "8.19", "8.19.0",
-						Elasticsearch814ModelDialect.class, Elasticsearch81ProtocolDialect.class
+						Elasticsearch818ModelDialect.class, Elasticsearch818ProtocolDialect.class
 				),
 				successWithWarning(
 						ElasticsearchDistributionName.ELASTIC, "8.19.0", "8.19.0",
-						Elasticsearch814ModelDialect.class, Elasticsearch81ProtocolDialect.class
+						Elasticsearch818ModelDialect.class, Elasticsearch818ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "9.0", "9.0.0",
-						Elasticsearch814ModelDialect.class, Elasticsearch81ProtocolDialect.class
+						Elasticsearch818ModelDialect.class, Elasticsearch818ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "9.0.0", "9.0.0",
-						Elasticsearch814ModelDialect.class, Elasticsearch81ProtocolDialect.class
+						Elasticsearch818ModelDialect.class, Elasticsearch818ProtocolDialect.class
 				),
 				successWithWarning(
 						ElasticsearchDistributionName.ELASTIC, "9.1.0", "9.1.0",
-						Elasticsearch814ModelDialect.class, Elasticsearch81ProtocolDialect.class
+						Elasticsearch818ModelDialect.class, Elasticsearch818ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "1", "1.3.1",
-						OpenSearch1ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch1ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				unsupported( ElasticsearchDistributionName.OPENSEARCH, "1.0" ),
 				unsupported( ElasticsearchDistributionName.OPENSEARCH, "1.0.0-rc1" ),
@@ -334,195 +339,195 @@ public static List<? extends Arguments> params() {
 				unsupported( ElasticsearchDistributionName.OPENSEARCH, "1.2.1" ),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "1.3", "1.3.1",
-						OpenSearch1ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch1ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "1.3.0", "1.3.0",
-						OpenSearch1ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch1ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "1.3.1", "1.3.1",
-						OpenSearch1ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch1ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				successWithWarning(
 						ElasticsearchDistributionName.OPENSEARCH, "1.4", "1.4.0",
-						OpenSearch1ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch1ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				successWithWarning(
 						ElasticsearchDistributionName.OPENSEARCH, "1.4.0", "1.4.0",
-						OpenSearch1ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch1ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2", "2.3.0",
-						OpenSearch2ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch2ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.0", "2.3.0",
-						OpenSearch2ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch2ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.0.0", "2.0.0",
-						OpenSearch2ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch2ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.1.0", "2.1.0",
-						OpenSearch2ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch2ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.2.1", "2.2.1",
-						OpenSearch2ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch2ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.3.0", "2.3.0",
-						OpenSearch2ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch2ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.4.0", "2.4.0",
-						OpenSearch2ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch2ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.5.0", "2.5.0",
-						OpenSearch2ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch2ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.6.0", "2.6.0",
-						OpenSearch2ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch2ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.7.0", "2.7.0",
-						OpenSearch2ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch2ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.8", "2.8.0",
-						OpenSearch2ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch2ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.8.0", "2.8.0",
-						OpenSearch2ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch2ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.9", "2.9.0",
-						OpenSearch29ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch29ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.9.0", "2.9.0",
-						OpenSearch29ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch29ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.10", "2.10.0",
-						OpenSearch29ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch29ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.10.0", "2.10.0",
-						OpenSearch29ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch29ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.11", "2.11.0",
-						OpenSearch29ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch29ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.11.0", "2.11.0",
-						OpenSearch29ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch29ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.12", "2.12.0",
-						OpenSearch29ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch29ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.12.0", "2.12.0",
-						OpenSearch29ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch29ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.13", "2.13.0",
-						OpenSearch29ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch29ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.13.0", "2.13.0",
-						OpenSearch29ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch29ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.14", "2.14.0",
-						OpenSearch214ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch214ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.14.0", "2.14.0",
-						OpenSearch214ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch214ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.15", "2.15.0",
-						OpenSearch214ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch214ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.15.0", "2.15.0",
-						OpenSearch214ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch214ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.16", "2.16.0",
-						OpenSearch214ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch214ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.16.0", "2.16.0",
-						OpenSearch214ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch214ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.17", "2.17.0",
-						OpenSearch214ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch214ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.17.0", "2.17.0",
-						OpenSearch214ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch214ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.18", "2.18.0",
-						OpenSearch214ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch214ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.18.0", "2.18.0",
-						OpenSearch214ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch214ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.19", "2.19.0",
-						OpenSearch214ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch214ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.19.0", "2.19.0",
-						OpenSearch214ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch214ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				successWithWarning(
 						ElasticsearchDistributionName.OPENSEARCH, "2.20", "2.20.0",
-						OpenSearch214ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch214ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				successWithWarning(
 						ElasticsearchDistributionName.OPENSEARCH, "2.20.0", "2.20.0",
-						OpenSearch214ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch214ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "3.0", "3.0.0",
-						OpenSearch214ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch214ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "3.0.0", "3.0.0",
-						OpenSearch214ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch214ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				successWithWarning(
 						ElasticsearchDistributionName.OPENSEARCH, "3.1", "3.1.0",
-						OpenSearch214ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch214ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				successWithWarning(
 						ElasticsearchDistributionName.OPENSEARCH, "3.1.0", "3.1.0",
-						OpenSearch214ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch214ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				successWithWarning(
 						ElasticsearchDistributionName.OPENSEARCH, "4", "4.0.0",
-						OpenSearch214ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch214ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				successWithWarning(
 						ElasticsearchDistributionName.OPENSEARCH, "4.0", "4.0.0",
-						OpenSearch214ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch214ModelDialect.class, OpenSearch1ProtocolDialect.class
 				),
 				successWithWarning(
 						ElasticsearchDistributionName.OPENSEARCH, "4.0.0", "4.0.0",
-						OpenSearch214ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						OpenSearch214ModelDialect.class, OpenSearch1ProtocolDialect.class
 				)
 		);
 	}
@@ -12,7 +12,9 @@
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 
@@ -263,6 +265,82 @@ void newBulkOnDifferentRefresh() {
 		verifyNoOtherSequenceInteractionsAndReset();
 	}
 
+	@Test
+	void newBulkOnTooManyBytes() {
+		BulkableWork<Void> work1 = bulkableWorkMock( 1 );
+		BulkableWork<Void> work2 = bulkableWorkMock( 2 );
+		BulkableWork<Void> work3 = bulkableWorkMock( 3 );
+		BulkableWork<Void> work4 = bulkableWorkMock( 4 );
+		NonBulkableWork<BulkResult> bulkWork1 = workMock( 5 );
+		NonBulkableWork<BulkResult> bulkWork2 = workMock( 6 );
+		NonBulkableWork<BulkResult> bulkWork3 = workMock( 7 );
+
+		Map<BulkableWork<?>, Long> workSizes = new HashMap<>();
+		workSizes.put( work1, 40L );
+		workSizes.put( work2, 40L );
+		workSizes.put( work3, 40L );
+		workSizes.put( work4, 150L );
+
+		CompletableFuture<Void> work1FutureFromSequenceBuilder = new CompletableFuture<>();
+		CompletableFuture<Void> work2FutureFromSequenceBuilder = new CompletableFuture<>();
+		CompletableFuture<Void> work3FutureFromSequenceBuilder = new CompletableFuture<>();
+		CompletableFuture<Void> work4FutureFromSequenceBuilder = new CompletableFuture<>();
+		CompletableFuture<BulkResult> bulkWork1ResultFuture = new CompletableFuture<>();
+		CompletableFuture<BulkResult> bulkWork2ResultFuture = new CompletableFuture<>();
+		CompletableFuture<BulkResult> bulkWork3ResultFuture = new CompletableFuture<>();
+		ArgumentCaptor<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWork1FutureArgumentCaptor = futureCaptor();
+		ArgumentCaptor<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWork2FutureArgumentCaptor = futureCaptor();
+		ArgumentCaptor<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWork3FutureArgumentCaptor = futureCaptor();
+
+		ElasticsearchDefaultWorkBulker bulker = new ElasticsearchDefaultWorkBulker( sequenceBuilderMock,
+				bulkWorkFactoryMock, DEFAULT_MAX_BULK_SIZE, workSizes::get, 100L );
+		verifyNoOtherSequenceInteractionsAndReset();
+
+		when( work1.getRefreshStrategy() ).thenReturn( DEFAULT_REFRESH );
+		when( sequenceBuilderMock.addBulkExecution( bulkWork1FutureArgumentCaptor.capture() ) )
+				.thenReturn( bulkWork1ResultFuture );
+		when( sequenceBuilderMock.addBulkResultExtraction( bulkWork1ResultFuture, work1, 0 ) )
+				.thenReturn( work1FutureFromSequenceBuilder );
+		bulker.add( work1 );
+		verifyNoOtherSequenceInteractionsAndReset();
+
+		when( work2.getRefreshStrategy() ).thenReturn( DEFAULT_REFRESH );
+		when( sequenceBuilderMock.addBulkResultExtraction( bulkWork1ResultFuture, work2, 1 ) )
+				.thenReturn( work2FutureFromSequenceBuilder );
+		bulker.add( work2 );
+		verifyNoOtherSequenceInteractionsAndReset();
+		assertThatFuture( bulkWork1FutureArgumentCaptor.getValue() ).isPending();
+
+		// 40 + 40 + 40 > 100 => new bulk
+		when( work3.getRefreshStrategy() ).thenReturn( DEFAULT_REFRESH );
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work1, work2 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork1 );
+		when( sequenceBuilderMock.addBulkExecution( bulkWork2FutureArgumentCaptor.capture() ) )
+				.thenReturn( bulkWork2ResultFuture );
+		when( sequenceBuilderMock.addBulkResultExtraction( bulkWork2ResultFuture, work3, 0 ) )
+				.thenReturn( work3FutureFromSequenceBuilder );
+		bulker.add( work3 );
+		verifyNoOtherSequenceInteractionsAndReset();
+		assertThatFuture( bulkWork1FutureArgumentCaptor.getValue() ).isSuccessful( bulkWork1 );
+		assertThatFuture( bulkWork2FutureArgumentCaptor.getValue() ).isPending();
+
+		// A single work larger than the limit => sent alone in its own bulk
+		when( work4.getRefreshStrategy() ).thenReturn( DEFAULT_REFRESH );
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work3 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork2 );
+		when( sequenceBuilderMock.addBulkExecution( bulkWork3FutureArgumentCaptor.capture() ) )
+				.thenReturn( bulkWork3ResultFuture );
+		when( sequenceBuilderMock.addBulkResultExtraction( bulkWork3ResultFuture, work4, 0 ) )
+				.thenReturn( work4FutureFromSequenceBuilder );
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work4 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork3 );
+		bulker.add( work4 );
+		verifyNoOtherSequenceInteractionsAndReset();
+		assertThatFuture( bulkWork2FutureArgumentCaptor.getValue() ).isSuccessful( bulkWork2 );
+		assertThatFuture( bulkWork3FutureArgumentCaptor.getValue() ).isSuccessful( bulkWork3 );
+
+		// Nothing left to send
+		bulker.finalizeBulkWork();
+		verifyNoOtherSequenceInteractionsAndReset();
+	}
+
 	private void verifyNoOtherSequenceInteractionsAndReset() {
 		verifyNoMoreInteractions( sequenceBuilderMock, bulkWorkFactoryMock );
 		reset( sequenceBuilderMock, bulkWorkFactoryMock );
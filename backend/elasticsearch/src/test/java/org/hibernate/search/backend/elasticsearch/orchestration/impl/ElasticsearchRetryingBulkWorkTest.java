@@ -0,0 +1,195 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.test.FutureAssert.assertThatFuture;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
+
+import org.junit.jupiter.api.Test;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+@SuppressWarnings("unchecked") // Raw types are the only way to mock parameterized types
+class ElasticsearchRetryingBulkWorkTest {
+
+	private static final DocumentRefreshStrategy DEFAULT_REFRESH = DocumentRefreshStrategy.NONE;
+
+	@Mock
+	private ElasticsearchWorkExecutionContext contextMock;
+	@Mock
+	private SimpleScheduledExecutor schedulerMock;
+
+	private final List<List<BulkableWork<?>>> sentBulks = new ArrayList<>();
+	// Works that Elasticsearch will reject, once per occurrence in this list.
+	private final List<BulkableWork<?>> worksToReject = new ArrayList<>();
+
+	private void executeDelayedTasksImmediately() {
+		when( schedulerMock.schedule( any(), anyLong(), any() ) ).thenAnswer( invocation -> {
+			( (Runnable) invocation.getArgument( 0 ) ).run();
+			return null;
+		} );
+	}
+
+	@Test
+	void retryRejectedWorksOnly() {
+		BulkableWork<Void> work1 = bulkableWorkMock( 1 );
+		BulkableWork<Void> work2 = bulkableWorkMock( 2 );
+		BulkableWork<Void> work3 = bulkableWorkMock( 3 );
+		worksToReject.add( work2 );
+		worksToReject.add( work2 );
+		worksToReject.add( work3 );
+		executeDelayedTasksImmediately();
+
+		ElasticsearchBulkBackpressure backpressure = new ElasticsearchBulkBackpressure( 3, 100L, null );
+		CompletableFuture<BulkResult> future = new ElasticsearchRetryingBulkWork( Arrays.asList( work1, work2, work3 ),
+				DEFAULT_REFRESH, this::bulkWork, backpressure, schedulerMock )
+				.execute( contextMock );
+
+		assertThatFuture( future ).isSuccessful();
+		assertThat( sentBulks ).containsExactly(
+				Arrays.asList( work1, work2, work3 ),
+				Arrays.asList( work2, work3 ),
+				Arrays.asList( work2 )
+		);
+		verify( schedulerMock ).schedule( any(), eq( 100L ), eq( TimeUnit.MILLISECONDS ) );
+		verify( schedulerMock ).schedule( any(), eq( 200L ), eq( TimeUnit.MILLISECONDS ) );
+
+		BulkResult result = future.join();
+		assertThat( result.isRejected( 0 ) ).isFalse();
+		assertThat( result.isRejected( 1 ) ).isFalse();
+		assertThat( result.isRejected( 2 ) ).isFalse();
+		// Each work gets the result of the last attempt that included it
+		assertThat( (Object) result.extract( contextMock, work1, 0 ) ).isEqualTo( "bulk0-item0" );
+		assertThat( (Object) result.extract( contextMock, work2, 1 ) ).isEqualTo( "bulk2-item0" );
+		assertThat( (Object) result.extract( contextMock, work3, 2 ) ).isEqualTo( "bulk1-item1" );
+	}
+
+	@Test
+	void retriesExhausted() {
+		BulkableWork<Void> work1 = bulkableWorkMock( 1 );
+		BulkableWork<Void> work2 = bulkableWorkMock( 2 );
+		for ( int i = 0; i < 10; i++ ) {
+			worksToReject.add( work2 );
+		}
+		executeDelayedTasksImmediately();
+
+		ElasticsearchBulkBackpressure backpressure = new ElasticsearchBulkBackpressure( 2, 100L, null );
+		CompletableFuture<BulkResult> future = new ElasticsearchRetryingBulkWork( Arrays.asList( work1, work2 ),
+				DEFAULT_REFRESH, this::bulkWork, backpressure, schedulerMock )
+				.execute( contextMock );
+
+		assertThatFuture( future ).isSuccessful();
+		assertThat( sentBulks ).containsExactly(
+				Arrays.asList( work1, work2 ),
+				Arrays.asList( work2 ),
+				Arrays.asList( work2 )
+		);
+
+		// The rejection is eventually reported to the bulked work
+		BulkResult result = future.join();
+		assertThat( result.isRejected( 0 ) ).isFalse();
+		assertThat( result.isRejected( 1 ) ).isTrue();
+	}
+
+	@Test
+	void concurrencyLimit() {
+		ElasticsearchBulkBackpressure backpressure = new ElasticsearchBulkBackpressure( 0, 100L, 4 );
+		assertThat( backpressure.currentConcurrentRequestsLimit() ).isEqualTo( 4 );
+
+		List<CompletableFuture<Void>> permits = new ArrayList<>();
+		for ( int i = 0; i < 5; i++ ) {
+			permits.add( backpressure.acquire() );
+		}
+		assertThatFuture( permits.get( 3 ) ).isSuccessful();
+		assertThatFuture( permits.get( 4 ) ).isPending();
+
+		// Rejection => the limit is halved, so the waiting request must wait some more
+		backpressure.release( true );
+		assertThat( backpressure.currentConcurrentRequestsLimit() ).isEqualTo( 2 );
+		assertThatFuture( permits.get( 4 ) ).isPending();
+		backpressure.release( false );
+		backpressure.release( false );
+		assertThatFuture( permits.get( 4 ) ).isSuccessful();
+
+		// Successes => the limit grows back slowly, up to the maximum
+		for ( int i = 0; i < 100; i++ ) {
+			backpressure.acquire();
+			backpressure.release( false );
+		}
+		assertThat( backpressure.currentConcurrentRequestsLimit() ).isEqualTo( 4 );
+	}
+
+	@Test
+	void requestFailure_shrinksConcurrencyLimit() {
+		BulkableWork<Void> work1 = bulkableWorkMock( 1 );
+		RuntimeException failure = new RuntimeException( "Simulated transport failure" );
+
+		ElasticsearchBulkBackpressure backpressure = new ElasticsearchBulkBackpressure( 3, 100L, 4 );
+		CompletableFuture<BulkResult> future = new ElasticsearchRetryingBulkWork( Arrays.asList( work1 ),
+				DEFAULT_REFRESH, (works, refreshStrategy) -> context -> CompletableFuture.failedFuture( failure ),
+				backpressure, schedulerMock )
+				.execute( contextMock );
+
+		assertThatFuture( future ).isFailed( failure );
+		// The failure is handled like a rejection: the limit is halved
+		assertThat( backpressure.currentConcurrentRequestsLimit() ).isEqualTo( 2 );
+	}
+
+	private NonBulkableWork<BulkResult> bulkWork(List<? extends BulkableWork<?>> works,
+			DocumentRefreshStrategy refreshStrategy) {
+		assertThat( refreshStrategy ).isEqualTo( DEFAULT_REFRESH );
+		int bulkIndex = sentBulks.size();
+		List<BulkableWork<?>> sentWorks = new ArrayList<>( works );
+		sentBulks.add( sentWorks );
+		Set<Integer> rejectedIndexes = new HashSet<>();
+		for ( int i = 0; i < sentWorks.size(); i++ ) {
+			if ( worksToReject.remove( sentWorks.get( i ) ) ) {
+				rejectedIndexes.add( i );
+			}
+		}
+		BulkResult result = new BulkResult() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <T> T extract(ElasticsearchWorkExecutionContext context, BulkableWork<T> work, int index) {
+				assertThat( sentWorks.get( index ) ).isSameAs( work );
+				return (T) ( "bulk" + bulkIndex + "-item" + index );
+			}
+
+			@Override
+			public boolean isRejected(int index) {
+				return rejectedIndexes.contains( index );
+			}
+		};
+		return context -> CompletableFuture.completedFuture( result );
+	}
+
+	private <T> BulkableWork<T> bulkableWorkMock(int index) {
+		return mock( BulkableWork.class, "bulkableWork" + index );
+	}
+}
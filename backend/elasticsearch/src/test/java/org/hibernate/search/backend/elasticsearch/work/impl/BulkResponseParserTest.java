@@ -0,0 +1,78 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.hibernate.search.util.common.SearchException;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+class BulkResponseParserTest {
+
+	private final Gson gson = new Gson();
+
+	@Test
+	void items() throws IOException {
+		JsonObject body = parse( "{'took':30,'errors':true,'items':["
+				+ "{'index':{'_index':'idx','_id':'1','_version':1,'result':'created',"
+				+ "'_shards':{'total':2,'successful':1,'failed':0},'_seq_no':0,'_primary_term':1,'status':201}},"
+				+ "{'index':{'_index':'idx','_id':'2','status':400,"
+				+ "'error':{'type':'document_parsing_exception','reason':'failed to parse'}}},"
+				+ "{'index':{'_index':'idx','_id':'3','_version':1,'result':'created',"
+				+ "'_shards':{'total':2,'successful':1,'failed':0},'_seq_no':1,'_primary_term':1,'status':201}},"
+				+ "{'delete':{'_index':'idx','_id':'4','_version':2,'result':'not_found',"
+				+ "'_shards':{'total':2,'successful':1,'failed':0},'_seq_no':2,'_primary_term':1,'status':404}}"
+				+ "]}" );
+
+		assertThat( body.get( "took" ).getAsInt() ).isEqualTo( 30 );
+		assertThat( body.get( "errors" ).getAsBoolean() ).isTrue();
+		JsonArray items = body.getAsJsonArray( "items" );
+		assertThat( items ).hasSize( 4 );
+
+		// Successful items with the same outcome share the same instance, trimmed to what we need.
+		assertThat( items.get( 0 ) ).isSameAs( items.get( 2 ) )
+				.isEqualTo( json( "{'index':{'status':201,'_shards':{'failed':0}}}" ) );
+		assertThat( items.get( 3 ) )
+				.isEqualTo( json( "{'delete':{'status':404,'_shards':{'failed':0}}}" ) );
+		// Failed items retain the error.
+		assertThat( items.get( 1 ) ).isEqualTo( json( "{'index':{'status':400,"
+				+ "'error':{'type':'document_parsing_exception','reason':'failed to parse'}}}" ) );
+
+		ElasticsearchRequestSuccessAssessor assessor = ElasticsearchRequestSuccessAssessor.DEFAULT_INSTANCE;
+		assessor.checkSuccess( items.get( 0 ).getAsJsonObject() );
+		assertThatThrownBy( () -> assessor.checkSuccess( items.get( 1 ).getAsJsonObject() ) )
+				.isInstanceOf( SearchException.class );
+	}
+
+	@Test
+	void filtered() throws IOException {
+		JsonObject body = parse( "{'errors':false,'items':[{'index':{'status':201}},{'index':{'status':200}}]}" );
+		assertThat( body ).isEqualTo( json( "{'errors':false,'items':[{'index':{'status':201}},{'index':{'status':200}}]}" ) );
+	}
+
+	@Test
+	void rejectedAsAWhole() throws IOException {
+		String response = "{'error':{'type':'es_rejected_execution_exception','reason':'rejected'},'status':429}";
+		assertThat( parse( response ) ).isEqualTo( json( response ) );
+	}
+
+	private JsonObject parse(String json) throws IOException {
+		return BulkResponseParser.INSTANCE.parse( gson, gson.newJsonReader( new StringReader( json.replace( '\'', '"' ) ) ) );
+	}
+
+	private static JsonObject json(String json) {
+		return JsonParser.parseString( json.replace( '\'', '"' ) ).getAsJsonObject();
+	}
+}
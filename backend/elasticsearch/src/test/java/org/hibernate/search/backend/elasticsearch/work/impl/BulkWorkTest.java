@@ -21,6 +21,7 @@
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClient;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.gson.spi.SerializedJsonObject;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
 import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.impl.test.annotation.TestForIssue;
@@ -28,6 +29,7 @@
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 
@@ -57,9 +59,9 @@ void execute_success() {
 		BulkableWork<Object> bulkableWork1 = bulkableWork( 1 );
 
 		when( bulkableWork0.getBulkableActionMetadata() ).thenReturn( bulkableWorkMetadata( 0 ) );
-		when( bulkableWork0.getBulkableActionBody() ).thenReturn( bulkableWorkBody( 0 ) );
+		when( bulkableWork0.getBulkableActionBody() ).thenReturn( serializedBulkableWorkBody( 0 ) );
 		when( bulkableWork1.getBulkableActionMetadata() ).thenReturn( bulkableWorkMetadata( 1 ) );
-		when( bulkableWork1.getBulkableActionBody() ).thenReturn( bulkableWorkBody( 1 ) );
+		when( bulkableWork1.getBulkableActionBody() ).thenReturn( serializedBulkableWorkBody( 1 ) );
 		BulkWork work = new BulkWork.Builder( Arrays.asList( bulkableWork0, bulkableWork1 ) ).build();
 
 		ArgumentCaptor<ElasticsearchRequest> requestCaptor = ArgumentCaptor.forClass( ElasticsearchRequest.class );
@@ -103,9 +105,9 @@ void execute_http500() {
 		BulkableWork<Object> bulkableWork1 = bulkableWork( 1 );
 
 		when( bulkableWork0.getBulkableActionMetadata() ).thenReturn( bulkableWorkMetadata( 0 ) );
-		when( bulkableWork0.getBulkableActionBody() ).thenReturn( bulkableWorkBody( 0 ) );
+		when( bulkableWork0.getBulkableActionBody() ).thenReturn( serializedBulkableWorkBody( 0 ) );
 		when( bulkableWork1.getBulkableActionMetadata() ).thenReturn( bulkableWorkMetadata( 1 ) );
-		when( bulkableWork1.getBulkableActionBody() ).thenReturn( bulkableWorkBody( 1 ) );
+		when( bulkableWork1.getBulkableActionBody() ).thenReturn( serializedBulkableWorkBody( 1 ) );
 		BulkWork work = new BulkWork.Builder( Arrays.asList( bulkableWork0, bulkableWork1 ) ).build();
 		verifyNoOtherClientInteractionsAndReset();
 
@@ -172,4 +174,8 @@ private static JsonObject bulkableWorkBody(int index) {
 		return result;
 	}
 
+	private static SerializedJsonObject serializedBulkableWorkBody(int index) {
+		return SerializedJsonObject.of( new Gson(), bulkableWorkBody( index ) );
+	}
+
 }
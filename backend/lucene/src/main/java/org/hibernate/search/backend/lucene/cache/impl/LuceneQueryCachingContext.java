@@ -7,6 +7,8 @@
 import java.util.Optional;
 
 import org.hibernate.search.backend.lucene.cache.QueryCachingConfigurationContext;
+import org.hibernate.search.backend.lucene.lowlevel.facet.impl.OrdinalMapCache;
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.BitSetFilterCache;
 
 import org.apache.lucene.search.QueryCache;
 import org.apache.lucene.search.QueryCachingPolicy;
@@ -15,11 +17,15 @@
 public class LuceneQueryCachingContext implements QueryCachingConfigurationContext {
 
 	private final Version luceneVersion;
+	private final LuceneSearchResultCache searchResultCache;
+	private final BitSetFilterCache bitSetFilterCache = new BitSetFilterCache();
+	private final OrdinalMapCache ordinalMapCache = new OrdinalMapCache();
 	private QueryCache cache;
 	private QueryCachingPolicy policy;
 
-	public LuceneQueryCachingContext(Version luceneVersion) {
+	public LuceneQueryCachingContext(Version luceneVersion, int searchResultCacheSize) {
 		this.luceneVersion = luceneVersion;
+		this.searchResultCache = searchResultCacheSize > 0 ? new LuceneSearchResultCache( searchResultCacheSize ) : null;
 	}
 
 	@Override
@@ -45,4 +51,16 @@ public Optional<QueryCachingPolicy> queryCachingPolicy() {
 		return Optional.ofNullable( policy );
 	}
 
+	public Optional<LuceneSearchResultCache> searchResultCache() {
+		return Optional.ofNullable( searchResultCache );
+	}
+
+	public BitSetFilterCache bitSetFilterCache() {
+		return bitSetFilterCache;
+	}
+
+	public OrdinalMapCache ordinalMapCache() {
+		return ordinalMapCache;
+	}
+
 }
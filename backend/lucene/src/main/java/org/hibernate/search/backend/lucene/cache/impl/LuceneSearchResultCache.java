@@ -0,0 +1,164 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.cache.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
+
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopFieldDocs;
+
+/**
+ * A size-bounded, least-recently-used cache of complete search results.
+ * <p>
+ * Entries are keyed on the version of every index reader the query was executed against,
+ * so that they never need to be invalidated explicitly:
+ * entries for outdated readers simply stop being used and are eventually evicted.
+ */
+public final class LuceneSearchResultCache {
+
+	private final Map<Object, CachedSearchResult> entries;
+
+	public LuceneSearchResultCache(int maxSize) {
+		this.entries = new LinkedHashMap<>( 16, 0.75f, true ) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Object, CachedSearchResult> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	/**
+	 * @param readerVersion An object identifying the version of the index readers queries will be executed against:
+	 * two readers with equal versions must expose exactly the same documents.
+	 * @return A view of this cache restricted to results of queries executed against readers with the given version.
+	 */
+	public ReaderScopedCache forReaderVersion(Object readerVersion) {
+		return new ReaderScopedCache( readerVersion );
+	}
+
+	private synchronized CachedSearchResult get(Object key) {
+		return entries.get( key );
+	}
+
+	private synchronized void put(Object key, CachedSearchResult result) {
+		entries.put( key, result );
+	}
+
+	public final class ReaderScopedCache {
+		private final Object readerVersion;
+
+		private ReaderScopedCache(Object readerVersion) {
+			this.readerVersion = readerVersion;
+		}
+
+		/**
+		 * @param queryKey An object identifying the query and everything its result depends on,
+		 * except the index readers.
+		 * @return The cached result, or {@code null}.
+		 */
+		public CachedSearchResult get(Object queryKey) {
+			return LuceneSearchResultCache.this.get( List.of( readerVersion, queryKey ) );
+		}
+
+		public void put(Object queryKey, CachedSearchResult result) {
+			LuceneSearchResultCache.this.put( List.of( readerVersion, queryKey ), result );
+		}
+	}
+
+	/**
+	 * The data of a search result that does not depend on the session:
+	 * everything except the extracted hits.
+	 * <p>
+	 * Cached data is shared by every execution the cache serves,
+	 * so it is copied when it is cached and must never be exposed in mutable form.
+	 */
+	public static final class CachedSearchResult {
+		private final SearchResultTotal total;
+		private final TopDocs topDocs;
+		private final Map<AggregationKey<?>, ?> aggregations;
+
+		public CachedSearchResult(SearchResultTotal total, TopDocs topDocs, Map<AggregationKey<?>, ?> aggregations) {
+			this.total = total;
+			this.topDocs = copy( topDocs );
+			this.aggregations = immutableCopy( aggregations );
+		}
+
+		public SearchResultTotal total() {
+			return total;
+		}
+
+		/**
+		 * @return A copy of the cached top docs, so that callers can alter the returned array safely.
+		 */
+		public TopDocs topDocs() {
+			return copy( topDocs );
+		}
+
+		/**
+		 * @return The cached aggregation results, as an unmodifiable deep copy of the results originally extracted.
+		 */
+		public Map<AggregationKey<?>, ?> aggregations() {
+			return aggregations;
+		}
+
+		/**
+		 * Aggregation results are made of maps (e.g. terms or range aggregations), possibly of collections,
+		 * and of values that are expected to be immutable (numbers, terms, ranges, ...).
+		 * Only maps and collections are copied, so that the original results can be handed out
+		 * to the caller of the first execution without affecting the cache.
+		 */
+		@SuppressWarnings("unchecked")
+		private static <T> T immutableCopy(T value) {
+			if ( value instanceof Map<?, ?> map ) {
+				// LinkedHashMap to preserve ordering (and null values)
+				Map<Object, Object> copy = new LinkedHashMap<>( map.size() );
+				for ( Map.Entry<?, ?> entry : map.entrySet() ) {
+					copy.put( immutableCopy( entry.getKey() ), immutableCopy( entry.getValue() ) );
+				}
+				return (T) Collections.unmodifiableMap( copy );
+			}
+			else if ( value instanceof Set<?> set ) {
+				Set<Object> copy = new LinkedHashSet<>( set.size() );
+				for ( Object element : set ) {
+					copy.add( immutableCopy( element ) );
+				}
+				return (T) Collections.unmodifiableSet( copy );
+			}
+			else if ( value instanceof Collection<?> collection ) {
+				List<Object> copy = new ArrayList<>( collection.size() );
+				for ( Object element : collection ) {
+					copy.add( immutableCopy( element ) );
+				}
+				return (T) Collections.unmodifiableList( copy );
+			}
+			else {
+				return value;
+			}
+		}
+
+		private static TopDocs copy(TopDocs topDocs) {
+			if ( topDocs == null ) {
+				return null;
+			}
+			else if ( topDocs instanceof TopFieldDocs topFieldDocs ) {
+				return new TopFieldDocs( topFieldDocs.totalHits, topFieldDocs.scoreDocs.clone(), topFieldDocs.fields );
+			}
+			else {
+				return new TopDocs( topDocs.totalHits, topDocs.scoreDocs.clone() );
+			}
+		}
+	}
+
+}
@@ -78,6 +78,26 @@ private LuceneBackendSettings() {
 	 */
 	public static final String QUERY_CACHING_CONFIGURER = "query.caching.configurer";
 
+	/**
+	 * The maximum number of search results to keep in the search result cache.
+	 * <p>
+	 * When set to a strictly positive value, the complete results of search queries
+	 * (top hits, total hit count and aggregations) are cached,
+	 * so that executing the same query again against an index that did not change since
+	 * does not need to collect matching documents nor compute aggregations again.
+	 * Cached results are invalidated as soon as a refresh makes changes visible to searches.
+	 * When set to {@code 0}, search results are not cached.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Search result caching",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Expects a positive integer value,
+	 * or a string that can be parsed into an integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_RESULT_CACHE_SIZE}.
+	 */
+	public static final String QUERY_RESULT_CACHE_SIZE = "query.result_cache.size";
+
 	/**
 	 * The size of the thread pool assigned to the backend.
 	 * <p>
@@ -91,6 +111,55 @@ private LuceneBackendSettings() {
 	 */
 	public static final String THREAD_POOL_SIZE = "thread_pool.size";
 
+	/**
+	 * The size of the thread pool used to search index segments concurrently within a single search query.
+	 * <p>
+	 * When set to a strictly positive value, each search query is split into slices of index segments,
+	 * which are searched in parallel by this thread pool before their results are merged.
+	 * When set to {@code 0}, each search query is executed entirely in the thread that triggered it.
+	 * <p>
+	 * When set to a strictly positive value, a second thread pool of the same size is also created
+	 * to execute search queries triggered through asynchronous methods such as
+	 * {@link org.hibernate.search.engine.search.query.SearchFetchable#fetchAsync(Integer, Integer, java.util.concurrent.Executor)},
+	 * so that they don't block the calling thread.
+	 * Segment slices of those queries are still searched in the thread pool configured by this property.
+	 * <p>
+	 * Expects a positive integer value,
+	 * or a string that can be parsed into an integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_THREAD_POOL_SIZE}.
+	 */
+	public static final String SEARCH_THREAD_POOL_SIZE = "search.thread_pool.size";
+
+	/**
+	 * The maximum number of documents in a single slice of index segments
+	 * when searching segments concurrently.
+	 * <p>
+	 * Only has an effect if {@link #SEARCH_THREAD_POOL_SIZE} is strictly positive.
+	 * <p>
+	 * A segment is never split across multiple slices, so slices containing a single large segment
+	 * may contain more documents than this.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed into an integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_SLICE_MAX_DOCS}.
+	 */
+	public static final String SEARCH_SLICE_MAX_DOCS = "search.slice.max_docs";
+
+	/**
+	 * The maximum number of index segments in a single slice
+	 * when searching segments concurrently.
+	 * <p>
+	 * Only has an effect if {@link #SEARCH_THREAD_POOL_SIZE} is strictly positive.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed into an integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_SLICE_MAX_SEGMENTS}.
+	 */
+	public static final String SEARCH_SLICE_MAX_SEGMENTS = "search.slice.max_segments";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -100,6 +169,10 @@ private Defaults() {
 		}
 
 		public static final Version LUCENE_VERSION = Version.LATEST;
+		public static final int SEARCH_THREAD_POOL_SIZE = 0;
+		public static final int SEARCH_SLICE_MAX_DOCS = 250_000;
+		public static final int SEARCH_SLICE_MAX_SEGMENTS = 5;
+		public static final int QUERY_RESULT_CACHE_SIZE = 0;
 
 		/**
 		 * @deprecated The default for this property is now dynamic and depends on the mapper.
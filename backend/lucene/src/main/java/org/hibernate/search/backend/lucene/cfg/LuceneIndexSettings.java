@@ -9,6 +9,7 @@
 import org.hibernate.search.backend.lucene.logging.impl.LuceneInfoStreamLog;
 import org.hibernate.search.backend.lucene.lowlevel.directory.FileSystemAccessStrategyName;
 import org.hibernate.search.backend.lucene.lowlevel.directory.LockingStrategyName;
+import org.hibernate.search.backend.lucene.lowlevel.index.IORefreshStrategyName;
 import org.hibernate.search.backend.lucene.lowlevel.index.IOStrategyName;
 import org.hibernate.search.engine.cfg.BackendSettings;
 import org.hibernate.search.engine.cfg.EngineSettings;
@@ -144,6 +145,22 @@ private LuceneIndexSettings() {
 	 */
 	public static final String IO_REFRESH_INTERVAL = IO_PREFIX + IORadicals.REFRESH_INTERVAL;
 
+	/**
+	 * How to re-create the index reader when it becomes stale.
+	 * <p>
+	 * Only available for the "near-real-time" I/O strategy.
+	 * <p>
+	 * With the {@link IORefreshStrategyName#BACKGROUND background} strategy,
+	 * the index reader is re-created every {@link #IO_REFRESH_INTERVAL refresh interval} by a background task,
+	 * and search queries simply use the latest index reader without ever waiting for a refresh.
+	 * This strategy is only effective with a strictly positive refresh interval.
+	 * <p>
+	 * Expects a {@link IORefreshStrategyName} value, or a String representation of such value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_REFRESH_STRATEGY}.
+	 */
+	public static final String IO_REFRESH_STRATEGY = IO_PREFIX + IORadicals.REFRESH_STRATEGY;
+
 	/**
 	 * The prefix for property keys related to the index writer.
 	 */
@@ -431,6 +448,7 @@ private IORadicals() {
 		public static final String STRATEGY = "strategy";
 		public static final String COMMIT_INTERVAL = "commit_interval";
 		public static final String REFRESH_INTERVAL = "refresh_interval";
+		public static final String REFRESH_STRATEGY = "refresh_strategy";
 	}
 
 	/**
@@ -505,6 +523,7 @@ private Defaults() {
 		public static final IOStrategyName IO_STRATEGY = IOStrategyName.NEAR_REAL_TIME;
 		public static final int IO_COMMIT_INTERVAL = 1000;
 		public static final int IO_REFRESH_INTERVAL = 0;
+		public static final IORefreshStrategyName IO_REFRESH_STRATEGY = IORefreshStrategyName.ON_DEMAND;
 		public static final int INDEXING_QUEUE_COUNT = 10;
 		public static final int INDEXING_QUEUE_SIZE = 1000;
 	}
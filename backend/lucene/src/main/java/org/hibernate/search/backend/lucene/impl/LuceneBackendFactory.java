@@ -24,6 +24,7 @@
 import org.hibernate.search.backend.lucene.multitenancy.impl.DiscriminatorMultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.NoMultiTenancyStrategy;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSearcherSlicing;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.backend.spi.BackendBuildContext;
@@ -67,6 +68,24 @@ public class LuceneBackendFactory implements BackendFactory {
 							.multivalued()
 							.build();
 
+	private static final ConfigurationProperty<Integer> SEARCH_SLICE_MAX_DOCS =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_SLICE_MAX_DOCS )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneBackendSettings.Defaults.SEARCH_SLICE_MAX_DOCS )
+					.build();
+
+	private static final ConfigurationProperty<Integer> SEARCH_SLICE_MAX_SEGMENTS =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_SLICE_MAX_SEGMENTS )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneBackendSettings.Defaults.SEARCH_SLICE_MAX_SEGMENTS )
+					.build();
+
+	private static final ConfigurationProperty<Integer> QUERY_RESULT_CACHE_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_RESULT_CACHE_SIZE )
+					.asIntegerPositiveOrZero()
+					.withDefault( LuceneBackendSettings.Defaults.QUERY_RESULT_CACHE_SIZE )
+					.build();
+
 	@Override
 	public BackendImplementor create(EventContext eventContext, BackendBuildContext buildContext,
 			ConfigurationPropertySource propertySource) {
@@ -83,10 +102,16 @@ public BackendImplementor create(EventContext eventContext, BackendBuildContext
 					buildContext, propertySource, luceneVersion
 			);
 
-			LuceneQueryCachingContext cachingContext = new LuceneQueryCachingContext( luceneVersion );
+			LuceneQueryCachingContext cachingContext = new LuceneQueryCachingContext( luceneVersion,
+					QUERY_RESULT_CACHE_SIZE.get( propertySource ) );
 
 			configureQueryCache( buildContext, propertySource, cachingContext );
 
+			LuceneSearcherSlicing searcherSlicing = new LuceneSearcherSlicing(
+					SEARCH_SLICE_MAX_DOCS.get( propertySource ),
+					SEARCH_SLICE_MAX_SEGMENTS.get( propertySource )
+			);
+
 			return new LuceneBackendImpl(
 					buildContext.backendName(),
 					eventContext,
@@ -94,9 +119,11 @@ public BackendImplementor create(EventContext eventContext, BackendBuildContext
 					new LuceneWorkFactory( multiTenancyStrategy ),
 					analysisDefinitionRegistry,
 					cachingContext,
+					searcherSlicing,
 					multiTenancyStrategy,
 					buildContext.timingSource(),
-					buildContext.failureHandler()
+					buildContext.failureHandler(),
+					buildContext.metrics()
 			);
 		}
 		catch (RuntimeException e) {
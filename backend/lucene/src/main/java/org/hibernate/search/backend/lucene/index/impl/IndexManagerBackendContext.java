@@ -4,10 +4,12 @@
  */
 package org.hibernate.search.backend.lucene.index.impl;
 
+import java.util.Map;
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.LuceneBackend;
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
+import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryCachingContext;
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntryFactory;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
@@ -47,6 +49,8 @@
 import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.common.metrics.spi.SearchMetrics;
+import org.hibernate.search.engine.common.metrics.spi.SearchMetricNames;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContextBuilder;
@@ -71,7 +75,9 @@ public class IndexManagerBackendContext implements WorkExecutionBackendContext,
 	private final MultiTenancyStrategy multiTenancyStrategy;
 	private final TimingSource timingSource;
 	private final LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry;
+	private final LuceneQueryCachingContext cachingContext;
 	private final FailureHandler failureHandler;
+	private final SearchMetrics metrics;
 	private final LuceneSyncWorkOrchestrator readOrchestrator;
 
 	public IndexManagerBackendContext(LuceneBackend backendAPI,
@@ -82,7 +88,8 @@ public IndexManagerBackendContext(LuceneBackend backendAPI,
 			MultiTenancyStrategy multiTenancyStrategy,
 			TimingSource timingSource,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
-			FailureHandler failureHandler,
+			LuceneQueryCachingContext cachingContext,
+			FailureHandler failureHandler, SearchMetrics metrics,
 			LuceneSyncWorkOrchestrator readOrchestrator) {
 		this.backendAPI = backendAPI;
 		this.eventContext = eventContext;
@@ -91,8 +98,10 @@ public IndexManagerBackendContext(LuceneBackend backendAPI,
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.timingSource = timingSource;
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
+		this.cachingContext = cachingContext;
 		this.workFactory = workFactory;
 		this.failureHandler = failureHandler;
+		this.metrics = metrics;
 		this.readOrchestrator = readOrchestrator;
 	}
 
@@ -144,7 +153,7 @@ public IndexWorkspace createWorkspace(WorkExecutionIndexManagerContext indexMana
 	@Override
 	public LuceneSearchQueryIndexScope<?> createSearchContext(BackendMappingContext mappingContext,
 			Set<? extends LuceneScopeIndexManagerContext> indexManagerContexts) {
-		return new LuceneSearchIndexScopeImpl( mappingContext, this, analysisDefinitionRegistry,
+		return new LuceneSearchIndexScopeImpl( mappingContext, this, analysisDefinitionRegistry, cachingContext,
 				multiTenancyStrategy, timingSource, indexManagerContexts );
 	}
 
@@ -194,13 +203,14 @@ LuceneIndexSchemaManager createSchemaManager(String indexName, SchemaManagementI
 
 	IndexAccessorImpl createIndexAccessor(LuceneIndexModel model, EventContext shardEventContext,
 			DirectoryHolder directoryHolder, IOStrategy ioStrategy,
-			ConfigurationPropertySource propertySource) {
+			ConfigurationPropertySource propertySource, Map<String, String> metricTags) {
 		String indexName = model.hibernateSearchName();
 		IndexWriterConfigSource writerConfigSource = IndexWriterConfigSource.create(
 				similarity, model.getIndexingAnalyzer(), model.codec(), propertySource, shardEventContext
 		);
 		return ioStrategy.createIndexAccessor(
-				indexName, shardEventContext, directoryHolder, writerConfigSource
+				indexName, shardEventContext, directoryHolder, writerConfigSource,
+				metrics.timer( SearchMetricNames.INDEX_COMMIT_DURATION, metricTags )
 		);
 	}
 
@@ -215,14 +225,15 @@ LuceneParallelWorkOrchestratorImpl createIndexManagementOrchestrator(EventContex
 	}
 
 	LuceneSerialWorkOrchestratorImpl createIndexingOrchestrator(EventContext eventContext,
-			IndexAccessorImpl indexAccessor) {
+			IndexAccessorImpl indexAccessor, Map<String, String> metricTags) {
 		return new LuceneSerialWorkOrchestratorImpl(
 				"Lucene indexing orchestrator for " + eventContext.render(),
 				new LuceneBatchedWorkProcessor(
 						eventContext, indexAccessor
 				),
 				threads,
-				failureHandler
+				failureHandler,
+				metrics, metricTags
 		);
 	}
 }
@@ -5,6 +5,8 @@
 package org.hibernate.search.backend.lucene.index.impl;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
@@ -23,6 +25,7 @@
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestratorImpl;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.common.metrics.spi.SearchMetricNames;
 import org.hibernate.search.engine.common.resources.spi.SavedState;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.BeanReference;
@@ -98,14 +101,17 @@ void preStart(ConfigurationPropertySource propertySource, BeanResolver beanResol
 	void start(ConfigurationPropertySource propertySource) {
 		String indexName = model.hibernateSearchName();
 		EventContext indexAndShardEventContext = EventContexts.fromIndexNameAndShardId( indexName, shardId );
+		Map<String, String> metricTags = new HashMap<>();
+		metricTags.put( SearchMetricNames.TAG_INDEX, indexName );
+		shardId.ifPresent( id -> metricTags.put( SearchMetricNames.TAG_SHARD, id ) );
 		try {
 			IOStrategy ioStrategy = backendContext.createIOStrategy( propertySource );
 			indexAccessor = backendContext.createIndexAccessor( model, indexAndShardEventContext, directoryHolder,
-					ioStrategy, propertySource );
+					ioStrategy, propertySource, metricTags );
 			managementOrchestrator =
 					backendContext.createIndexManagementOrchestrator( indexAndShardEventContext, indexAccessor );
 			indexingOrchestrator =
-					backendContext.createIndexingOrchestrator( indexAndShardEventContext, indexAccessor );
+					backendContext.createIndexingOrchestrator( indexAndShardEventContext, indexAccessor, metricTags );
 
 			managementOrchestrator.start( propertySource );
 			indexingOrchestrator.start( propertySource );
@@ -103,6 +103,10 @@ void recommendConfiguringLuceneVersion(String key, Version latest,
 			value = "Invalid I/O strategy name: '%1$s'. Valid names are: %2$s.")
 	SearchException invalidIOStrategyName(String invalidRepresentation, List<String> validRepresentations);
 
+	@Message(id = ID_OFFSET + 194,
+			value = "Invalid I/O refresh strategy name: '%1$s'. Valid names are: %2$s.")
+	SearchException invalidIORefreshStrategyName(String invalidRepresentation, List<String> validRepresentations);
+
 	@Message(id = ID_OFFSET + 123,
 			value = "Invalid value for IndexWriter setting '%1$s': '%2$s'. %3$s")
 	SearchException illegalIndexWriterSetting(String settingName, Object settingValue, String message, @Cause Exception e);
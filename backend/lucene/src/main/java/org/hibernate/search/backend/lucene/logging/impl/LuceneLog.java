@@ -63,6 +63,6 @@
 	 * here to the next value.
 	 */
 	@LogMessage(level = TRACE)
-	@Message(id = ID_OFFSET + 194, value = "")
+	@Message(id = ID_OFFSET + 200, value = "")
 	void nextLoggerIdForConvenience();
 }
@@ -9,6 +9,7 @@
 import java.lang.invoke.MethodHandles;
 import java.util.Set;
 
+import org.hibernate.search.backend.lucene.types.LuceneVectorFormat;
 import org.hibernate.search.engine.backend.types.Highlightable;
 import org.hibernate.search.engine.backend.types.TermVector;
 import org.hibernate.search.util.common.SearchException;
@@ -112,4 +113,9 @@ SearchException cannotGuessVectorFieldType(@FormatWith(ClassFormatter.class) Cla
 	@Message(id = ID_OFFSET + 179, value = "Invalid index field type: missing vector dimension."
 			+ " Define the vector dimension explicitly. %1$s")
 	SearchException nullVectorDimension(String hint, @Param EventContext eventContext);
+
+	@Message(id = ID_OFFSET + 197,
+			value = "Invalid vector format '%1$s' for vectors of type '%2$s': quantized formats are only available for float vectors.")
+	SearchException vectorFormatQuantizationNotSupported(LuceneVectorFormat format, String vectorType,
+			@Param EventContext eventContext);
 }
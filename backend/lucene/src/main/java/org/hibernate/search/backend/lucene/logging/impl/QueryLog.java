@@ -42,6 +42,8 @@
 import org.jboss.logging.annotations.Param;
 
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
 
 @CategorizedLogger(
 		category = QueryLog.CATEGORY_NAME,
@@ -324,4 +326,25 @@ SearchException vectorKnnMatchVectorTypeDiffersFromField(String absoluteFieldPat
 	@Message(id = ID_OFFSET + 186, value = "A single-valued highlight projection requested, "
 			+ "but the corresponding highlighter does not set number of fragments to 1.")
 	SearchException highlighterIncompatibleCardinality();
+
+	@Message(id = ID_OFFSET + 195, value = "Invalid search cursor: '%1$s'."
+			+ " This query is sorted by '%2$s', so the cursor must be a FieldDoc holding one value per sort field,"
+			+ " as returned in the top docs of a previous execution of the same query.")
+	SearchException invalidSearchAfterCursor(ScoreDoc after, Sort sort);
+
+	@Message(id = ID_OFFSET + 196,
+			value = "Cannot project on field '%1$s' from doc values:"
+					+ " this field does not have doc values holding the same values as stored fields."
+					+ " Make sure the field is sortable or aggregable, and has no normalizer,"
+					+ " or do not call '.fromDocValues()' when you create the projection.")
+	SearchException cannotProjectFromDocValues(String absolutePath, @Param EventContext context);
+
+	@Message(id = ID_OFFSET + 198,
+			value = "Cannot use a rank fusion predicate within a nested predicate."
+					+ " Rank fusion predicates can only be used as the top-level predicate of a query.")
+	SearchException rankFusionInNestedContext();
+
+	@LogMessage(level = TRACE)
+	@Message(id = ID_OFFSET + 199, value = "Using cached result for Lucene query: %s")
+	void usingCachedResult(Query luceneQuery);
 }
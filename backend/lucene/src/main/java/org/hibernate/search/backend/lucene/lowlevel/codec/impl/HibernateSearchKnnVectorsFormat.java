@@ -10,10 +10,15 @@
 import java.io.IOException;
 import java.util.Objects;
 
+import org.hibernate.search.backend.lucene.types.LuceneVectorFormat;
+import org.hibernate.search.util.common.AssertionFailure;
+
 import org.apache.lucene.codecs.KnnVectorsFormat;
 import org.apache.lucene.codecs.KnnVectorsReader;
 import org.apache.lucene.codecs.KnnVectorsWriter;
+import org.apache.lucene.codecs.lucene99.Lucene99HnswScalarQuantizedVectorsFormat;
 import org.apache.lucene.codecs.lucene99.Lucene99HnswVectorsFormat;
+import org.apache.lucene.codecs.lucene99.Lucene99ScalarQuantizedVectorsFormat;
 import org.apache.lucene.index.SegmentReadState;
 import org.apache.lucene.index.SegmentWriteState;
 
@@ -27,6 +32,7 @@ public static KnnVectorsFormat defaultFormat() {
 	}
 
 	private final KnnVectorsFormat delegate;
+	private final LuceneVectorFormat format;
 	private final int m;
 
 	private final int efConstruction;
@@ -36,16 +42,58 @@ public HibernateSearchKnnVectorsFormat() {
 	}
 
 	public HibernateSearchKnnVectorsFormat(int m, int efConstruction) {
-		this( new Lucene99HnswVectorsFormat( m, efConstruction ), m, efConstruction );
+		this( LuceneVectorFormat.HNSW, m, efConstruction );
+	}
+
+	public HibernateSearchKnnVectorsFormat(LuceneVectorFormat format, int m, int efConstruction) {
+		this( createDelegate( format, m, efConstruction ), format, m, efConstruction );
 	}
 
 	public HibernateSearchKnnVectorsFormat(KnnVectorsFormat delegate, int m, int efConstruction) {
+		this( delegate, LuceneVectorFormat.HNSW, m, efConstruction );
+	}
+
+	private HibernateSearchKnnVectorsFormat(KnnVectorsFormat delegate, LuceneVectorFormat format, int m,
+			int efConstruction) {
 		super( delegate.getName() );
 		this.delegate = delegate;
+		this.format = format;
 		this.m = m;
 		this.efConstruction = efConstruction;
 	}
 
+	// Only formats registered in Lucene's service files can be used here,
+	// since segments will reference the format by its name.
+	private static KnnVectorsFormat createDelegate(LuceneVectorFormat format, int m, int efConstruction) {
+		switch ( format ) {
+			case HNSW:
+				return new Lucene99HnswVectorsFormat( m, efConstruction );
+			case INT8_HNSW:
+			case INT4_HNSW:
+				return new Lucene99HnswScalarQuantizedVectorsFormat( m, efConstruction, 1,
+						format.quantizationBits(), isCompressed( format ), confidenceInterval( format ), null );
+			case INT8_FLAT:
+			case INT4_FLAT:
+				return new Lucene99ScalarQuantizedVectorsFormat( confidenceInterval( format ),
+						format.quantizationBits(), isCompressed( format ) );
+			default:
+				throw new AssertionFailure( "Unexpected vector format: " + format );
+		}
+	}
+
+	private static boolean isCompressed(LuceneVectorFormat format) {
+		// Pack two 4-bit values in each byte
+		return format.quantizationBits() == 4;
+	}
+
+	private static Float confidenceInterval(LuceneVectorFormat format) {
+		// Lucene recommends computing the confidence interval dynamically for 4-bit quantization;
+		// for 7-bit quantization, null means "use a default computed from the vector dimension".
+		return format.quantizationBits() == 4
+				? Lucene99ScalarQuantizedVectorsFormat.DYNAMIC_CONFIDENCE_INTERVAL
+				: null;
+	}
+
 	@Override
 	public KnnVectorsWriter fieldsWriter(SegmentWriteState state) throws IOException {
 		return delegate.fieldsWriter( state );
@@ -65,6 +113,10 @@ public KnnVectorsFormat delegate() {
 		return delegate;
 	}
 
+	public LuceneVectorFormat format() {
+		return format;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if ( this == o ) {
@@ -74,18 +126,19 @@ public boolean equals(Object o) {
 			return false;
 		}
 		HibernateSearchKnnVectorsFormat that = (HibernateSearchKnnVectorsFormat) o;
-		return m == that.m && efConstruction == that.efConstruction;
+		return format == that.format && m == that.m && efConstruction == that.efConstruction;
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash( m, efConstruction );
+		return Objects.hash( format, m, efConstruction );
 	}
 
 	@Override
 	public String toString() {
 		return "HibernateSearchKnnVectorsFormat{" +
-				"m=" + m +
+				"format=" + format +
+				", m=" + m +
 				", efConstruction=" + efConstruction +
 				'}';
 	}
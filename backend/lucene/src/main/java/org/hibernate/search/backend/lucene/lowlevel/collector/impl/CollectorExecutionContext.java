@@ -6,6 +6,7 @@
 
 import java.util.Set;
 
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.BitSetFilterCache;
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 
@@ -17,13 +18,16 @@ public class CollectorExecutionContext {
 
 	private final IndexSearcher indexSearcher;
 
+	private final BitSetFilterCache bitSetFilterCache;
+
 	private final int maxDocs;
 
 	public CollectorExecutionContext(IndexReaderMetadataResolver metadataResolver,
-			IndexSearcher indexSearcher,
+			IndexSearcher indexSearcher, BitSetFilterCache bitSetFilterCache,
 			int maxDocs) {
 		this.metadataResolver = metadataResolver;
 		this.indexSearcher = indexSearcher;
+		this.bitSetFilterCache = bitSetFilterCache;
 		this.maxDocs = maxDocs;
 	}
 
@@ -36,11 +40,11 @@ public IndexSearcher getIndexSearcher() {
 	}
 
 	public NestedDocsProvider createNestedDocsProvider(String parentDocumentPath, String nestedDocumentPath) {
-		return new NestedDocsProvider( parentDocumentPath, nestedDocumentPath );
+		return new NestedDocsProvider( bitSetFilterCache, parentDocumentPath, nestedDocumentPath );
 	}
 
 	public NestedDocsProvider createNestedDocsProvider(Set<String> nestedDocumentPaths) {
-		return new NestedDocsProvider( nestedDocumentPaths );
+		return new NestedDocsProvider( bitSetFilterCache, nestedDocumentPaths );
 	}
 
 	public int getMaxDocs() {
@@ -6,6 +6,7 @@
 
 import java.io.IOException;
 
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.BitSetFilterCache;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 
 import com.carrotsearch.hppc.IntIntHashMap;
@@ -25,10 +26,11 @@ public class TopDocsDataCollectorExecutionContext extends CollectorExecutionCont
 	private IntIntMap docIdToScoreDocIndex;
 
 	public TopDocsDataCollectorExecutionContext(IndexReaderMetadataResolver metadataResolver,
-			IndexSearcher indexSearcher, Query executedQuery, Query originalQuery, TopDocs topDocs,
+			IndexSearcher indexSearcher, BitSetFilterCache bitSetFilterCache,
+			Query executedQuery, Query originalQuery, TopDocs topDocs,
 			StoredFieldsValuesDelegate.Factory storedFieldsValuesDelegateOrNull)
 			throws IOException {
-		super( metadataResolver, indexSearcher, topDocs.scoreDocs.length );
+		super( metadataResolver, indexSearcher, bitSetFilterCache, topDocs.scoreDocs.length );
 		this.executedQuery = executedQuery;
 		this.originalQuery = originalQuery;
 		this.topDocs = topDocs;
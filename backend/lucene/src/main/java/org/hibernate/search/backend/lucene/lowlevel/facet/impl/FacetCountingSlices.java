@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.facet.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import org.apache.lucene.facet.FacetsCollector.MatchingDocs;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.IndexSearcher;
+
+/**
+ * Groups matching docs according to the slices of an index searcher,
+ * so that facets can be counted concurrently, one task per slice,
+ * then merged in the calling thread.
+ */
+final class FacetCountingSlices {
+
+	// Below this number of matching docs, counting in the calling thread is cheaper than submitting tasks.
+	static final int MIN_HITS_FOR_CONCURRENT_COUNTING = 10_000;
+
+	private FacetCountingSlices() {
+	}
+
+	static int totalHits(List<MatchingDocs> matchingDocs) {
+		int totalHits = 0;
+		for ( MatchingDocs hits : matchingDocs ) {
+			totalHits += hits.totalHits;
+		}
+		return totalHits;
+	}
+
+	/**
+	 * @param indexSearcher The searcher that produced the matching docs, or {@code null} if unknown.
+	 * @param matchingDocs The matching docs.
+	 * @param totalHits The total number of matching docs.
+	 * @return {@code true} if counting should be performed concurrently, one task per slice.
+	 */
+	static boolean shouldCountConcurrently(IndexSearcher indexSearcher, List<MatchingDocs> matchingDocs,
+			int totalHits) {
+		// Searchers without an executor always have a single slice.
+		return indexSearcher != null
+				&& matchingDocs.size() > 1
+				&& totalHits >= MIN_HITS_FOR_CONCURRENT_COUNTING
+				&& indexSearcher.getSlices().length > 1;
+	}
+
+	/**
+	 * Counts each slice in a separate task, using the executor of the given searcher.
+	 *
+	 * @param indexSearcher The searcher that produced the matching docs.
+	 * @param matchingDocs The matching docs.
+	 * @param counter The counting logic, applied to the matching docs of each slice.
+	 * @return The results of each slice, in the order of slices.
+	 * @param <R> The type of per-slice results.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	static <R> List<R> countPerSlice(IndexSearcher indexSearcher, List<MatchingDocs> matchingDocs,
+			SliceCounter<R> counter)
+			throws IOException {
+		Map<LeafReaderContext, MatchingDocs> matchingDocsByLeaf = new HashMap<>();
+		for ( MatchingDocs hits : matchingDocs ) {
+			matchingDocsByLeaf.put( hits.context, hits );
+		}
+		List<Callable<R>> tasks = new ArrayList<>();
+		for ( IndexSearcher.LeafSlice slice : indexSearcher.getSlices() ) {
+			List<MatchingDocs> sliceMatchingDocs = new ArrayList<>( slice.leaves.length );
+			for ( LeafReaderContext leaf : slice.leaves ) {
+				MatchingDocs hits = matchingDocsByLeaf.remove( leaf );
+				if ( hits != null ) {
+					sliceMatchingDocs.add( hits );
+				}
+			}
+			if ( !sliceMatchingDocs.isEmpty() ) {
+				tasks.add( () -> counter.count( sliceMatchingDocs ) );
+			}
+		}
+		if ( !matchingDocsByLeaf.isEmpty() ) {
+			// Should not happen, but just in case: don't ignore leaves that are not part of any slice.
+			List<MatchingDocs> remainingMatchingDocs = new ArrayList<>( matchingDocsByLeaf.values() );
+			tasks.add( () -> counter.count( remainingMatchingDocs ) );
+		}
+		return indexSearcher.getTaskExecutor().invokeAll( tasks );
+	}
+
+	@FunctionalInterface
+	interface SliceCounter<R> {
+		R count(List<MatchingDocs> sliceMatchingDocs) throws IOException;
+	}
+}
@@ -13,7 +13,6 @@
 
 import com.carrotsearch.hppc.LongHashSet;
 import com.carrotsearch.hppc.LongIntHashMap;
-import com.carrotsearch.hppc.LongIntMap;
 import com.carrotsearch.hppc.cursors.LongIntCursor;
 import com.carrotsearch.hppc.procedures.LongProcedure;
 
@@ -22,26 +21,63 @@
 import org.apache.lucene.facet.FacetsCollector;
 import org.apache.lucene.facet.LabelAndValue;
 import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.util.PriorityQueue;
 
 /**
  * <p>
  * Copied with some changes from {@code org.apache.lucene.facet.LongValueFacetCounts}
  * of <a href="https://lucene.apache.org/">Apache Lucene project</a>.
+ * <p>
+ * When the query matches many documents, slices of the index searcher are counted concurrently
+ * using its executor, if any, and the counts are then merged.
  */
 public class LongMultiValueFacetCounts extends Facets {
 
-	private final int[] counts = new int[1024];
+	private static final int DENSE_COUNTS_LENGTH = 1024;
+	// Below "DENSE_COUNTS_LENGTH / SPARSE_COUNTING_RATIO" matching docs,
+	// allocating and scanning an array of counts for small values is not worth it.
+	private static final int SPARSE_COUNTING_RATIO = 10;
+
+	// Counts for values in [0, DENSE_COUNTS_LENGTH), or null if all values are counted in hashCounts.
+	private final int[] counts;
 
-	private final LongIntMap hashCounts = new LongIntHashMap();
+	private final LongIntHashMap hashCounts;
 
 	private final String field;
 
 	private int totCount;
 
-	public LongMultiValueFacetCounts(String field, LongMultiValuesSource valueSource, FacetsCollector hits) throws IOException {
+	public LongMultiValueFacetCounts(IndexSearcher indexSearcher, String field, LongMultiValuesSource valueSource,
+			FacetsCollector hits)
+			throws IOException {
+		this.field = field;
+		List<FacetsCollector.MatchingDocs> matchingDocs = hits.getMatchingDocs();
+		int totalHits = FacetCountingSlices.totalHits( matchingDocs );
+		boolean dense = totalHits >= DENSE_COUNTS_LENGTH / SPARSE_COUNTING_RATIO;
+		this.counts = dense ? new int[DENSE_COUNTS_LENGTH] : null;
+		this.hashCounts = new LongIntHashMap();
+		if ( FacetCountingSlices.shouldCountConcurrently( indexSearcher, matchingDocs, totalHits ) ) {
+			// Count each slice concurrently, then merge.
+			List<LongMultiValueFacetCounts> countsPerSlice = FacetCountingSlices.countPerSlice( indexSearcher,
+					matchingDocs, sliceMatchingDocs -> new LongMultiValueFacetCounts( field, dense, valueSource,
+							sliceMatchingDocs ) );
+			for ( LongMultiValueFacetCounts sliceCounts : countsPerSlice ) {
+				merge( sliceCounts );
+			}
+		}
+		else {
+			count( valueSource, matchingDocs );
+		}
+	}
+
+	private LongMultiValueFacetCounts(String field, boolean dense, LongMultiValuesSource valueSource,
+			List<FacetsCollector.MatchingDocs> matchingDocs)
+			throws IOException {
 		this.field = field;
-		count( valueSource, hits.getMatchingDocs() );
+		this.counts = dense ? new int[DENSE_COUNTS_LENGTH] : null;
+		this.hashCounts = new LongIntHashMap();
+		count( valueSource, matchingDocs );
 	}
 
 	private void count(LongMultiValuesSource valueSource, List<FacetsCollector.MatchingDocs> matchingDocs) throws IOException {
@@ -68,7 +104,7 @@ private void count(LongMultiValuesSource valueSource, List<FacetsCollector.Match
 	}
 
 	private void increment(long value) {
-		if ( value >= 0 && value < counts.length ) {
+		if ( counts != null && value >= 0 && value < counts.length ) {
 			counts[(int) value]++;
 		}
 		else {
@@ -76,6 +112,18 @@ private void increment(long value) {
 		}
 	}
 
+	private void merge(LongMultiValueFacetCounts other) {
+		totCount += other.totCount;
+		if ( other.counts != null ) {
+			for ( int i = 0; i < other.counts.length; i++ ) {
+				counts[i] += other.counts[i];
+			}
+		}
+		for ( LongIntCursor c : other.hashCounts ) {
+			hashCounts.addTo( c.key, c.value );
+		}
+	}
+
 	@Override
 	public FacetResult getAllChildren(String dim, String... path) {
 		throw new UnsupportedOperationException(
@@ -99,7 +147,8 @@ private static class Entry {
 	}
 
 	public FacetResult getTopChildrenSortByCount(int topN) {
-		PriorityQueue<Entry> pq = new PriorityQueue<Entry>( Math.min( topN, counts.length + hashCounts.size() ) ) {
+		int denseCountsLength = counts == null ? 0 : counts.length;
+		PriorityQueue<Entry> pq = new PriorityQueue<Entry>( Math.min( topN, denseCountsLength + hashCounts.size() ) ) {
 			@Override
 			protected boolean lessThan(Entry a, Entry b) {
 				// sort by count descending, breaking ties by value ascending:
@@ -109,7 +158,7 @@ protected boolean lessThan(Entry a, Entry b) {
 
 		int childCount = 0;
 		Entry e = null;
-		for ( int i = 0; i < counts.length; i++ ) {
+		for ( int i = 0; i < denseCountsLength; i++ ) {
 			if ( counts[i] != 0 ) {
 				childCount++;
 				if ( e == null ) {
@@ -167,7 +216,7 @@ public String toString() {
 		b.append( "LongValueFacetCounts totCount=" );
 		b.append( totCount );
 		b.append( ":\n" );
-		for ( int i = 0; i < counts.length; i++ ) {
+		for ( int i = 0; counts != null && i < counts.length; i++ ) {
 			if ( counts[i] != 0 ) {
 				b.append( "  " );
 				b.append( i );
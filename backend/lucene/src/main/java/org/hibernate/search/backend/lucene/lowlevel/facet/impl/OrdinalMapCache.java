@@ -0,0 +1,164 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.facet.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.MultiDocValues.MultiSortedSetDocValues;
+import org.apache.lucene.index.OrdinalMap;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.util.packed.PackedInts;
+
+/**
+ * A cache of {@link OrdinalMap ordinal maps}, i.e. mappings from per-segment ordinals to global ordinals,
+ * for sorted set doc values.
+ * <p>
+ * Building an ordinal map requires iterating over the terms of every segment,
+ * which is very costly for high-cardinality fields on indexes with many segments.
+ * <p>
+ * Top-level readers are generally created for each search query
+ * (see {@link org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader}),
+ * but the leaf readers they wrap are shared until the index reader is refreshed.
+ * Thus, ordinal maps are cached per list of leaf readers and field,
+ * and evicted as soon as one of these leaf readers is closed.
+ */
+public final class OrdinalMapCache {
+
+	private final Map<Key, OrdinalMap> cache = new ConcurrentHashMap<>();
+	private final Set<IndexReader.CacheKey> leafKeysWithClosedListener = ConcurrentHashMap.newKeySet();
+
+	public OrdinalMapCache() {
+	}
+
+	/**
+	 * Equivalent to {@link org.apache.lucene.index.MultiDocValues#getSortedSetValues(IndexReader, String)},
+	 * but reuses a cached ordinal map when possible.
+	 *
+	 * @param reader The top-level reader.
+	 * @param field The name of the field.
+	 * @return The sorted set doc values for the given reader and field, or {@code null} if there are none.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	public SortedSetDocValues getSortedSetValues(IndexReader reader, String field) throws IOException {
+		List<LeafReaderContext> leaves = reader.leaves();
+		int size = leaves.size();
+		if ( size == 0 ) {
+			return null;
+		}
+		else if ( size == 1 ) {
+			return leaves.get( 0 ).reader().getSortedSetDocValues( field );
+		}
+
+		boolean anyReal = false;
+		SortedSetDocValues[] values = new SortedSetDocValues[size];
+		int[] starts = new int[size + 1];
+		long totalCost = 0;
+		for ( int i = 0; i < size; i++ ) {
+			LeafReaderContext context = leaves.get( i );
+			SortedSetDocValues leafValues = context.reader().getSortedSetDocValues( field );
+			if ( leafValues == null ) {
+				leafValues = DocValues.emptySortedSet();
+			}
+			else {
+				anyReal = true;
+			}
+			values[i] = leafValues;
+			starts[i] = context.docBase;
+			totalCost += leafValues.cost();
+		}
+		starts[size] = reader.maxDoc();
+		if ( !anyReal ) {
+			return null;
+		}
+
+		OrdinalMap mapping = getOrBuild( leaves, field, values );
+		return new MultiSortedSetDocValues( values, starts, mapping, totalCost );
+	}
+
+	int size() {
+		return cache.size();
+	}
+
+	private OrdinalMap getOrBuild(List<LeafReaderContext> leaves, String field, SortedSetDocValues[] values)
+			throws IOException {
+		Key key = Key.create( leaves, field );
+		if ( key == null ) {
+			// Some leaves cannot be cached.
+			return OrdinalMap.build( null, values, PackedInts.DEFAULT );
+		}
+		OrdinalMap mapping = cache.get( key );
+		if ( mapping != null ) {
+			return mapping;
+		}
+
+		// We don't hold a lock while building, so concurrent queries may build the same map:
+		// that's wasteful, but only happens once per refresh, and it's better than blocking.
+		mapping = OrdinalMap.build( null, values, PackedInts.DEFAULT );
+		for ( LeafReaderContext leaf : leaves ) {
+			IndexReader.CacheHelper cacheHelper = leaf.reader().getReaderCacheHelper();
+			if ( leafKeysWithClosedListener.add( cacheHelper.getKey() ) ) {
+				cacheHelper.addClosedListener( this::evict );
+			}
+		}
+		OrdinalMap previous = cache.putIfAbsent( key, mapping );
+		return previous == null ? mapping : previous;
+	}
+
+	private void evict(IndexReader.CacheKey closedLeafKey) {
+		leafKeysWithClosedListener.remove( closedLeafKey );
+		cache.keySet().removeIf( key -> key.leafKeys.contains( closedLeafKey ) );
+	}
+
+	private static final class Key {
+		static Key create(List<LeafReaderContext> leaves, String field) {
+			List<IndexReader.CacheKey> leafKeys = new ArrayList<>( leaves.size() );
+			for ( LeafReaderContext leaf : leaves ) {
+				IndexReader.CacheHelper cacheHelper = leaf.reader().getReaderCacheHelper();
+				if ( cacheHelper == null ) {
+					return null;
+				}
+				leafKeys.add( cacheHelper.getKey() );
+			}
+			return new Key( Collections.unmodifiableList( leafKeys ), field );
+		}
+
+		private final List<IndexReader.CacheKey> leafKeys;
+		private final String field;
+		private final int hashCode;
+
+		private Key(List<IndexReader.CacheKey> leafKeys, String field) {
+			this.leafKeys = leafKeys;
+			this.field = field;
+			this.hashCode = Objects.hash( leafKeys, field );
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			Key other = (Key) o;
+			return field.equals( other.field ) && leafKeys.equals( other.leafKeys );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
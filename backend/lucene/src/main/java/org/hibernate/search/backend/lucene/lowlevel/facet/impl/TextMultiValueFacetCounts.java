@@ -5,6 +5,7 @@
 package org.hibernate.search.backend.lucene.lowlevel.facet.impl;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -12,6 +13,8 @@
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.TextMultiValuesSource;
 
 import com.carrotsearch.hppc.IntHashSet;
+import com.carrotsearch.hppc.IntIntHashMap;
+import com.carrotsearch.hppc.cursors.IntIntCursor;
 import com.carrotsearch.hppc.procedures.IntProcedure;
 
 import org.apache.lucene.facet.FacetResult;
@@ -21,30 +24,44 @@
 import org.apache.lucene.facet.LabelAndValue;
 import org.apache.lucene.facet.TopOrdAndIntQueue;
 import org.apache.lucene.index.IndexReader;
-import org.apache.lucene.index.MultiDocValues;
 import org.apache.lucene.index.MultiDocValues.MultiSortedSetDocValues;
 import org.apache.lucene.index.OrdinalMap;
 import org.apache.lucene.index.ReaderUtil;
 import org.apache.lucene.index.SortedSetDocValues;
 import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.LongValues;
 
 /**
  * Copied with some changes from {@code org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetCounts}
  * of <a href="https://lucene.apache.org/">Apache Lucene project</a>.
+ * <p>
+ * Counts are kept in a hash map instead of a dense array
+ * when the query matches few documents relative to the number of terms,
+ * and per-segment counting is spread over the executor of the index searcher, if any,
+ * when the query matches many documents.
  */
 public class TextMultiValueFacetCounts extends Facets {
 
+	// Below "ordCount / SPARSE_COUNTING_RATIO" matching docs,
+	// counting in a hash map is cheaper than allocating and scanning an array of "ordCount" counts.
+	private static final int SPARSE_COUNTING_RATIO = 10;
+
 	final SortedSetDocValues dv;
 	final String field;
 	final int ordCount;
-	final int[] counts;
+	// Only one of these is used, depending on the number of matching docs.
+	int[] counts;
+	IntIntHashMap sparseCounts;
 
-	public TextMultiValueFacetCounts(IndexReader reader, String field, TextMultiValuesSource valuesSource, FacetsCollector hits)
+	public TextMultiValueFacetCounts(OrdinalMapCache ordinalMapCache, IndexSearcher indexSearcher, String field,
+			TextMultiValuesSource valuesSource, FacetsCollector hits)
 			throws IOException {
 		this.field = field;
-		dv = MultiDocValues.getSortedSetValues( reader, field );
+		IndexReader reader = indexSearcher.getIndexReader();
+		// Building the ordinal map is costly: reuse it across queries if possible.
+		dv = ordinalMapCache.getSortedSetValues( reader, field );
 		if ( dv != null && dv.getValueCount() > Integer.MAX_VALUE ) {
 			// We may want to remove this limitation?
 			// Note that DefaultSortedSetDocValuesReaderState has the same limitation,
@@ -53,8 +70,7 @@ public TextMultiValueFacetCounts(IndexReader reader, String field, TextMultiValu
 					"Cannot aggregate when more than " + Integer.MAX_VALUE + " terms are indexed" );
 		}
 		ordCount = dv == null ? 0 : (int) dv.getValueCount();
-		counts = new int[ordCount];
-		count( reader, valuesSource, hits.getMatchingDocs() );
+		count( indexSearcher, reader, valuesSource, hits.getMatchingDocs() );
 	}
 
 	@Override
@@ -93,24 +109,42 @@ private FacetResult getTopChildrenSortByCount(int topN) throws IOException {
 
 		TopOrdAndIntQueue.OrdAndValue reuse = null;
 
-		for ( int ord = 0; ord < ordCount; ord++ ) {
-			if ( counts[ord] > 0 ) {
-				totCount += counts[ord];
-				childCount++;
-				if ( counts[ord] > bottomCount ) {
+		if ( sparseCounts != null ) {
+			if ( !sparseCounts.isEmpty() ) {
+				// Iteration order is arbitrary: rely on the queue to break ties by ordinal.
+				q = new TopOrdAndIntQueue( Math.min( topN, sparseCounts.size() ) );
+				for ( IntIntCursor cursor : sparseCounts ) {
+					totCount += cursor.value;
+					childCount++;
 					if ( reuse == null ) {
 						reuse = new TopOrdAndIntQueue.OrdAndValue();
 					}
-					reuse.ord = ord;
-					reuse.value = counts[ord];
-					if ( q == null ) {
-						// Lazy init, so we don't create this for the
-						// sparse case unnecessarily
-						q = new TopOrdAndIntQueue( topN );
-					}
+					reuse.ord = cursor.key;
+					reuse.value = cursor.value;
 					reuse = q.insertWithOverflow( reuse );
-					if ( q.size() == topN ) {
-						bottomCount = q.top().value;
+				}
+			}
+		}
+		else if ( counts != null ) {
+			for ( int ord = 0; ord < ordCount; ord++ ) {
+				if ( counts[ord] > 0 ) {
+					totCount += counts[ord];
+					childCount++;
+					if ( counts[ord] > bottomCount ) {
+						if ( reuse == null ) {
+							reuse = new TopOrdAndIntQueue.OrdAndValue();
+						}
+						reuse.ord = ord;
+						reuse.value = counts[ord];
+						if ( q == null ) {
+							// Lazy init, so we don't create this for the
+							// sparse case unnecessarily
+							q = new TopOrdAndIntQueue( topN );
+						}
+						reuse = q.insertWithOverflow( reuse );
+						if ( q.size() == topN ) {
+							bottomCount = q.top().value;
+						}
 					}
 				}
 			}
@@ -136,9 +170,6 @@ private void countOneSegment(OrdinalMap ordinalMap, TextMultiValues segValues, i
 			// nothing to count
 			return;
 		}
-		IntHashSet uniqueOrdinalsForDocument = new IntHashSet();
-
-		DocIdSetIterator docs = hits.bits.iterator();
 
 		// TODO: yet another option is to count all segs
 		// first, only in seg-ord space, and then do a
@@ -155,60 +186,66 @@ private void countOneSegment(OrdinalMap ordinalMap, TextMultiValues segValues, i
 			int numSegOrds = (int) segValues.getValueCount();
 
 			if ( hits.totalHits < numSegOrds / 10 ) {
-				IntProcedure incrementCountForOrdinal = ord -> counts[ord]++;
 				// Remap every ord to global ord as we iterate:
-				for ( int doc = docs.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = docs.nextDoc() ) {
-					if ( !segValues.advanceExact( doc ) ) {
-						continue; // No value for this doc
-					}
-					while ( segValues.hasNextValue() ) {
-						int term = (int) segValues.nextOrd();
-						int globalOrd = (int) ordMap.get( term );
-						uniqueOrdinalsForDocument.add( globalOrd );
-					}
-					uniqueOrdinalsForDocument.forEach( incrementCountForOrdinal );
-					uniqueOrdinalsForDocument.clear();
-				}
+				countInGlobalOrdSpace( ordMap, segValues, hits, ord -> counts[ord]++ );
 			}
 			else {
 				// First count in seg-ord space:
-				final int[] segCounts = new int[numSegOrds];
-				IntProcedure incrementCountForOrdinal = ord -> segCounts[ord]++;
-				for ( int doc = docs.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = docs.nextDoc() ) {
-					if ( !segValues.advanceExact( doc ) ) {
-						continue; // No value for this doc
-					}
-					while ( segValues.hasNextValue() ) {
-						int term = (int) segValues.nextOrd();
-						uniqueOrdinalsForDocument.add( term );
-					}
-					uniqueOrdinalsForDocument.forEach( incrementCountForOrdinal );
-					uniqueOrdinalsForDocument.clear();
-				}
-
+				int[] segCounts = countInSegmentOrdSpace( segValues, hits );
 				// Then, migrate to global ords:
-				for ( int ord = 0; ord < numSegOrds; ord++ ) {
-					int count = segCounts[ord];
-					if ( count != 0 ) {
-						counts[(int) ordMap.get( ord )] += count;
-					}
-				}
+				migrateToGlobalOrds( ordMap, segCounts );
 			}
 		}
 		else {
 			// No ord mapping (e.g., single segment index):
 			// just aggregate directly into counts.
-			IntProcedure incrementCountForOrdinal = ord -> counts[ord]++;
-			for ( int doc = docs.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = docs.nextDoc() ) {
-				if ( !segValues.advanceExact( doc ) ) {
-					continue; // No value for this doc
-				}
-				while ( segValues.hasNextValue() ) {
-					int term = (int) segValues.nextOrd();
-					uniqueOrdinalsForDocument.add( term );
-				}
-				uniqueOrdinalsForDocument.forEach( incrementCountForOrdinal );
-				uniqueOrdinalsForDocument.clear();
+			countInGlobalOrdSpace( null, segValues, hits, ord -> counts[ord]++ );
+		}
+	}
+
+	private static void countInGlobalOrdSpace(LongValues ordMapOrNull, TextMultiValues segValues, MatchingDocs hits,
+			IntProcedure incrementCountForOrdinal)
+			throws IOException {
+		IntHashSet uniqueOrdinalsForDocument = new IntHashSet();
+		DocIdSetIterator docs = hits.bits.iterator();
+		for ( int doc = docs.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = docs.nextDoc() ) {
+			if ( !segValues.advanceExact( doc ) ) {
+				continue; // No value for this doc
+			}
+			while ( segValues.hasNextValue() ) {
+				long term = segValues.nextOrd();
+				int globalOrd = (int) ( ordMapOrNull == null ? term : ordMapOrNull.get( term ) );
+				uniqueOrdinalsForDocument.add( globalOrd );
+			}
+			uniqueOrdinalsForDocument.forEach( incrementCountForOrdinal );
+			uniqueOrdinalsForDocument.clear();
+		}
+	}
+
+	private static int[] countInSegmentOrdSpace(TextMultiValues segValues, MatchingDocs hits) throws IOException {
+		IntHashSet uniqueOrdinalsForDocument = new IntHashSet();
+		DocIdSetIterator docs = hits.bits.iterator();
+		final int[] segCounts = new int[(int) segValues.getValueCount()];
+		IntProcedure incrementCountForOrdinal = ord -> segCounts[ord]++;
+		for ( int doc = docs.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = docs.nextDoc() ) {
+			if ( !segValues.advanceExact( doc ) ) {
+				continue; // No value for this doc
+			}
+			while ( segValues.hasNextValue() ) {
+				int term = (int) segValues.nextOrd();
+				uniqueOrdinalsForDocument.add( term );
+			}
+			uniqueOrdinalsForDocument.forEach( incrementCountForOrdinal );
+			uniqueOrdinalsForDocument.clear();
+		}
+		return segCounts;
+	}
+
+	private void migrateToGlobalOrds(LongValues ordMap, int[] segCounts) {
+		for ( int ord = 0; ord < segCounts.length; ord++ ) {
+			int count = segCounts[ord];
+			if ( count != 0 ) {
+				counts[(int) ordMap.get( ord )] += count;
 			}
 		}
 	}
@@ -216,7 +253,8 @@ private void countOneSegment(OrdinalMap ordinalMap, TextMultiValues segValues, i
 	/**
 	 * Does all the "real work" of tallying up the counts.
 	 */
-	private void count(IndexReader reader, TextMultiValuesSource valuesSource, List<MatchingDocs> matchingDocs)
+	private void count(IndexSearcher indexSearcher, IndexReader reader, TextMultiValuesSource valuesSource,
+			List<MatchingDocs> matchingDocs)
 			throws IOException {
 		OrdinalMap ordinalMap;
 
@@ -231,7 +269,6 @@ private void count(IndexReader reader, TextMultiValuesSource valuesSource, List<
 		}
 
 		for ( MatchingDocs hits : matchingDocs ) {
-
 			// LUCENE-5090: make sure the provided reader context "matches"
 			// the top-level reader passed to the
 			// SortedSetDocValuesReaderState, else cryptic
@@ -240,11 +277,68 @@ private void count(IndexReader reader, TextMultiValuesSource valuesSource, List<
 				throw new IllegalStateException(
 						"the SortedSetDocValuesReaderState provided to this class does not match the reader being searched; you must create a new SortedSetDocValuesReaderState every time you open a new IndexReader" );
 			}
+		}
+
+		int totalHits = FacetCountingSlices.totalHits( matchingDocs );
+		if ( totalHits < ordCount / SPARSE_COUNTING_RATIO ) {
+			countSparse( ordinalMap, valuesSource, matchingDocs );
+			return;
+		}
+
+		counts = new int[ordCount];
+		if ( ordinalMap != null
+				&& FacetCountingSlices.shouldCountConcurrently( indexSearcher, matchingDocs, totalHits ) ) {
+			countConcurrently( indexSearcher, ordinalMap, valuesSource, matchingDocs );
+			return;
+		}
 
+		for ( MatchingDocs hits : matchingDocs ) {
 			countOneSegment( ordinalMap, valuesSource.getValues( hits.context ), hits.context.ord, hits );
 		}
 	}
 
+	private void countSparse(OrdinalMap ordinalMap, TextMultiValuesSource valuesSource, List<MatchingDocs> matchingDocs)
+			throws IOException {
+		IntIntHashMap sparse = new IntIntHashMap();
+		IntProcedure incrementCountForOrdinal = ord -> sparse.addTo( ord, 1 );
+		for ( MatchingDocs hits : matchingDocs ) {
+			TextMultiValues segValues = valuesSource.getValues( hits.context );
+			if ( segValues == null ) {
+				continue;
+			}
+			LongValues ordMap = ordinalMap == null ? null : ordinalMap.getGlobalOrds( hits.context.ord );
+			countInGlobalOrdSpace( ordMap, segValues, hits, incrementCountForOrdinal );
+		}
+		sparseCounts = sparse;
+	}
+
+	private void countConcurrently(IndexSearcher indexSearcher, OrdinalMap ordinalMap,
+			TextMultiValuesSource valuesSource, List<MatchingDocs> matchingDocs)
+			throws IOException {
+		// Count each segment in seg-ord space concurrently...
+		List<List<SegmentCounts>> countsPerSlice = FacetCountingSlices.countPerSlice( indexSearcher, matchingDocs,
+				sliceMatchingDocs -> {
+					List<SegmentCounts> sliceCounts = new ArrayList<>( sliceMatchingDocs.size() );
+					for ( MatchingDocs hits : sliceMatchingDocs ) {
+						TextMultiValues segValues = valuesSource.getValues( hits.context );
+						if ( segValues != null ) {
+							sliceCounts.add( new SegmentCounts( hits.context.ord,
+									countInSegmentOrdSpace( segValues, hits ) ) );
+						}
+					}
+					return sliceCounts;
+				} );
+		// ... then migrate to global ords in the calling thread.
+		for ( List<SegmentCounts> sliceCounts : countsPerSlice ) {
+			for ( SegmentCounts segmentCounts : sliceCounts ) {
+				migrateToGlobalOrds( ordinalMap.getGlobalOrds( segmentCounts.segOrd() ), segmentCounts.counts() );
+			}
+		}
+	}
+
+	private record SegmentCounts(int segOrd, int[] counts) {
+	}
+
 	@Override
 	public Number getSpecificValue(String dim, String... path) {
 		throw new UnsupportedOperationException();
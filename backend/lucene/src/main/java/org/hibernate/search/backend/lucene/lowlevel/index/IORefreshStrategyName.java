@@ -0,0 +1,50 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.index;
+
+import org.hibernate.search.backend.lucene.logging.impl.ConfigurationLog;
+import org.hibernate.search.engine.cfg.spi.ParseUtils;
+
+public enum IORefreshStrategyName {
+
+	/**
+	 * The default strategy,
+	 * where the index reader is re-created by the first search query
+	 * that notices the current reader is stale.
+	 */
+	ON_DEMAND( "on-demand" ),
+	/**
+	 * A strategy where the index reader is re-created periodically in a background task,
+	 * according to the refresh interval,
+	 * so that search queries never have to wait for the index reader to be re-created
+	 * or for new segments to be warmed up.
+	 * <p>
+	 * Only effective with the "near-real-time" I/O strategy and a strictly positive refresh interval.
+	 */
+	BACKGROUND( "background" );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static IORefreshStrategyName of(String value) {
+		return ParseUtils.parseDiscreteValues(
+				IORefreshStrategyName.values(),
+				IORefreshStrategyName::externalRepresentation,
+				ConfigurationLog.INSTANCE::invalidIORefreshStrategyName,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	IORefreshStrategyName(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	/**
+	 * @return The expected string representation in configuration properties.
+	 */
+	private String externalRepresentation() {
+		return externalRepresentation;
+	}
+}
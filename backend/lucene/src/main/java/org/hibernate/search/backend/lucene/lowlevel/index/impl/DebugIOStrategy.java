@@ -10,6 +10,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.engine.common.metrics.spi.SearchMetrics;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.reporting.EventContext;
 
@@ -25,18 +26,19 @@ private DebugIOStrategy(BackendThreads threads, FailureHandler failureHandler) {
 
 	@Override
 	IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eventContext,
-			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource) {
+			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource,
+			SearchMetrics.Timer commitTimer) {
 		return new IndexWriterProvider(
 				indexName, eventContext,
 				directoryHolder, configSource,
 				null, 0,
 				threads,
-				failureHandler
+				failureHandler, commitTimer
 		);
 	}
 
 	@Override
-	IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
+	IndexReaderProvider createIndexReaderProvider(EventContext eventContext, DirectoryHolder directoryHolder,
 			IndexWriterProvider indexWriterProvider) {
 		return new NotSharedIndexReaderProvider( directoryHolder );
 	}
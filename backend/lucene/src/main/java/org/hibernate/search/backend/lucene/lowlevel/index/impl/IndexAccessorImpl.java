@@ -48,8 +48,8 @@ public IndexAccessorImpl(EventContext eventContext,
 	@Override
 	public void close() throws IOException {
 		try ( Closer<IOException> closer = new Closer<>() ) {
-			// Clear the reader first, as it may depend on the writer (see NearRealTimeIndexReaderProvider).
-			closer.push( IndexReaderProvider::clear, indexReaderProvider );
+			// Close the reader first, as it may depend on the writer (see NearRealTimeIndexReaderProvider).
+			closer.push( IndexReaderProvider::close, indexReaderProvider );
 			closer.push( IndexWriterProvider::clear, indexWriterProvider );
 		}
 	}
@@ -139,7 +139,7 @@ public void commitOrDelay() {
 	@Override
 	public void refresh() {
 		try {
-			indexReaderProvider.clear();
+			indexReaderProvider.refresh();
 		}
 		catch (IOException e) {
 			throw LuceneMiscLog.INSTANCE.unableToRefresh( e.getMessage(), eventContext, e );
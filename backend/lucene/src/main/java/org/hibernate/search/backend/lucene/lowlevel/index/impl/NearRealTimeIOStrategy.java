@@ -6,6 +6,7 @@
 
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.index.IORefreshStrategyName;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.NearRealTimeIndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
@@ -13,6 +14,7 @@
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.common.metrics.spi.SearchMetrics;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.reporting.EventContext;
@@ -31,12 +33,21 @@ public class NearRealTimeIOStrategy extends IOStrategy {
 					.withDefault( LuceneIndexSettings.Defaults.IO_REFRESH_INTERVAL )
 					.build();
 
+	private static final ConfigurationProperty<IORefreshStrategyName> REFRESH_STRATEGY =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_REFRESH_STRATEGY )
+					.as( IORefreshStrategyName.class, IORefreshStrategyName::of )
+					.withDefault( LuceneIndexSettings.Defaults.IO_REFRESH_STRATEGY )
+					.build();
+
 	public static NearRealTimeIOStrategy create(ConfigurationPropertySource propertySource,
 			TimingSource timingSource, BackendThreads threads, FailureHandler failureHandler) {
 		int commitInterval = COMMIT_INTERVAL.get( propertySource );
 		int refreshInterval = REFRESH_INTERVAL.get( propertySource );
+		// Background refresh only makes sense if we allow readers to be out-of-date for some time.
+		boolean backgroundRefresh = refreshInterval != 0
+				&& IORefreshStrategyName.BACKGROUND.equals( REFRESH_STRATEGY.get( propertySource ) );
 		return new NearRealTimeIOStrategy(
-				timingSource, commitInterval, refreshInterval,
+				timingSource, commitInterval, refreshInterval, backgroundRefresh,
 				threads, failureHandler
 		);
 	}
@@ -44,19 +55,23 @@ public static NearRealTimeIOStrategy create(ConfigurationPropertySource property
 	private final TimingSource timingSource;
 	private final int commitInterval;
 	private final int refreshInterval;
+	private final boolean backgroundRefresh;
 
 	private NearRealTimeIOStrategy(TimingSource timingSource, int commitInterval, int refreshInterval,
+			boolean backgroundRefresh,
 			BackendThreads threads,
 			FailureHandler failureHandler) {
 		super( threads, failureHandler );
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
 		this.refreshInterval = refreshInterval;
+		this.backgroundRefresh = backgroundRefresh;
 	}
 
 	@Override
 	IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eventContext,
-			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource) {
+			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource,
+			SearchMetrics.Timer commitTimer) {
 		if ( commitInterval != 0 ) {
 			timingSource.ensureTimeEstimateIsInitialized();
 		}
@@ -64,17 +79,18 @@ IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eve
 				indexName, eventContext,
 				directoryHolder, configSource,
 				timingSource, commitInterval, threads,
-				failureHandler
+				failureHandler, commitTimer
 		);
 	}
 
 	@Override
-	IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
+	IndexReaderProvider createIndexReaderProvider(EventContext eventContext, DirectoryHolder directoryHolder,
 			IndexWriterProvider indexWriterProvider) {
 		if ( refreshInterval != 0 ) {
 			timingSource.ensureTimeEstimateIsInitialized();
 		}
-		return new NearRealTimeIndexReaderProvider( indexWriterProvider, timingSource, refreshInterval );
+		return new NearRealTimeIndexReaderProvider( eventContext, indexWriterProvider, timingSource, refreshInterval,
+				backgroundRefresh ? threads : null, failureHandler );
 	}
 
 }
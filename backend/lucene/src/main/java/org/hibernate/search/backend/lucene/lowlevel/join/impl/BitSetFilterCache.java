@@ -0,0 +1,187 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.join.impl;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexReaderContext;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.ReaderUtil;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.search.join.BitSetProducer;
+import org.apache.lucene.util.BitSet;
+import org.apache.lucene.util.RamUsageEstimator;
+
+/**
+ * A cache of per-segment {@link BitSet bitsets} matching a given filter,
+ * typically the filter matching parent documents of nested documents.
+ * <p>
+ * Unlike {@link org.apache.lucene.search.join.QueryBitSetProducer},
+ * which caches bitsets per producer instance, i.e. per search query,
+ * this cache is shared across queries of the same backend:
+ * bitsets are cached per segment core and filter,
+ * and evicted as soon as the segment core is closed.
+ * <p>
+ * The total size of cached bitsets is bounded:
+ * when the bound is reached, bitsets are still computed but no longer cached,
+ * until some segments get closed, e.g. after a refresh following a merge.
+ */
+public final class BitSetFilterCache {
+
+	// Same as the default query cache of IndexSearcher.
+	private static final long DEFAULT_MAX_RAM_BYTES_USED =
+			Math.min( 1L << 25, Runtime.getRuntime().maxMemory() / 20 );
+
+	private final long maxRamBytesUsed;
+	private final Map<IndexReader.CacheKey, Map<Query, CachedBitSet>> cache = new ConcurrentHashMap<>();
+	private final AtomicLong ramBytesUsed = new AtomicLong();
+
+	public BitSetFilterCache() {
+		this( DEFAULT_MAX_RAM_BYTES_USED );
+	}
+
+	BitSetFilterCache(long maxRamBytesUsed) {
+		this.maxRamBytesUsed = maxRamBytesUsed;
+	}
+
+	/**
+	 * @param filter A filter query.
+	 * @return A producer of bitsets matching the given filter, backed by this cache.
+	 */
+	public BitSetProducer producer(Query filter) {
+		return new CachingBitSetProducer( this, filter );
+	}
+
+	long ramBytesUsed() {
+		return ramBytesUsed.get();
+	}
+
+	int size() {
+		int size = 0;
+		for ( Map<Query, CachedBitSet> segmentCache : cache.values() ) {
+			size += segmentCache.size();
+		}
+		return size;
+	}
+
+	BitSet getBitSet(Query filter, LeafReaderContext context) throws IOException {
+		IndexReader.CacheHelper cacheHelper = context.reader().getCoreCacheHelper();
+		if ( cacheHelper == null ) {
+			// This segment cannot be cached.
+			return compute( filter, context );
+		}
+		IndexReader.CacheKey segmentKey = cacheHelper.getKey();
+		Map<Query, CachedBitSet> segmentCache = cache.get( segmentKey );
+		CachedBitSet cached = segmentCache == null ? null : segmentCache.get( filter );
+		if ( cached != null ) {
+			return cached.bitSet;
+		}
+
+		// We don't hold a lock while computing, so concurrent queries may compute the same bitset:
+		// that's wasteful, but only happens once per segment, and it's better than blocking.
+		BitSet bitSet = compute( filter, context );
+		CachedBitSet toCache = new CachedBitSet( bitSet );
+		synchronized (this) {
+			if ( ramBytesUsed.get() + toCache.ramBytesUsed > maxRamBytesUsed ) {
+				// The cache is full.
+				return bitSet;
+			}
+			segmentCache = cache.get( segmentKey );
+			if ( segmentCache == null ) {
+				segmentCache = new ConcurrentHashMap<>();
+				cache.put( segmentKey, segmentCache );
+				cacheHelper.addClosedListener( this::evict );
+			}
+			CachedBitSet previous = segmentCache.putIfAbsent( filter, toCache );
+			if ( previous != null ) {
+				return previous.bitSet;
+			}
+			ramBytesUsed.addAndGet( toCache.ramBytesUsed );
+			return bitSet;
+		}
+	}
+
+	private synchronized void evict(IndexReader.CacheKey closedSegmentKey) {
+		Map<Query, CachedBitSet> segmentCache = cache.remove( closedSegmentKey );
+		if ( segmentCache == null ) {
+			return;
+		}
+		for ( CachedBitSet cached : segmentCache.values() ) {
+			ramBytesUsed.addAndGet( -cached.ramBytesUsed );
+		}
+	}
+
+	private static BitSet compute(Query filter, LeafReaderContext context) throws IOException {
+		IndexReaderContext topLevelContext = ReaderUtil.getTopLevelContext( context );
+		IndexSearcher searcher = new IndexSearcher( topLevelContext );
+		searcher.setQueryCache( null );
+		Weight weight = searcher.createWeight( searcher.rewrite( filter ), ScoreMode.COMPLETE_NO_SCORES, 1f );
+		Scorer scorer = weight.scorer( context );
+		if ( scorer == null ) {
+			return null;
+		}
+		return BitSet.of( scorer.iterator(), context.reader().maxDoc() );
+	}
+
+	private static final class CachedBitSet {
+		private static final long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance( CachedBitSet.class )
+				// Rough estimate of the overhead of the map entry and filter query.
+				+ 2 * RamUsageEstimator.QUERY_DEFAULT_RAM_BYTES_USED;
+
+		private final BitSet bitSet;
+		private final long ramBytesUsed;
+
+		private CachedBitSet(BitSet bitSet) {
+			this.bitSet = bitSet;
+			this.ramBytesUsed = BASE_RAM_BYTES_USED + ( bitSet == null ? 0L : bitSet.ramBytesUsed() );
+		}
+	}
+
+	private static final class CachingBitSetProducer implements BitSetProducer {
+		private final BitSetFilterCache cache;
+		private final Query filter;
+
+		private CachingBitSetProducer(BitSetFilterCache cache, Query filter) {
+			this.cache = cache;
+			this.filter = filter;
+		}
+
+		@Override
+		public BitSet getBitSet(LeafReaderContext context) throws IOException {
+			return cache.getBitSet( filter, context );
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			CachingBitSetProducer other = (CachingBitSetProducer) o;
+			return cache == other.cache && filter.equals( other.filter );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( filter );
+		}
+
+		@Override
+		public String toString() {
+			return getClass().getSimpleName() + "(" + filter + ")";
+		}
+	}
+}
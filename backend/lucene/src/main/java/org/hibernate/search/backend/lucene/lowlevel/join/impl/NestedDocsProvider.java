@@ -22,7 +22,6 @@
 import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.search.join.BitSetProducer;
-import org.apache.lucene.search.join.QueryBitSetProducer;
 import org.apache.lucene.util.BitSet;
 
 /**
@@ -36,35 +35,45 @@ public class NestedDocsProvider {
 	private final BitSetProducer parentFilter;
 	private final Query childQuery;
 
-	public NestedDocsProvider(String parentDocumentPath, String nestedDocumentPath) {
-		this( parentDocumentPath, Collections.singleton( nestedDocumentPath ), null );
+	// The weight for child docs, cached for the top-level reader it was created for.
+	private volatile ChildDocsWeight childDocsWeightCache;
+
+	public NestedDocsProvider(BitSetFilterCache bitSetFilterCache, String parentDocumentPath,
+			String nestedDocumentPath) {
+		this( bitSetFilterCache, parentDocumentPath, Collections.singleton( nestedDocumentPath ), null );
 	}
 
-	public NestedDocsProvider(String nestedDocumentPath, Query nestedFilter) {
-		this( null, Collections.singleton( nestedDocumentPath ), nestedFilter );
+	public NestedDocsProvider(BitSetFilterCache bitSetFilterCache, String nestedDocumentPath, Query nestedFilter) {
+		this( bitSetFilterCache, null, Collections.singleton( nestedDocumentPath ), nestedFilter );
 	}
 
-	public NestedDocsProvider(Set<String> nestedDocumentPaths) {
-		this( null, nestedDocumentPaths, null );
+	public NestedDocsProvider(BitSetFilterCache bitSetFilterCache, Set<String> nestedDocumentPaths) {
+		this( bitSetFilterCache, null, nestedDocumentPaths, null );
 	}
 
-	public NestedDocsProvider(String parentDocumentPath, Set<String> nestedDocumentPaths, Query nestedFilter) {
+	public NestedDocsProvider(BitSetFilterCache bitSetFilterCache, String parentDocumentPath,
+			Set<String> nestedDocumentPaths, Query nestedFilter) {
 		Query parentsFilterQuery = Queries.parentsFilterQuery( parentDocumentPath );
 		// Note: this filter should include *all* parents, not just the matched ones.
 		// Otherwise we will not "see" non-matched parents,
 		// and we will consider its matching children as children of the next matching parent.
-		this.parentFilter = new QueryBitSetProducer( parentsFilterQuery );
+		// Parent bitsets are the same for every query: cache them across queries.
+		this.parentFilter = bitSetFilterCache.producer( parentsFilterQuery );
 		this.childQuery = Queries.childDocumentsQuery( nestedDocumentPaths, nestedFilter );
 	}
 
 	public ChildDocIds childDocs(LeafReaderContext context, DocIdSetIterator childFilter) throws IOException {
 		final IndexReaderContext topLevelCtx = ReaderUtil.getTopLevelContext( context );
-		// See HSEARCH-4514; ideally we would use the calling searcher here,
-		// but it's not easy to pass it to this method
-		// and it hasn't been proven that creating a new searcher has a performance impact.
-		IndexSearcher indexSearcher = new IndexSearcher( topLevelCtx );
-		Weight childDocsWeight = childDocsWeight( indexSearcher );
-		return childDocs( childDocsWeight, context, childFilter );
+		ChildDocsWeight cached = childDocsWeightCache;
+		if ( cached == null || cached.topLevelCtx() != topLevelCtx ) {
+			// See HSEARCH-4514; ideally we would use the calling searcher here,
+			// but it's not easy to pass it to this method.
+			// At least, only create one searcher and weight per top-level reader, instead of one per leaf.
+			IndexSearcher indexSearcher = new IndexSearcher( topLevelCtx );
+			cached = new ChildDocsWeight( topLevelCtx, childDocsWeight( indexSearcher ) );
+			childDocsWeightCache = cached;
+		}
+		return childDocs( cached.weight(), context, childFilter );
 	}
 
 	public ChildDocIds childDocs(Weight childDocsWeight, LeafReaderContext context,
@@ -92,4 +101,7 @@ public Weight childDocsWeight(IndexSearcher indexSearcher) throws IOException {
 		return indexSearcher.createWeight( indexSearcher.rewrite( childQuery ), ScoreMode.COMPLETE_NO_SCORES, 1f );
 	}
 
+	private record ChildDocsWeight(IndexReaderContext topLevelCtx, Weight weight) {
+	}
+
 }
@@ -0,0 +1,56 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.query.impl;
+
+import java.io.IOException;
+
+import org.apache.lucene.index.FloatVectorValues;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.FilteredDocIdSetIterator;
+import org.apache.lucene.search.KnnFloatVectorQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.search.knn.KnnCollectorManager;
+import org.apache.lucene.util.Bits;
+
+/**
+ * A knn query that always compares the target vector to every (accepted) vector,
+ * for fields whose vectors are not indexed in a graph.
+ * <p>
+ * Lucene's "flat" vector formats do not support approximate search and just return no result,
+ * while {@link KnnFloatVectorQuery} only falls back to exact search when there is a filter.
+ */
+public final class ExactKnnFloatVectorQuery extends KnnFloatVectorQuery {
+
+	private static final TopDocs NO_RESULTS = new TopDocs( new TotalHits( 0, TotalHits.Relation.EQUAL_TO ),
+			new ScoreDoc[0] );
+
+	public ExactKnnFloatVectorQuery(String field, float[] target, int k, Query filter) {
+		super( field, target, k, filter );
+	}
+
+	@Override
+	protected TopDocs approximateSearch(LeafReaderContext context, Bits acceptDocs, int visitedLimit,
+			KnnCollectorManager knnCollectorManager)
+			throws IOException {
+		FloatVectorValues vectorValues = context.reader().getFloatVectorValues( field );
+		if ( vectorValues == null || vectorValues.size() == 0 ) {
+			return NO_RESULTS;
+		}
+		DocIdSetIterator acceptedDocs = acceptDocs == null
+				? vectorValues
+				: new FilteredDocIdSetIterator( vectorValues ) {
+					@Override
+					protected boolean match(int doc) {
+						return acceptDocs.get( doc );
+					}
+				};
+		return exactSearch( context, acceptedDocs, null );
+	}
+
+}
@@ -0,0 +1,53 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.query.impl;
+
+import java.util.Objects;
+
+import org.apache.lucene.search.KnnByteVectorQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TopDocs;
+
+/**
+ * A knn query that gathers more candidates than the number of nearest neighbors it returns.
+ * <p>
+ * Byte vectors are never quantized, so there is no need for rescoring:
+ * see {@link OversamplingKnnFloatVectorQuery}.
+ */
+public final class OversamplingKnnByteVectorQuery extends KnnByteVectorQuery {
+
+	private final int resultCount;
+
+	public OversamplingKnnByteVectorQuery(String field, byte[] target, int k, int numCandidates, Query filter) {
+		super( field, target, numCandidates, filter );
+		this.resultCount = k;
+	}
+
+	@Override
+	protected TopDocs mergeLeafResults(TopDocs[] perLeafResults) {
+		// Candidates were gathered using k = numCandidates; only keep the best ones.
+		return TopDocs.merge( resultCount, perLeafResults );
+	}
+
+	@Override
+	public String toString(String field) {
+		return super.toString( field ) + "[resultCount=" + resultCount + "]";
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if ( !super.equals( o ) ) {
+			return false;
+		}
+		OversamplingKnnByteVectorQuery that = (OversamplingKnnByteVectorQuery) o;
+		return resultCount == that.resultCount;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( super.hashCode(), resultCount );
+	}
+
+}
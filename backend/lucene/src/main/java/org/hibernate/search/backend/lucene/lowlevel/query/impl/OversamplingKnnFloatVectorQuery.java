@@ -0,0 +1,100 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.query.impl;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+import org.apache.lucene.index.FloatVectorValues;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.VectorSimilarityFunction;
+import org.apache.lucene.search.KnnFloatVectorQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.knn.KnnCollectorManager;
+import org.apache.lucene.util.Bits;
+
+/**
+ * A knn query that gathers more candidates than the number of nearest neighbors it returns,
+ * optionally rescoring these candidates according to their original vector.
+ * <p>
+ * With quantized vector formats, approximate search scores candidates according to their quantized vector;
+ * rescoring retrieves the original vectors of candidates only, which is much cheaper than an exact search.
+ */
+public final class OversamplingKnnFloatVectorQuery extends KnnFloatVectorQuery {
+
+	private static final Comparator<ScoreDoc> BY_DOC = Comparator.comparingInt( scoreDoc -> scoreDoc.doc );
+	private static final Comparator<ScoreDoc> BY_SCORE_DESC_THEN_DOC =
+			Comparator.<ScoreDoc>comparingDouble( scoreDoc -> -scoreDoc.score ).thenComparing( BY_DOC );
+
+	private final float[] target;
+	private final int resultCount;
+	private final boolean exactRescoring;
+
+	public OversamplingKnnFloatVectorQuery(String field, float[] target, int k, int numCandidates,
+			boolean exactRescoring, Query filter) {
+		super( field, target, numCandidates, filter );
+		this.target = target;
+		this.resultCount = k;
+		this.exactRescoring = exactRescoring;
+	}
+
+	@Override
+	protected TopDocs approximateSearch(LeafReaderContext context, Bits acceptDocs, int visitedLimit,
+			KnnCollectorManager knnCollectorManager)
+			throws IOException {
+		TopDocs candidates = super.approximateSearch( context, acceptDocs, visitedLimit, knnCollectorManager );
+		if ( !exactRescoring || candidates.scoreDocs.length == 0 ) {
+			return candidates;
+		}
+		return rescore( context.reader(), candidates );
+	}
+
+	@Override
+	protected TopDocs mergeLeafResults(TopDocs[] perLeafResults) {
+		// Candidates were gathered using k = numCandidates; only keep the best ones.
+		return TopDocs.merge( resultCount, perLeafResults );
+	}
+
+	private TopDocs rescore(LeafReader reader, TopDocs candidates) throws IOException {
+		FloatVectorValues vectorValues = reader.getFloatVectorValues( field );
+		VectorSimilarityFunction similarityFunction =
+				reader.getFieldInfos().fieldInfo( field ).getVectorSimilarityFunction();
+		ScoreDoc[] scoreDocs = candidates.scoreDocs.clone();
+		// Vector values can only be iterated in doc ID order
+		Arrays.sort( scoreDocs, BY_DOC );
+		for ( ScoreDoc scoreDoc : scoreDocs ) {
+			if ( vectorValues.advance( scoreDoc.doc ) == scoreDoc.doc ) {
+				scoreDoc.score = similarityFunction.compare( target, vectorValues.vectorValue() );
+			}
+		}
+		Arrays.sort( scoreDocs, BY_SCORE_DESC_THEN_DOC );
+		return new TopDocs( candidates.totalHits, scoreDocs );
+	}
+
+	@Override
+	public String toString(String field) {
+		return super.toString( field ) + "[resultCount=" + resultCount + ", exactRescoring=" + exactRescoring + "]";
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if ( !super.equals( o ) ) {
+			return false;
+		}
+		OversamplingKnnFloatVectorQuery that = (OversamplingKnnFloatVectorQuery) o;
+		return resultCount == that.resultCount && exactRescoring == that.exactRescoring;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( super.hashCode(), resultCount, exactRescoring );
+	}
+
+}
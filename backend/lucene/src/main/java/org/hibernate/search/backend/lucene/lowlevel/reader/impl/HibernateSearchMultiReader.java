@@ -20,6 +20,7 @@
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.MultiReader;
+import org.apache.lucene.store.Directory;
 
 /**
  * A {@link MultiReader} keeping references to {@link DirectoryReader}s to eventually close them,
@@ -71,6 +72,19 @@ public IndexReaderMetadataResolver getMetadataResolver() {
 		return metadataResolver;
 	}
 
+	/**
+	 * @return An object identifying the version of the underlying directory readers:
+	 * two multi-readers with equal versions expose exactly the same documents,
+	 * and any change made visible by a refresh leads to a different version.
+	 */
+	public Object getVersion() {
+		List<DirectoryReaderVersion> versions = new ArrayList<>( directoryReaders.size() );
+		for ( DirectoryReader directoryReader : directoryReaders ) {
+			versions.add( new DirectoryReaderVersion( directoryReader.directory(), directoryReader.getVersion() ) );
+		}
+		return versions;
+	}
+
 	@Override
 	protected synchronized void doClose() throws IOException {
 		final boolean traceEnabled = LuceneMiscLog.INSTANCE.isTraceEnabled();
@@ -90,6 +104,9 @@ protected synchronized void doClose() throws IOException {
 		}
 	}
 
+	private record DirectoryReaderVersion(Directory directory, long version) {
+	}
+
 	private static IndexReader[] toReaderArray(List<DirectoryReader> directoryReaders) {
 		return directoryReaders.toArray( new DirectoryReader[0] );
 	}
@@ -13,11 +13,32 @@ public interface IndexReaderProvider {
 	/**
 	 * Closes and drops any cached resources (index readers in particular).
 	 * <p>
-	 * Should be used when stopping the index, to clean up upon error,
+	 * Should be used to clean up upon error,
 	 * or simply to force the creation of a new reader (refresh) on the next call to {@link #getOrCreate()}.
 	 */
 	void clear() throws IOException;
 
+	/**
+	 * Stops any background activity and closes and drops any cached resources.
+	 * <p>
+	 * Should be used when stopping the index; this must be the very last call on this object.
+	 * <p>
+	 * By default, this simply clears cached resources, see {@link #clear()}.
+	 */
+	default void close() throws IOException {
+		clear();
+	}
+
+	/**
+	 * Ensures the next call to {@link #getOrCreate()} will return an index reader
+	 * reflecting all changes made to the index so far.
+	 * <p>
+	 * By default, this simply drops the current index reader, see {@link #clear()}.
+	 */
+	default void refresh() throws IOException {
+		clear();
+	}
+
 	/**
 	 * @return A ready-to-use index reader, with its reference count already increased.
 	 * Callers are responsible for calling {@link DirectoryReader#decRef()} when they are done with the index reader.
@@ -5,11 +5,27 @@
 package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
 
 import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
+import org.hibernate.search.backend.lucene.logging.impl.LuceneMiscLog;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.engine.backend.orchestration.spi.SingletonTask;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
+import org.hibernate.search.engine.reporting.FailureContext;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SimpleMergedSegmentWarmer;
+import org.apache.lucene.util.InfoStream;
 
 /**
  * A index reader holder that opens an index reader from the index writer,
@@ -20,25 +36,57 @@
  * i.e. as long as there were no changes
  * from the directory every time an index reader is requested.
  * <p>
+ * When background refresh is enabled, the index reader is instead re-opened periodically
+ * by a task running in the backend's refresh executor (not the write executor, so that warming does not delay indexing),
+ * and callers simply retrieve the latest index reader without checking whether it is current:
+ * they never block on the re-opening of the index reader.
+ * <p>
+ * Whenever the index reader is re-opened outside of search queries (background refresh, forced refresh),
+ * segments that were not part of the previous index reader are warmed up before the new reader gets exposed,
+ * so that the first queries on the new reader do not pay for loading per-segment data structures.
+ * <p>
  * Heavily inspired by {@code org.hibernate.search.backend.impl.lucene.NRTWorkspaceImpl} from Hibernate Search 5
  * by Sanne Grinovero.
  */
 public class NearRealTimeIndexReaderProvider implements IndexReaderProvider {
 
+	private static final SimpleMergedSegmentWarmer SEGMENT_WARMER = new SimpleMergedSegmentWarmer( InfoStream.NO_OUTPUT );
+
+	private final EventContext eventContext;
 	private final IndexWriterProvider indexWriterProvider;
 	private final TimingSource timingSource;
 	private final int refreshInterval;
+	private final FailureHandler failureHandler;
+
+	/**
+	 * The task re-opening the reader in the background, or null if background refresh is disabled.
+	 */
+	private final SingletonTask backgroundRefreshTask;
 
 	/**
 	 * Current open IndexReader, or null when closed.
 	 */
 	private volatile IndexReaderEntry currentReaderEntry = null;
 
-	public NearRealTimeIndexReaderProvider(IndexWriterProvider indexWriterProvider,
-			TimingSource timingSource, int refreshInterval) {
+	public NearRealTimeIndexReaderProvider(EventContext eventContext, IndexWriterProvider indexWriterProvider,
+			TimingSource timingSource, int refreshInterval,
+			BackendThreads backgroundRefreshThreads, FailureHandler failureHandler) {
+		this.eventContext = eventContext;
 		this.indexWriterProvider = indexWriterProvider;
 		this.timingSource = timingSource;
 		this.refreshInterval = refreshInterval;
+		this.failureHandler = failureHandler;
+		if ( backgroundRefreshThreads == null ) {
+			this.backgroundRefreshTask = null;
+		}
+		else {
+			this.backgroundRefreshTask = new SingletonTask(
+					"Background index reader refresh for " + eventContext.render(),
+					new BackgroundRefreshWorker(),
+					new BackgroundRefreshScheduler( backgroundRefreshThreads ),
+					failureHandler
+			);
+		}
 	}
 
 	@Override
@@ -50,8 +98,33 @@ public void clear() throws IOException {
 		setCurrentReaderEntry( null );
 	}
 
+	@Override
+	public void close() throws IOException {
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			// Stop the background refresh first, so that it doesn't re-open a reader while we clear it.
+			closer.push( SingletonTask::stop, backgroundRefreshTask );
+			closer.push( NearRealTimeIndexReaderProvider::clear, this );
+		}
+	}
+
+	@Override
+	public void refresh() throws IOException {
+		if ( backgroundRefreshTask == null ) {
+			clear();
+			return;
+		}
+
+		// Re-open the reader right now, in the calling (writing) thread,
+		// so that search queries don't have to do it.
+		reopenIfChanged();
+	}
+
 	@Override
 	public DirectoryReader getOrCreate() throws IOException {
+		if ( backgroundRefreshTask != null ) {
+			return getCurrentOrCreate();
+		}
+
 		IndexReaderEntry entry = currentReaderEntry;
 
 		// Optimistic locking and checks to avoid synchronization
@@ -74,6 +147,24 @@ public synchronized DirectoryReader getCurrentForTests() throws IOException {
 		return currentReaderEntry == null ? null : currentReaderEntry.reader;
 	}
 
+	private DirectoryReader getCurrentOrCreate() throws IOException {
+		IndexReaderEntry entry = currentReaderEntry;
+		while ( entry != null ) {
+			if ( entry.reader.tryIncRef() ) {
+				// Freshness is taken care of by the background task.
+				return entry.reader;
+			}
+			// The reader was closed after we retrieved it,
+			// which means it was replaced with another: try again with the new one.
+			entry = currentReaderEntry;
+		}
+
+		// No reader yet: we have no choice but to open one in the current thread.
+		IndexReaderEntry freshEntry = getFreshIndexReader();
+		backgroundRefreshTask.ensureScheduled();
+		return freshEntry.reader;
+	}
+
 	private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
 		IndexReaderEntry oldEntry = currentReaderEntry;
 		IndexReaderEntry freshEntry;
@@ -103,6 +194,50 @@ private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
 		return freshEntry;
 	}
 
+	/**
+	 * Re-opens the current reader if the index changed since it was opened.
+	 *
+	 * @return {@code true} if there is a current reader (re-opened or not),
+	 * {@code false} if there is no current reader, in which case nothing is done.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	private synchronized boolean reopenIfChanged() throws IOException {
+		IndexReaderEntry oldEntry = currentReaderEntry;
+		if ( oldEntry == null ) {
+			// The reader was cleared: the next call to getOrCreate() will open a new one.
+			return false;
+		}
+		DirectoryReader newReaderOrNull = indexWriterProvider.getOrCreate().openReaderIfChanged( oldEntry.reader );
+		if ( newReaderOrNull != null ) {
+			try {
+				warmNewSegments( oldEntry.reader, newReaderOrNull );
+			}
+			catch (RuntimeException | IOException e) {
+				newReaderOrNull.decRef();
+				throw e;
+			}
+			setCurrentReaderEntry( new IndexReaderEntry( newReaderOrNull, timingSource, refreshInterval ) );
+		}
+		return true;
+	}
+
+	private static void warmNewSegments(DirectoryReader oldReader, DirectoryReader newReader) throws IOException {
+		Set<IndexReader.CacheKey> oldSegmentKeys = new HashSet<>();
+		for ( LeafReaderContext leaf : oldReader.leaves() ) {
+			IndexReader.CacheHelper cacheHelper = leaf.reader().getCoreCacheHelper();
+			if ( cacheHelper != null ) {
+				oldSegmentKeys.add( cacheHelper.getKey() );
+			}
+		}
+		for ( LeafReaderContext leaf : newReader.leaves() ) {
+			IndexReader.CacheHelper cacheHelper = leaf.reader().getCoreCacheHelper();
+			if ( cacheHelper == null || !oldSegmentKeys.contains( cacheHelper.getKey() ) ) {
+				// Loads terms, norms, doc values and points of every field.
+				SEGMENT_WARMER.warm( leaf.reader() );
+			}
+		}
+	}
+
 	private synchronized void setCurrentReaderEntry(IndexReaderEntry newEntry) throws IOException {
 		IndexReaderEntry oldEntry = currentReaderEntry;
 		currentReaderEntry = newEntry;
@@ -141,4 +276,47 @@ boolean isFresh() throws IOException {
 			}
 		}
 	}
+
+	private class BackgroundRefreshWorker implements SingletonTask.Worker {
+		private final CompletableFuture<?> completedFuture = CompletableFuture.completedFuture( null );
+
+		@Override
+		public CompletableFuture<?> work() {
+			boolean hasReader = true;
+			try {
+				hasReader = reopenIfChanged();
+			}
+			catch (RuntimeException | IOException e) {
+				FailureContext.Builder failureContextBuilder = FailureContext.builder();
+				failureContextBuilder.throwable(
+						LuceneMiscLog.INSTANCE.unableToRefresh( e.getMessage(), eventContext, e ) );
+				failureContextBuilder.failingOperation( "Background index reader refresh" );
+				failureHandler.handle( failureContextBuilder.build() );
+			}
+			if ( hasReader ) {
+				// Keep refreshing periodically for as long as there is a reader to refresh.
+				// If the reader gets cleared, the task will be scheduled again when a new reader gets opened.
+				backgroundRefreshTask.ensureScheduled();
+			}
+			return completedFuture;
+		}
+
+		@Override
+		public void complete() {
+			// Called when there is no reader to refresh anymore: nothing to do.
+		}
+	}
+
+	private class BackgroundRefreshScheduler implements SingletonTask.Scheduler {
+		private final BackendThreads threads;
+
+		private BackgroundRefreshScheduler(BackendThreads threads) {
+			this.threads = threads;
+		}
+
+		@Override
+		public Future<?> schedule(Runnable runnable) {
+			return threads.getRefreshExecutor().schedule( runnable, refreshInterval, TimeUnit.MILLISECONDS );
+		}
+	}
 }
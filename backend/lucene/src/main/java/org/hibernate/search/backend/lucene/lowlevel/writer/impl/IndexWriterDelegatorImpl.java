@@ -14,6 +14,7 @@
 import org.hibernate.search.backend.lucene.logging.impl.LuceneMiscLog;
 import org.hibernate.search.engine.backend.orchestration.spi.SingletonTask;
 import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
+import org.hibernate.search.engine.common.metrics.spi.SearchMetrics;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.reporting.FailureContext;
 import org.hibernate.search.engine.reporting.FailureHandler;
@@ -36,6 +37,7 @@ public class IndexWriterDelegatorImpl implements IndexWriterDelegator {
 	private final TimingSource timingSource;
 	private final int commitInterval;
 	private final FailureHandler failureHandler;
+	private final SearchMetrics.Timer commitTimer;
 
 	private final SingletonTask delayedCommitTask;
 	private final ReentrantLock commitLock = new ReentrantLock();
@@ -45,13 +47,14 @@ public class IndexWriterDelegatorImpl implements IndexWriterDelegator {
 	public IndexWriterDelegatorImpl(IndexWriter delegate, EventContext eventContext,
 			SimpleScheduledExecutor delayedCommitExecutor,
 			TimingSource timingSource, int commitInterval,
-			FailureHandler failureHandler,
+			FailureHandler failureHandler, SearchMetrics.Timer commitTimer,
 			DelayedCommitFailureHandler delayedCommitFailureHandler) {
 		this.delegate = delegate;
 		this.eventContext = eventContext;
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
 		this.failureHandler = failureHandler;
+		this.commitTimer = commitTimer;
 
 		if ( commitInterval == 0L ) {
 			delayedCommitTask = null;
@@ -184,7 +187,9 @@ private void doCommit() {
 			// NOTE: underlying Lucene code is using this pattern to sync on object block,
 			// which could be a problem with Loom:
 			// synchronized(commitLock)
+			long start = System.nanoTime();
 			delegate.commit();
+			commitTimer.recordNanos( System.nanoTime() - start );
 			updateCommitExpiration();
 		}
 		catch (RuntimeException | IOException e) {
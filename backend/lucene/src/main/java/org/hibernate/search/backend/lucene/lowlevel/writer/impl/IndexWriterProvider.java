@@ -11,6 +11,7 @@
 import org.hibernate.search.backend.lucene.logging.impl.LuceneMiscLog;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.engine.common.metrics.spi.SearchMetrics;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.reporting.EventContext;
@@ -33,6 +34,7 @@ public class IndexWriterProvider {
 	private final int commitInterval;
 	private BackendThreads threads;
 	private final FailureHandler failureHandler;
+	private final SearchMetrics.Timer commitTimer;
 
 	/**
 	 * Current open IndexWriter, or null when closed.
@@ -48,7 +50,7 @@ public IndexWriterProvider(String indexName, EventContext eventContext,
 			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource,
 			TimingSource timingSource, int commitInterval,
 			BackendThreads threads,
-			FailureHandler failureHandler) {
+			FailureHandler failureHandler, SearchMetrics.Timer commitTimer) {
 		this.indexName = indexName;
 		this.eventContext = eventContext;
 		this.directoryHolder = directoryHolder;
@@ -57,6 +59,7 @@ public IndexWriterProvider(String indexName, EventContext eventContext,
 		this.commitInterval = commitInterval;
 		this.threads = threads;
 		this.failureHandler = failureHandler;
+		this.commitTimer = commitTimer;
 	}
 
 	/**
@@ -119,7 +122,7 @@ public IndexWriterDelegatorImpl getOrCreate() throws IOException {
 							indexWriter, eventContext,
 							threads.getWriteExecutor(),
 							timingSource, commitInterval,
-							failureHandler,
+							failureHandler, commitTimer,
 							this::clearAfterFailure
 					);
 					LuceneMiscLog.INSTANCE.openedIndexWriter();
@@ -0,0 +1,59 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.IndexSearcher;
+
+/**
+ * Defines how index segments are grouped into slices
+ * when searching segments concurrently within a single search query.
+ */
+public final class LuceneSearcherSlicing {
+
+	private final int maxDocsPerSlice;
+	private final int maxSegmentsPerSlice;
+
+	public LuceneSearcherSlicing(int maxDocsPerSlice, int maxSegmentsPerSlice) {
+		this.maxDocsPerSlice = maxDocsPerSlice;
+		this.maxSegmentsPerSlice = maxSegmentsPerSlice;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "maxDocsPerSlice=" + maxDocsPerSlice
+				+ ", maxSegmentsPerSlice=" + maxSegmentsPerSlice
+				+ "]";
+	}
+
+	/**
+	 * @param indexReader The index reader to search.
+	 * @param executorOrNull The executor to use to search slices concurrently,
+	 * or {@code null} to search all segments in the calling thread.
+	 * @return A new index searcher.
+	 */
+	IndexSearcher createSearcher(IndexReader indexReader, Executor executorOrNull) {
+		if ( executorOrNull == null ) {
+			return new IndexSearcher( indexReader );
+		}
+		return new SlicingIndexSearcher( indexReader, executorOrNull );
+	}
+
+	private final class SlicingIndexSearcher extends IndexSearcher {
+		private SlicingIndexSearcher(IndexReader indexReader, Executor executor) {
+			super( indexReader, executor );
+		}
+
+		@Override
+		protected LeafSlice[] slices(List<LeafReaderContext> leaves) {
+			return slices( leaves, maxDocsPerSlice, maxSegmentsPerSlice );
+		}
+	}
+}
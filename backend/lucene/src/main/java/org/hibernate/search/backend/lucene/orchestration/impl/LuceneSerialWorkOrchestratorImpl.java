@@ -4,6 +4,8 @@
  */
 package org.hibernate.search.backend.lucene.orchestration.impl;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
@@ -13,6 +15,8 @@
 import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.common.metrics.spi.SearchMetricNames;
+import org.hibernate.search.engine.common.metrics.spi.SearchMetrics;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.data.impl.HashTable;
 import org.hibernate.search.util.common.data.impl.ModuloHashTable;
@@ -38,6 +42,8 @@
 	private final LuceneBatchedWorkProcessor processor;
 	private final BackendThreads threads;
 	private final FailureHandler failureHandler;
+	private final SearchMetrics metrics;
+	private final Map<String, String> metricTags;
 
 	private HashTable<BatchingExecutor<LuceneBatchedWorkProcessor, LuceneBatchedWork<?>>> executors;
 
@@ -46,15 +52,20 @@
 	 * @param processor A processor to use in the background thread.
 	 * @param threads The threads for this backend.
 	 * @param failureHandler A failure handler to report failures of the background thread.
+	 * @param metrics Metrics to report the state of indexing queues to.
+	 * @param metricTags Tags identifying the index and shard in metrics.
 	 */
 	public LuceneSerialWorkOrchestratorImpl(
 			String name, LuceneBatchedWorkProcessor processor,
 			BackendThreads threads,
-			FailureHandler failureHandler) {
+			FailureHandler failureHandler,
+			SearchMetrics metrics, Map<String, String> metricTags) {
 		super( name );
 		this.processor = processor;
 		this.threads = threads;
 		this.failureHandler = failureHandler;
+		this.metrics = metrics;
+		this.metricTags = metricTags;
 	}
 
 	@Override
@@ -74,13 +85,16 @@ protected void doStart(ConfigurationPropertySource propertySource) {
 
 		executors = new ModuloHashTable<>( SimpleHashFunction.INSTANCE, queueCount );
 		for ( int i = 0; i < executors.size(); i++ ) {
+			Map<String, String> queueMetricTags = new HashMap<>( metricTags );
+			queueMetricTags.put( SearchMetricNames.TAG_QUEUE, String.valueOf( i ) );
 			executors.set( i, new BatchingExecutor<>(
 					name() + " - " + i,
 					processor,
 					queueSize,
 					true,
 					failureHandler,
-					blockingRetryProducer
+					blockingRetryProducer,
+					metrics, queueMetricTags
 			) );
 		}
 
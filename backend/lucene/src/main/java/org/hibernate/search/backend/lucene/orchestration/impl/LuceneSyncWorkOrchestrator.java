@@ -6,6 +6,7 @@
 
 import java.util.Collection;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
@@ -28,4 +29,14 @@ default <T> T submit(Set<String> indexNames, Collection<? extends ReadIndexManag
 	<T> T submit(Set<String> indexNames, Collection<? extends ReadIndexManagerContext> indexManagerContexts,
 			Set<String> routingKeys, ReadWork<T> work, HibernateSearchMultiReader indexReader);
 
+	/**
+	 * Submits a work to be executed asynchronously in the async search thread pool if there is one,
+	 * or synchronously in the current thread otherwise.
+	 *
+	 * @return A future that completes with the result of the work.
+	 */
+	<T> CompletableFuture<T> submitAsync(Set<String> indexNames,
+			Collection<? extends ReadIndexManagerContext> indexManagerContexts,
+			Set<String> routingKeys, ReadWork<T> work);
+
 }
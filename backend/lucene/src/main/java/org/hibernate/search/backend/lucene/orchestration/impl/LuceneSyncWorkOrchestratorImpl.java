@@ -8,12 +8,15 @@
 import java.util.Collection;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryCachingContext;
+import org.hibernate.search.backend.lucene.cache.impl.LuceneSearchResultCache;
 import org.hibernate.search.backend.lucene.logging.impl.LuceneMiscLog;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
+import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.backend.lucene.work.impl.ReadWork;
 import org.hibernate.search.backend.lucene.work.impl.ReadWorkExecutionContext;
 import org.hibernate.search.engine.backend.orchestration.spi.AbstractWorkOrchestrator;
@@ -32,13 +35,18 @@
 
 	private final Similarity similarity;
 	private final LuceneQueryCachingContext cachingContext;
+	private final BackendThreads threads;
+	private final LuceneSearcherSlicing searcherSlicing;
 
 	public LuceneSyncWorkOrchestratorImpl(String name, Similarity similarity,
-			LuceneQueryCachingContext cachingContext) {
+			LuceneQueryCachingContext cachingContext,
+			BackendThreads threads, LuceneSearcherSlicing searcherSlicing) {
 		super( name );
 		this.similarity = similarity;
 		start( null ); // Nothing to start, just force the superclass to go to the right state.
 		this.cachingContext = cachingContext;
+		this.threads = threads;
+		this.searcherSlicing = searcherSlicing;
 	}
 
 	@Override
@@ -46,7 +54,8 @@ public <T> T submit(Set<String> indexNames, Collection<? extends ReadIndexManage
 			Set<String> routingKeys, ReadWork<T> work,
 			HibernateSearchMultiReader indexReader) {
 		WorkExecution<T> workExecution = new WorkExecution<>(
-				similarity, indexNames, indexManagerContexts, routingKeys, work, indexReader, cachingContext
+				similarity, indexNames, indexManagerContexts, routingKeys, work, indexReader, cachingContext,
+				searcherSlicing, threads.getSearchExecutor()
 		);
 		Throwable throwable = null;
 		try {
@@ -71,6 +80,26 @@ public <T> T submit(Set<String> indexNames, Collection<? extends ReadIndexManage
 		}
 	}
 
+	@Override
+	public <T> CompletableFuture<T> submitAsync(Set<String> indexNames,
+			Collection<? extends ReadIndexManagerContext> indexManagerContexts,
+			Set<String> routingKeys, ReadWork<T> work) {
+		Executor asyncSearchExecutor = threads.getAsyncSearchExecutor();
+		if ( asyncSearchExecutor == null ) {
+			// No search thread pool: we have no choice but to execute the work in the current thread.
+			try {
+				return CompletableFuture.completedFuture( submit( indexNames, indexManagerContexts, routingKeys, work ) );
+			}
+			catch (RuntimeException e) {
+				return CompletableFuture.failedFuture( e );
+			}
+		}
+		// Segment slices of this work will be submitted to the search executor,
+		// which is distinct from the async search executor, so slices never wait behind whole queries.
+		return CompletableFuture.supplyAsync( () -> submit( indexNames, indexManagerContexts, routingKeys, work ),
+				asyncSearchExecutor );
+	}
+
 	@Override
 	protected void doStart(ConfigurationPropertySource propertySource) {
 		// Nothing to do
@@ -102,6 +131,8 @@ protected void doStop() {
 		private final ReadWork<T> work;
 		private final boolean closeIndexReader;
 		private final LuceneQueryCachingContext cachingContext;
+		private final LuceneSearcherSlicing searcherSlicing;
+		private final Executor searchExecutor;
 
 		private T result;
 
@@ -109,7 +140,8 @@ protected void doStop() {
 				Collection<? extends ReadIndexManagerContext> indexManagerContexts,
 				Set<String> routingKeys, ReadWork<T> work,
 				HibernateSearchMultiReader indexReader,
-				LuceneQueryCachingContext cachingContext) {
+				LuceneQueryCachingContext cachingContext,
+				LuceneSearcherSlicing searcherSlicing, Executor searchExecutor) {
 			this.similarity = similarity;
 			this.indexNames = indexNames;
 			this.work = work;
@@ -123,11 +155,13 @@ protected void doStop() {
 				this.closeIndexReader = false;
 			}
 			this.cachingContext = cachingContext;
+			this.searcherSlicing = searcherSlicing;
+			this.searchExecutor = searchExecutor;
 		}
 
 		@Override
 		public IndexSearcher createSearcher() {
-			IndexSearcher searcher = new IndexSearcher( indexReader );
+			IndexSearcher searcher = searcherSlicing.createSearcher( indexReader, searchExecutor );
 			searcher.setSimilarity( similarity );
 
 			cachingContext.queryCache().ifPresent( searcher::setQueryCache );
@@ -141,6 +175,13 @@ public IndexReaderMetadataResolver getIndexReaderMetadataResolver() {
 			return indexReader.getMetadataResolver();
 		}
 
+		@Override
+		public LuceneSearchResultCache.ReaderScopedCache getSearchResultCacheOrNull() {
+			return cachingContext.searchResultCache()
+					.map( cache -> cache.forReaderVersion( indexReader.getVersion() ) )
+					.orElse( null );
+		}
+
 		@Override
 		public EventContext getEventContext() {
 			return EventContexts.fromIndexNames( indexNames );
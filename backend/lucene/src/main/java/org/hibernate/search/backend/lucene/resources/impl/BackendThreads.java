@@ -4,10 +4,15 @@
  */
 package org.hibernate.search.backend.lucene.resources.impl;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
 import org.hibernate.search.backend.lucene.cfg.spi.LuceneBackendSpiSettings;
 import org.hibernate.search.backend.lucene.work.spi.LuceneWorkExecutorProvider;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.common.execution.spi.DelegatingSimpleScheduledExecutor;
 import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.BeanReference;
@@ -25,10 +30,20 @@ public class BackendThreads {
 							.asBeanReference( LuceneWorkExecutorProvider.class )
 							.withDefault( LuceneBackendSpiSettings.Defaults.BACKEND_WORK_EXECUTOR_PROVIDER )
 							.build();
+
+	private static final ConfigurationProperty<Integer> SEARCH_THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_THREAD_POOL_SIZE )
+					.asIntegerPositiveOrZero()
+					.withDefault( LuceneBackendSettings.Defaults.SEARCH_THREAD_POOL_SIZE )
+					.build();
+
 	private final String prefix;
 
 	private ThreadPoolProvider threadPoolProvider;
 	private SimpleScheduledExecutor writeExecutor;
+	private SimpleScheduledExecutor refreshExecutor;
+	private ExecutorService searchExecutor;
+	private ExecutorService asyncSearchExecutor;
 
 	public BackendThreads(String prefix) {
 		this.prefix = prefix;
@@ -62,11 +77,34 @@ public String recommendedThreadNamePrefix() {
 				}
 			} );
 		}
+
+		// Background index reader refreshes get their own thread:
+		// warming up new segments can take a while,
+		// and it should not delay indexing work in the write executor.
+		// Threads are only created once a refresh actually gets scheduled.
+		this.refreshExecutor = new DelegatingSimpleScheduledExecutor(
+				threadPoolProvider.newScheduledExecutor( 1, prefix + " - Reader refresh thread" ),
+				threadPoolProvider.isScheduledExecutorBlocking()
+		);
+
+		int searchThreadPoolSize = SEARCH_THREAD_POOL_SIZE.get( propertySource );
+		if ( searchThreadPoolSize > 0 ) {
+			this.searchExecutor = threadPoolProvider.newFixedThreadPool( searchThreadPoolSize,
+					prefix + " - Search thread" );
+			// Asynchronous queries get their own thread pool:
+			// if they were executed in the search thread pool,
+			// they could fill its queue and end up waiting for their own slices to get executed.
+			this.asyncSearchExecutor = threadPoolProvider.newFixedThreadPool( searchThreadPoolSize,
+					prefix + " - Async search thread" );
+		}
 	}
 
 	public void onStop() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
 			closer.push( SimpleScheduledExecutor::shutdownNow, writeExecutor );
+			closer.push( SimpleScheduledExecutor::shutdownNow, refreshExecutor );
+			closer.push( ExecutorService::shutdownNow, asyncSearchExecutor );
+			closer.push( ExecutorService::shutdownNow, searchExecutor );
 		}
 	}
 
@@ -80,6 +118,34 @@ public SimpleScheduledExecutor getWriteExecutor() {
 		return writeExecutor;
 	}
 
+	/**
+	 * @return The executor to use to re-open and warm up index readers in the background.
+	 * Never the same as {@link #getWriteExecutor()}.
+	 */
+	public SimpleScheduledExecutor getRefreshExecutor() {
+		checkStarted();
+		return refreshExecutor;
+	}
+
+	/**
+	 * @return The executor to use to search index segments concurrently within a single search query,
+	 * or {@code null} if segments should not be searched concurrently.
+	 */
+	public Executor getSearchExecutor() {
+		checkStarted();
+		return searchExecutor;
+	}
+
+	/**
+	 * @return The executor to use to execute whole search queries asynchronously,
+	 * or {@code null} if search queries should be executed in the calling thread.
+	 * Never the same as {@link #getSearchExecutor()}.
+	 */
+	public Executor getAsyncSearchExecutor() {
+		checkStarted();
+		return asyncSearchExecutor;
+	}
+
 	private void checkStarted() {
 		if ( writeExecutor == null ) {
 			throw new AssertionFailure(
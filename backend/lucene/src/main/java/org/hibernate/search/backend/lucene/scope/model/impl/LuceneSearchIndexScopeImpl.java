@@ -14,7 +14,10 @@
 import java.util.stream.Collectors;
 
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
+import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryCachingContext;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
+import org.hibernate.search.backend.lucene.lowlevel.facet.impl.OrdinalMapCache;
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.BitSetFilterCache;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.search.aggregation.dsl.LuceneSearchAggregationFactory;
 import org.hibernate.search.backend.lucene.search.aggregation.dsl.impl.LuceneSearchAggregationFactoryImpl;
@@ -66,6 +69,7 @@
 	// Backend context
 	private final SearchBackendContext backendContext;
 	private final LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry;
+	private final LuceneQueryCachingContext cachingContext;
 	private final MultiTenancyStrategy multiTenancyStrategy;
 
 	// Global timing source
@@ -83,12 +87,14 @@
 	public LuceneSearchIndexScopeImpl(BackendMappingContext mappingContext,
 			SearchBackendContext backendContext,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
+			LuceneQueryCachingContext cachingContext,
 			MultiTenancyStrategy multiTenancyStrategy,
 			TimingSource timingSource,
 			Set<? extends LuceneScopeIndexManagerContext> indexManagerContexts) {
 		super( mappingContext, toModels( indexManagerContexts ) );
 		this.backendContext = backendContext;
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
+		this.cachingContext = cachingContext;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.timingSource = timingSource;
 		// Use LinkedHashMap/LinkedHashSet to ensure stable order when generating requests
@@ -108,6 +114,7 @@ private LuceneSearchIndexScopeImpl(LuceneSearchIndexScopeImpl parentScope,
 		super( parentScope, overriddenRoot );
 		this.backendContext = parentScope.backendContext;
 		this.analysisDefinitionRegistry = parentScope.analysisDefinitionRegistry;
+		this.cachingContext = parentScope.cachingContext;
 		this.multiTenancyStrategy = parentScope.multiTenancyStrategy;
 		this.timingSource = parentScope.timingSource;
 		this.mappedTypeNameToIndex = parentScope.mappedTypeNameToIndex;
@@ -192,6 +199,16 @@ public LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry() {
 		return analysisDefinitionRegistry;
 	}
 
+	@Override
+	public BitSetFilterCache bitSetFilterCache() {
+		return cachingContext.bitSetFilterCache();
+	}
+
+	@Override
+	public OrdinalMapCache ordinalMapCache() {
+		return cachingContext.ordinalMapCache();
+	}
+
 	@Override
 	public Query filterOrNull(String tenantId) {
 		return multiTenancyStrategy.filterOrNull( tenantId );
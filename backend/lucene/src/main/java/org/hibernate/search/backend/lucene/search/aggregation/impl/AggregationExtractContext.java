@@ -17,26 +17,27 @@
 
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 
 public class AggregationExtractContext {
 
 	private final LuceneSearchQueryIndexScope<?> queryIndexScope;
 	private final BackendSessionContext sessionContext;
-	private final IndexReader indexReader;
+	private final IndexSearcher indexSearcher;
 	private final FromDocumentValueConvertContext fromDocumentValueConvertContext;
 	private final HibernateSearchMultiCollectorManager.MultiCollectedResults multiCollectedResults;
 	private final Set<String> routingKeys;
 	private final QueryParameters parameters;
 
 	public AggregationExtractContext(LuceneSearchQueryIndexScope<?> queryIndexScope, BackendSessionContext sessionContext,
-			IndexReader indexReader,
+			IndexSearcher indexSearcher,
 			FromDocumentValueConvertContext fromDocumentValueConvertContext,
 			HibernateSearchMultiCollectorManager.MultiCollectedResults multiCollectedResults, Set<String> routingKeys,
 			QueryParameters parameters) {
 		this.queryIndexScope = queryIndexScope;
 		this.sessionContext = sessionContext;
-		this.indexReader = indexReader;
+		this.indexSearcher = indexSearcher;
 		this.fromDocumentValueConvertContext = fromDocumentValueConvertContext;
 		this.multiCollectedResults = multiCollectedResults;
 		this.routingKeys = routingKeys;
@@ -49,7 +50,11 @@ public PredicateRequestContext toPredicateRequestContext(String absolutePath) {
 	}
 
 	public IndexReader getIndexReader() {
-		return indexReader;
+		return indexSearcher.getIndexReader();
+	}
+
+	public IndexSearcher getIndexSearcher() {
+		return indexSearcher;
 	}
 
 	public FromDocumentValueConvertContext fromDocumentValueConvertContext() {
@@ -61,6 +66,6 @@ public <C extends Collector, T> T getFacets(CollectorKey<C, T> key) {
 	}
 
 	public NestedDocsProvider createNestedDocsProvider(String nestedDocumentPath, Query nestedFilter) {
-		return new NestedDocsProvider( nestedDocumentPath, nestedFilter );
+		return new NestedDocsProvider( queryIndexScope.bitSetFilterCache(), nestedDocumentPath, nestedFilter );
 	}
 }
@@ -7,6 +7,7 @@
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
+import org.hibernate.search.backend.lucene.lowlevel.facet.impl.OrdinalMapCache;
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
 import org.hibernate.search.backend.lucene.search.extraction.impl.ExtractionRequirements;
 import org.hibernate.search.backend.lucene.search.predicate.impl.PredicateRequestContext;
@@ -52,6 +53,10 @@ public PredicateRequestContext toPredicateRequestContext(String absolutePath) {
 	}
 
 	public NestedDocsProvider createNestedDocsProvider(String nestedDocumentPath, Query nestedFilter) {
-		return new NestedDocsProvider( nestedDocumentPath, nestedFilter );
+		return new NestedDocsProvider( queryIndexScope.bitSetFilterCache(), nestedDocumentPath, nestedFilter );
+	}
+
+	public OrdinalMapCache ordinalMapCache() {
+		return queryIndexScope.ordinalMapCache();
 	}
 }
@@ -14,6 +14,14 @@
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexScope;
 import org.hibernate.search.engine.search.aggregation.SearchAggregation;
 
+/**
+ * An aggregation for the Lucene backend.
+ * <p>
+ * Implementations must implement {@link #equals(Object)} and {@link #hashCode()}
+ * so that equal aggregations can be recognized, e.g. when caching search results.
+ *
+ * @param <A> The type of the aggregation result.
+ */
 public interface LuceneSearchAggregation<A> extends SearchAggregation<A> {
 
 	/**
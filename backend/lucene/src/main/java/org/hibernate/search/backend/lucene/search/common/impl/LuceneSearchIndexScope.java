@@ -5,6 +5,8 @@
 package org.hibernate.search.backend.lucene.search.common.impl;
 
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
+import org.hibernate.search.backend.lucene.lowlevel.facet.impl.OrdinalMapCache;
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.BitSetFilterCache;
 import org.hibernate.search.engine.search.common.spi.SearchIndexCompositeNodeContext;
 import org.hibernate.search.engine.search.common.spi.SearchIndexScope;
 
@@ -16,4 +18,8 @@
 
 	LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry();
 
+	BitSetFilterCache bitSetFilterCache();
+
+	OrdinalMapCache ordinalMapCache();
+
 }
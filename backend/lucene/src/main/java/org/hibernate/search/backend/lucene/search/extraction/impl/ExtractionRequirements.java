@@ -10,9 +10,11 @@
 import java.util.LinkedHashSet;
 import java.util.Set;
 
+import org.hibernate.search.backend.lucene.logging.impl.QueryLog;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.StoredFieldsValuesDelegate;
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.BitSetFilterCache;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 
@@ -50,9 +52,14 @@ private ExtractionRequirements(Builder builder) {
 		storedFieldsSourceFactoryOrNull = builder.createStoredFieldsSourceFactoryOrNull();
 	}
 
-	public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query originalLuceneQuery, Sort sort,
-			IndexReaderMetadataResolver metadataResolver, int maxDocs, int offset, TimeoutManager timeoutManager,
-			int requestedTotalHitCountThreshold)
+	public boolean requireScore() {
+		return requireScore;
+	}
+
+	public LuceneCollectors createCollectors(IndexSearcher indexSearcher, BitSetFilterCache bitSetFilterCache,
+			Query originalLuceneQuery, Sort sort,
+			IndexReaderMetadataResolver metadataResolver, int maxDocs, int offset, ScoreDoc after,
+			TimeoutManager timeoutManager, int requestedTotalHitCountThreshold)
 			throws IOException {
 		// Necessary to unwrap boolean queries with a single clause, in particular:
 		// we have optimizations in place when there is a single query and this query is a MatchAllDocsQuery.
@@ -74,14 +81,14 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query orig
 		boolean requireFieldDocRescoring = false;
 
 		CollectorExecutionContext executionContext =
-				new CollectorExecutionContext( metadataResolver, indexSearcher, maxDocs );
+				new CollectorExecutionContext( metadataResolver, indexSearcher, bitSetFilterCache, maxDocs );
 
 		HibernateSearchMultiCollectorManager.Builder collectorsForAllMatchingDocsBuilder =
 				new HibernateSearchMultiCollectorManager.Builder( executionContext, timeoutManager );
 
 		if ( maxDocs > 0 ) {
 			if ( sort == null || isDescendingScoreSort( sort ) ) {
-				topDocsCollectorManager = new HibernateSearchTopScoreDocCollectorManager( offset, maxDocs, null,
+				topDocsCollectorManager = new HibernateSearchTopScoreDocCollectorManager( offset, maxDocs, after,
 						totalHitCountThreshold, true );
 			}
 			else {
@@ -93,8 +100,8 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query orig
 					// If there's a SCORE sort field, make sure we remember that, so that later we can optimize rescoring
 					scoreSortFieldIndexForRescoring = getScoreSortFieldIndexOrNull( sort );
 				}
-				topDocsCollectorManager = new HibernateSearchTopFieldCollectorManager( offset, sort, maxDocs, null,
-						totalHitCountThreshold, true );
+				topDocsCollectorManager = new HibernateSearchTopFieldCollectorManager( offset, sort, maxDocs,
+						toFieldDocAfter( sort, after ), totalHitCountThreshold, true );
 			}
 			collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOP_DOCS_KEY, topDocsCollectorManager );
 		}
@@ -113,6 +120,7 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query orig
 		return new LuceneCollectors(
 				metadataResolver,
 				indexSearcher,
+				bitSetFilterCache,
 				rewrittenLuceneQuery,
 				originalLuceneQuery,
 				requireFieldDocRescoring, scoreSortFieldIndexForRescoring,
@@ -122,6 +130,20 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query orig
 		);
 	}
 
+	private static FieldDoc toFieldDocAfter(Sort sort, ScoreDoc after) {
+		if ( after == null ) {
+			return null;
+		}
+		if ( !( after instanceof FieldDoc ) ) {
+			throw QueryLog.INSTANCE.invalidSearchAfterCursor( after, sort );
+		}
+		FieldDoc fieldDoc = (FieldDoc) after;
+		if ( fieldDoc.fields == null || fieldDoc.fields.length != sort.getSort().length ) {
+			throw QueryLog.INSTANCE.invalidSearchAfterCursor( after, sort );
+		}
+		return fieldDoc;
+	}
+
 	private boolean isDescendingScoreSort(Sort sort) {
 		SortField[] fields = sort.getSort();
 		return fields.length == 1 && isDescendingScoreSort( fields[0] );
@@ -216,7 +238,8 @@ public TopDocs reduce(Collection<TopScoreDocCollector> collectors) {
 			for ( TopScoreDocCollector collector : collectors ) {
 				topDocs[i++] = collector.topDocs();
 			}
-			return TopDocs.merge( offset, numHits, topDocs );
+			// numHits includes the offset, but merge() expects the number of hits to return after the offset.
+			return TopDocs.merge( offset, Math.max( 0, numHits - offset ), topDocs );
 		}
 	}
 
@@ -240,7 +263,8 @@ public TopFieldDocs reduce(Collection<TopFieldCollector> collectors) {
 			for ( TopFieldCollector collector : collectors ) {
 				topDocs[i++] = collector.topDocs();
 			}
-			return TopDocs.merge( sort, offset, numHits, topDocs );
+			// numHits includes the offset, but merge() expects the number of hits to return after the offset.
+			return TopDocs.merge( sort, offset, Math.max( 0, numHits - offset ), topDocs );
 		}
 	}
 }
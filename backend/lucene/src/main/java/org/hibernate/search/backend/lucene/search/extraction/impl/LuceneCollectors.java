@@ -14,6 +14,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.StoredFieldsValuesDelegate;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.TopDocsDataCollector;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.TopDocsDataCollectorExecutionContext;
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.BitSetFilterCache;
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.ExplicitDocIdsQuery;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.engine.search.query.SearchResultTotal;
@@ -41,6 +42,7 @@ public class LuceneCollectors {
 	private final IndexReaderMetadataResolver metadataResolver;
 
 	private final IndexSearcher indexSearcher;
+	private final BitSetFilterCache bitSetFilterCache;
 	private final Query rewrittenLuceneQuery;
 	private final Query originalLuceneQuery;
 
@@ -57,6 +59,7 @@ public class LuceneCollectors {
 	private MultiCollectedResults results = MultiCollectedResults.EMPTY;
 
 	LuceneCollectors(IndexReaderMetadataResolver metadataResolver, IndexSearcher indexSearcher,
+			BitSetFilterCache bitSetFilterCache,
 			Query rewrittenLuceneQuery, Query originalLuceneQuery,
 			boolean requireFieldDocRescoring, Integer scoreSortFieldIndexForRescoring,
 			HibernateSearchMultiCollectorManager collectorsForAllMatchingDocs,
@@ -64,6 +67,7 @@ public class LuceneCollectors {
 			TimeoutManager timeoutManager) {
 		this.metadataResolver = metadataResolver;
 		this.indexSearcher = indexSearcher;
+		this.bitSetFilterCache = bitSetFilterCache;
 		this.rewrittenLuceneQuery = rewrittenLuceneQuery;
 		this.originalLuceneQuery = originalLuceneQuery;
 		this.requireFieldDocRescoring = requireFieldDocRescoring;
@@ -135,6 +139,20 @@ else if ( resultTotal.isHitCountExact() ) {
 		}
 	}
 
+	/**
+	 * Phase 1, alternative: restore the outcome of collecting matching docs from an earlier execution
+	 * against the same index readers, instead of collecting them again.
+	 * <p>
+	 * Collectors for aggregations are not executed: aggregations must be restored separately.
+	 *
+	 * @param resultTotal The total hit count collected earlier.
+	 * @param topDocs The top docs collected earlier.
+	 */
+	public void restoreMatchingDocs(SearchResultTotal resultTotal, TopDocs topDocs) {
+		this.resultTotal = resultTotal;
+		this.topDocs = topDocs;
+	}
+
 	public MultiCollectedResults collectedMultiResults() {
 		return results;
 	}
@@ -155,10 +173,14 @@ public <T> List<T> collectTopDocsData(TopDocsDataCollector.Factory<T> collectorF
 		List<T> extractedData = new ArrayList<>( endExclusive - startInclusive );
 		ScoreDoc[] scoreDocs = topDocs.scoreDocs;
 		ExplicitDocIdsQuery topDocsQuery = new ExplicitDocIdsQuery( scoreDocs, startInclusive, endExclusive );
-		HibernateSearchMultiCollectorManager collectorManager = buildTopDocsDataCollectors( collectorFactory );
+		// Collectors for top docs data share non-thread-safe state (stored fields, ...),
+		// so we must not collect them concurrently.
+		IndexSearcher topDocsDataSearcher = sequentialSearcher();
+		HibernateSearchMultiCollectorManager collectorManager =
+				buildTopDocsDataCollectors( topDocsDataSearcher, collectorFactory );
 		var timeout = collectorManager.queryTimeout();
-		indexSearcher.setTimeout( timeout );
-		MultiCollectedResults collectedResults = indexSearcher.search( topDocsQuery, collectorManager );
+		topDocsDataSearcher.setTimeout( timeout );
+		MultiCollectedResults collectedResults = topDocsDataSearcher.search( topDocsQuery, collectorManager );
 
 		// If we had a timeout set, and we've reached it while collecting the data
 		//   then the collector state will be unpredictable
@@ -195,11 +217,22 @@ private void handleRescoring() throws IOException {
 		}
 	}
 
-	private <T> HibernateSearchMultiCollectorManager buildTopDocsDataCollectors(
+	private IndexSearcher sequentialSearcher() {
+		if ( indexSearcher.getSlices().length <= 1 ) {
+			return indexSearcher;
+		}
+		IndexSearcher sequentialSearcher = new IndexSearcher( indexSearcher.getTopReaderContext() );
+		sequentialSearcher.setSimilarity( indexSearcher.getSimilarity() );
+		sequentialSearcher.setQueryCache( indexSearcher.getQueryCache() );
+		sequentialSearcher.setQueryCachingPolicy( indexSearcher.getQueryCachingPolicy() );
+		return sequentialSearcher;
+	}
+
+	private <T> HibernateSearchMultiCollectorManager buildTopDocsDataCollectors(IndexSearcher topDocsDataSearcher,
 			TopDocsDataCollector.Factory<T> collectorManagerFactory)
 			throws IOException {
 		TopDocsDataCollectorExecutionContext executionContext = new TopDocsDataCollectorExecutionContext(
-				metadataResolver, indexSearcher,
+				metadataResolver, topDocsDataSearcher, bitSetFilterCache,
 				rewrittenLuceneQuery,
 				originalLuceneQuery,
 				topDocs,
@@ -8,13 +8,17 @@
 import java.util.Objects;
 
 import org.hibernate.search.backend.lucene.logging.impl.QueryLog;
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.BitSetFilterCache;
 
 import org.apache.lucene.search.Query;
 
 abstract class AbstractLuceneNestablePredicate extends AbstractLuceneSearchPredicate {
 
+	protected final BitSetFilterCache bitSetFilterCache;
+
 	AbstractLuceneNestablePredicate(AbstractBuilder builder) {
 		super( builder );
+		bitSetFilterCache = builder.scope.bitSetFilterCache();
 	}
 
 	@Override
@@ -61,7 +65,7 @@ public final Query toQuery(PredicateRequestContext context) {
 			String parentNestedDocumentPath = ( i == 0 )
 					? null // The parent document is the root document
 					: nestedPathHierarchy.get( i - 1 ); // The parent document is a nested document one level higher
-			result = LuceneNestedPredicate.createNestedQuery( parentNestedDocumentPath, path, result );
+			result = LuceneNestedPredicate.createNestedQuery( bitSetFilterCache, parentNestedDocumentPath, path, result );
 		}
 
 		return result;
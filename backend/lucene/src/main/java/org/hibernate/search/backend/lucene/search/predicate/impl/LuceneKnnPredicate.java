@@ -7,6 +7,9 @@
 import java.lang.reflect.Array;
 
 import org.hibernate.search.backend.lucene.logging.impl.QueryLog;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.ExactKnnFloatVectorQuery;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.OversamplingKnnByteVectorQuery;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.OversamplingKnnFloatVectorQuery;
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.VectorSimilarityFilterQuery;
 import org.hibernate.search.backend.lucene.search.common.impl.AbstractLuceneValueFieldSearchQueryElementFactory;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexScope;
@@ -24,17 +27,24 @@
 public abstract class LuceneKnnPredicate<T> extends AbstractLuceneSingleFieldPredicate implements LuceneSearchPredicate {
 
 	protected final int k;
+	protected final int numCandidates;
+	protected final boolean exactRescoring;
 	protected final T vector;
 	protected final Float requiredMinimumScore;
+	protected final boolean approximateSearch;
 	//protected final VectorSimilarityFunction similarityFunction;
 	private final LuceneSearchPredicate filter;
 
 	private LuceneKnnPredicate(Builder<T> builder) {
 		super( builder );
 		this.k = builder.k;
+		this.numCandidates = builder.numCandidates == null ? builder.k : builder.numCandidates;
+		// Approximate search on non-quantized vectors already computes the exact similarity: no need to rescore.
+		this.exactRescoring = builder.exactRescoring && builder.vectorCodec.quantized();
 		this.vector = builder.vector;
 		this.filter = builder.filter;
 		this.requiredMinimumScore = builder.requiredMinimumScore;
+		this.approximateSearch = builder.vectorCodec.approximateSearch();
 		//this.similarityFunction = builder.vectorCodec.getVectorSimilarity();
 	}
 
@@ -45,6 +55,8 @@ protected Query prepareFilter(PredicateRequestContext context) {
 	private abstract static class Builder<F> extends AbstractBuilder implements KnnPredicateBuilder {
 		protected final LuceneVectorFieldCodec<F> vectorCodec;
 		private int k;
+		private Integer numCandidates;
+		private boolean exactRescoring;
 		private F vector;
 		private LuceneSearchPredicate filter;
 		private Float requiredMinimumScore;
@@ -106,6 +118,16 @@ public void requiredMinimumSimilarity(float similarity) {
 			// similarity function:
 			requiredMinimumScore( vectorCodec.similarityDistanceToScore( similarity ) );
 		}
+
+		@Override
+		public void numCandidates(int numCandidates) {
+			this.numCandidates = numCandidates;
+		}
+
+		@Override
+		public void exactRescoring() {
+			this.exactRescoring = true;
+		}
 	}
 
 	public static class FloatFactory extends AbstractLuceneValueFieldSearchQueryElementFactory<KnnPredicateBuilder, float[]> {
@@ -132,7 +154,9 @@ private LuceneByteKnnPredicate(ByteBuilder builder) {
 
 		@Override
 		protected Query doToQuery(PredicateRequestContext context) {
-			KnnByteVectorQuery query = new KnnByteVectorQuery( absoluteFieldPath, vector, k, prepareFilter( context ) );
+			KnnByteVectorQuery query = numCandidates == k
+					? new KnnByteVectorQuery( absoluteFieldPath, vector, k, prepareFilter( context ) )
+					: new OversamplingKnnByteVectorQuery( absoluteFieldPath, vector, k, numCandidates, prepareFilter( context ) );
 			return requiredMinimumScore == null
 					? query
 					: VectorSimilarityFilterQuery.create( query, requiredMinimumScore );
@@ -159,7 +183,18 @@ private LuceneFloatKnnPredicate(FloatBuilder builder) {
 
 		@Override
 		protected Query doToQuery(PredicateRequestContext context) {
-			KnnFloatVectorQuery query = new KnnFloatVectorQuery( absoluteFieldPath, vector, k, prepareFilter( context ) );
+			KnnFloatVectorQuery query;
+			if ( !approximateSearch ) {
+				// Exact search: candidates are already exactly scored, there is no point in oversampling.
+				query = new ExactKnnFloatVectorQuery( absoluteFieldPath, vector, k, prepareFilter( context ) );
+			}
+			else if ( numCandidates == k && !exactRescoring ) {
+				query = new KnnFloatVectorQuery( absoluteFieldPath, vector, k, prepareFilter( context ) );
+			}
+			else {
+				query = new OversamplingKnnFloatVectorQuery( absoluteFieldPath, vector, k, numCandidates,
+						exactRescoring, prepareFilter( context ) );
+			}
 			return requiredMinimumScore == null ? query : VectorSimilarityFilterQuery.create( query, requiredMinimumScore );
 		}
 
@@ -4,6 +4,7 @@
  */
 package org.hibernate.search.backend.lucene.search.predicate.impl;
 
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.BitSetFilterCache;
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
 import org.hibernate.search.backend.lucene.search.common.impl.AbstractLuceneCompositeNodeSearchQueryElementFactory;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexCompositeNodeContext;
@@ -15,7 +16,6 @@
 import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.join.BitSetProducer;
-import org.apache.lucene.search.join.QueryBitSetProducer;
 import org.apache.lucene.search.join.ScoreMode;
 import org.apache.lucene.search.join.ToParentBlockJoinQuery;
 
@@ -31,10 +31,12 @@ private LuceneNestedPredicate(Builder builder) {
 	@Override
 	protected Query doToQuery(PredicateRequestContext context) {
 		PredicateRequestContext childContext = context.withNestedPath( absoluteFieldPath );
-		return createNestedQuery( context.getNestedPath(), absoluteFieldPath, nestedPredicate.toQuery( childContext ) );
+		return createNestedQuery( bitSetFilterCache, context.getNestedPath(), absoluteFieldPath,
+				nestedPredicate.toQuery( childContext ) );
 	}
 
-	public static Query createNestedQuery(String parentNestedDocumentPath, String nestedDocumentPath, Query nestedQuery) {
+	public static Query createNestedQuery(BitSetFilterCache bitSetFilterCache, String parentNestedDocumentPath,
+			String nestedDocumentPath, Query nestedQuery) {
 		if ( nestedDocumentPath.equals( parentNestedDocumentPath ) ) {
 			return nestedQuery;
 		}
@@ -47,7 +49,8 @@ public static Query createNestedQuery(String parentNestedDocumentPath, String ne
 		// Note: this filter should include *all* parents, not just the matched ones.
 		// Otherwise we will not "see" non-matched parents,
 		// and we will consider its matching children as children of the next matching parent.
-		BitSetProducer parentFilter = new QueryBitSetProducer( Queries.parentsFilterQuery( parentNestedDocumentPath ) );
+		BitSetProducer parentFilter = bitSetFilterCache.producer(
+				Queries.parentsFilterQuery( parentNestedDocumentPath ) );
 
 		// TODO HSEARCH-3090 at some point we should have a parameter for the score mode
 		return new ToParentBlockJoinQuery( childQueryBuilder.build(), parentFilter, ScoreMode.Avg );
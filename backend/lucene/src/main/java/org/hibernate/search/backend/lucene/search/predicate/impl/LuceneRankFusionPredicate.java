@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.search.predicate.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.logging.impl.QueryLog;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.RankFusionQuery;
+import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexScope;
+import org.hibernate.search.engine.search.predicate.SearchPredicate;
+import org.hibernate.search.engine.search.predicate.dsl.RankFusionMethod;
+import org.hibernate.search.engine.search.predicate.spi.RankFusionPredicateBuilder;
+
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.Query;
+
+class LuceneRankFusionPredicate extends AbstractLuceneSearchPredicate {
+
+	private static final int DEFAULT_RANK_CONSTANT = 60;
+	private static final int DEFAULT_WINDOW_SIZE = 100;
+
+	private final List<LuceneSearchPredicate> clauses;
+	private final float[] weights;
+	private final RankFusionMethod method;
+	private final int rankConstant;
+	private final int windowSize;
+
+	private LuceneRankFusionPredicate(Builder builder) {
+		super( builder );
+		clauses = builder.clauses;
+		weights = new float[builder.weights.size()];
+		for ( int i = 0; i < weights.length; i++ ) {
+			weights[i] = builder.weights.get( i );
+		}
+		method = builder.method;
+		rankConstant = builder.rankConstant;
+		windowSize = builder.windowSize;
+		// Ensure illegal attempts to mutate the predicate will fail
+		builder.clauses = null;
+		builder.weights = null;
+	}
+
+	@Override
+	public void checkNestableWithin(String expectedParentNestedPath) {
+		throw QueryLog.INSTANCE.rankFusionInNestedContext();
+	}
+
+	@Override
+	protected Query doToQuery(PredicateRequestContext context) {
+		if ( context.getNestedPath() != null ) {
+			throw QueryLog.INSTANCE.rankFusionInNestedContext();
+		}
+		// Each clause is executed on its own to collect its top hits,
+		// so it must apply the same filters as the top-level query.
+		Query filter = context.rootDocumentFilterOrNull();
+		List<Query> clauseQueries = new ArrayList<>( clauses.size() );
+		for ( LuceneSearchPredicate clause : clauses ) {
+			Query clauseQuery = clause.toQuery( context );
+			if ( filter != null ) {
+				clauseQuery = new BooleanQuery.Builder()
+						.add( clauseQuery, Occur.MUST )
+						.add( filter, Occur.FILTER )
+						.build();
+			}
+			clauseQueries.add( clauseQuery );
+		}
+		return new RankFusionQuery( clauseQueries, weights, method, rankConstant, windowSize );
+	}
+
+	static class Builder extends AbstractBuilder implements RankFusionPredicateBuilder {
+		private List<LuceneSearchPredicate> clauses = new ArrayList<>();
+		private List<Float> weights = new ArrayList<>();
+		private RankFusionMethod method = RankFusionMethod.RECIPROCAL_RANK;
+		private int rankConstant = DEFAULT_RANK_CONSTANT;
+		private int windowSize = DEFAULT_WINDOW_SIZE;
+
+		Builder(LuceneSearchIndexScope<?> scope) {
+			super( scope );
+		}
+
+		@Override
+		public void add(SearchPredicate clause, float weight) {
+			clauses.add( LuceneSearchPredicate.from( scope, clause ) );
+			weights.add( weight );
+		}
+
+		@Override
+		public void method(RankFusionMethod method) {
+			this.method = method;
+		}
+
+		@Override
+		public void rankConstant(int rankConstant) {
+			this.rankConstant = rankConstant;
+		}
+
+		@Override
+		public void windowSize(int windowSize) {
+			this.windowSize = windowSize;
+		}
+
+		@Override
+		public SearchPredicate build() {
+			return new LuceneRankFusionPredicate( this );
+		}
+	}
+}
@@ -33,6 +33,13 @@ public String getNestedPath() {
 
 	public abstract Query appendTenantAndRoutingFilters(Query originalFilterQuery);
 
+	/**
+	 * @return A filter matching the same documents as the filters applied to the top-level query,
+	 * i.e. root documents (as opposed to nested documents) matching the tenant and routing filters,
+	 * or {@code null} if there is no such filter.
+	 */
+	public abstract Query rootDocumentFilterOrNull();
+
 	public abstract PredicateRequestContext withNestedPath(String nestedPath);
 
 	public abstract NamedValues queryParameters();
@@ -63,6 +70,11 @@ public Query appendTenantAndRoutingFilters(Query originalFilterQuery) {
 			throw new AssertionFailure( "A tenant/routing filter requires session context." );
 		}
 
+		@Override
+		public Query rootDocumentFilterOrNull() {
+			throw new AssertionFailure( "A root document filter requires session context." );
+		}
+
 		@Override
 		public PredicateRequestContext withNestedPath(String nestedPath) {
 			return new LimitedPredicateRequestContext( nestedPath );
@@ -124,6 +136,22 @@ public Query appendTenantAndRoutingFilters(Query originalFilterQuery) {
 			return filter.clauses().isEmpty() ? null : filter;
 		}
 
+		@Override
+		public Query rootDocumentFilterOrNull() {
+			Query filter = appendTenantAndRoutingFilters( null );
+			if ( !scope.hasNestedDocuments() ) {
+				return filter;
+			}
+			// HSEARCH-4018: this filter has a (small) cost, so we only add it if necessary.
+			if ( filter == null ) {
+				return Queries.mainDocumentQuery();
+			}
+			return new BooleanQuery.Builder()
+					.add( Queries.mainDocumentQuery(), BooleanClause.Occur.MUST )
+					.add( filter, BooleanClause.Occur.MUST )
+					.build();
+		}
+
 		public PredicateRequestContext withNestedPath(String nestedPath) {
 			return new FullPredicateRequestContext( nestedPath, scope, sessionContext, routingKeys, parameters );
 		}
@@ -4,12 +4,14 @@
  */
 package org.hibernate.search.backend.lucene.search.projection.impl;
 
+import java.io.IOException;
 import java.util.function.Function;
 
 import org.hibernate.search.backend.lucene.logging.impl.QueryLog;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.StoredFieldsValuesDelegate;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.TopDocsDataCollectorExecutionContext;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.Values;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.ProjectableDocValues;
 import org.hibernate.search.backend.lucene.search.common.impl.AbstractLuceneCodecAwareSearchQueryElementFactory;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexScope;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexValueFieldContext;
@@ -29,6 +31,8 @@
 
 /**
  * A projection on the values of an index field.
+ * <p>
+ * Values are retrieved from doc values when possible, and from stored fields otherwise.
  *
  * @param <F> The type of individual field values obtained from the backend (before conversion).
  * @param <V> The type of individual field values after conversion.
@@ -41,11 +45,14 @@
 	private final String requiredContextAbsoluteFieldPath;
 
 	private final Function<IndexableField, T> decodeFunction;
+	private final DocValuesSource<?, T> docValuesSource;
 	private final ProjectionConverter<T, ? extends V> converter;
 	private final ProjectionCollector.Provider<V, P> collectorProvider;
 
-	private LuceneFieldProjection(Builder<F, V, T> builder, ProjectionCollector.Provider<V, P> collectorProvider) {
-		this( builder.scope, builder.field, builder.decodeFunction, builder.converter, collectorProvider );
+	private LuceneFieldProjection(Builder<F, ?, V, T> builder, ProjectionCollector.Provider<V, P> collectorProvider,
+			DocValuesSource<?, T> docValuesSource) {
+		this( builder.scope, builder.field, builder.decodeFunction, docValuesSource, builder.converter,
+				collectorProvider );
 	}
 
 	LuceneFieldProjection(LuceneSearchIndexScope<?> scope,
@@ -53,6 +60,15 @@ private LuceneFieldProjection(Builder<F, V, T> builder, ProjectionCollector.Prov
 			Function<IndexableField, T> decodeFunction,
 			ProjectionConverter<T, ? extends V> converter,
 			ProjectionCollector.Provider<V, P> collectorProvider) {
+		this( scope, field, decodeFunction, null, converter, collectorProvider );
+	}
+
+	private LuceneFieldProjection(LuceneSearchIndexScope<?> scope,
+			LuceneSearchIndexValueFieldContext<?> field,
+			Function<IndexableField, T> decodeFunction,
+			DocValuesSource<?, T> docValuesSource,
+			ProjectionConverter<T, ? extends V> converter,
+			ProjectionCollector.Provider<V, P> collectorProvider) {
 		super( scope );
 		this.absoluteFieldPath = field.absolutePath();
 		this.nestedDocumentPath = field.nestedDocumentPath();
@@ -60,6 +76,7 @@ private LuceneFieldProjection(Builder<F, V, T> builder, ProjectionCollector.Prov
 				? field.closestMultiValuedParentAbsolutePath()
 				: null;
 		this.decodeFunction = decodeFunction;
+		this.docValuesSource = docValuesSource;
 		this.converter = converter;
 		this.collectorProvider = collectorProvider;
 	}
@@ -68,6 +85,7 @@ private LuceneFieldProjection(Builder<F, V, T> builder, ProjectionCollector.Prov
 	public String toString() {
 		return getClass().getSimpleName() + "["
 				+ "absoluteFieldPath=" + absoluteFieldPath
+				+ ", fromDocValues=" + ( docValuesSource != null )
 				+ ", collectorProvider=" + collectorProvider
 				+ "]";
 	}
@@ -79,7 +97,9 @@ public ValueFieldExtractor<?> request(ProjectionRequestContext context) {
 			throw QueryLog.INSTANCE.invalidSingleValuedProjectionOnValueFieldInMultiValuedObjectField(
 					absoluteFieldPath, requiredContextAbsoluteFieldPath );
 		}
-		context.requireStoredField( absoluteFieldPath, nestedDocumentPath );
+		if ( docValuesSource == null ) {
+			context.requireStoredField( absoluteFieldPath, nestedDocumentPath );
+		}
 		return new ValueFieldExtractor<>( context.absoluteCurrentNestedFieldPath(), collectorProvider.get() );
 	}
 
@@ -106,9 +126,40 @@ public String toString() {
 
 		@Override
 		public Values<A> values(ProjectionExtractContext context) {
+			if ( docValuesSource != null ) {
+				return new DocValuesFieldValues<>( docValuesSource, collector, context.collectorExecutionContext() );
+			}
 			return new StoredFieldValues( collector, context.collectorExecutionContext() );
 		}
 
+		private class DocValuesFieldValues<E> extends AbstractNestingAwareAccumulatingValues<T, A> {
+			private final DocValuesSource<E, T> source;
+			private ProjectableDocValues<E> currentLeafValues;
+
+			public DocValuesFieldValues(DocValuesSource<E, T> source, ProjectionCollector<T, V, A, P> collector,
+					TopDocsDataCollectorExecutionContext context) {
+				super( contextAbsoluteFieldPath, nestedDocumentPath, collector, context );
+				this.source = source;
+			}
+
+			@Override
+			protected DocIdSetIterator doContext(LeafReaderContext context) throws IOException {
+				currentLeafValues = source.codec.projectableDocValues( context.reader(), absoluteFieldPath );
+				return currentLeafValues;
+			}
+
+			@Override
+			protected A accumulate(A accumulated, int docId) throws IOException {
+				if ( currentLeafValues.advanceExact( docId ) ) {
+					for ( int i = 0; i < currentLeafValues.docValueCount(); i++ ) {
+						T decoded = source.decodeFunction.apply( currentLeafValues.nextValue() );
+						accumulated = collector.accumulate( accumulated, decoded );
+					}
+				}
+				return accumulated;
+			}
+		}
+
 		private class StoredFieldValues extends AbstractNestingAwareAccumulatingValues<T, A> {
 			private final StoredFieldsValuesDelegate delegate;
 
@@ -174,10 +225,10 @@ private TypeSelector(LuceneFieldCodec<F, E> codec,
 
 		@SuppressWarnings("unchecked")
 		@Override
-		public <V> Builder<F, V, ?> type(Class<V> expectedType, ValueModel valueModel) {
+		public <V> Builder<F, E, V, ?> type(Class<V> expectedType, ValueModel valueModel) {
 			if ( ValueModel.RAW.equals( valueModel ) ) {
-				return new Builder<>( scope, field,
-						codec::raw,
+				return new Builder<>( scope, field, codec,
+						codec::raw, Function.identity(),
 						// unchecked cast to make eclipse-compiler happy
 						// we know that Lucene projection converters work with the encoded type
 						( (ProjectionConverter<E, ?>) field.type().rawProjectionConverter() )
@@ -185,38 +236,91 @@ private TypeSelector(LuceneFieldCodec<F, E> codec,
 				);
 			}
 			else {
-				return new Builder<>( scope, field,
-						codec::decode,
+				return new Builder<>( scope, field, codec,
+						codec::decode, codec::decode,
 						field.type().projectionConverter( valueModel ).withConvertedType( expectedType, field )
 				);
 			}
 		}
 	}
 
-	private static class Builder<F, V, T> extends AbstractLuceneProjection.AbstractBuilder<V>
+	private static class Builder<F, E, V, T> extends AbstractLuceneProjection.AbstractBuilder<V>
 			implements FieldProjectionBuilder<V> {
 
+		private final LuceneFieldCodec<F, E> codec;
+
 		private final Function<IndexableField, T> decodeFunction;
+		private final Function<E, T> docValueDecodeFunction;
 
 		private final LuceneSearchIndexValueFieldContext<F> field;
 
 		private final ProjectionConverter<T, ? extends V> converter;
 
+		private boolean fromDocValues;
+
 		private Builder(LuceneSearchIndexScope<?> scope, LuceneSearchIndexValueFieldContext<F> field,
-				Function<IndexableField, T> decodeFunction, ProjectionConverter<T, ? extends V> converter) {
+				LuceneFieldCodec<F, E> codec,
+				Function<IndexableField, T> decodeFunction, Function<E, T> docValueDecodeFunction,
+				ProjectionConverter<T, ? extends V> converter) {
 			super( scope );
+			this.codec = codec;
 			this.decodeFunction = decodeFunction;
+			this.docValueDecodeFunction = docValueDecodeFunction;
 			this.field = field;
 			this.converter = converter;
 		}
 
+		@Override
+		public void fromDocValues() {
+			this.fromDocValues = true;
+		}
+
 		@Override
 		public <P> SearchProjection<P> build(ProjectionCollector.Provider<V, P> collectorProvider) {
 			if ( collectorProvider.isSingleValued() && field.multiValued() ) {
 				throw QueryLog.INSTANCE.invalidSingleValuedProjectionOnMultiValuedField( field.absolutePath(),
 						field.eventContext() );
 			}
-			return new LuceneFieldProjection<>( this, collectorProvider );
+			boolean useDocValues;
+			if ( fromDocValues ) {
+				if ( !field.type().hasProjectableDocValues() ) {
+					throw QueryLog.INSTANCE.cannotProjectFromDocValues( field.absolutePath(), field.eventContext() );
+				}
+				useDocValues = true;
+			}
+			else {
+				// Doc values are sorted, so we can only use them transparently
+				// if there is at most one value per document.
+				useDocValues = field.type().hasProjectableDocValues() && hasAtMostOneValuePerDocument();
+			}
+			return new LuceneFieldProjection<>( this, collectorProvider,
+					useDocValues ? new DocValuesSource<>( codec, docValueDecodeFunction ) : null );
+		}
+
+		private boolean hasAtMostOneValuePerDocument() {
+			if ( field.multiValued() ) {
+				return false;
+			}
+			String multiValuedParentPath = field.closestMultiValuedParentAbsolutePath();
+			if ( multiValuedParentPath == null ) {
+				return true;
+			}
+			// Values are in separate (nested) documents if the multi-valued parent is a nested object
+			// or one of its parents; otherwise the parent is flattened, so values end up in the same document.
+			String nestedDocumentPath = field.nestedDocumentPath();
+			return nestedDocumentPath != null
+					&& ( nestedDocumentPath.equals( multiValuedParentPath )
+							|| nestedDocumentPath.startsWith( multiValuedParentPath + "." ) );
+		}
+	}
+
+	private static final class DocValuesSource<E, T> {
+		private final LuceneFieldCodec<?, E> codec;
+		private final Function<E, T> decodeFunction;
+
+		private DocValuesSource(LuceneFieldCodec<?, E> codec, Function<E, T> decodeFunction) {
+			this.codec = codec;
+			this.decodeFunction = decodeFunction;
 		}
 	}
 }
@@ -10,6 +10,7 @@
 import org.hibernate.search.backend.lucene.logging.impl.QueryLog;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.TopDocsDataCollectorExecutionContext;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.Values;
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.BitSetFilterCache;
 import org.hibernate.search.backend.lucene.reporting.impl.LuceneSearchHints;
 import org.hibernate.search.backend.lucene.search.common.impl.AbstractLuceneCompositeNodeSearchQueryElementFactory;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexCompositeNodeContext;
@@ -27,7 +28,7 @@
 
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.Query;
-import org.apache.lucene.search.join.QueryBitSetProducer;
+import org.apache.lucene.search.join.BitSetProducer;
 import org.apache.lucene.util.BitSet;
 
 /**
@@ -45,6 +46,7 @@
 	private final String absoluteFieldPath;
 	private final boolean nested;
 	private final Query filter;
+	private final BitSetFilterCache bitSetFilterCache;
 	private final String nestedDocumentPath;
 	private final String requiredContextAbsoluteFieldPath;
 	private final LuceneSearchProjection<?>[] inners;
@@ -57,6 +59,7 @@ public LuceneObjectProjection(Builder builder, LuceneSearchProjection<?>[] inner
 		this.absoluteFieldPath = builder.objectField.absolutePath();
 		this.nested = builder.objectField.type().nested();
 		this.filter = builder.filter;
+		this.bitSetFilterCache = builder.scope.bitSetFilterCache();
 		this.nestedDocumentPath = builder.objectField.nestedDocumentPath();
 		this.requiredContextAbsoluteFieldPath = collectorProvider.isSingleValued()
 				? builder.objectField.closestMultiValuedParentAbsolutePath()
@@ -125,15 +128,14 @@ public Values<A> values(ProjectionExtractContext context) {
 
 		private class ObjectFieldValues extends AbstractNestingAwareAccumulatingValues<E, A> {
 			private final Values<?>[] inners;
-			private final QueryBitSetProducer filterBitSetProducer;
+			private final BitSetProducer filterBitSetProducer;
 
 			private BitSet filterMatchedBitSet;
 
 			private ObjectFieldValues(TopDocsDataCollectorExecutionContext context, Values<?>[] inners) {
 				super( contextAbsoluteFieldPath, nestedDocumentPath, ObjectFieldExtractor.this.collector, context );
 				this.inners = inners;
-				this.filterBitSetProducer = filter == null ? null : new QueryBitSetProducer( filter );
-
+				this.filterBitSetProducer = filter == null ? null : bitSetFilterCache.producer( filter );
 			}
 
 			@Override
@@ -5,8 +5,10 @@
 package org.hibernate.search.backend.lucene.search.query;
 
 import org.hibernate.search.engine.search.query.ExtendedSearchQuery;
+import org.hibernate.search.util.common.annotation.Incubating;
 
 import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
 
 public interface LuceneSearchQuery<H>
@@ -41,6 +43,32 @@
 	 */
 	Explanation explain(String typeName, Object id);
 
+	/**
+	 * Execute the query and return the {@link LuceneSearchResult},
+	 * limiting to hits that sort strictly after the given cursor.
+	 * <p>
+	 * This allows paging through large result sets with a constant cost per page,
+	 * whereas {@link #fetch(Integer, Integer) offset-based paging} gets more expensive as the offset grows.
+	 * <p>
+	 * The cursor is typically the last element of {@link LuceneSearchResult#topDocs() topDocs().scoreDocs}
+	 * returned by a previous execution of this query.
+	 * Ties between hits are broken using internal Lucene document identifiers,
+	 * which can change when the index is modified:
+	 * if the index is updated between two executions, make sure the query sort ends with a unique field
+	 * (e.g. the identifier) so that no hit gets skipped or returned twice.
+	 *
+	 * @param after The cursor: the last hit of the previous page, or {@code null} to fetch the first page.
+	 * When the query relies on a sort other than the default score sort,
+	 * this must be a {@link org.apache.lucene.search.FieldDoc} holding the sort values of that hit.
+	 * @param limit The maximum number of hits to be included in the {@link LuceneSearchResult}.
+	 * {@code null} means no limit.
+	 * @return The {@link LuceneSearchResult}.
+	 * @throws org.hibernate.search.util.common.SearchException If something goes wrong while executing the query,
+	 * or if the cursor is incompatible with the query sort.
+	 */
+	@Incubating
+	LuceneSearchResult<H> fetchAfter(ScoreDoc after, Integer limit);
+
 	/**
 	 * @return The Lucene {@link org.apache.lucene.search.Sort} this query relies on.
 	 */
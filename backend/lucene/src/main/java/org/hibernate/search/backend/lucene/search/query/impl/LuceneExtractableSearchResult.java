@@ -41,6 +41,7 @@
 	private final LuceneCollectors luceneCollectors;
 	private final LuceneSearchProjection.Extractor<?, H> rootExtractor;
 	private final Map<AggregationKey<?>, LuceneSearchAggregation.Extractor<?>> aggregations;
+	private final Map<AggregationKey<?>, ?> extractedAggregationsOrNull;
 	private final TimeoutManager timeoutManager;
 
 	LuceneExtractableSearchResult(LuceneSearchQueryRequestContext requestContext,
@@ -48,12 +49,23 @@
 			LuceneCollectors luceneCollectors,
 			LuceneSearchProjection.Extractor<?, H> rootExtractor,
 			Map<AggregationKey<?>, LuceneSearchAggregation.Extractor<?>> aggregations, TimeoutManager timeoutManager) {
+		this( requestContext, indexSearcher, luceneCollectors, rootExtractor, aggregations, null, timeoutManager );
+	}
+
+	LuceneExtractableSearchResult(LuceneSearchQueryRequestContext requestContext,
+			IndexSearcher indexSearcher,
+			LuceneCollectors luceneCollectors,
+			LuceneSearchProjection.Extractor<?, H> rootExtractor,
+			Map<AggregationKey<?>, LuceneSearchAggregation.Extractor<?>> aggregations,
+			Map<AggregationKey<?>, ?> extractedAggregationsOrNull,
+			TimeoutManager timeoutManager) {
 		this.requestContext = requestContext;
 		this.fromDocumentValueConvertContext = new FromDocumentValueConvertContextImpl( requestContext.getSessionContext() );
 		this.indexSearcher = indexSearcher;
 		this.luceneCollectors = luceneCollectors;
 		this.rootExtractor = rootExtractor;
 		this.aggregations = aggregations;
+		this.extractedAggregationsOrNull = extractedAggregationsOrNull;
 		this.timeoutManager = timeoutManager;
 	}
 
@@ -76,8 +88,13 @@ public LuceneLoadableSearchResult<H> extract(int startInclusive, int endExclusiv
 		ProjectionHitMapper<?> projectionHitMapper = requestContext.getLoadingContext().createProjectionHitMapper();
 		List<Object> extractedData = extractHits( projectionHitMapper, startInclusive, endExclusive );
 
-		Map<AggregationKey<?>, ?> extractedAggregations =
-				aggregations.isEmpty() ? Collections.emptyMap() : extractAggregations();
+		Map<AggregationKey<?>, ?> extractedAggregations;
+		if ( extractedAggregationsOrNull != null ) {
+			extractedAggregations = extractedAggregationsOrNull;
+		}
+		else {
+			extractedAggregations = aggregations.isEmpty() ? Collections.emptyMap() : extractAggregations();
+		}
 
 		return new LuceneLoadableSearchResult<>(
 				fromDocumentValueConvertContext, rootExtractor,
@@ -94,6 +111,14 @@ public int hitSize() {
 		return ( topDocs == null ) ? 0 : topDocs.scoreDocs.length;
 	}
 
+	ScoreDoc lastScoreDoc() {
+		TopDocs topDocs = luceneCollectors.getTopDocs();
+		if ( topDocs == null || topDocs.scoreDocs.length == 0 ) {
+			return null;
+		}
+		return topDocs.scoreDocs[topDocs.scoreDocs.length - 1];
+	}
+
 	SearchResultTotal total() {
 		return luceneCollectors.getResultTotal();
 	}
@@ -115,7 +140,7 @@ private List<Object> extractHits(ProjectionHitMapper<?> projectionHitMapper, int
 		AggregationExtractContext aggregationExtractContext = new AggregationExtractContext(
 				requestContext.getQueryIndexScope(),
 				requestContext.getSessionContext(),
-				indexSearcher.getIndexReader(),
+				indexSearcher,
 				fromDocumentValueConvertContext,
 				luceneCollectors.collectedMultiResults(),
 				requestContext.getRoutingKeys(),
@@ -11,6 +11,7 @@
 import java.util.List;
 import java.util.Map;
 
+import org.hibernate.search.backend.lucene.cache.impl.LuceneSearchResultCache;
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
 import org.hibernate.search.backend.lucene.search.projection.impl.ProjectionTransformContext;
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchResult;
@@ -66,6 +67,10 @@
 		this.timeoutManager = timeoutManager;
 	}
 
+	LuceneSearchResultCache.CachedSearchResult toCachedResult() {
+		return new LuceneSearchResultCache.CachedSearchResult( resultTotal, topDocs, extractedAggregations );
+	}
+
 	LuceneSearchResult<H> loadBlocking() {
 		ProjectionTransformContext transformContext = new ProjectionTransformContext(
 				fromDocumentValueConvertContext );
@@ -49,7 +49,7 @@
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.SortField;
 
-public class LuceneSearchQueryBuilder<H> implements SearchQueryBuilder<H>, LuceneSearchSortCollector {
+public class LuceneSearchQueryBuilder<H> implements SearchQueryBuilder<H> {
 
 	private final LuceneWorkFactory workFactory;
 	private final LuceneSyncWorkOrchestrator queryOrchestrator;
@@ -62,7 +62,6 @@
 	private final LuceneSearchProjection<H> rootProjection;
 
 	private LuceneSearchPredicate lucenePredicate;
-	private List<SortField> sortFields;
 	private List<LuceneSearchSort> luceneSearchSorts;
 	private Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations;
 	private Long timeout;
@@ -91,6 +90,28 @@ public LuceneSearchQueryBuilder(
 		this.rootProjection = rootProjection;
 	}
 
+	private LuceneSearchQueryBuilder(LuceneSearchQueryBuilder<H> original) {
+		this.workFactory = original.workFactory;
+		this.queryOrchestrator = original.queryOrchestrator;
+
+		this.scope = original.scope;
+		this.sessionContext = null;
+		this.routingKeys = new HashSet<>( original.routingKeys );
+
+		this.loadingContextBuilder = null;
+		this.rootProjection = original.rootProjection;
+
+		this.lucenePredicate = original.lucenePredicate;
+		this.luceneSearchSorts = original.luceneSearchSorts == null ? null : new ArrayList<>( original.luceneSearchSorts );
+		this.aggregations = original.aggregations == null ? null : new LinkedHashMap<>( original.aggregations );
+		this.timeout = original.timeout;
+		this.timeUnit = original.timeUnit;
+		this.exceptionOnTimeout = original.exceptionOnTimeout;
+		this.totalHitCountThreshold = original.totalHitCountThreshold;
+		this.globalHighlighter = original.globalHighlighter;
+		this.namedHighlighters.putAll( original.namedHighlighters );
+	}
+
 	@Override
 	public void predicate(SearchPredicate predicate) {
 		this.lucenePredicate = LuceneSearchPredicate.from( scope, predicate );
@@ -169,33 +190,18 @@ public void param(String parameterName, Object value) {
 	}
 
 	@Override
-	public void collectSortField(SortField sortField) {
-		if ( sortFields == null ) {
-			sortFields = new ArrayList<>( 5 );
-		}
-		sortFields.add( sortField );
-	}
-
-	@Override
-	public void collectSortFields(SortField[] sortFields) {
-		if ( sortFields == null || sortFields.length == 0 ) {
-			return;
-		}
-
-		if ( this.sortFields == null ) {
-			this.sortFields = new ArrayList<>( sortFields.length );
-		}
-		Collections.addAll( this.sortFields, sortFields );
+	public LuceneSearchQuery<H> build() {
+		return build( sessionContext, loadingContextBuilder, parameters );
 	}
 
 	@Override
-	public PredicateRequestContext toPredicateRequestContext(String absoluteNestedPath) {
-		return PredicateRequestContext.withSession( scope, sessionContext, routingKeys, parameters )
-				.withNestedPath( absoluteNestedPath );
+	public LuceneSearchQueryBuilder<H> prepare() {
+		return new LuceneSearchQueryBuilder<>( this );
 	}
 
 	@Override
-	public LuceneSearchQuery<H> build() {
+	public LuceneSearchQuery<H> build(BackendSessionContext sessionContext,
+			SearchLoadingContextBuilder<?, ?> loadingContextBuilder, QueryParameters parameters) {
 		Query luceneQuery = lucenePredicate.toQuery(
 				PredicateRequestContext.withSession( scope, sessionContext, routingKeys, parameters ) );
 
@@ -219,15 +225,15 @@ public LuceneSearchQuery<H> build() {
 
 		Query definitiveLuceneQuery = luceneQueryBuilder.build();
 
+		Sort luceneSort = null;
 		if ( luceneSearchSorts != null ) {
+			SortCollector sortCollector = new SortCollector( sessionContext, parameters );
 			for ( LuceneSearchSort luceneSearchSort : luceneSearchSorts ) {
-				luceneSearchSort.toSortFields( this );
+				luceneSearchSort.toSortFields( sortCollector );
+			}
+			if ( !sortCollector.sortFields.isEmpty() ) {
+				luceneSort = new Sort( sortCollector.sortFields.toArray( new SortField[0] ) );
 			}
-		}
-
-		Sort luceneSort = null;
-		if ( sortFields != null && !sortFields.isEmpty() ) {
-			luceneSort = new Sort( sortFields.toArray( new SortField[0] ) );
 		}
 
 		LuceneSearchQueryRequestContext requestContext = new LuceneSearchQueryRequestContext(
@@ -284,6 +290,7 @@ public LuceneSearchQuery<H> build() {
 				rootExtractor,
 				aggregationExtractors,
 				extractionRequirements,
+				aggregations == null ? Collections.emptyMap() : Map.copyOf( aggregations ),
 				timeoutManager
 		);
 
@@ -299,4 +306,34 @@ public LuceneSearchQuery<H> build() {
 				searcher, totalHitCountThreshold
 		);
 	}
+
+	private class SortCollector implements LuceneSearchSortCollector {
+		private final BackendSessionContext sessionContext;
+		private final QueryParameters parameters;
+		private final List<SortField> sortFields = new ArrayList<>( 5 );
+
+		private SortCollector(BackendSessionContext sessionContext, QueryParameters parameters) {
+			this.sessionContext = sessionContext;
+			this.parameters = parameters;
+		}
+
+		@Override
+		public void collectSortField(SortField sortField) {
+			sortFields.add( sortField );
+		}
+
+		@Override
+		public void collectSortFields(SortField[] sortFields) {
+			if ( sortFields == null || sortFields.length == 0 ) {
+				return;
+			}
+			Collections.addAll( this.sortFields, sortFields );
+		}
+
+		@Override
+		public PredicateRequestContext toPredicateRequestContext(String absoluteNestedPath) {
+			return PredicateRequestContext.withSession( scope, sessionContext, routingKeys, parameters )
+					.withNestedPath( absoluteNestedPath );
+		}
+	}
 }
@@ -21,6 +21,8 @@
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 
+import org.apache.lucene.search.ScoreDoc;
+
 public class LuceneSearchScrollImpl<H> implements LuceneSearchScroll<H> {
 
 	// shared with its query instance:
@@ -35,11 +37,10 @@
 	// specific to this scroll instance:
 	private final HibernateSearchMultiReader indexReader;
 	private final int chunkSize;
+	private final int pageSize;
 
-	private int nextChunkOffset = 0;
-	private int currentPageLimit;
 	private LuceneExtractableSearchResult<H> currentPage;
-	private int currentPageOffset = 0;
+	private int nextChunkStartIndexInPage = 0;
 
 	public LuceneSearchScrollImpl(LuceneSyncWorkOrchestrator queryOrchestrator,
 			LuceneWorkFactory workFactory, LuceneSearchQueryIndexScope<?> scope,
@@ -57,7 +58,10 @@ public LuceneSearchScrollImpl(LuceneSyncWorkOrchestrator queryOrchestrator,
 		this.totalHitCountThreshold = totalHitCountThreshold;
 		this.indexReader = indexReader;
 		this.chunkSize = chunkSize;
-		this.currentPageLimit = chunkSize * 4; // Will fetch the topdocs for the first 4 pages initially
+		// Each page holds the topdocs for 4 chunks.
+		// Subsequent pages are fetched "after" the last hit of the previous page,
+		// so that the cost of fetching a page does not grow as we scroll deeper.
+		this.pageSize = (int) Math.min( chunkSize * 4L, Integer.MAX_VALUE );
 	}
 
 	@Override
@@ -84,17 +88,14 @@ public LuceneSearchScrollResult<H> next() {
 	}
 
 	private LuceneSearchScrollResult<H> doNext() {
-		if ( currentPage == null || nextChunkOffset + chunkSize > currentPageLimit + currentPageOffset ) {
-			if ( currentPage != null ) {
-				currentPageLimit *= 2;
-			}
-			currentPageOffset = nextChunkOffset;
-			currentPage = doSubmitWithIndexReader(
-					workFactory.scroll( searcher, currentPageOffset, currentPageLimit, totalHitCountThreshold ),
-					indexReader );
+		if ( currentPage == null ) {
+			currentPage = fetchPage( null );
+		}
+		else if ( nextChunkStartIndexInPage >= currentPage.hitSize() && currentPage.hitSize() >= pageSize ) {
+			// The current page is exhausted, but there may be more hits.
+			currentPage = fetchPage( currentPage.lastScoreDoc() );
+			nextChunkStartIndexInPage = 0;
 		}
-
-		int nextChunkStartIndexInPage = nextChunkOffset - currentPageOffset;
 
 		// no more results check
 		if ( nextChunkStartIndexInPage >= currentPage.hitSize() ) {
@@ -123,11 +124,16 @@ private LuceneSearchScrollResult<H> doNext() {
 		LuceneSearchResult<H> result = loadableSearchResult.loadBlocking();
 
 		// increasing the index for further next(s)
-		nextChunkOffset += chunkSize;
+		nextChunkStartIndexInPage += chunkSize;
 		return new LuceneSearchScrollResultImpl<>( currentPage.total(), true, result.hits(),
 				result.took(), result.timedOut() );
 	}
 
+	private LuceneExtractableSearchResult<H> fetchPage(ScoreDoc after) {
+		return doSubmitWithIndexReader( workFactory.scroll( searcher, after, pageSize, totalHitCountThreshold ),
+				indexReader );
+	}
+
 	private <T> T doSubmitWithIndexReader(ReadWork<T> work, HibernateSearchMultiReader indexReader) {
 		return queryOrchestrator.submit(
 				scope.hibernateSearchIndexNames(),
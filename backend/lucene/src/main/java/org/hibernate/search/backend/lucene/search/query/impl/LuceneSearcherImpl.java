@@ -7,6 +7,7 @@
 import java.io.IOException;
 import java.util.Map;
 
+import org.hibernate.search.backend.lucene.cache.impl.LuceneSearchResultCache;
 import org.hibernate.search.backend.lucene.logging.impl.QueryLog;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.TimeoutCountCollectorManager;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
@@ -17,12 +18,15 @@
 import org.hibernate.search.backend.lucene.work.impl.LuceneSearcher;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.query.SearchResultTotal;
+import org.hibernate.search.engine.search.query.spi.QueryParameters;
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
 
 class LuceneSearcherImpl<H> implements LuceneSearcher<LuceneLoadableSearchResult<H>, LuceneExtractableSearchResult<H>> {
 
@@ -34,6 +38,7 @@
 	private final LuceneSearchProjection.Extractor<?, H> rootExtractor;
 	private final Map<AggregationKey<?>, LuceneSearchAggregation.Extractor<?>> aggregations;
 	private final ExtractionRequirements extractionRequirements;
+	private final Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregationDefinitions;
 
 	private TimeoutManager timeoutManager;
 
@@ -41,11 +46,13 @@
 			LuceneSearchProjection.Extractor<?, H> rootExtractor,
 			Map<AggregationKey<?>, LuceneSearchAggregation.Extractor<?>> aggregations,
 			ExtractionRequirements extractionRequirements,
+			Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregationDefinitions,
 			TimeoutManager timeoutManager) {
 		this.requestContext = requestContext;
 		this.rootExtractor = rootExtractor;
 		this.aggregations = aggregations;
 		this.extractionRequirements = extractionRequirements;
+		this.aggregationDefinitions = aggregationDefinitions;
 		this.timeoutManager = timeoutManager;
 	}
 
@@ -62,22 +69,43 @@ public String toString() {
 	@Override
 	public LuceneLoadableSearchResult<H> search(IndexSearcher indexSearcher,
 			IndexReaderMetadataResolver metadataResolver,
-			int offset, Integer limit, int totalHitCountThreshold)
+			LuceneSearchResultCache.ReaderScopedCache resultCacheOrNull,
+			int offset, ScoreDoc after, Integer limit, int totalHitCountThreshold)
 			throws IOException {
-		return doSearch( indexSearcher, metadataResolver, offset, limit, totalHitCountThreshold ).extract();
+		if ( resultCacheOrNull == null || after != null ) {
+			// Cursors are not comparable, and pages fetched with a cursor are rarely fetched twice anyway.
+			return doSearch( indexSearcher, metadataResolver, offset, after, limit, totalHitCountThreshold ).extract();
+		}
+
+		ResultCacheKey cacheKey = new ResultCacheKey( requestContext.getLuceneQuery(), requestContext.getLuceneSort(),
+				aggregationDefinitions, extractionRequirements.requireScore(), requestContext.getQueryParameters(),
+				offset, limit, totalHitCountThreshold );
+		LuceneSearchResultCache.CachedSearchResult cachedResult = resultCacheOrNull.get( cacheKey );
+		if ( cachedResult != null ) {
+			return restoreCachedResult( indexSearcher, metadataResolver, offset, limit, totalHitCountThreshold,
+					cachedResult ).extract();
+		}
+
+		LuceneLoadableSearchResult<H> result =
+				doSearch( indexSearcher, metadataResolver, offset, null, limit, totalHitCountThreshold ).extract();
+		if ( !timeoutManager.isTimedOut() ) {
+			// Partial results must not be served to later executions of the same query.
+			resultCacheOrNull.put( cacheKey, result.toCachedResult() );
+		}
+		return result;
 	}
 
 	@Override
 	public LuceneExtractableSearchResult<H> scroll(IndexSearcher indexSearcher,
 			IndexReaderMetadataResolver metadataResolver,
-			int offset, int limit, int totalHitCountThreshold)
+			ScoreDoc after, int limit, int totalHitCountThreshold)
 			throws IOException {
-		return doSearch( indexSearcher, metadataResolver, offset, limit, totalHitCountThreshold );
+		return doSearch( indexSearcher, metadataResolver, 0, after, limit, totalHitCountThreshold );
 	}
 
 	private LuceneExtractableSearchResult<H> doSearch(IndexSearcher indexSearcher,
 			IndexReaderMetadataResolver metadataResolver,
-			int offset, Integer limit, int totalHitCountThreshold)
+			int offset, ScoreDoc after, Integer limit, int totalHitCountThreshold)
 			throws IOException {
 		if ( limit != null && (long) offset + limit > Integer.MAX_VALUE ) {
 			throw QueryLog.INSTANCE.offsetLimitExceedsMaxValue( offset, limit );
@@ -87,14 +115,35 @@ private LuceneExtractableSearchResult<H> doSearch(IndexSearcher indexSearcher,
 
 		int maxDocs = getMaxDocs( indexSearcher.getIndexReader(), offset, limit );
 		LuceneCollectors luceneCollectors = ( limit != null || maxDocs <= PREFETCH_HITS_SIZE )
-				? collectMatchingDocs( indexSearcher, metadataResolver, offset, maxDocs, totalHitCountThreshold )
-				: collectMatchingDocsWithPrefetch( indexSearcher, metadataResolver, offset, maxDocs,
+				? collectMatchingDocs( indexSearcher, metadataResolver, offset, after, maxDocs, totalHitCountThreshold )
+				: collectMatchingDocsWithPrefetch( indexSearcher, metadataResolver, offset, after, maxDocs,
 						totalHitCountThreshold );
 
 		return new LuceneExtractableSearchResult<>( requestContext, indexSearcher, luceneCollectors,
 				rootExtractor, aggregations, timeoutManager );
 	}
 
+	private LuceneExtractableSearchResult<H> restoreCachedResult(IndexSearcher indexSearcher,
+			IndexReaderMetadataResolver metadataResolver, int offset, Integer limit, int totalHitCountThreshold,
+			LuceneSearchResultCache.CachedSearchResult cachedResult)
+			throws IOException {
+		if ( limit != null && (long) offset + limit > Integer.MAX_VALUE ) {
+			throw QueryLog.INSTANCE.offsetLimitExceedsMaxValue( offset, limit );
+		}
+
+		QueryLog.INSTANCE.usingCachedResult( requestContext.getLuceneQuery() );
+
+		// Hits are not cached, since they depend on the session:
+		// we still need collectors to extract them, but we don't need to collect matching docs again.
+		int maxDocs = getMaxDocs( indexSearcher.getIndexReader(), offset, limit );
+		LuceneCollectors luceneCollectors = buildCollectors( indexSearcher, metadataResolver,
+				maxDocs, offset, null, totalHitCountThreshold );
+		luceneCollectors.restoreMatchingDocs( cachedResult.total(), cachedResult.topDocs() );
+
+		return new LuceneExtractableSearchResult<>( requestContext, indexSearcher, luceneCollectors,
+				rootExtractor, aggregations, cachedResult.aggregations(), timeoutManager );
+	}
+
 	@Override
 	public int count(IndexSearcher indexSearcher) throws IOException {
 		QueryLog.INSTANCE.executingLuceneQuery( requestContext.getLuceneQuery() );
@@ -126,29 +175,29 @@ public void setTimeoutManager(TimeoutManager timeoutManager) {
 	}
 
 	private LuceneCollectors collectMatchingDocs(IndexSearcher indexSearcher,
-			IndexReaderMetadataResolver metadataResolver, int offset,
+			IndexReaderMetadataResolver metadataResolver, int offset, ScoreDoc after,
 			int maxDocs, int totalHitCountThreshold)
 			throws IOException {
 		LuceneCollectors luceneCollectors = buildCollectors( indexSearcher, metadataResolver,
-				maxDocs, offset, totalHitCountThreshold
+				maxDocs, offset, after, totalHitCountThreshold
 		);
 		luceneCollectors.collectMatchingDocs();
 		return luceneCollectors;
 	}
 
 	private LuceneCollectors collectMatchingDocsWithPrefetch(IndexSearcher indexSearcher,
-			IndexReaderMetadataResolver metadataResolver, int offset,
+			IndexReaderMetadataResolver metadataResolver, int offset, ScoreDoc after,
 			int maxDocs, int totalHitCountThreshold)
 			throws IOException {
 
 		// prefetch:
-		LuceneCollectors luceneCollectors = collectMatchingDocs( indexSearcher, metadataResolver, offset,
+		LuceneCollectors luceneCollectors = collectMatchingDocs( indexSearcher, metadataResolver, offset, after,
 				PREFETCH_HITS_SIZE, Math.max( totalHitCountThreshold, PREFETCH_TOTAL_HIT_COUNT_THRESHOLD ) );
 
 		SearchResultTotal resultTotal = luceneCollectors.getResultTotal();
 		if ( resultTotal.isHitCountLowerBound() || resultTotal.hitCount() > PREFETCH_TOTAL_HIT_COUNT_THRESHOLD ) {
 			// if the total hit count is unbounded, we need to execute the unbounded query
-			return collectMatchingDocs( indexSearcher, metadataResolver, offset, maxDocs, maxDocs );
+			return collectMatchingDocs( indexSearcher, metadataResolver, offset, after, maxDocs, maxDocs );
 		}
 
 		if ( resultTotal.hitCount() < PREFETCH_HITS_SIZE ) {
@@ -158,15 +207,16 @@ private LuceneCollectors collectMatchingDocsWithPrefetch(IndexSearcher indexSear
 
 		// if the total hit count is in the middle between the two cases above, we can execute a bounded query
 		int exactHitCount = Math.toIntExact( resultTotal.hitCount() );
-		return collectMatchingDocs( indexSearcher, metadataResolver, offset, exactHitCount, exactHitCount );
+		return collectMatchingDocs( indexSearcher, metadataResolver, offset, after, exactHitCount, exactHitCount );
 	}
 
 	private LuceneCollectors buildCollectors(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver,
-			int maxDocs, int offset, int totalHitCountThreshold)
+			int maxDocs, int offset, ScoreDoc after, int totalHitCountThreshold)
 			throws IOException {
 		return extractionRequirements.createCollectors(
-				indexSearcher, requestContext.getLuceneQuery(), requestContext.getLuceneSort(),
-				metadataResolver, maxDocs, offset, timeoutManager, totalHitCountThreshold
+				indexSearcher, requestContext.getQueryIndexScope().bitSetFilterCache(),
+				requestContext.getLuceneQuery(), requestContext.getLuceneSort(),
+				metadataResolver, maxDocs, offset, after, timeoutManager, totalHitCountThreshold
 		);
 	}
 
@@ -181,4 +231,16 @@ else if ( limit.equals( 0 ) ) {
 			return Math.min( offset + limit, reader.maxDoc() );
 		}
 	}
+
+	/**
+	 * Identifies the result of a search, independently of the index readers the search is executed against.
+	 * <p>
+	 * Aggregations are compared through their {@code equals}/{@code hashCode},
+	 * so that equal aggregations defined in separate queries can reuse the same results.
+	 */
+	private record ResultCacheKey(Query query, Sort sort,
+			Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations,
+			boolean requireScore, QueryParameters parameters,
+			int offset, Integer limit, int totalHitCountThreshold) {
+	}
 }
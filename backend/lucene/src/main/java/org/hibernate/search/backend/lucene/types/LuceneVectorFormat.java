@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.types;
+
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * The format used to index vectors of a vector field,
+ * i.e. whether vectors are quantized and whether they are indexed in an HNSW graph.
+ * <p>
+ * Quantized formats keep a copy of the original vectors on disk,
+ * but only the (smaller) quantized vectors need to fit in the page cache to run knn searches efficiently.
+ * They are only available for {@code float[]} vectors.
+ */
+@Incubating
+public enum LuceneVectorFormat {
+
+	/**
+	 * Vectors are kept in full precision
+	 * and indexed in an HNSW (Hierarchical Navigable Small World) graph.
+	 * <p>
+	 * This is the default.
+	 */
+	HNSW( false, 0 ),
+	/**
+	 * Vectors are quantized to 8-bit integers (7 bits actually, to work around unsigned arithmetic)
+	 * and indexed in an HNSW graph.
+	 * <p>
+	 * Reduces the memory footprint of vectors by a factor of ~4, at the cost of some accuracy.
+	 */
+	INT8_HNSW( false, 7 ),
+	/**
+	 * Vectors are quantized to 4-bit integers
+	 * and indexed in an HNSW graph.
+	 * <p>
+	 * Reduces the memory footprint of vectors by a factor of ~8, at the cost of more accuracy than {@link #INT8_HNSW}.
+	 */
+	INT4_HNSW( false, 4 ),
+	/**
+	 * Vectors are quantized to 8-bit integers (7 bits actually),
+	 * and are not indexed in a graph: knn searches compare the target vector to every vector.
+	 * <p>
+	 * Exact, and cheaper to index than HNSW formats, but search cost grows linearly with the number of documents:
+	 * only suitable for small indexes, or for knn predicates with a very selective filter.
+	 */
+	INT8_FLAT( true, 7 ),
+	/**
+	 * Vectors are quantized to 4-bit integers,
+	 * and are not indexed in a graph: knn searches compare the target vector to every vector.
+	 *
+	 * @see #INT8_FLAT
+	 */
+	INT4_FLAT( true, 4 );
+
+	private final boolean flat;
+	private final int quantizationBits;
+
+	LuceneVectorFormat(boolean flat, int quantizationBits) {
+		this.flat = flat;
+		this.quantizationBits = quantizationBits;
+	}
+
+	/**
+	 * @return {@code true} if vectors are not indexed in a graph,
+	 * i.e. knn searches compare the target vector to every vector.
+	 */
+	public boolean isFlat() {
+		return flat;
+	}
+
+	/**
+	 * @return {@code true} if vectors are quantized.
+	 */
+	public boolean isQuantized() {
+		return quantizationBits > 0;
+	}
+
+	/**
+	 * @return The number of bits each vector component is quantized to,
+	 * or {@code 0} if vectors are not quantized.
+	 */
+	public int quantizationBits() {
+		return quantizationBits;
+	}
+
+}
@@ -5,6 +5,7 @@
 package org.hibernate.search.backend.lucene.types.aggregation.impl;
 
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
@@ -33,6 +34,21 @@ public Set<String> indexNames() {
 		return indexNames;
 	}
 
+	@Override
+	public boolean equals(Object obj) {
+		if ( !super.equals( obj ) ) {
+			return false;
+		}
+		AbstractLuceneBucketAggregation<?, ?> other = (AbstractLuceneBucketAggregation<?, ?>) obj;
+		return indexNames.equals( other.indexNames )
+				&& absoluteFieldPath.equals( other.absoluteFieldPath );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( super.hashCode(), indexNames, absoluteFieldPath );
+	}
+
 	public abstract static class AbstractBuilder<K, V> extends AbstractLuceneNestableAggregation.AbstractBuilder<Map<K, V>>
 			implements SearchAggregationBuilder<Map<K, V>> {
 
@@ -10,6 +10,7 @@
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.FacetsCollectorFactory;
@@ -27,6 +28,7 @@
 import org.apache.lucene.facet.FacetsCollector;
 import org.apache.lucene.facet.LabelAndValue;
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.IndexSearcher;
 
 /**
  * @param <F> The type of field values exposed to the mapper.
@@ -60,6 +62,23 @@ public Extractor<Map<K, Long>> request(AggregationRequestContext context) {
 
 	protected abstract Extractor<Map<K, Long>> extractor(AggregationRequestContext context);
 
+	@Override
+	public boolean equals(Object obj) {
+		if ( !super.equals( obj ) ) {
+			return false;
+		}
+		AbstractLuceneFacetsBasedTermsAggregation<?, ?, ?, ?> other = (AbstractLuceneFacetsBasedTermsAggregation<?, ?, ?, ?>) obj;
+		return order == other.order
+				&& maxTermCount == other.maxTermCount
+				&& minDocCount == other.minDocCount
+				&& isSameConverter( fromFieldValueConverter, other.fromFieldValueConverter );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( super.hashCode(), order, maxTermCount, minDocCount );
+	}
+
 	protected abstract class AbstractExtractor implements Extractor<Map<K, Long>> {
 		@Override
 		public final Map<K, Long> extract(AggregationExtractContext context) throws IOException {
@@ -96,7 +115,7 @@ public final Map<K, Long> extract(AggregationExtractContext context) throws IOEx
 			return toMap( convertContext, buckets );
 		}
 
-		abstract FacetResult getTopChildren(IndexReader reader, FacetsCollector facetsCollector,
+		abstract FacetResult getTopChildren(IndexSearcher indexSearcher, FacetsCollector facetsCollector,
 				NestedDocsProvider nestedDocsProvider, int limit)
 				throws IOException;
 
@@ -125,7 +144,7 @@ private List<Bucket<T>> getTopBuckets(AggregationExtractContext context) throws
 			 *  To improve on this, we would need to re-implement the facet collections.
 			 */
 			int limit = maxTermCount;
-			FacetResult facetResult = getTopChildren( context.getIndexReader(), facetsCollector, nestedDocsProvider, limit );
+			FacetResult facetResult = getTopChildren( context.getIndexSearcher(), facetsCollector, nestedDocsProvider, limit );
 
 			List<Bucket<T>> buckets = new ArrayList<>();
 
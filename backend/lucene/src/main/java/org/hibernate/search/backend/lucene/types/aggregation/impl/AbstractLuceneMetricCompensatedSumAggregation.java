@@ -4,6 +4,7 @@
  */
 package org.hibernate.search.backend.lucene.types.aggregation.impl;
 
+import java.util.Objects;
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.lowlevel.aggregation.collector.impl.CompensatedSum;
@@ -63,6 +64,23 @@ public Set<String> indexNames() {
 		return indexNames;
 	}
 
+	@Override
+	public boolean equals(Object obj) {
+		if ( !super.equals( obj ) ) {
+			return false;
+		}
+		AbstractLuceneMetricCompensatedSumAggregation<?, ?, ?> other = (AbstractLuceneMetricCompensatedSumAggregation<?, ?, ?>) obj;
+		return indexNames.equals( other.indexNames )
+				&& absoluteFieldPath.equals( other.absoluteFieldPath )
+				&& codec.isCompatibleWith( other.codec )
+				&& extractedConverter.equals( other.extractedConverter );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( super.hashCode(), indexNames, absoluteFieldPath, extractedConverter );
+	}
+
 	private class LuceneNumericMetricFieldAggregationExtraction implements Extractor<K> {
 
 		@Override
@@ -75,9 +93,23 @@ public K extract(AggregationExtractContext context) {
 
 	abstract E extractEncoded(AggregationExtractContext context, LuceneNumericDomain<E> numericDomain);
 
+	/**
+	 * Converters are compared by type by default:
+	 * implementations holding state that affects converted values must override {@code equals}/{@code hashCode}.
+	 */
 	protected abstract static class ExtractedValueConverter<E extends Number, K> {
 
 		abstract K convert(E extracted, FromDocumentValueConvertContext context);
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj != null && getClass() == obj.getClass();
+		}
+
+		@Override
+		public int hashCode() {
+			return getClass().hashCode();
+		}
 	}
 
 	protected abstract static class TypeSelector<F, E extends Number> implements FieldMetricAggregationBuilder.TypeSelector {
@@ -139,6 +171,17 @@ private RawExtractedValueConverter(ProjectionConverter<E, T> projectionConverter
 		T convert(E extracted, FromDocumentValueConvertContext context) {
 			return projectionConverter.fromDocumentValue( extracted, context );
 		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return super.equals( obj )
+					&& isSameConverter( projectionConverter, ( (RawExtractedValueConverter<?, ?>) obj ).projectionConverter );
+		}
+
+		@Override
+		public int hashCode() {
+			return super.hashCode();
+		}
 	}
 
 	private static class DecodingExtractedValueConverter<E extends Number, F, T> extends ExtractedValueConverter<E, T> {
@@ -155,6 +198,21 @@ private DecodingExtractedValueConverter(ProjectionConverter<F, T> projectionConv
 		T convert(E extracted, FromDocumentValueConvertContext context) {
 			return projectionConverter.fromDocumentValue( codec.decode( extracted ), context );
 		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( !super.equals( obj ) ) {
+				return false;
+			}
+			DecodingExtractedValueConverter<?, ?, ?> other = (DecodingExtractedValueConverter<?, ?, ?>) obj;
+			return codec.isCompatibleWith( other.codec )
+					&& isSameConverter( projectionConverter, other.projectionConverter );
+		}
+
+		@Override
+		public int hashCode() {
+			return super.hashCode();
+		}
 	}
 
 	protected abstract static class Builder<F, E extends Number, K> extends AbstractBuilder<K>
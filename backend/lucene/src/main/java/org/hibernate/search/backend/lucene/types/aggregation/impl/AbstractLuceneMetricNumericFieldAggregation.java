@@ -4,6 +4,7 @@
  */
 package org.hibernate.search.backend.lucene.types.aggregation.impl;
 
+import java.util.Objects;
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
@@ -59,6 +60,23 @@ public Set<String> indexNames() {
 		return indexNames;
 	}
 
+	@Override
+	public boolean equals(Object obj) {
+		if ( !super.equals( obj ) ) {
+			return false;
+		}
+		AbstractLuceneMetricNumericFieldAggregation<?, ?, ?> other = (AbstractLuceneMetricNumericFieldAggregation<?, ?, ?>) obj;
+		return indexNames.equals( other.indexNames )
+				&& absoluteFieldPath.equals( other.absoluteFieldPath )
+				&& codec.isCompatibleWith( other.codec )
+				&& extractorCreator.equals( other.extractorCreator );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( super.hashCode(), indexNames, absoluteFieldPath, extractorCreator );
+	}
+
 	private static class LuceneNumericMetricFieldAggregationExtraction<F, E extends Number, K> implements Extractor<K> {
 		private final CollectorKey<?, Long> collectorKey;
 		private final AbstractLuceneNumericFieldCodec<F, E> codec;
@@ -95,6 +113,17 @@ Extractor<K> extractor(AbstractLuceneMetricNumericFieldAggregation<F, E, K> aggr
 						fromFieldValueConverter
 				);
 			}
+
+			@Override
+			public boolean equals(Object obj) {
+				return super.equals( obj )
+						&& isSameConverter( fromFieldValueConverter, ( (Builder<?, ?, ?>) obj ).fromFieldValueConverter );
+			}
+
+			@Override
+			public int hashCode() {
+				return super.hashCode();
+			}
 		}
 	}
 
@@ -158,9 +187,23 @@ Extractor<K> extractor(AbstractLuceneMetricNumericFieldAggregation<F, E, K> aggr
 		}
 	}
 
+	/**
+	 * Extractor builders are compared by type by default:
+	 * implementations holding state that affects extracted values must override {@code equals}/{@code hashCode}.
+	 */
 	protected abstract static class AbstractExtractorBuilder<F, E extends Number, K> {
 
 		abstract Extractor<K> extractor(AbstractLuceneMetricNumericFieldAggregation<F, E, K> aggregation);
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj != null && getClass() == obj.getClass();
+		}
+
+		@Override
+		public int hashCode() {
+			return getClass().hashCode();
+		}
 	}
 
 	protected abstract static class TypeSelector<F, E extends Number> implements FieldMetricAggregationBuilder.TypeSelector {
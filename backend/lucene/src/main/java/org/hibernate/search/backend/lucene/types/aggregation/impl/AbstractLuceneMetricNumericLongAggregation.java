@@ -4,6 +4,7 @@
  */
 package org.hibernate.search.backend.lucene.types.aggregation.impl;
 
+import java.util.Objects;
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
@@ -41,6 +42,21 @@ public Set<String> indexNames() {
 		return indexNames;
 	}
 
+	@Override
+	public boolean equals(Object obj) {
+		if ( !super.equals( obj ) ) {
+			return false;
+		}
+		AbstractLuceneMetricNumericLongAggregation other = (AbstractLuceneMetricNumericLongAggregation) obj;
+		return indexNames.equals( other.indexNames )
+				&& absoluteFieldPath.equals( other.absoluteFieldPath );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( super.hashCode(), indexNames, absoluteFieldPath );
+	}
+
 	private class LuceneNumericMetricLongAggregationExtraction implements Extractor<Long> {
 		@Override
 		public Long extract(AggregationExtractContext context) {
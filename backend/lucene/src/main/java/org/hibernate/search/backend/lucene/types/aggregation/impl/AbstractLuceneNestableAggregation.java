@@ -4,6 +4,8 @@
  */
 package org.hibernate.search.backend.lucene.types.aggregation.impl;
 
+import java.util.Objects;
+
 import org.hibernate.search.backend.lucene.logging.impl.QueryLog;
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
 import org.hibernate.search.backend.lucene.search.aggregation.impl.AggregationExtractContext;
@@ -13,6 +15,7 @@
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexValueFieldContext;
 import org.hibernate.search.backend.lucene.search.predicate.impl.LuceneSearchPredicate;
 import org.hibernate.search.backend.lucene.search.predicate.impl.PredicateRequestContext;
+import org.hibernate.search.engine.backend.types.converter.spi.ProjectionConverter;
 import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationBuilder;
 import org.hibernate.search.engine.search.predicate.SearchPredicate;
 
@@ -50,6 +53,36 @@ private Query toNestedFilterQuery(PredicateRequestContext filterContext) {
 		return nestedFilter == null ? null : nestedFilter.toQuery( filterContext );
 	}
 
+	/**
+	 * Nested filters are predicates, which do not implement {@code equals}/{@code hashCode}:
+	 * two filtered aggregations are only equal if they use the same filter instance.
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if ( this == obj ) {
+			return true;
+		}
+		if ( obj == null || getClass() != obj.getClass() ) {
+			return false;
+		}
+		AbstractLuceneNestableAggregation<?> other = (AbstractLuceneNestableAggregation<?>) obj;
+		return Objects.equals( nestedDocumentPath, other.nestedDocumentPath )
+				&& Objects.equals( nestedFilter, other.nestedFilter );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( getClass(), nestedDocumentPath, nestedFilter );
+	}
+
+	/**
+	 * @return {@code true} if both converters are guaranteed to produce the same values from the same input.
+	 * Converters do not implement {@code equals}/{@code hashCode}, and must not be included in hash codes.
+	 */
+	static boolean isSameConverter(ProjectionConverter<?, ?> left, ProjectionConverter<?, ?> right) {
+		return left.valueType().equals( right.valueType() ) && left.isCompatibleWith( right );
+	}
+
 	public abstract static class AbstractBuilder<A> implements SearchAggregationBuilder<A> {
 
 		protected final LuceneSearchIndexScope<?> scope;
@@ -87,6 +87,17 @@ Extractor<K> extractor(AbstractLuceneMetricNumericFieldAggregation<F, E, K> aggr
 						fromFieldValueConverter
 				);
 			}
+
+			@Override
+			public boolean equals(Object obj) {
+				return super.equals( obj )
+						&& isSameConverter( fromFieldValueConverter, ( (Builder<?, ?, ?>) obj ).fromFieldValueConverter );
+			}
+
+			@Override
+			public int hashCode() {
+				return super.hashCode();
+			}
 		}
 	}
 
@@ -9,6 +9,7 @@
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
 
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.FacetsCollectorFactory;
@@ -56,6 +57,22 @@ public Extractor<Map<Range<K>, Long>> request(AggregationRequestContext context)
 		return new LuceneNumericRangeAggregationExtractor();
 	}
 
+	@Override
+	public boolean equals(Object obj) {
+		if ( !super.equals( obj ) ) {
+			return false;
+		}
+		LuceneNumericRangeAggregation<?, ?, ?> other = (LuceneNumericRangeAggregation<?, ?, ?>) obj;
+		return codec.isCompatibleWith( other.codec )
+				&& rangesInOrder.equals( other.rangesInOrder )
+				&& encodedRangesInOrder.equals( other.encodedRangesInOrder );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( super.hashCode(), rangesInOrder, encodedRangesInOrder );
+	}
+
 	public static class Factory<F>
 			extends
 			AbstractLuceneCodecAwareSearchQueryElementFactory<RangeAggregationBuilder.TypeSelector,
@@ -7,6 +7,7 @@
 import java.io.IOException;
 import java.util.Comparator;
 import java.util.Map;
+import java.util.Objects;
 import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.function.Function;
@@ -30,6 +31,7 @@
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.SortedNumericDocValues;
 import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.IndexSearcher;
 
 /**
  * @param <F> The type of field values.
@@ -56,6 +58,21 @@ protected Extractor<Map<K, Long>> extractor(AggregationRequestContext context) {
 		return new LuceneNumericTermsAggregationExtractor();
 	}
 
+	@Override
+	public boolean equals(Object obj) {
+		if ( !super.equals( obj ) ) {
+			return false;
+		}
+		LuceneNumericTermsAggregation<?, ?, ?, ?> other = (LuceneNumericTermsAggregation<?, ?, ?, ?>) obj;
+		// The decoder is implied by the converter: raw converters go with the identity decoder.
+		return numericDomain == other.numericDomain;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( super.hashCode(), numericDomain );
+	}
+
 	public static class Factory<F, E extends Number>
 			extends
 			AbstractLuceneCodecAwareSearchQueryElementFactory<TermsAggregationBuilder.TypeSelector,
@@ -74,11 +91,11 @@ public TermsAggregationBuilder.TypeSelector create(LuceneSearchIndexScope<?> sco
 
 	private class LuceneNumericTermsAggregationExtractor extends AbstractExtractor {
 		@Override
-		FacetResult getTopChildren(IndexReader reader, FacetsCollector facetsCollector,
+		FacetResult getTopChildren(IndexSearcher indexSearcher, FacetsCollector facetsCollector,
 				NestedDocsProvider nestedDocsProvider, int limit)
 				throws IOException {
 			Facets facetCounts = numericDomain.createTermsFacetCounts(
-					absoluteFieldPath, facetsCollector, nestedDocsProvider
+					indexSearcher, absoluteFieldPath, facetsCollector, nestedDocsProvider
 			);
 			return facetCounts.getTopChildren( limit, absoluteFieldPath );
 		}
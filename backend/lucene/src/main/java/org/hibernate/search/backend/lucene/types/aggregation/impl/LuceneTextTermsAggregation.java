@@ -11,6 +11,7 @@
 import java.util.TreeSet;
 
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.JoiningTextMultiValuesSource;
+import org.hibernate.search.backend.lucene.lowlevel.facet.impl.OrdinalMapCache;
 import org.hibernate.search.backend.lucene.lowlevel.facet.impl.TextMultiValueFacetCounts;
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
 import org.hibernate.search.backend.lucene.search.aggregation.impl.AggregationRequestContext;
@@ -27,6 +28,7 @@
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.search.IndexSearcher;
 
 /**
  * @param <K> The type of keys in the returned map. It can be {@code String}
@@ -43,19 +45,25 @@ private LuceneTextTermsAggregation(Builder<K> builder) {
 
 	@Override
 	protected Extractor<Map<K, Long>> extractor(AggregationRequestContext context) {
-		return new LuceneTextTermsAggregationExtractor();
+		return new LuceneTextTermsAggregationExtractor( context.ordinalMapCache() );
 	}
 
 	private class LuceneTextTermsAggregationExtractor extends AbstractExtractor {
+		private final OrdinalMapCache ordinalMapCache;
+
+		private LuceneTextTermsAggregationExtractor(OrdinalMapCache ordinalMapCache) {
+			this.ordinalMapCache = ordinalMapCache;
+		}
+
 		@Override
-		FacetResult getTopChildren(IndexReader reader, FacetsCollector facetsCollector,
+		FacetResult getTopChildren(IndexSearcher indexSearcher, FacetsCollector facetsCollector,
 				NestedDocsProvider nestedDocsProvider, int limit)
 				throws IOException {
 			JoiningTextMultiValuesSource valueSource = JoiningTextMultiValuesSource.fromField(
 					absoluteFieldPath, nestedDocsProvider
 			);
 			TextMultiValueFacetCounts facetCounts = new TextMultiValueFacetCounts(
-					reader, absoluteFieldPath, valueSource, facetsCollector
+					ordinalMapCache, indexSearcher, absoluteFieldPath, valueSource, facetsCollector
 			);
 
 			return facetCounts.getTopChildren( limit, absoluteFieldPath );
@@ -4,6 +4,7 @@
  */
 package org.hibernate.search.backend.lucene.types.aggregation.impl;
 
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
 
@@ -36,6 +37,28 @@ public Set<String> indexNames() {
 		return scope.hibernateSearchIndexNames();
 	}
 
+	/**
+	 * The aggregation creator is a function and is thus compared by identity:
+	 * the query parameters it depends on must be compared separately.
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if ( this == obj ) {
+			return true;
+		}
+		if ( obj == null || getClass() != obj.getClass() ) {
+			return false;
+		}
+		LuceneWithParametersAggregation<?> other = (LuceneWithParametersAggregation<?>) obj;
+		return indexNames().equals( other.indexNames() )
+				&& aggregationCreator.equals( other.aggregationCreator );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( indexNames(), aggregationCreator );
+	}
+
 	public static class Builder<A> implements WithParametersAggregationBuilder<A> {
 
 		protected final LuceneSearchIndexScope<?> scope;
@@ -108,6 +108,16 @@ public KnnVectorsFormat knnVectorFormat() {
 		return knnVectorsFormat;
 	}
 
+	@Override
+	public boolean approximateSearch() {
+		return !knnVectorsFormat.format().isFlat();
+	}
+
+	@Override
+	public boolean quantized() {
+		return knnVectorsFormat.format().isQuantized();
+	}
+
 	@Override
 	public int getConfiguredDimensions() {
 		return dimension;
@@ -4,7 +4,13 @@
  */
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.ProjectableDocValues;
+import org.hibernate.search.util.common.AssertionFailure;
+
 import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.LeafReader;
 
 /**
  * Defines how a given value will be encoded in the Lucene document and how it will be decoded.
@@ -40,6 +46,32 @@
 
 	F decode(E field);
 
+	/**
+	 * @return {@code true} if this codec adds doc values
+	 * from which {@link #projectableDocValues(LeafReader, String) encoded values can be read}
+	 * and decoded to the same values as {@link #decode(IndexableField) stored fields},
+	 * {@code false} otherwise.
+	 */
+	default boolean hasProjectableDocValues() {
+		return false;
+	}
+
+	/**
+	 * Read encoded values from doc values.
+	 * <p>
+	 * Typically used in projections, to avoid loading stored fields.
+	 * Must only be called if {@link #hasProjectableDocValues()} returns {@code true}.
+	 *
+	 * @param reader The leaf reader.
+	 * @param absoluteFieldPath The absolute path of the field.
+	 * @return The doc values.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	default ProjectableDocValues<E> projectableDocValues(LeafReader reader, String absoluteFieldPath)
+			throws IOException {
+		throw new AssertionFailure( "Codec " + this + " does not support projections from doc values" );
+	}
+
 	/**
 	 * Encode the given value.
 	 * <p>
@@ -64,6 +64,11 @@ public LocalDate decode(Long encoded) {
 		return LocalDate.ofEpochDay( encoded );
 	}
 
+	@Override
+	protected boolean isDocValueDecodingLossless() {
+		return true;
+	}
+
 	@Override
 	public LuceneNumericDomain<Long> getDomain() {
 		return LuceneLongDomain.get();
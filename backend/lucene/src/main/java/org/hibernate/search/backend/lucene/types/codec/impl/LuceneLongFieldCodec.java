@@ -43,6 +43,11 @@ public Long decode(Long encoded) {
 		return encoded;
 	}
 
+	@Override
+	protected boolean isDocValueDecodingLossless() {
+		return true;
+	}
+
 	@Override
 	public LuceneNumericDomain<Long> getDomain() {
 		return LuceneLongDomain.get();
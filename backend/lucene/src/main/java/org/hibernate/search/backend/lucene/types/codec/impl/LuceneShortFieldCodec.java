@@ -44,6 +44,11 @@ public Short decode(Integer encoded) {
 		return encoded.shortValue();
 	}
 
+	@Override
+	protected boolean isDocValueDecodingLossless() {
+		return true;
+	}
+
 	@Override
 	public LuceneNumericDomain<Integer> getDomain() {
 		return LuceneIntegerDomain.get();
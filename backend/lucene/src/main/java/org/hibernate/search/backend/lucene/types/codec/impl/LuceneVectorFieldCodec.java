@@ -20,6 +20,18 @@
 	 */
 	KnnVectorsFormat knnVectorFormat();
 
+	/**
+	 * @return {@code true} if vectors are indexed in a graph allowing approximate knn search,
+	 * {@code false} if knn searches must compare the target vector to every vector (flat formats).
+	 */
+	boolean approximateSearch();
+
+	/**
+	 * @return {@code true} if vectors are quantized,
+	 * i.e. if approximate knn searches score candidates according to an approximation of their vector.
+	 */
+	boolean quantized();
+
 	/**
 	 * @return The type of vector elements expected to get either {@code float.class} or {@code byte.class}.
 	 */
@@ -72,6 +72,11 @@ public YearMonth decode(Long encoded) {
 		return SOME_YEAR_MONTH.with( ChronoField.PROLEPTIC_MONTH, encoded );
 	}
 
+	@Override
+	protected boolean isDocValueDecodingLossless() {
+		return true;
+	}
+
 	@Override
 	public LuceneNumericDomain<Long> getDomain() {
 		return LuceneLongDomain.get();
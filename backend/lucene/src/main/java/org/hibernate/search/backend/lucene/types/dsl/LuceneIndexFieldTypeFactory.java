@@ -16,6 +16,15 @@
 
 public interface LuceneIndexFieldTypeFactory extends IndexFieldTypeFactory {
 
+	@Override
+	<F> LuceneVectorFieldTypeOptionsStep<?, F> asVector(Class<F> valueType);
+
+	@Override
+	LuceneVectorFieldTypeOptionsStep<?, byte[]> asByteVector();
+
+	@Override
+	LuceneVectorFieldTypeOptionsStep<?, float[]> asFloatVector();
+
 	/**
 	 * Define a native field type.
 	 * <p>
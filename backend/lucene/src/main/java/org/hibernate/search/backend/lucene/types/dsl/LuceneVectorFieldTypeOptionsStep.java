@@ -4,9 +4,22 @@
  */
 package org.hibernate.search.backend.lucene.types.dsl;
 
+import org.hibernate.search.backend.lucene.types.LuceneVectorFormat;
 import org.hibernate.search.engine.backend.types.dsl.VectorFieldTypeOptionsStep;
+import org.hibernate.search.util.common.annotation.Incubating;
 
 public interface LuceneVectorFieldTypeOptionsStep<S extends LuceneVectorFieldTypeOptionsStep<?, F>, F>
 		extends VectorFieldTypeOptionsStep<S, F> {
 
+	/**
+	 * @param format The format used to index vectors: quantized or not, in an HNSW graph or flat.
+	 * Defaults to {@link LuceneVectorFormat#HNSW}.
+	 * Quantized formats are only available for {@code float[]} vectors.
+	 * {@link #m(int) m} and {@link #efConstruction(int) efConstruction} are ignored for flat formats.
+	 * @return {@code this}, for method chaining.
+	 * @see LuceneVectorFormat
+	 */
+	@Incubating
+	S vectorFormat(LuceneVectorFormat format);
+
 }
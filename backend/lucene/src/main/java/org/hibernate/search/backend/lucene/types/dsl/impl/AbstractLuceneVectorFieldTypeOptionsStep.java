@@ -10,6 +10,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.codec.impl.HibernateSearchKnnVectorsFormat;
 import org.hibernate.search.backend.lucene.search.common.impl.AbstractLuceneValueFieldSearchQueryElementFactory;
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneFieldProjection;
+import org.hibernate.search.backend.lucene.types.LuceneVectorFormat;
 import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneVectorFieldCodec;
 import org.hibernate.search.backend.lucene.types.codec.impl.Indexing;
 import org.hibernate.search.backend.lucene.types.codec.impl.Storage;
@@ -23,6 +24,7 @@
 import org.hibernate.search.engine.search.predicate.spi.PredicateTypeKeys;
 import org.hibernate.search.engine.search.projection.spi.ProjectionTypeKeys;
 import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.impl.Contracts;
 
 import org.apache.lucene.index.VectorSimilarityFunction;
 
@@ -37,16 +39,19 @@
 	private static final int MAX_EF_CONSTRUCTION = 3200;
 	private static final int MAX_M = 512;
 
+	private final Class<F> valueType;
 	protected VectorSimilarity vectorSimilarity = VectorSimilarity.DEFAULT;
 	protected Integer dimension;
 	protected int efConstruction = 512;
 	protected int m = 16;
+	private LuceneVectorFormat vectorFormat = LuceneVectorFormat.HNSW;
 	private Projectable projectable = Projectable.DEFAULT;
 	private Searchable searchable = Searchable.DEFAULT;
 	private F indexNullAsValue = null;
 
 	AbstractLuceneVectorFieldTypeOptionsStep(LuceneIndexFieldTypeBuildContext buildContext, Class<F> valueType) {
 		super( buildContext, valueType );
+		this.valueType = valueType;
 	}
 
 	@Override
@@ -85,6 +90,13 @@ public S m(int m) {
 		return thisAsS();
 	}
 
+	@Override
+	public S vectorFormat(LuceneVectorFormat vectorFormat) {
+		Contracts.assertNotNull( vectorFormat, "vectorFormat" );
+		this.vectorFormat = vectorFormat;
+		return thisAsS();
+	}
+
 	@Override
 	public S dimension(int dimension) {
 		if ( dimension < 1 || dimension > DEFAULT_MAX_DIMENSIONS ) {
@@ -106,6 +118,10 @@ public LuceneIndexValueFieldType<F> toIndexFieldType() {
 			throw MappingLog.INSTANCE.nullVectorDimension( buildContext.hints().missingVectorDimension(),
 					buildContext.getEventContext() );
 		}
+		if ( vectorFormat.isQuantized() && !supportsQuantization() ) {
+			throw MappingLog.INSTANCE.vectorFormatQuantizationNotSupported( vectorFormat, valueType.getSimpleName(),
+					buildContext.getEventContext() );
+		}
 		VectorSimilarityFunction resolvedVectorSimilarity = resolveDefault( vectorSimilarity );
 		boolean resolvedProjectable = resolveDefault( projectable );
 		boolean resolvedSearchable = resolveDefault( searchable );
@@ -114,7 +130,7 @@ public LuceneIndexValueFieldType<F> toIndexFieldType() {
 		Storage storage = resolvedProjectable ? Storage.ENABLED : Storage.DISABLED;
 
 		AbstractLuceneVectorFieldCodec<F> codec = createCodec( resolvedVectorSimilarity, dimension, storage, indexing,
-				indexNullAsValue, new HibernateSearchKnnVectorsFormat( m, efConstruction )
+				indexNullAsValue, new HibernateSearchKnnVectorsFormat( vectorFormat, m, efConstruction )
 		);
 		builder.codec( codec );
 		if ( resolvedSearchable ) {
@@ -135,6 +151,12 @@ indexNullAsValue, new HibernateSearchKnnVectorsFormat( m, efConstruction )
 
 	protected abstract AbstractLuceneValueFieldSearchQueryElementFactory<KnnPredicateBuilder, F> knnPredicateFactory();
 
+	/**
+	 * @return Whether vectors of this type can be indexed using a {@link LuceneVectorFormat#isQuantized() quantized}
+	 * format.
+	 */
+	protected abstract boolean supportsQuantization();
+
 	protected abstract AbstractLuceneVectorFieldCodec<F> createCodec(VectorSimilarityFunction vectorSimilarity, int dimension,
 			Storage storage, Indexing indexing, F indexNullAsValue, HibernateSearchKnnVectorsFormat knnVectorsFormat);
 
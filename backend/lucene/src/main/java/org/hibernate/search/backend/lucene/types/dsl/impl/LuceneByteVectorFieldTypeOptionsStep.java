@@ -32,6 +32,12 @@ protected AbstractLuceneValueFieldSearchQueryElementFactory<KnnPredicateBuilder,
 		return new LuceneKnnPredicate.ByteFactory();
 	}
 
+	@Override
+	protected boolean supportsQuantization() {
+		// Lucene only quantizes float vectors
+		return false;
+	}
+
 	@Override
 	protected AbstractLuceneVectorFieldCodec<byte[]> createCodec(VectorSimilarityFunction vectorSimilarity, int dimension,
 			Storage storage, Indexing indexing, byte[] indexNullAsValue, HibernateSearchKnnVectorsFormat knnVectorsFormat) {
@@ -32,6 +32,11 @@ protected AbstractLuceneValueFieldSearchQueryElementFactory<KnnPredicateBuilder,
 		return new LuceneKnnPredicate.FloatFactory();
 	}
 
+	@Override
+	protected boolean supportsQuantization() {
+		return true;
+	}
+
 	@Override
 	protected AbstractLuceneVectorFieldCodec<float[]> createCodec(VectorSimilarityFunction vectorSimilarity, int dimension,
 			Storage storage, Indexing indexing, float[] indexNullAsValue, HibernateSearchKnnVectorsFormat knnVectorsFormat) {
@@ -58,6 +58,11 @@ public boolean hasTermVectorsConfigured() {
 		return hasTermVectorsConfigured;
 	}
 
+	@Override
+	public boolean hasProjectableDocValues() {
+		return codec.hasProjectableDocValues();
+	}
+
 	@Override
 	public DslConverter<?, ?> rawDslConverter() {
 		return rawDslConverter;
@@ -24,6 +24,7 @@
 import org.apache.lucene.facet.FacetsCollector;
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.search.FieldComparator;
+import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Pruning;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.util.NumericUtils;
@@ -93,7 +94,8 @@ public Double doubleToTerm(double doubleValue) {
 	}
 
 	@Override
-	public Facets createTermsFacetCounts(String absoluteFieldPath, FacetsCollector facetsCollector,
+	public Facets createTermsFacetCounts(IndexSearcher indexSearcher, String absoluteFieldPath,
+			FacetsCollector facetsCollector,
 			NestedDocsProvider nestedDocsProvider)
 			throws IOException {
 		// As we don't need to apply any operation to terms except sometimes a sort,
@@ -102,7 +104,7 @@ public Facets createTermsFacetCounts(String absoluteFieldPath, FacetsCollector f
 		JoiningLongMultiValuesSource source = JoiningLongMultiValuesSource.fromLongField(
 				absoluteFieldPath, nestedDocsProvider
 		);
-		return new LongMultiValueFacetCounts( absoluteFieldPath, source, facetsCollector );
+		return new LongMultiValueFacetCounts( indexSearcher, absoluteFieldPath, source, facetsCollector );
 	}
 
 	@Override
@@ -25,6 +25,7 @@
 import org.apache.lucene.facet.FacetsCollector;
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.search.FieldComparator;
+import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Pruning;
 import org.apache.lucene.search.Query;
 
@@ -93,14 +94,15 @@ public double sortedDocValueToDouble(long longValue) {
 	}
 
 	@Override
-	public Facets createTermsFacetCounts(String absoluteFieldPath, FacetsCollector facetsCollector,
+	public Facets createTermsFacetCounts(IndexSearcher indexSearcher, String absoluteFieldPath,
+			FacetsCollector facetsCollector,
 			NestedDocsProvider nestedDocsProvider)
 			throws IOException {
 		JoiningLongMultiValuesSource source = JoiningLongMultiValuesSource.fromIntField(
 				absoluteFieldPath, nestedDocsProvider
 		);
 		return new LongMultiValueFacetCounts(
-				absoluteFieldPath, source,
+				indexSearcher, absoluteFieldPath, source,
 				facetsCollector
 		);
 	}
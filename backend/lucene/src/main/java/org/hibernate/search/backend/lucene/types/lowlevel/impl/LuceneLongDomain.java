@@ -25,6 +25,7 @@
 import org.apache.lucene.facet.FacetsCollector;
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.search.FieldComparator;
+import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Pruning;
 import org.apache.lucene.search.Query;
 
@@ -93,14 +94,15 @@ public Long doubleToTerm(double doubleValue) {
 	}
 
 	@Override
-	public Facets createTermsFacetCounts(String absoluteFieldPath, FacetsCollector facetsCollector,
+	public Facets createTermsFacetCounts(IndexSearcher indexSearcher, String absoluteFieldPath,
+			FacetsCollector facetsCollector,
 			NestedDocsProvider nestedDocsProvider)
 			throws IOException {
 		JoiningLongMultiValuesSource source = JoiningLongMultiValuesSource.fromLongField(
 				absoluteFieldPath, nestedDocsProvider
 		);
 		return new LongMultiValueFacetCounts(
-				absoluteFieldPath, source,
+				indexSearcher, absoluteFieldPath, source,
 				facetsCollector
 		);
 	}
@@ -16,6 +16,7 @@
 import org.apache.lucene.facet.FacetsCollector;
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.search.FieldComparator;
+import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Pruning;
 import org.apache.lucene.search.Query;
 
@@ -43,7 +44,8 @@
 
 	E doubleToTerm(double doubleValue);
 
-	Facets createTermsFacetCounts(String absoluteFieldPath, FacetsCollector facetsCollector,
+	Facets createTermsFacetCounts(IndexSearcher indexSearcher, String absoluteFieldPath,
+			FacetsCollector facetsCollector,
 			NestedDocsProvider nestedDocsProvider)
 			throws IOException;
 
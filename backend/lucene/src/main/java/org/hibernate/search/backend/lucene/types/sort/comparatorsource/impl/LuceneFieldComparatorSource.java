@@ -4,19 +4,50 @@
  */
 package org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl;
 
+import java.util.Objects;
+
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.BitSetFilterCache;
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
 
 import org.apache.lucene.search.FieldComparatorSource;
 import org.apache.lucene.search.Query;
 
+/**
+ * A comparator source for sorts on document values.
+ * <p>
+ * Implementations must implement {@link #equals(Object)} and {@link #hashCode()}
+ * so that equal sorts can be recognized, e.g. when caching search results.
+ */
 public abstract class LuceneFieldComparatorSource extends FieldComparatorSource {
 
+	private final String nestedDocumentPath;
+	private final Query filter;
 	protected NestedDocsProvider nestedDocsProvider;
 
-	public LuceneFieldComparatorSource(String nestedDocumentPath, Query filter) {
+	public LuceneFieldComparatorSource(BitSetFilterCache bitSetFilterCache, String nestedDocumentPath, Query filter) {
+		this.nestedDocumentPath = nestedDocumentPath;
+		this.filter = filter;
 		this.nestedDocsProvider = nestedDocumentPath == null
 				? null
-				: new NestedDocsProvider( nestedDocumentPath, filter );
+				: new NestedDocsProvider( bitSetFilterCache, nestedDocumentPath, filter );
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( this == obj ) {
+			return true;
+		}
+		if ( obj == null || getClass() != obj.getClass() ) {
+			return false;
+		}
+		LuceneFieldComparatorSource other = (LuceneFieldComparatorSource) obj;
+		return Objects.equals( nestedDocumentPath, other.nestedDocumentPath )
+				&& Objects.equals( filter, other.filter );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( getClass(), nestedDocumentPath, filter );
 	}
 
 }
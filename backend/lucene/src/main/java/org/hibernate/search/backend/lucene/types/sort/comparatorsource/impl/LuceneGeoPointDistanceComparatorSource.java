@@ -4,9 +4,12 @@
  */
 package org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl;
 
+import java.util.Objects;
+
 import org.hibernate.search.backend.lucene.lowlevel.comparator.impl.DoubleValuesSourceComparator;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.GeoPointDistanceMultiValuesToSingleValuesSource;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.BitSetFilterCache;
 import org.hibernate.search.engine.spatial.GeoPoint;
 
 import org.apache.lucene.search.FieldComparator;
@@ -19,9 +22,9 @@ public class LuceneGeoPointDistanceComparatorSource extends LuceneFieldComparato
 	private final double missingValue;
 	private final MultiValueMode mode;
 
-	public LuceneGeoPointDistanceComparatorSource(String nestedDocumentPath, GeoPoint center, double missingValue,
-			MultiValueMode mode, Query filter) {
-		super( nestedDocumentPath, filter );
+	public LuceneGeoPointDistanceComparatorSource(BitSetFilterCache bitSetFilterCache, String nestedDocumentPath,
+			GeoPoint center, double missingValue, MultiValueMode mode, Query filter) {
+		super( bitSetFilterCache, nestedDocumentPath, filter );
 		this.center = center;
 		this.missingValue = missingValue;
 		this.mode = mode;
@@ -35,4 +38,20 @@ public FieldComparator<?> newComparator(String fieldname, int numHits, Pruning p
 		// forcing to not skipping documents
 		return new DoubleValuesSourceComparator( numHits, fieldname, missingValue, reversed, Pruning.NONE, source );
 	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( !super.equals( obj ) ) {
+			return false;
+		}
+		LuceneGeoPointDistanceComparatorSource other = (LuceneGeoPointDistanceComparatorSource) obj;
+		return Double.compare( missingValue, other.missingValue ) == 0
+				&& mode == other.mode
+				&& Objects.equals( center, other.center );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( super.hashCode(), center, missingValue, mode );
+	}
 }
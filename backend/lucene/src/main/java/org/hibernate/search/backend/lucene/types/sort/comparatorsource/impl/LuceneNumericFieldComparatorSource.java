@@ -4,7 +4,10 @@
  */
 package org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl;
 
+import java.util.Objects;
+
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.BitSetFilterCache;
 import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneNumericDomain;
 
 import org.apache.lucene.search.FieldComparator;
@@ -17,9 +20,9 @@
 	private final LuceneNumericDomain<E> numericDomain;
 	private final MultiValueMode sortMode;
 
-	public LuceneNumericFieldComparatorSource(String nestedDocumentPath, LuceneNumericDomain<E> numericDomain, E missingValue,
-			MultiValueMode sortMode, Query filter) {
-		super( nestedDocumentPath, filter );
+	public LuceneNumericFieldComparatorSource(BitSetFilterCache bitSetFilterCache, String nestedDocumentPath,
+			LuceneNumericDomain<E> numericDomain, E missingValue, MultiValueMode sortMode, Query filter) {
+		super( bitSetFilterCache, nestedDocumentPath, filter );
 		this.numericDomain = numericDomain;
 		this.missingValue = missingValue;
 		this.sortMode = sortMode;
@@ -30,4 +33,20 @@ public FieldComparator<?> newComparator(String fieldname, int numHits, Pruning p
 		return numericDomain.createFieldComparator( fieldname, numHits, missingValue, reversed, pruning,
 				sortMode, nestedDocsProvider );
 	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( !super.equals( obj ) ) {
+			return false;
+		}
+		LuceneNumericFieldComparatorSource<?> other = (LuceneNumericFieldComparatorSource<?>) obj;
+		return numericDomain == other.numericDomain
+				&& sortMode == other.sortMode
+				&& Objects.equals( missingValue, other.missingValue );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( super.hashCode(), numericDomain, missingValue, sortMode );
+	}
 }
@@ -5,10 +5,12 @@
 package org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl;
 
 import java.io.IOException;
+import java.util.Objects;
 
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.ReplaceMissingSortedDocValues;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.TextMultiValuesToSingleValuesSource;
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.BitSetFilterCache;
 import org.hibernate.search.backend.lucene.types.sort.impl.SortMissingValue;
 
 import org.apache.lucene.index.LeafReaderContext;
@@ -24,9 +26,9 @@ public class LuceneTextFieldComparatorSource extends LuceneFieldComparatorSource
 	private final Object missingValue;
 	private final MultiValueMode multiValueMode;
 
-	public LuceneTextFieldComparatorSource(String nestedDocumentPath, Object missingValue, MultiValueMode multiValueMode,
-			Query luceneFilter) {
-		super( nestedDocumentPath, luceneFilter );
+	public LuceneTextFieldComparatorSource(BitSetFilterCache bitSetFilterCache, String nestedDocumentPath,
+			Object missingValue, MultiValueMode multiValueMode, Query luceneFilter) {
+		super( bitSetFilterCache, nestedDocumentPath, luceneFilter );
 		this.missingValue = missingValue;
 		this.multiValueMode = multiValueMode;
 	}
@@ -66,6 +68,21 @@ protected SortedDocValues getSortedDocValues(LeafReaderContext context, String f
 		};
 	}
 
+	@Override
+	public boolean equals(Object obj) {
+		if ( !super.equals( obj ) ) {
+			return false;
+		}
+		LuceneTextFieldComparatorSource other = (LuceneTextFieldComparatorSource) obj;
+		return multiValueMode == other.multiValueMode
+				&& Objects.equals( missingValue, other.missingValue );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( super.hashCode(), missingValue, multiValueMode );
+	}
+
 	private boolean isOneOfSortMissingValues() {
 		return missingValue instanceof SortMissingValue;
 	}
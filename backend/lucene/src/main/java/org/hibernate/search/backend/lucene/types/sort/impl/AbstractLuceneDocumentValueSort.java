@@ -6,6 +6,7 @@
 
 import org.hibernate.search.backend.lucene.logging.impl.QueryLog;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.BitSetFilterCache;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexScope;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexValueFieldContext;
 import org.hibernate.search.backend.lucene.search.predicate.impl.LuceneSearchPredicate;
@@ -29,6 +30,7 @@ public abstract class AbstractLuceneDocumentValueSort extends AbstractLuceneReve
 	private final LuceneSearchPredicate nestedFilter;
 	private final String nestedDocumentPath;
 	private final MultiValueMode multiValueMode;
+	protected final BitSetFilterCache bitSetFilterCache;
 
 	protected AbstractLuceneDocumentValueSort(AbstractBuilder builder) {
 		super( builder );
@@ -36,6 +38,7 @@ protected AbstractLuceneDocumentValueSort(AbstractBuilder builder) {
 		nestedFilter = builder.nestedFilter;
 		nestedDocumentPath = builder.nestedDocumentPath;
 		multiValueMode = builder.getMultiValueMode();
+		bitSetFilterCache = builder.bitSetFilterCache;
 	}
 
 	@Override
@@ -62,6 +65,7 @@ private Query getNestedFilter(SortRequestContext context) {
 	public abstract static class AbstractBuilder extends AbstractLuceneReversibleSort.AbstractBuilder {
 		protected final String absoluteFieldPath;
 		protected final String nestedDocumentPath;
+		private final BitSetFilterCache bitSetFilterCache;
 		private SortMode mode;
 		protected LuceneSearchPredicate nestedFilter;
 
@@ -75,6 +79,7 @@ protected AbstractBuilder(LuceneSearchIndexScope<?> scope,
 			super( scope );
 			this.absoluteFieldPath = absoluteFieldPath;
 			this.nestedDocumentPath = nestedDocumentPath;
+			this.bitSetFilterCache = scope.bitSetFilterCache();
 		}
 
 		public void mode(SortMode mode) {
@@ -35,7 +35,7 @@ private LuceneGeoPointDistanceSort(Builder builder) {
 	@Override
 	protected LuceneFieldComparatorSource doCreateFieldComparatorSource(String nestedDocumentPath,
 			MultiValueMode multiValueMode, Query nestedFilter) {
-		return new LuceneGeoPointDistanceComparatorSource( nestedDocumentPath, center, effectiveMissingValue, multiValueMode,
+		return new LuceneGeoPointDistanceComparatorSource( bitSetFilterCache, nestedDocumentPath, center, effectiveMissingValue, multiValueMode,
 				nestedFilter );
 	}
 
@@ -163,7 +163,7 @@ private NumericFieldSort(NumericFieldBuilder<?, E> builder) {
 		protected LuceneFieldComparatorSource doCreateFieldComparatorSource(String nestedDocumentPath,
 				MultiValueMode multiValueMode, Query nestedFilter) {
 			return new LuceneNumericFieldComparatorSource<>(
-					nestedDocumentPath, domain, effectiveMissingValue, multiValueMode, nestedFilter );
+					bitSetFilterCache, nestedDocumentPath, domain, effectiveMissingValue, multiValueMode, nestedFilter );
 		}
 	}
 
@@ -231,8 +231,8 @@ private TextFieldSort(TextFieldBuilder<?> builder) {
 		@Override
 		protected LuceneFieldComparatorSource doCreateFieldComparatorSource(String nestedDocumentPath,
 				MultiValueMode multiValueMode, Query nestedFilter) {
-			return new LuceneTextFieldComparatorSource( nestedDocumentPath, effectiveMissingValue, multiValueMode,
-					nestedFilter );
+			return new LuceneTextFieldComparatorSource( bitSetFilterCache, nestedDocumentPath, effectiveMissingValue,
+					multiValueMode, nestedFilter );
 		}
 	}
 
@@ -16,6 +16,7 @@
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 
 public final class LuceneWorkFactory {
 
@@ -86,11 +87,17 @@ public IndexManagementWork<?> deleteAll(Set<String> tenantIds, Set<String> routi
 	}
 
 	public <R> ReadWork<R> search(LuceneSearcher<R, ?> searcher, Integer offset, Integer limit, int totalHitCountThreshold) {
-		return new SearchWork<>( searcher, offset, limit, totalHitCountThreshold );
+		return new SearchWork<>( searcher, offset, null, limit, totalHitCountThreshold );
 	}
 
-	public <ER> ReadWork<ER> scroll(LuceneSearcher<?, ER> searcher, int offset, int limit, int totalHitCountThreshold) {
-		return new ScrollWork<>( searcher, offset, limit, totalHitCountThreshold );
+	public <R> ReadWork<R> searchAfter(LuceneSearcher<R, ?> searcher, ScoreDoc after, Integer limit,
+			int totalHitCountThreshold) {
+		return new SearchWork<>( searcher, null, after, limit, totalHitCountThreshold );
+	}
+
+	public <ER> ReadWork<ER> scroll(LuceneSearcher<?, ER> searcher, ScoreDoc after, int limit,
+			int totalHitCountThreshold) {
+		return new ScrollWork<>( searcher, after, limit, totalHitCountThreshold );
 	}
 
 	public ReadWork<Integer> count(LuceneSearcher<?, ?> searcher) {
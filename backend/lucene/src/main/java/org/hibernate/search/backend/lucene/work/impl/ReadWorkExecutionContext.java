@@ -4,6 +4,7 @@
  */
 package org.hibernate.search.backend.lucene.work.impl;
 
+import org.hibernate.search.backend.lucene.cache.impl.LuceneSearchResultCache;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.util.common.reporting.EventContext;
 
@@ -15,6 +16,12 @@ public interface ReadWorkExecutionContext {
 
 	IndexReaderMetadataResolver getIndexReaderMetadataResolver();
 
+	/**
+	 * @return A view of the search result cache restricted to the index readers this work is executed against,
+	 * or {@code null} if search results must not be cached.
+	 */
+	LuceneSearchResultCache.ReaderScopedCache getSearchResultCacheOrNull();
+
 	EventContext getEventContext();
 
 }
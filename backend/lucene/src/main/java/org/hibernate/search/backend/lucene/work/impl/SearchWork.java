@@ -9,19 +9,22 @@
 import org.hibernate.search.backend.lucene.logging.impl.QueryLog;
 
 import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.ScoreDoc;
 
 public class SearchWork<R> implements ReadWork<R> {
 
 	private final LuceneSearcher<R, ?> searcher;
 
 	private final int offset;
+	private final ScoreDoc after;
 	private final Integer limit;
 	private final int totalHitCountThreshold;
 
 	SearchWork(LuceneSearcher<R, ?> searcher,
-			Integer offset, Integer limit,
+			Integer offset, ScoreDoc after, Integer limit,
 			int totalHitCountThreshold) {
 		this.offset = offset == null ? 0 : offset;
+		this.after = after;
 		this.limit = limit;
 		this.searcher = searcher;
 		this.totalHitCountThreshold = totalHitCountThreshold;
@@ -33,7 +36,8 @@ public R execute(ReadWorkExecutionContext context) {
 			IndexSearcher indexSearcher = context.createSearcher();
 
 			return searcher.search(
-					indexSearcher, context.getIndexReaderMetadataResolver(), offset, limit, totalHitCountThreshold
+					indexSearcher, context.getIndexReaderMetadataResolver(), context.getSearchResultCacheOrNull(),
+					offset, after, limit, totalHitCountThreshold
 			);
 		}
 		catch (IOException e) {
@@ -48,6 +52,7 @@ public String toString() {
 				.append( "[" )
 				.append( "searcher=" ).append( searcher )
 				.append( ", offset=" ).append( offset )
+				.append( ", after=" ).append( after )
 				.append( ", limit=" ).append( limit )
 				.append( ", totalHitCountThreshold=" ).append( totalHitCountThreshold )
 				.append( "]" );
@@ -0,0 +1,213 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.facet.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.JoiningLongMultiValuesSource;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.JoiningTextMultiValuesSource;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.facet.FacetResult;
+import org.apache.lucene.facet.FacetsCollector;
+import org.apache.lucene.facet.FacetsCollectorManager;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MultiValueFacetCountsTest {
+
+	private static final String TEXT_FIELD = "text";
+	private static final String LONG_FIELD = "long";
+	private static final String FEW_FIELD = "few";
+
+	private static final int SEGMENT_COUNT = 3;
+	private static final int DOCS_PER_SEGMENT = 6_000;
+	private static final int COMMON_VALUE_COUNT = 20;
+
+	private final AtomicInteger executedTasks = new AtomicInteger();
+	private Directory directory;
+	private DirectoryReader reader;
+	private ExecutorService executorService;
+	private IndexSearcher sequentialSearcher;
+	private IndexSearcher concurrentSearcher;
+
+	@BeforeAll
+	void setup() throws IOException {
+		directory = new ByteBuffersDirectory();
+		IndexWriterConfig config = new IndexWriterConfig( new StandardAnalyzer() )
+				.setMergePolicy( NoMergePolicy.INSTANCE );
+		try ( IndexWriter writer = new IndexWriter( directory, config ) ) {
+			int i = 0;
+			for ( int segment = 0; segment < SEGMENT_COUNT; segment++ ) {
+				for ( int j = 0; j < DOCS_PER_SEGMENT; j++ ) {
+					addDocument( writer, i++ );
+				}
+				// One segment per commit
+				writer.commit();
+			}
+		}
+		reader = DirectoryReader.open( directory );
+		assertThat( reader.leaves() ).hasSize( SEGMENT_COUNT );
+
+		executorService = Executors.newFixedThreadPool( 2 );
+		sequentialSearcher = new IndexSearcher( reader );
+		concurrentSearcher = new IndexSearcher( reader, task -> {
+			executedTasks.incrementAndGet();
+			executorService.execute( task );
+		} ) {
+			@Override
+			protected LeafSlice[] slices(List<LeafReaderContext> leaves) {
+				return slices( leaves, 1, 1 );
+			}
+		};
+	}
+
+	@AfterAll
+	void cleanup() throws IOException {
+		if ( executorService != null ) {
+			executorService.shutdownNow();
+		}
+		if ( reader != null ) {
+			reader.close();
+		}
+		if ( directory != null ) {
+			directory.close();
+		}
+	}
+
+	@Test
+	void text_fewMatches_sparse() throws IOException {
+		Query query = new TermQuery( new Term( FEW_FIELD, "true" ) );
+
+		TextMultiValueFacetCounts facetCounts = textFacetCounts( sequentialSearcher, query );
+		assertThat( facetCounts.sparseCounts ).isNotNull();
+		assertThat( facetCounts.counts ).isNull();
+
+		FacetResult result = facetCounts.getTopChildren( 3, TEXT_FIELD );
+		int matchingDocCount = SEGMENT_COUNT * DOCS_PER_SEGMENT / 1000;
+		// Each matching doc has one common value and one unique value.
+		assertThat( result.value ).isEqualTo( 2 * matchingDocCount );
+		assertThat( result.childCount ).isEqualTo( 1 + matchingDocCount );
+		assertThat( result.labelValues ).extracting( lv -> lv.label )
+				// Ties are broken by term order, regardless of the iteration order of the hash map.
+				.containsExactly( "common-0", "unique-0", "unique-1000" );
+		assertThat( result.labelValues ).extracting( lv -> lv.value )
+				.containsExactly( matchingDocCount, 1, 1 );
+
+		assertThat( textFacetCounts( concurrentSearcher, query ).getTopChildren( 3, TEXT_FIELD ) )
+				.isEqualTo( result );
+	}
+
+	@Test
+	void text_manyMatches_concurrent() throws IOException {
+		Query query = new MatchAllDocsQuery();
+
+		TextMultiValueFacetCounts sequential = textFacetCounts( sequentialSearcher, query );
+		assertThat( sequential.counts ).isNotNull();
+		assertThat( sequential.sparseCounts ).isNull();
+		FacetResult expected = sequential.getTopChildren( 5, TEXT_FIELD );
+		int docCount = SEGMENT_COUNT * DOCS_PER_SEGMENT;
+		assertThat( expected.value ).isEqualTo( 2 * docCount );
+		assertThat( expected.childCount ).isEqualTo( COMMON_VALUE_COUNT + docCount );
+		assertThat( expected.labelValues ).extracting( lv -> lv.label )
+				.containsExactly( "common-0", "common-1", "common-10", "common-11", "common-12" );
+
+		FacetsCollector hits = concurrentSearcher.search( query, new FacetsCollectorManager() );
+		executedTasks.set( 0 );
+		TextMultiValueFacetCounts concurrent = new TextMultiValueFacetCounts( new OrdinalMapCache(), concurrentSearcher,
+				TEXT_FIELD, JoiningTextMultiValuesSource.fromField( TEXT_FIELD, null ), hits );
+		assertThat( executedTasks ).hasPositiveValue();
+		assertThat( concurrent.getTopChildren( 5, TEXT_FIELD ) ).isEqualTo( expected );
+	}
+
+	@Test
+	void long_fewMatches_sparse() throws IOException {
+		Query query = new TermQuery( new Term( FEW_FIELD, "true" ) );
+
+		FacetResult result = longFacetCounts( sequentialSearcher, query ).getTopChildren( 3, LONG_FIELD );
+		int matchingDocCount = SEGMENT_COUNT * DOCS_PER_SEGMENT / 1000;
+		assertThat( result.value ).isEqualTo( matchingDocCount );
+		assertThat( result.childCount ).isEqualTo( 1 + matchingDocCount );
+		assertThat( result.labelValues ).extracting( lv -> lv.label )
+				.containsExactly( "0", "100000", "101000" );
+		assertThat( result.labelValues ).extracting( lv -> lv.value )
+				.containsExactly( matchingDocCount, 1, 1 );
+
+		assertThat( longFacetCounts( concurrentSearcher, query ).getTopChildren( 3, LONG_FIELD ) )
+				.isEqualTo( result );
+	}
+
+	@Test
+	void long_manyMatches_concurrent() throws IOException {
+		Query query = new MatchAllDocsQuery();
+
+		FacetResult expected = longFacetCounts( sequentialSearcher, query ).getTopChildren( 5, LONG_FIELD );
+		int docCount = SEGMENT_COUNT * DOCS_PER_SEGMENT;
+		assertThat( expected.value ).isEqualTo( docCount );
+		assertThat( expected.childCount ).isEqualTo( COMMON_VALUE_COUNT + docCount );
+		assertThat( expected.labelValues ).extracting( lv -> lv.label )
+				.containsExactly( "0", "1", "2", "3", "4" );
+
+		FacetsCollector hits = concurrentSearcher.search( query, new FacetsCollectorManager() );
+		executedTasks.set( 0 );
+		LongMultiValueFacetCounts concurrent = new LongMultiValueFacetCounts( concurrentSearcher, LONG_FIELD,
+				JoiningLongMultiValuesSource.fromLongField( LONG_FIELD, null ), hits );
+		assertThat( executedTasks ).hasPositiveValue();
+		assertThat( concurrent.getTopChildren( 5, LONG_FIELD ) ).isEqualTo( expected );
+	}
+
+	private static TextMultiValueFacetCounts textFacetCounts(IndexSearcher searcher, Query query) throws IOException {
+		FacetsCollector hits = searcher.search( query, new FacetsCollectorManager() );
+		return new TextMultiValueFacetCounts( new OrdinalMapCache(), searcher, TEXT_FIELD,
+				JoiningTextMultiValuesSource.fromField( TEXT_FIELD, null ), hits );
+	}
+
+	private static LongMultiValueFacetCounts longFacetCounts(IndexSearcher searcher, Query query) throws IOException {
+		FacetsCollector hits = searcher.search( query, new FacetsCollectorManager() );
+		return new LongMultiValueFacetCounts( searcher, LONG_FIELD,
+				JoiningLongMultiValuesSource.fromLongField( LONG_FIELD, null ), hits );
+	}
+
+	private static void addDocument(IndexWriter writer, int i) throws IOException {
+		Document document = new Document();
+		document.add( new SortedSetDocValuesField( TEXT_FIELD, new BytesRef( "common-" + ( i % COMMON_VALUE_COUNT ) ) ) );
+		document.add( new SortedSetDocValuesField( TEXT_FIELD, new BytesRef( "unique-" + i ) ) );
+		document.add( new SortedNumericDocValuesField( LONG_FIELD, i % COMMON_VALUE_COUNT ) );
+		document.add( new SortedNumericDocValuesField( LONG_FIELD, 100_000L + i ) );
+		if ( i % 1000 == 0 ) {
+			document.add( new StringField( FEW_FIELD, "true", Field.Store.NO ) );
+		}
+		writer.addDocument( document );
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.facet.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.MultiDocValues;
+import org.apache.lucene.index.MultiReader;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+
+class OrdinalMapCacheTest {
+
+	private static final String FIELD = "field";
+
+	@Test
+	void reuseAcrossTopLevelReaders_evictOnClose() throws IOException {
+		try ( Directory directory = new ByteBuffersDirectory() ) {
+			IndexWriterConfig config = new IndexWriterConfig( new StandardAnalyzer() )
+					.setMergePolicy( NoMergePolicy.INSTANCE );
+			try ( IndexWriter writer = new IndexWriter( directory, config ) ) {
+				// One segment per commit
+				addDocument( writer, "b", "c" );
+				writer.commit();
+				addDocument( writer, "a", "c" );
+				writer.commit();
+				addDocument( writer, "d" );
+				writer.commit();
+			}
+
+			OrdinalMapCache cache = new OrdinalMapCache();
+			DirectoryReader directoryReader = DirectoryReader.open( directory );
+			assertThat( directoryReader.leaves() ).hasSize( 3 );
+
+			MultiReader firstTopLevelReader = new MultiReader( new DirectoryReader[] { directoryReader }, false );
+			SortedSetDocValues first = cache.getSortedSetValues( firstTopLevelReader, FIELD );
+			assertThat( first ).isInstanceOf( MultiDocValues.MultiSortedSetDocValues.class );
+			assertSameTerms( first, MultiDocValues.getSortedSetValues( firstTopLevelReader, FIELD ) );
+			assertThat( cache.size() ).isEqualTo( 1 );
+
+			// Simulate another query: a different top-level reader, but the same leaves.
+			MultiReader secondTopLevelReader = new MultiReader( new DirectoryReader[] { directoryReader }, false );
+			SortedSetDocValues second = cache.getSortedSetValues( secondTopLevelReader, FIELD );
+			assertThat( ( (MultiDocValues.MultiSortedSetDocValues) second ).mapping )
+					.isSameAs( ( (MultiDocValues.MultiSortedSetDocValues) first ).mapping );
+			assertThat( cache.size() ).isEqualTo( 1 );
+
+			// Unknown fields are not cached.
+			assertThat( cache.getSortedSetValues( secondTopLevelReader, "unknown" ) ).isNull();
+			assertThat( cache.size() ).isEqualTo( 1 );
+
+			firstTopLevelReader.close();
+			secondTopLevelReader.close();
+			directoryReader.close();
+			assertThat( cache.size() ).isZero();
+		}
+	}
+
+	private static void addDocument(IndexWriter writer, String... values) throws IOException {
+		Document document = new Document();
+		for ( String value : values ) {
+			document.add( new SortedSetDocValuesField( FIELD, new BytesRef( value ) ) );
+		}
+		writer.addDocument( document );
+	}
+
+	private static void assertSameTerms(SortedSetDocValues actual, SortedSetDocValues expected) throws IOException {
+		assertThat( actual.getValueCount() ).isEqualTo( expected.getValueCount() );
+		for ( long ord = 0; ord < expected.getValueCount(); ord++ ) {
+			assertThat( actual.lookupOrd( ord ) ).isEqualTo( expected.lookupOrd( ord ) );
+		}
+	}
+}
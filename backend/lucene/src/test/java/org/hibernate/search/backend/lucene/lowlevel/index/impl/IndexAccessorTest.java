@@ -6,7 +6,6 @@
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -134,7 +133,7 @@ void commitOrDelay_runtimeException() {
 	void refresh() throws IOException {
 		accessor.refresh();
 
-		verify( indexReaderProviderMock ).clear();
+		verify( indexReaderProviderMock ).refresh();
 		verifyNoOtherIndexInteractions();
 	}
 
@@ -142,11 +141,10 @@ void refresh() throws IOException {
 	void refresh_runtimeException() throws IOException {
 		RuntimeException exception = new RuntimeException( "Some message" );
 
-		doThrow( exception ).when( indexReaderProviderMock ).clear();
+		doThrow( exception ).when( indexReaderProviderMock ).refresh();
 
 		assertThatThrownBy( () -> accessor.refresh() )
 				.isSameAs( exception );
-		doNothing().when( indexReaderProviderMock ).clear();
 
 		verifyNoOtherIndexInteractions();
 	}
@@ -0,0 +1,105 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.join.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.join.BitSetProducer;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BitSet;
+
+class BitSetFilterCacheTest {
+
+	private static final String FIELD = "type";
+
+	@Test
+	void reuseAcrossProducers_evictOnClose() throws IOException {
+		BitSetFilterCache cache = new BitSetFilterCache( Long.MAX_VALUE );
+		try ( Directory directory = createIndex() ) {
+			DirectoryReader reader = DirectoryReader.open( directory );
+			assertThat( reader.leaves() ).hasSize( 2 );
+			LeafReaderContext first = reader.leaves().get( 0 );
+			LeafReaderContext second = reader.leaves().get( 1 );
+
+			// Simulate two queries: two producers, but equal filters.
+			BitSetProducer producer1 = cache.producer( new TermQuery( new Term( FIELD, "parent" ) ) );
+			BitSetProducer producer2 = cache.producer( new TermQuery( new Term( FIELD, "parent" ) ) );
+			assertThat( producer1 ).isEqualTo( producer2 );
+
+			BitSet bitSet = producer1.getBitSet( first );
+			assertThat( bitSet ).isNotNull();
+			assertThat( bitSet.cardinality() ).isEqualTo( 1 );
+			assertThat( bitSet.get( 2 ) ).isTrue();
+			assertThat( producer2.getBitSet( first ) ).isSameAs( bitSet );
+			assertThat( cache.size() ).isEqualTo( 1 );
+
+			// Segments without any match are cached too.
+			BitSetProducer noMatchProducer = cache.producer( new TermQuery( new Term( FIELD, "unknown" ) ) );
+			assertThat( noMatchProducer.getBitSet( first ) ).isNull();
+			assertThat( noMatchProducer.getBitSet( second ) ).isNull();
+			assertThat( cache.size() ).isEqualTo( 3 );
+			assertThat( cache.ramBytesUsed() ).isPositive();
+
+			reader.close();
+			assertThat( cache.size() ).isZero();
+			assertThat( cache.ramBytesUsed() ).isZero();
+		}
+	}
+
+	@Test
+	void bounded() throws IOException {
+		BitSetFilterCache cache = new BitSetFilterCache( 0L );
+		try ( Directory directory = createIndex();
+				DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			BitSetProducer producer = cache.producer( new TermQuery( new Term( FIELD, "parent" ) ) );
+			BitSet bitSet = producer.getBitSet( reader.leaves().get( 0 ) );
+			assertThat( bitSet ).isNotNull();
+			assertThat( bitSet.get( 2 ) ).isTrue();
+			// Computed, but not cached.
+			assertThat( cache.size() ).isZero();
+			assertThat( cache.ramBytesUsed() ).isZero();
+			assertThat( producer.getBitSet( reader.leaves().get( 0 ) ) ).isNotSameAs( bitSet );
+		}
+	}
+
+	private static Directory createIndex() throws IOException {
+		Directory directory = new ByteBuffersDirectory();
+		IndexWriterConfig config = new IndexWriterConfig( new StandardAnalyzer() )
+				.setMergePolicy( NoMergePolicy.INSTANCE );
+		try ( IndexWriter writer = new IndexWriter( directory, config ) ) {
+			// One segment per commit
+			addDocument( writer, "child" );
+			addDocument( writer, "child" );
+			addDocument( writer, "parent" );
+			writer.commit();
+			addDocument( writer, "child" );
+			addDocument( writer, "parent" );
+			writer.commit();
+		}
+		return directory;
+	}
+
+	private static void addDocument(IndexWriter writer, String type) throws IOException {
+		Document document = new Document();
+		document.add( new StringField( FIELD, type, Field.Store.NO ) );
+		writer.addDocument( document );
+	}
+}
@@ -1416,6 +1416,52 @@ void knn() {
 						.containsExactlyInAnyOrder( BOOK1_ID );
 			} );
 		}
+
+		// exact rescoring is only applicable to Lucene:
+		if ( BackendConfiguration.isLucene() ) {
+			withinSearchSession( searchSession -> {
+				// tag::knn-num-candidates[]
+				float[] coverImageEmbeddingsVector = /*...*/
+						// end::knn-num-candidates[]
+						floats( 128, 1.0f );
+				// tag::knn-num-candidates[]
+				List<Book> hits = searchSession.search( Book.class )
+						.where( f -> f.knn( 5 ).field( "coverImageEmbeddings" ).matching( coverImageEmbeddingsVector )
+								.numCandidates( 50 ) // <1>
+								.exactRescoring() ) // <2>
+						.fetchHits( 20 );
+				// end::knn-num-candidates[]
+				assertThat( hits )
+						.extracting( Book::getId )
+						.containsExactlyInAnyOrder( BOOK1_ID, BOOK2_ID, BOOK3_ID, BOOK4_ID );
+			} );
+		}
+
+		// rank fusion is only applicable to Lucene and recent versions of the Elastic distribution of Elasticsearch:
+		if ( BackendConfiguration.isLucene()
+				|| ElasticsearchTestDialect.isActualVersion(
+						es -> !es.isLessThan( "8.18.0" ),
+						os -> false,
+						aoss -> false
+				) ) {
+			withinSearchSession( searchSession -> {
+				// tag::knn-rank-fusion[]
+				float[] coverImageEmbeddingsVector = /*...*/
+						// end::knn-rank-fusion[]
+						floats( 128, 1.0f );
+				// tag::knn-rank-fusion[]
+				List<Book> hits = searchSession.search( Book.class )
+						.where( f -> f.rankFusion()
+								.add( f.match().field( "title" ).matching( "robot" ) ) // <1>
+								.add( f.knn( 10 ).field( "coverImageEmbeddings" ).matching( coverImageEmbeddingsVector ) ) // <2>
+								.windowSize( 50 ) ) // <3>
+						.fetchHits( 20 );
+				// end::knn-rank-fusion[]
+				assertThat( hits )
+						.extracting( Book::getId )
+						.containsExactlyInAnyOrder( BOOK1_ID, BOOK2_ID, BOOK3_ID, BOOK4_ID );
+			} );
+		}
 	}
 
 	@Test
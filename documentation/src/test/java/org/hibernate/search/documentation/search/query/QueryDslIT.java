@@ -14,6 +14,9 @@
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import jakarta.persistence.EntityGraph;
@@ -26,12 +29,14 @@
 import org.hibernate.graph.GraphSemantic;
 import org.hibernate.search.documentation.testsupport.BackendConfigurations;
 import org.hibernate.search.documentation.testsupport.DocumentationSetupHelper;
+import org.hibernate.search.engine.search.query.SearchPreparedQuery;
 import org.hibernate.search.engine.search.query.SearchQuery;
 import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.engine.search.query.SearchResultTotal;
 import org.hibernate.search.engine.search.query.SearchScroll;
 import org.hibernate.search.engine.search.query.SearchScrollResult;
 import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.scope.SearchScope;
 import org.hibernate.search.mapper.orm.search.loading.EntityLoadingCacheLookupStrategy;
 import org.hibernate.search.mapper.orm.session.SearchSession;
 import org.hibernate.search.util.common.SearchTimeoutException;
@@ -287,6 +292,29 @@ void scrolling() {
 		} );
 	}
 
+	@Test
+	void fetchingAsync() {
+		ExecutorService loadingExecutor = Executors.newSingleThreadExecutor();
+		try {
+			with( entityManagerFactory ).runInTransaction( entityManager -> {
+				SearchSession searchSession = Search.session( entityManager );
+				// tag::fetching-async[]
+				CompletionStage<List<Book>> future = searchSession.search( Book.class )
+						.where( f -> f.matchAll() )
+						.fetchHitsAsync( null, 20, loadingExecutor ); // <1>
+				// ... do something else, without touching the session ...
+				List<Book> hits = future.toCompletableFuture().join(); // <2>
+				// end::fetching-async[]
+
+				assertThat( hits ).extracting( Book::getId )
+						.containsExactlyInAnyOrder( BOOK1_ID, BOOK2_ID, BOOK3_ID, BOOK4_ID );
+			} );
+		}
+		finally {
+			loadingExecutor.shutdownNow();
+		}
+	}
+
 	@Test
 	void searchQuery() {
 		with( entityManagerFactory ).runInTransaction( entityManager -> {
@@ -548,6 +576,41 @@ void parameters() {
 		} );
 	}
 
+	@Test
+	void preparedQuery() {
+		// tag::preparedQuery-define[]
+		SearchScope<?, Book> scope = Search.mapping( entityManagerFactory ).scope( Book.class ); // <1>
+		// end::preparedQuery-define[]
+		SearchPreparedQuery<Book> preparedQuery = with( entityManagerFactory ).applyInTransaction( (entityManager, tx) -> {
+			SearchSession searchSession = Search.session( entityManager );
+			// tag::preparedQuery-define[]
+			SearchPreparedQuery<Book> query = searchSession.search( scope )
+					.where( f -> f.withParameters( params -> f.match() // <2>
+							.field( "title" )
+							.matching( params.get( "terms", String.class ) ) ) )
+					.sort( f -> f.field( "title_sort" ) )
+					.toPreparedQuery(); // <3>
+			// end::preparedQuery-define[]
+			return query;
+		} );
+		with( entityManagerFactory ).runInTransaction( entityManager -> {
+			SearchPreparedQuery<Book> query = preparedQuery;
+			// tag::preparedQuery-execute[]
+			SearchSession searchSession = Search.session( entityManager );
+			List<Book> robotBooks = searchSession.bind( scope, query ) // <1>
+					.param( "terms", "robot" ) // <2>
+					.fetchHits( 20 ); // <3>
+			List<Book> cavesBooks = searchSession.bind( scope, query )
+					.param( "terms", "caves" )
+					.fetchHits( 20 );
+			// end::preparedQuery-execute[]
+			assertThat( robotBooks ).extracting( Book::getId )
+					.containsExactly( BOOK1_ID, BOOK3_ID );
+			assertThat( cavesBooks ).extracting( Book::getId )
+					.containsExactly( BOOK2_ID );
+		} );
+	}
+
 	private void initData() {
 		with( entityManagerFactory ).runInTransaction( entityManager -> {
 			Book book1 = new Book();
@@ -6,6 +6,7 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
@@ -15,6 +16,8 @@
 
 import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
 import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
+import org.hibernate.search.engine.common.metrics.spi.SearchMetricNames;
+import org.hibernate.search.engine.common.metrics.spi.SearchMetrics;
 import org.hibernate.search.engine.logging.impl.ExecutorLog;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.AssertionFailure;
@@ -28,17 +31,22 @@
  */
 public final class BatchingExecutor<P extends BatchedWorkProcessor, W extends BatchedWork<? super P>> {
 
-	private static final BiConsumer<? super BatchedWork<?>, Throwable> ASYNC_FAILURE_REPORTER = BatchedWork::markAsFailed;
+	private static final BiConsumer<? super QueuedWork<?>, Throwable> ASYNC_FAILURE_REPORTER =
+			(queuedWork, throwable) -> queuedWork.work.markAsFailed( throwable );
 
 	private final String name;
 
 	private final FailureHandler failureHandler;
+	private final SearchMetrics metrics;
+	private final Map<String, String> metricTags;
 
-	private final BlockingQueue<W> workQueue;
-	private final BatchWorker<P, ? super W> worker;
-	private final Consumer<? super W> blockingRetryProducer;
+	private final BlockingQueue<QueuedWork<W>> workQueue;
+	private final BatchWorker<P, W> worker;
+	private final Consumer<? super QueuedWork<W>> blockingRetryProducer;
 
 	private SingletonTask processingTask;
+	private SearchMetrics.Registration queueSizeGauge;
+	private SearchMetrics.Registration queueCapacityGauge;
 
 	/**
 	 * @param name The name of the executor thread (and of this executor when reporting errors)
@@ -54,11 +62,38 @@
 	public BatchingExecutor(String name,
 			P processor, int maxTasksPerBatch, boolean fair,
 			FailureHandler failureHandler, Consumer<? super W> blockingRetryProducer) {
+		this( name, processor, maxTasksPerBatch, fair, failureHandler, blockingRetryProducer,
+				SearchMetrics.noOp(), Map.of() );
+	}
+
+	/**
+	 * @param name The name of the executor thread (and of this executor when reporting errors)
+	 * @param processor A task processor. May not be thread-safe.
+	 * @param maxTasksPerBatch The maximum number of tasks to process in a single batch.
+	 * Higher values mean more opportunity for the processor to optimize execution, but higher heap consumption.
+	 * @param fair if {@code true} tasks are always submitted to the
+	 * processor in FIFO order, if {@code false} tasks submitted
+	 * when the internal queue is full may be submitted out of order.
+	 * @param failureHandler A failure handler to report failures of the background thread.
+	 * @param blockingRetryProducer A retry work producer that would be called in case of offloading operation submitter and full queue.
+	 * @param metrics Metrics to report the queue size, batch sizes, etc. to.
+	 * @param metricTags Tags identifying this executor in metrics,
+	 * e.g. the name of the index and the number of the queue.
+	 */
+	public BatchingExecutor(String name,
+			P processor, int maxTasksPerBatch, boolean fair,
+			FailureHandler failureHandler, Consumer<? super W> blockingRetryProducer,
+			SearchMetrics metrics, Map<String, String> metricTags) {
 		this.name = name;
 		this.failureHandler = failureHandler;
-		this.blockingRetryProducer = blockingRetryProducer;
+		this.blockingRetryProducer = queuedWork -> blockingRetryProducer.accept( queuedWork.work );
+		this.metrics = metrics;
+		this.metricTags = Map.copyOf( metricTags );
 		this.workQueue = new ArrayBlockingQueue<>( maxTasksPerBatch, fair );
-		this.worker = new BatchWorker<>( name, processor, workQueue, maxTasksPerBatch );
+		this.worker = new BatchWorker<>( name, processor, workQueue, maxTasksPerBatch,
+				metrics.timer( SearchMetricNames.EXECUTOR_QUEUE_WAIT, this.metricTags ),
+				metrics.distribution( SearchMetricNames.EXECUTOR_BATCH_SIZE, this.metricTags ),
+				metrics.timer( SearchMetricNames.EXECUTOR_BATCH_DURATION, this.metricTags ) );
 	}
 
 	@Override
@@ -83,6 +118,9 @@ public synchronized void start(SimpleScheduledExecutor executorService) {
 				new BatchScheduler( executorService ),
 				failureHandler
 		);
+		queueSizeGauge = metrics.gauge( SearchMetricNames.EXECUTOR_QUEUE_SIZE, metricTags, workQueue::size );
+		int capacity = workQueue.remainingCapacity();
+		queueCapacityGauge = metrics.gauge( SearchMetricNames.EXECUTOR_QUEUE_CAPACITY, metricTags, () -> capacity );
 	}
 
 	/**
@@ -94,6 +132,11 @@ public synchronized void start(SimpleScheduledExecutor executorService) {
 	public synchronized void stop() {
 		ExecutorLog.INSTANCE.stoppingExecutor( name );
 
+		queueSizeGauge.close();
+		queueSizeGauge = null;
+		queueCapacityGauge.close();
+		queueCapacityGauge = null;
+
 		workQueue.clear();
 
 		// It's possible that processing was successfully scheduled in the executor service but had no chance to run,
@@ -124,7 +167,8 @@ public void submit(W work, OperationSubmitter operationSubmitter) throws Interru
 					"Attempt to submit a work to executor '" + name + "', which is stopped."
 			);
 		}
-		operationSubmitter.submitToQueue( workQueue, work, blockingRetryProducer, ASYNC_FAILURE_REPORTER );
+		operationSubmitter.submitToQueue( workQueue, new QueuedWork<>( work, System.nanoTime() ),
+				blockingRetryProducer, ASYNC_FAILURE_REPORTER );
 		processingTask.ensureScheduled();
 	}
 
@@ -149,17 +193,26 @@ public CompletableFuture<?> completion() {
 
 		private final String name;
 		private final P processor;
-		private final BlockingQueue<W> workQueue;
+		private final BlockingQueue<QueuedWork<W>> workQueue;
 		private final int maxTasksPerBatch;
-		private final List<W> workBuffer;
+		private final List<QueuedWork<W>> workBuffer;
+
+		private final SearchMetrics.Timer queueWaitTimer;
+		private final SearchMetrics.Distribution batchSizeDistribution;
+		private final SearchMetrics.Timer batchDurationTimer;
 
-		private BatchWorker(String name, P processor, BlockingQueue<W> workQueue,
-				int maxTasksPerBatch) {
+		private BatchWorker(String name, P processor, BlockingQueue<QueuedWork<W>> workQueue,
+				int maxTasksPerBatch,
+				SearchMetrics.Timer queueWaitTimer, SearchMetrics.Distribution batchSizeDistribution,
+				SearchMetrics.Timer batchDurationTimer) {
 			this.name = name;
 			this.processor = processor;
 			this.workQueue = workQueue;
 			this.maxTasksPerBatch = maxTasksPerBatch;
 			this.workBuffer = new ArrayList<>( maxTasksPerBatch );
+			this.queueWaitTimer = queueWaitTimer;
+			this.batchSizeDistribution = batchSizeDistribution;
+			this.batchDurationTimer = batchDurationTimer;
 		}
 
 		@Override
@@ -178,8 +231,13 @@ public CompletableFuture<?> work() {
 				ExecutorLog.INSTANCE.numberOfWorksInExecutor( workCount, name );
 			}
 
+			long batchStart = System.nanoTime();
+			batchSizeDistribution.record( workCount );
+
 			processor.beginBatch();
-			for ( W work : workBuffer ) {
+			for ( QueuedWork<W> queuedWork : workBuffer ) {
+				queueWaitTimer.recordNanos( batchStart - queuedWork.enqueueNanoTime );
+				W work = queuedWork.work;
 				try {
 					work.submitTo( processor );
 				}
@@ -190,6 +248,9 @@ public CompletableFuture<?> work() {
 
 			// Nothing more to do, end the batch and terminate
 			CompletableFuture<?> future = processor.endBatch();
+			future.whenComplete( (result, throwable) -> {
+				batchDurationTimer.recordNanos( System.nanoTime() - batchStart );
+			} );
 			if ( traceEnabled ) {
 				future.whenComplete( (result, throwable) -> {
 					ExecutorLog.INSTANCE.numberOfProcessedWorksInExecutor( workCount, name );
@@ -205,6 +266,19 @@ public void complete() {
 		}
 	}
 
+	/**
+	 * A work along with the time it was submitted, so that we can measure how long it waited in the queue.
+	 */
+	private static final class QueuedWork<W extends BatchedWork<?>> {
+		private final W work;
+		private final long enqueueNanoTime;
+
+		private QueuedWork(W work, long enqueueNanoTime) {
+			this.work = work;
+			this.enqueueNanoTime = enqueueNanoTime;
+		}
+	}
+
 	private static final class BatchScheduler implements SingletonTask.Scheduler {
 		private final SimpleScheduledExecutor delegate;
 
@@ -30,6 +30,7 @@ public final class SingletonTask {
 	private volatile boolean needsRun;
 	private volatile Future<?> nextExecutionFuture;
 	private volatile CompletableFuture<?> completionFuture;
+	private volatile CompletableFuture<?> currentRunFuture;
 
 	public SingletonTask(String name, Worker worker, Scheduler scheduler, FailureHandler failureHandler) {
 		this.name = name;
@@ -125,12 +126,18 @@ public CompletableFuture<?> completion() {
 	 * <p>
 	 * Callers must call this as the very last method on this object;
 	 * any concurrent call may lead to unpredictable results.
+	 *
+	 * @return A future that completes when the execution in progress, if any, is finished.
+	 * Scheduled executions that did not start yet are cancelled and will not be waited for.
 	 */
-	public void stop() {
+	public CompletableFuture<?> stop() {
 		cancelIfNotNull( nextExecutionFuture );
 		nextExecutionFuture = null;
 
 		cancelIfNotNull( completionFuture );
+
+		CompletableFuture<?> future = currentRunFuture;
+		return future == null ? CompletableFuture.completedFuture( null ) : future;
 	}
 
 	private void cancelIfNotNull(Future<?> futureToCancel) {
@@ -185,16 +192,20 @@ public RunnableWrapper(Worker worker) {
 
 		@Override
 		public void run() {
+			CompletableFuture<?> runFuture = new CompletableFuture<>();
+			currentRunFuture = runFuture;
 			// Reset "needsRun": we're going to run right now.
 			// It might be set again while we're running, in which case we'll re-schedule a run.
 			needsRun = false;
 			nextExecutionFuture = null;
 			try {
 				ExecutorLog.INSTANCE.runningTask( name );
-				worker.work().handle( workFinishedHandler );
+				worker.work().handle( workFinishedHandler )
+						.whenComplete( (ignored, throwable) -> runFuture.complete( null ) );
 			}
 			catch (Throwable e) {
 				onWorkFinished( null, e );
+				runFuture.complete( null );
 			}
 		}
 
@@ -6,6 +6,7 @@
 
 import java.util.Optional;
 
+import org.hibernate.search.engine.common.metrics.spi.SearchMetrics;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
 import org.hibernate.search.engine.environment.classpath.spi.ClassResolver;
@@ -30,6 +31,8 @@ public interface BackendBuildContext {
 
 	TimingSource timingSource();
 
+	SearchMetrics metrics();
+
 	boolean multiTenancyEnabled();
 
 	Optional<String> backendName();
@@ -8,6 +8,8 @@
 import java.util.List;
 
 import org.hibernate.search.engine.cfg.EngineSettings;
+import org.hibernate.search.engine.common.metrics.impl.NoOpSearchMetrics;
+import org.hibernate.search.engine.common.metrics.spi.SearchMetrics;
 import org.hibernate.search.engine.environment.bean.BeanReference;
 import org.hibernate.search.engine.environment.bean.spi.BeanConfigurer;
 import org.hibernate.search.engine.environment.thread.impl.EmbeddedThreadProvider;
@@ -47,6 +49,17 @@ private EngineSpiSettings() {
 	 */
 	public static final String THREAD_PROVIDER = PREFIX + Radicals.THREAD_PROVIDER;
 
+	/**
+	 * The {@link SearchMetrics} to report metrics to: queue sizes, batch sizes, commit durations, ...
+	 * <p>
+	 * Expects a reference to a bean of type {@link SearchMetrics}.
+	 * <p>
+	 * Defaults to {@link Defaults#METRICS}, which ignores all metrics.
+	 *
+	 * @see org.hibernate.search.engine.common.metrics.spi.SearchMetricNames
+	 */
+	public static final String METRICS = PREFIX + Radicals.METRICS;
+
 	/**
 	 * Configuration property keys without the {@link #PREFIX prefix}.
 	 */
@@ -57,6 +70,7 @@ private Radicals() {
 
 		public static final String BEAN_CONFIGURERS = "bean_configurers";
 		public static final String THREAD_PROVIDER = "thread_provider";
+		public static final String METRICS = "metrics";
 	}
 
 	/**
@@ -70,5 +84,7 @@ private Defaults() {
 		public static final List<BeanReference<? extends BeanConfigurer>> BEAN_CONFIGURERS = Collections.emptyList();
 		public static final BeanReference<? extends ThreadProvider> THREAD_PROVIDER =
 				BeanReference.of( ThreadProvider.class, EmbeddedThreadProvider.NAME );
+		public static final BeanReference<? extends SearchMetrics> METRICS =
+				BeanReference.of( SearchMetrics.class, NoOpSearchMetrics.NAME );
 	}
 }
@@ -5,6 +5,7 @@
 package org.hibernate.search.engine.common.impl;
 
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.common.metrics.spi.SearchMetrics;
 import org.hibernate.search.engine.common.resources.impl.EngineThreads;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
@@ -52,4 +53,8 @@ public EngineThreads engineThreads() {
 	public TimingSource timingSource() {
 		return delegate.getTimingSource();
 	}
+
+	public SearchMetrics metrics() {
+		return delegate.getMetrics();
+	}
 }
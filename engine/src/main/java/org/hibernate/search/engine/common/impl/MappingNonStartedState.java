@@ -8,6 +8,7 @@
 
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.engine.common.metrics.spi.SearchMetrics;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.mapper.mapping.building.spi.MappingKey;
@@ -33,10 +34,10 @@ void closeOnFailure() {
 
 	CompletableFuture<?> start(RootFailureCollector rootFailureCollector, BeanResolver beanResolver,
 			ConfigurationPropertySource propertySource, ThreadPoolProvider threadPoolProvider,
-			SearchIntegration.Handle integrationHandle) {
+			SearchMetrics metrics, SearchIntegration.Handle integrationHandle) {
 		ContextualFailureCollector mappingFailureCollector = rootFailureCollector.withContext( key );
 		MappingStartContextImpl startContext = new MappingStartContextImpl( mappingFailureCollector, beanResolver,
-				propertySource, threadPoolProvider, integrationHandle );
+				propertySource, threadPoolProvider, metrics, integrationHandle );
 		return mapping.start( startContext )
 				.exceptionally( Futures.handler( e -> {
 					mappingFailureCollector.add( Throwables.expectException( e ) );
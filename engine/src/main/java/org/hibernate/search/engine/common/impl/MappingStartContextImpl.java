@@ -6,6 +6,7 @@
 
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.engine.common.metrics.spi.SearchMetrics;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.mapper.mapping.spi.MappingStartContext;
@@ -16,16 +17,19 @@ class MappingStartContextImpl implements MappingStartContext {
 	private final BeanResolver beanResolver;
 	private final ConfigurationPropertySource configurationPropertySource;
 	private final ThreadPoolProvider threadPoolProvider;
+	private final SearchMetrics metrics;
 	private final SearchIntegration.Handle integrationHandle;
 
 	MappingStartContextImpl(ContextualFailureCollector failureCollector,
 			BeanResolver beanResolver,
 			ConfigurationPropertySource configurationPropertySource,
-			ThreadPoolProvider threadPoolProvider, SearchIntegration.Handle integrationHandle) {
+			ThreadPoolProvider threadPoolProvider, SearchMetrics metrics,
+			SearchIntegration.Handle integrationHandle) {
 		this.failureCollector = failureCollector;
 		this.beanResolver = beanResolver;
 		this.configurationPropertySource = configurationPropertySource;
 		this.threadPoolProvider = threadPoolProvider;
+		this.metrics = metrics;
 		this.integrationHandle = integrationHandle;
 	}
 
@@ -49,6 +53,11 @@ public ThreadPoolProvider threadPoolProvider() {
 		return threadPoolProvider;
 	}
 
+	@Override
+	public SearchMetrics metrics() {
+		return metrics;
+	}
+
 	@Override
 	public SearchIntegration.Handle integrationHandle() {
 		return integrationHandle;
@@ -5,6 +5,7 @@
 package org.hibernate.search.engine.common.impl;
 
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.common.metrics.spi.SearchMetrics;
 import org.hibernate.search.engine.common.resources.impl.EngineThreads;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
@@ -28,13 +29,14 @@ class RootBuildContext {
 
 	private final EngineThreads engineThreads;
 	private final TimingSource timingSource;
+	private final SearchMetrics metrics;
 
 	RootBuildContext(ConfigurationPropertySource propertySource,
 			ClassResolver classResolver, ResourceResolver resourceResolver,
 			BeanResolver beanResolver,
 			FailureCollector failureCollector,
 			ThreadPoolProvider threadPoolProvider, FailureHandler failureHandler,
-			EngineThreads engineThreads, TimingSource timingSource) {
+			EngineThreads engineThreads, TimingSource timingSource, SearchMetrics metrics) {
 		this.propertySource = propertySource;
 		this.classResolver = classResolver;
 		this.resourceResolver = resourceResolver;
@@ -44,6 +46,7 @@ class RootBuildContext {
 		this.failureHandler = failureHandler;
 		this.engineThreads = engineThreads;
 		this.timingSource = timingSource;
+		this.metrics = metrics;
 	}
 
 	ConfigurationPropertySource getConfigurationPropertySource() {
@@ -81,4 +84,8 @@ EngineThreads getEngineThreads() {
 	TimingSource getTimingSource() {
 		return timingSource;
 	}
+
+	SearchMetrics getMetrics() {
+		return metrics;
+	}
 }
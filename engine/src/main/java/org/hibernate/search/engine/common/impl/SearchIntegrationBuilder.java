@@ -15,6 +15,7 @@
 import org.hibernate.search.engine.cfg.EngineSettings;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.EngineSpiSettings;
+import org.hibernate.search.engine.common.metrics.spi.SearchMetrics;
 import org.hibernate.search.engine.common.resources.impl.EngineThreads;
 import org.hibernate.search.engine.common.spi.SearchIntegration;
 import org.hibernate.search.engine.common.spi.SearchIntegrationEnvironment;
@@ -60,6 +61,12 @@ public class SearchIntegrationBuilder implements SearchIntegration.Builder {
 					.withDefault( EngineSpiSettings.Defaults.THREAD_PROVIDER )
 					.build();
 
+	private static final ConfigurationProperty<BeanReference<? extends SearchMetrics>> METRICS =
+			ConfigurationProperty.forKey( EngineSpiSettings.Radicals.METRICS )
+					.asBeanReference( SearchMetrics.class )
+					.withDefault( EngineSpiSettings.Defaults.METRICS )
+					.build();
+
 	private final SearchIntegrationEnvironment environment;
 	private final Optional<SearchIntegrationImpl> previousIntegration;
 	private final Map<MappingKey<?, ?>, MappingInitiator<?, ?>> mappingInitiators = new LinkedHashMap<>();
@@ -100,6 +107,7 @@ public SearchIntegrationPartialBuildState prepareBuild() {
 		BeanResolver beanResolver = environment.beanResolver();
 		BeanHolder<? extends FailureHandler> failureHandlerHolder = null;
 		BeanHolder<? extends ThreadProvider> threadProviderHolder = null;
+		BeanHolder<? extends SearchMetrics> metricsHolder = null;
 		IndexManagerBuildingStateHolder indexManagerBuildingStateHolder = null;
 		// Use a LinkedHashMap for deterministic iteration
 		List<MappingBuildingState<?, ?>> mappingBuildingStates = new ArrayList<>();
@@ -118,6 +126,8 @@ public SearchIntegrationPartialBuildState prepareBuild() {
 					.withDependencyAutoClosing( failureHandlerHolder );
 			FailureHandler failureHandler = failureHandlerHolder.get();
 
+			metricsHolder = METRICS.getAndTransform( propertySource, beanResolver::resolve );
+
 			threadProviderHolder = THREAD_PROVIDER.getAndTransform( propertySource, beanResolver::resolve );
 			ThreadPoolProviderImpl threadPoolProvider = new ThreadPoolProviderImpl( threadProviderHolder );
 			engineThreads = new EngineThreads( threadPoolProvider );
@@ -127,7 +137,7 @@ public SearchIntegrationPartialBuildState prepareBuild() {
 					propertySource,
 					environment.classResolver(), environment.resourceResolver(), beanResolver,
 					failureCollector, threadPoolProvider, failureHandler,
-					engineThreads, timingSource
+					engineThreads, timingSource, metricsHolder.get()
 			);
 
 			indexManagerBuildingStateHolder =
@@ -191,7 +201,7 @@ public SearchIntegrationPartialBuildState prepareBuild() {
 
 			return new SearchIntegrationPartialBuildStateImpl(
 					environment.beanProvider(), beanResolver,
-					failureHandlerHolder,
+					failureHandlerHolder, metricsHolder,
 					threadPoolProvider,
 					partiallyBuiltMappings,
 					indexManagerBuildingStateHolder.getBackendNonStartedStates(),
@@ -230,6 +240,7 @@ public SearchIntegrationPartialBuildState prepareBuild() {
 			SuppressingCloser closer = new SuppressingCloser( rethrownException );
 			// Release the failure handler before aborting
 			closer.push( failureHandlerHolder );
+			closer.push( metricsHolder );
 			// Close the mappers and mappings created so far before aborting
 			closer.pushAll( MappingPartialBuildState::closeOnFailure, partiallyBuiltMappings.values() );
 			closer.pushAll( MappingBuildingState::closeOnFailure, mappingBuildingStates );
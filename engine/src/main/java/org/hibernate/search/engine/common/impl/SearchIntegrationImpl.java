@@ -17,6 +17,7 @@
 import org.hibernate.search.engine.backend.index.IndexManager;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor;
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
+import org.hibernate.search.engine.common.metrics.spi.SearchMetrics;
 import org.hibernate.search.engine.common.resources.impl.EngineThreads;
 import org.hibernate.search.engine.common.resources.spi.SavedState;
 import org.hibernate.search.engine.common.spi.SearchIntegration;
@@ -45,6 +46,7 @@ public class SearchIntegrationImpl implements SearchIntegration {
 
 	private final BeanProvider beanProvider;
 	private final BeanHolder<? extends FailureHandler> failureHandlerHolder;
+	private final BeanHolder<? extends SearchMetrics> metricsHolder;
 	private final ThreadPoolProviderImpl threadPoolProvider;
 
 	private final Map<MappingKey<?, ?>, MappingImplementor<?>> mappings;
@@ -56,6 +58,7 @@ public class SearchIntegrationImpl implements SearchIntegration {
 
 	SearchIntegrationImpl(BeanProvider beanProvider,
 			BeanHolder<? extends FailureHandler> failureHandlerHolder,
+			BeanHolder<? extends SearchMetrics> metricsHolder,
 			ThreadPoolProviderImpl threadPoolProvider,
 			Map<MappingKey<?, ?>, MappingImplementor<?>> mappings,
 			Map<String, BackendImplementor> backends,
@@ -63,6 +66,7 @@ public class SearchIntegrationImpl implements SearchIntegration {
 			EngineThreads engineThreads, TimingSource timingSource) {
 		this.beanProvider = beanProvider;
 		this.failureHandlerHolder = failureHandlerHolder;
+		this.metricsHolder = metricsHolder;
 		this.threadPoolProvider = threadPoolProvider;
 		this.mappings = mappings;
 		this.backends = backends;
@@ -159,6 +163,7 @@ public void close() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
 			closer.pushAll( ThreadPoolProviderImpl::close, threadPoolProvider );
 			closer.pushAll( BeanHolder::close, failureHandlerHolder );
+			closer.pushAll( BeanHolder::close, metricsHolder );
 			closer.pushAll( BeanProvider::close, beanProvider );
 			closer.pushAll( EngineThreads::onStop, engineThreads );
 			closer.pushAll( TimingSource::stop, timingSource );
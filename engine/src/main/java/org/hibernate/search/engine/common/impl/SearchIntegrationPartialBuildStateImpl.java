@@ -16,6 +16,7 @@
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertyChecker;
+import org.hibernate.search.engine.common.metrics.spi.SearchMetrics;
 import org.hibernate.search.engine.common.resources.impl.EngineThreads;
 import org.hibernate.search.engine.common.resources.spi.SavedState;
 import org.hibernate.search.engine.common.spi.SearchIntegration;
@@ -46,6 +47,7 @@ class SearchIntegrationPartialBuildStateImpl implements SearchIntegrationPartial
 	private final BeanProvider beanProvider;
 	private final BeanResolver beanResolver;
 	private final BeanHolder<? extends FailureHandler> failureHandlerHolder;
+	private final BeanHolder<? extends SearchMetrics> metricsHolder;
 	private final ThreadPoolProviderImpl threadPoolProvider;
 
 	private final Map<MappingKey<?, ?>, MappingPartialBuildState> partiallyBuiltMappings;
@@ -67,6 +69,7 @@ class SearchIntegrationPartialBuildStateImpl implements SearchIntegrationPartial
 	SearchIntegrationPartialBuildStateImpl(
 			BeanProvider beanProvider, BeanResolver beanResolver,
 			BeanHolder<? extends FailureHandler> failureHandlerHolder,
+			BeanHolder<? extends SearchMetrics> metricsHolder,
 			ThreadPoolProviderImpl threadPoolProvider,
 			Map<MappingKey<?, ?>, MappingPartialBuildState> partiallyBuiltMappings,
 			Map<String, BackendNonStartedState> nonStartedBackends,
@@ -77,6 +80,7 @@ class SearchIntegrationPartialBuildStateImpl implements SearchIntegrationPartial
 		this.beanProvider = beanProvider;
 		this.beanResolver = beanResolver;
 		this.failureHandlerHolder = failureHandlerHolder;
+		this.metricsHolder = metricsHolder;
 		this.threadPoolProvider = threadPoolProvider;
 		this.partiallyBuiltMappings = partiallyBuiltMappings;
 		this.nonStartedBackends = nonStartedBackends;
@@ -99,6 +103,7 @@ public void closeOnFailure() {
 			closer.pushAll( BackendImplementor::stop, startedBackends.values() );
 			closer.pushAll( ThreadPoolProviderImpl::close, threadPoolProvider );
 			closer.pushAll( BeanHolder::close, failureHandlerHolder );
+			closer.pushAll( BeanHolder::close, metricsHolder );
 			closer.pushAll( BeanProvider::close, beanProvider );
 			closer.pushAll( EngineThreads::onStop, engineThreads );
 			closer.pushAll( TimingSource::stop, timingSource );
@@ -220,7 +225,7 @@ public SearchIntegration finalizeIntegration() {
 			// Start
 			for ( MappingNonStartedState state : fullyBuiltNonStartedMappings.values() ) {
 				mappingFutures[mappingIndex] = state.start( failureCollector, beanResolver, propertySource,
-						threadPoolProvider, integrationHandle );
+						threadPoolProvider, metricsHolder.get(), integrationHandle );
 				++mappingIndex;
 			}
 			// Wait for the starting operation to finish
@@ -235,7 +240,7 @@ public SearchIntegration finalizeIntegration() {
 
 			SearchIntegrationImpl integration = new SearchIntegrationImpl(
 					beanProvider,
-					failureHandlerHolder,
+					failureHandlerHolder, metricsHolder,
 					threadPoolProvider,
 					fullyBuiltStartedMappings,
 					startedBackends,
@@ -0,0 +1,67 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.engine.common.metrics.impl;
+
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import org.hibernate.search.engine.common.metrics.spi.SearchMetrics;
+
+public final class NoOpSearchMetrics
+		implements SearchMetrics, SearchMetrics.Counter, SearchMetrics.Distribution, SearchMetrics.Timer,
+		SearchMetrics.Registration {
+
+	public static final String NAME = "no-op";
+
+	public static final NoOpSearchMetrics INSTANCE = new NoOpSearchMetrics();
+
+	private NoOpSearchMetrics() {
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName();
+	}
+
+	@Override
+	public Counter counter(String name, Map<String, String> tags) {
+		return this;
+	}
+
+	@Override
+	public Distribution distribution(String name, Map<String, String> tags) {
+		return this;
+	}
+
+	@Override
+	public Timer timer(String name, Map<String, String> tags) {
+		return this;
+	}
+
+	@Override
+	public Registration gauge(String name, Map<String, String> tags, LongSupplier value) {
+		return this;
+	}
+
+	@Override
+	public void increment(long amount) {
+		// No-op
+	}
+
+	@Override
+	public void record(long value) {
+		// No-op
+	}
+
+	@Override
+	public void recordNanos(long durationNanos) {
+		// No-op
+	}
+
+	@Override
+	public void close() {
+		// No-op
+	}
+}
@@ -0,0 +1,179 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.engine.common.metrics.spi;
+
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * A simple implementation of {@link SearchMetrics} that keeps aggregated values in memory,
+ * mainly useful for tests and diagnostics.
+ * <p>
+ * Distributions and timers only keep the count, total and maximum of recorded values.
+ */
+public final class InMemorySearchMetrics implements SearchMetrics {
+
+	private final ConcurrentMap<MeterId, InMemoryCounter> counters = new ConcurrentHashMap<>();
+	private final ConcurrentMap<MeterId, InMemoryDistribution> distributions = new ConcurrentHashMap<>();
+	private final ConcurrentMap<MeterId, InMemoryTimer> timers = new ConcurrentHashMap<>();
+	private final ConcurrentMap<MeterId, GaugeRegistration> gauges = new ConcurrentHashMap<>();
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "counters=" + counters.keySet()
+				+ ", distributions=" + distributions.keySet()
+				+ ", timers=" + timers.keySet()
+				+ ", gauges=" + gauges.keySet()
+				+ "]";
+	}
+
+	@Override
+	public InMemoryCounter counter(String name, Map<String, String> tags) {
+		return counters.computeIfAbsent( new MeterId( name, tags ), ignored -> new InMemoryCounter() );
+	}
+
+	@Override
+	public InMemoryDistribution distribution(String name, Map<String, String> tags) {
+		return distributions.computeIfAbsent( new MeterId( name, tags ), ignored -> new InMemoryDistribution() );
+	}
+
+	@Override
+	public InMemoryTimer timer(String name, Map<String, String> tags) {
+		return timers.computeIfAbsent( new MeterId( name, tags ), ignored -> new InMemoryTimer() );
+	}
+
+	@Override
+	public Registration gauge(String name, Map<String, String> tags, LongSupplier value) {
+		MeterId id = new MeterId( name, tags );
+		GaugeRegistration registration = new GaugeRegistration( id, value );
+		gauges.put( id, registration );
+		return registration;
+	}
+
+	/**
+	 * @param name The name of the gauge.
+	 * @param tags The tags of the gauge.
+	 * @return The current value of the gauge, or an empty optional if there is no such gauge.
+	 */
+	public OptionalLong gaugeValue(String name, Map<String, String> tags) {
+		GaugeRegistration registration = gauges.get( new MeterId( name, tags ) );
+		return registration == null ? OptionalLong.empty() : OptionalLong.of( registration.value.getAsLong() );
+	}
+
+	/**
+	 * Removes all meters and registered gauges.
+	 */
+	public void clear() {
+		counters.clear();
+		distributions.clear();
+		timers.clear();
+		gauges.clear();
+	}
+
+	public static final class InMemoryCounter implements Counter {
+		private final LongAdder count = new LongAdder();
+
+		private InMemoryCounter() {
+		}
+
+		@Override
+		public String toString() {
+			return "InMemoryCounter[count=" + count() + "]";
+		}
+
+		@Override
+		public void increment(long amount) {
+			count.add( amount );
+		}
+
+		public long count() {
+			return count.sum();
+		}
+	}
+
+	public static class InMemoryDistribution implements Distribution {
+		private final LongAdder count = new LongAdder();
+		private final LongAdder total = new LongAdder();
+		private final LongAccumulator max = new LongAccumulator( Math::max, 0L );
+
+		private InMemoryDistribution() {
+		}
+
+		@Override
+		public String toString() {
+			return getClass().getSimpleName() + "[count=" + count() + ", total=" + total() + ", max=" + max() + "]";
+		}
+
+		@Override
+		public void record(long value) {
+			count.increment();
+			total.add( value );
+			max.accumulate( value );
+		}
+
+		/**
+		 * @return The number of recorded values.
+		 */
+		public long count() {
+			return count.sum();
+		}
+
+		/**
+		 * @return The sum of recorded values.
+		 */
+		public long total() {
+			return total.sum();
+		}
+
+		/**
+		 * @return The highest recorded value, or {@code 0} if no value was recorded.
+		 */
+		public long max() {
+			return max.get();
+		}
+	}
+
+	/**
+	 * A timer; {@link #total()} and {@link #max()} are expressed in nanoseconds.
+	 */
+	public static final class InMemoryTimer extends InMemoryDistribution implements Timer {
+		private InMemoryTimer() {
+		}
+
+		@Override
+		public void recordNanos(long durationNanos) {
+			record( durationNanos );
+		}
+	}
+
+	private final class GaugeRegistration implements Registration {
+		private final MeterId id;
+		private final LongSupplier value;
+
+		private GaugeRegistration(MeterId id, LongSupplier value) {
+			this.id = id;
+			this.value = value;
+		}
+
+		@Override
+		public void close() {
+			// Only remove the gauge if it was not replaced in the meantime
+			gauges.remove( id, this );
+		}
+	}
+
+	private record MeterId(String name, Map<String, String> tags) {
+		private MeterId {
+			tags = Map.copyOf( tags );
+		}
+	}
+
+}
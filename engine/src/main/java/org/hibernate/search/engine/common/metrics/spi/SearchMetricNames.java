@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.engine.common.metrics.spi;
+
+/**
+ * Names and tag keys of the meters reported to {@link SearchMetrics} by Hibernate Search itself.
+ */
+public final class SearchMetricNames {
+
+	private SearchMetricNames() {
+	}
+
+	private static final String PREFIX = "hibernate.search.";
+
+	/**
+	 * Tag holding the name of the index a meter relates to.
+	 */
+	public static final String TAG_INDEX = "index";
+
+	/**
+	 * Tag holding the identifier of the shard a meter relates to, if the index is sharded.
+	 */
+	public static final String TAG_SHARD = "shard";
+
+	/**
+	 * Tag holding the number of the indexing queue a meter relates to,
+	 * when an index has multiple queues.
+	 */
+	public static final String TAG_QUEUE = "queue";
+
+	/**
+	 * Tag holding the name of the event processor a meter relates to,
+	 * for coordination strategies in particular.
+	 */
+	public static final String TAG_PROCESSOR = "processor";
+
+	/**
+	 * Gauge: the number of works currently waiting in the queue of an executor.
+	 */
+	public static final String EXECUTOR_QUEUE_SIZE = PREFIX + "executor.queue.size";
+
+	/**
+	 * Gauge: the maximum number of works that can wait in the queue of an executor.
+	 */
+	public static final String EXECUTOR_QUEUE_CAPACITY = PREFIX + "executor.queue.capacity";
+
+	/**
+	 * Timer: how long each work waited in the queue of an executor before being processed.
+	 */
+	public static final String EXECUTOR_QUEUE_WAIT = PREFIX + "executor.queue.wait";
+
+	/**
+	 * Distribution: the number of works in each batch processed by an executor.
+	 */
+	public static final String EXECUTOR_BATCH_SIZE = PREFIX + "executor.batch.size";
+
+	/**
+	 * Timer: how long it took to process each batch of works, up to the completion of the batch
+	 * (e.g. a commit or a bulk request).
+	 */
+	public static final String EXECUTOR_BATCH_DURATION = PREFIX + "executor.batch.duration";
+
+	/**
+	 * Timer: how long each commit of an index took.
+	 */
+	public static final String INDEX_COMMIT_DURATION = PREFIX + "index.commit.duration";
+
+	/**
+	 * Counter: the number of coordination events processed by an event processor.
+	 */
+	public static final String COORDINATION_EVENTS_PROCESSED = PREFIX + "coordination.events.processed";
+
+	/**
+	 * Distribution: the number of coordination events in each batch processed by an event processor.
+	 */
+	public static final String COORDINATION_BATCH_SIZE = PREFIX + "coordination.batch.size";
+
+	/**
+	 * Timer: how long it took an event processor to process each batch of coordination events.
+	 */
+	public static final String COORDINATION_BATCH_DURATION = PREFIX + "coordination.batch.duration";
+
+}
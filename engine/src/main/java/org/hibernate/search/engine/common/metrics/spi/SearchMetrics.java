@@ -0,0 +1,98 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.engine.common.metrics.spi;
+
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import org.hibernate.search.engine.common.metrics.impl.NoOpSearchMetrics;
+
+/**
+ * A sink for metrics about the internals of Hibernate Search:
+ * work queues, batches, commits, ...
+ * <p>
+ * Meters are identified by a name (see {@link SearchMetricNames}) and a set of tags
+ * (e.g. the name of the index and shard they relate to).
+ * Components are expected to retrieve their meters once, when they start,
+ * and to reuse them afterwards:
+ * implementations are free to make meter retrieval relatively costly,
+ * but recording a value must be cheap and thread-safe.
+ * <p>
+ * Implementations can be plugged in through
+ * {@link org.hibernate.search.engine.cfg.spi.EngineSpiSettings#METRICS},
+ * for example to bridge to a metrics library.
+ * By default, metrics are {@link #noOp() ignored}.
+ */
+public interface SearchMetrics {
+
+	/**
+	 * @param name The name of the counter.
+	 * @param tags The tags of the counter.
+	 * @return A counter, i.e. a value that can only be incremented.
+	 */
+	Counter counter(String name, Map<String, String> tags);
+
+	/**
+	 * @param name The name of the distribution.
+	 * @param tags The tags of the distribution.
+	 * @return A distribution, i.e. a sink for independent values whose distribution (count, total, max, ...) matters.
+	 */
+	Distribution distribution(String name, Map<String, String> tags);
+
+	/**
+	 * @param name The name of the timer.
+	 * @param tags The tags of the timer.
+	 * @return A timer, i.e. a distribution of durations.
+	 */
+	Timer timer(String name, Map<String, String> tags);
+
+	/**
+	 * Registers a gauge, i.e. a value that is sampled on demand.
+	 * <p>
+	 * Registering a gauge with the same name and tags as a previously registered gauge
+	 * replaces the previous gauge.
+	 *
+	 * @param name The name of the gauge.
+	 * @param tags The tags of the gauge.
+	 * @param value A supplier for the current value of the gauge. Must be thread-safe.
+	 * @return A registration, to be {@link Registration#close() closed}
+	 * when the gauge no longer makes sense (e.g. when the executor it samples is stopped).
+	 */
+	Registration gauge(String name, Map<String, String> tags, LongSupplier value);
+
+	/**
+	 * @return Metrics that ignore every recorded value.
+	 */
+	static SearchMetrics noOp() {
+		return NoOpSearchMetrics.INSTANCE;
+	}
+
+	interface Counter {
+		/**
+		 * @param amount The amount to add to this counter.
+		 */
+		void increment(long amount);
+	}
+
+	interface Distribution {
+		/**
+		 * @param value The value to record.
+		 */
+		void record(long value);
+	}
+
+	interface Timer {
+		/**
+		 * @param durationNanos The duration to record, in nanoseconds.
+		 */
+		void recordNanos(long durationNanos);
+	}
+
+	interface Registration extends AutoCloseable {
+		@Override
+		void close();
+	}
+
+}
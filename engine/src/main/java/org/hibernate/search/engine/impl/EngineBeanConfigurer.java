@@ -4,6 +4,8 @@
  */
 package org.hibernate.search.engine.impl;
 
+import org.hibernate.search.engine.common.metrics.impl.NoOpSearchMetrics;
+import org.hibernate.search.engine.common.metrics.spi.SearchMetrics;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.spi.BeanConfigurationContext;
 import org.hibernate.search.engine.environment.bean.spi.BeanConfigurer;
@@ -23,5 +25,9 @@ public void configure(BeanConfigurationContext context) {
 				FailureHandler.class, LogFailureHandler.NAME,
 				beanResolver -> BeanHolder.of( new LogFailureHandler() )
 		);
+		context.define(
+				SearchMetrics.class, NoOpSearchMetrics.NAME,
+				beanResolver -> BeanHolder.of( NoOpSearchMetrics.INSTANCE )
+		);
 	}
 }
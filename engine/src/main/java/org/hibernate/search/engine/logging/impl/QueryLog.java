@@ -9,6 +9,7 @@
 
 import java.lang.invoke.MethodHandles;
 import java.time.Duration;
+import java.util.Set;
 
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.common.RewriteMethod;
@@ -182,5 +183,29 @@ SearchException unexpectedQueryParameterType(String name, @FormatWith(ClassForma
 	SearchException namedValuesParameterIncorrectType(String name, @FormatWith(ClassFormatter.class) Class<?> expected,
 			@FormatWith(ClassFormatter.class) Class<?> actual);
 
+	@Message(id = ID_OFFSET + 135,
+			value = "Invalid number of candidates for a knn predicate: '%1$s'."
+					+ " The number of candidates must be greater than or equal to k ('%2$s').")
+	SearchException knnNumCandidatesLowerThanK(int numCandidates, int k);
+
+	@Message(id = ID_OFFSET + 136,
+			value = "Invalid oversampling factor for a knn predicate: '%1$s'."
+					+ " The oversampling factor must be greater than or equal to 1.")
+	SearchException knnInvalidOversampleFactor(float factor);
+
+	@Message(id = ID_OFFSET + 137,
+			value = "Invalid weight for a rank fusion clause: '%1$s'. The weight must be positive or zero.")
+	SearchException rankFusionInvalidWeight(float weight);
+
+	@Message(id = ID_OFFSET + 138,
+			value = "Invalid rank fusion predicate: no clause was added."
+					+ " Add at least one clause using the add(...) methods.")
+	SearchException rankFusionWithoutClauses();
+
+	@Message(id = ID_OFFSET + 139,
+			value = "Unable to bind a prepared query to a scope targeting indexes %2$s:"
+					+ " the prepared query targets indexes %1$s."
+					+ " Bind the prepared query to a scope targeting the same indexes.")
+	SearchException preparedQueryBoundToDifferentIndexes(Set<String> preparedIndexNames, Set<String> boundIndexNames);
 
 }
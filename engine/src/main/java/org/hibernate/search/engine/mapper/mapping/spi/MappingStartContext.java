@@ -5,6 +5,7 @@
 package org.hibernate.search.engine.mapper.mapping.spi;
 
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.common.metrics.spi.SearchMetrics;
 import org.hibernate.search.engine.common.spi.SearchIntegration;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
@@ -42,6 +43,11 @@ public interface MappingStartContext {
 	 */
 	ThreadPoolProvider threadPoolProvider();
 
+	/**
+	 * @return Metrics to report to, e.g. when processing background work.
+	 */
+	SearchMetrics metrics();
+
 	/**
 	 * @return A {@link SearchIntegration.Handle} to access the {@link SearchIntegration}.
 	 */
@@ -13,9 +13,13 @@
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContextBuilder;
 import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
 import org.hibernate.search.engine.search.projection.dsl.SearchProjectionFactory;
+import org.hibernate.search.engine.search.query.SearchBoundPreparedQuery;
+import org.hibernate.search.engine.search.query.SearchPreparedQuery;
 import org.hibernate.search.engine.search.query.dsl.SearchQuerySelectStep;
 import org.hibernate.search.engine.search.query.dsl.impl.DefaultSearchQuerySelectStep;
+import org.hibernate.search.engine.search.query.impl.SearchPreparedQueryImpl;
 import org.hibernate.search.engine.search.sort.dsl.SearchSortFactory;
+import org.hibernate.search.util.common.impl.Contracts;
 
 class MappedIndexScopeImpl<SR, R, E> implements MappedIndexScope<SR, R, E> {
 
@@ -37,6 +41,15 @@ public String toString() {
 		return new DefaultSearchQuerySelectStep<>( delegate.searchScope(), sessionContext, loadingContextBuilder );
 	}
 
+	@Override
+	public <H> SearchBoundPreparedQuery<H> bind(SearchPreparedQuery<H> preparedQuery,
+			BackendSessionContext sessionContext,
+			SearchLoadingContextBuilder<E, ?> loadingContextBuilder) {
+		Contracts.assertNotNull( preparedQuery, "preparedQuery" );
+		return ( (SearchPreparedQueryImpl<H>) preparedQuery ).bind( delegate.searchScope(), sessionContext,
+				loadingContextBuilder );
+	}
+
 	@Override
 	public SearchPredicateFactory<SR> predicate() {
 		return delegate.searchScope().predicateFactory();
@@ -11,6 +11,8 @@
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContextBuilder;
 import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
 import org.hibernate.search.engine.search.projection.dsl.SearchProjectionFactory;
+import org.hibernate.search.engine.search.query.SearchBoundPreparedQuery;
+import org.hibernate.search.engine.search.query.SearchPreparedQuery;
 import org.hibernate.search.engine.search.query.dsl.SearchQuerySelectStep;
 import org.hibernate.search.engine.search.sort.dsl.SearchSortFactory;
 
@@ -35,6 +37,19 @@
 			BackendSessionContext sessionContext,
 			SearchLoadingContextBuilder<E, LOS> loadingContextBuilder);
 
+	/**
+	 * @param preparedQuery A prepared query targeting the same indexes as this scope.
+	 * @param sessionContext The session to execute the query in.
+	 * @param loadingContextBuilder The builder for the loading context to use when executing the query.
+	 * @param <H> The type of query hits.
+	 * @return The prepared query, bound to the given session.
+	 * @throws org.hibernate.search.util.common.SearchException If the prepared query
+	 * does not target the same indexes as this scope.
+	 */
+	<H> SearchBoundPreparedQuery<H> bind(SearchPreparedQuery<H> preparedQuery,
+			BackendSessionContext sessionContext,
+			SearchLoadingContextBuilder<E, ?> loadingContextBuilder);
+
 	SearchPredicateFactory<SR> predicate();
 
 	SearchSortFactory<SR> sort();
@@ -42,4 +42,42 @@ KnnPredicateOptionsStep<SR> filter(
 	@Incubating
 	KnnPredicateOptionsStep<SR> requiredMinimumScore(float score);
 
+	/**
+	 * @param numCandidates The number of nearest neighbor candidates to gather through approximate search,
+	 * before keeping the {@code k} best ones.
+	 * <p>
+	 * Higher values lead to a better recall, i.e. it becomes more likely that the actual nearest neighbors are found,
+	 * at the cost of slower searches.
+	 * Must be greater than or equal to {@code k}. Defaults to {@code k}.
+	 * @return {@code this}, for method chaining.
+	 * @see #oversample(float)
+	 */
+	@Incubating
+	KnnPredicateOptionsStep<SR> numCandidates(int numCandidates);
+
+	/**
+	 * @param factor An oversampling factor: the number of nearest neighbor candidates
+	 * to gather through approximate search will be {@code k} multiplied by this factor, rounded up.
+	 * Must be greater than or equal to {@code 1}.
+	 * <p>
+	 * This is an alternative to {@link #numCandidates(int)}.
+	 * @return {@code this}, for method chaining.
+	 */
+	@Incubating
+	KnnPredicateOptionsStep<SR> oversample(float factor);
+
+	/**
+	 * Recomputes the similarity of each candidate using its original vector,
+	 * before keeping the {@code k} best ones.
+	 * <p>
+	 * Useful when vectors are quantized, in which case candidates are initially scored
+	 * according to their (less accurate) quantized vectors.
+	 * Best combined with {@link #numCandidates(int) a number of candidates} higher than {@code k}.
+	 * <p>
+	 * Not all backends support this option.
+	 * @return {@code this}, for method chaining.
+	 */
+	@Incubating
+	KnnPredicateOptionsStep<SR> exactRescoring();
+
 }
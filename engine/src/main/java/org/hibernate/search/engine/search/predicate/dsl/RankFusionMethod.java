@@ -0,0 +1,40 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.engine.search.predicate.dsl;
+
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * The method used by a {@link SearchPredicateFactory#rankFusion() rank fusion predicate}
+ * to fuse the top hits of its clauses into a single ranking.
+ */
+@Incubating
+public enum RankFusionMethod {
+
+	/**
+	 * Reciprocal rank fusion (RRF).
+	 * <p>
+	 * The score of each document is the sum, for every clause,
+	 * of the clause weight divided by the sum of the {@link RankFusionPredicateOptionsStep#rankConstant(int) rank constant}
+	 * and the rank of the document in the top hits of that clause.
+	 * <p>
+	 * Only ranks are taken into account, not scores,
+	 * which makes this method suitable for clauses whose scores are on different scales,
+	 * e.g. full-text and vector search.
+	 * <p>
+	 * This is the default.
+	 */
+	RECIPROCAL_RANK,
+
+	/**
+	 * Weighted sum of normalized scores.
+	 * <p>
+	 * The scores of the top hits of each clause are normalized to the {@code [0, 1]} range
+	 * using min-max normalization,
+	 * then the score of each document is the weighted sum of its normalized scores.
+	 */
+	NORMALIZED_SCORE
+
+}
@@ -0,0 +1,76 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.engine.search.predicate.dsl;
+
+import java.util.function.Function;
+
+import org.hibernate.search.engine.search.predicate.SearchPredicate;
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * The initial and final step in a "rank fusion" predicate definition,
+ * where clauses can be added and options can be set.
+ * <p>
+ * Each clause is executed separately, then the top hits of all clauses are fused into a single ranking:
+ * this is useful to combine clauses whose scores cannot be compared directly,
+ * e.g. a full-text {@link SearchPredicateFactory#match() match} predicate
+ * and a vector search {@link SearchPredicateFactory#knn(int) knn} predicate.
+ *
+ * @param <SR> Scope root type.
+ * @param <S> The "self" type (the actual exposed type of this step).
+ */
+@Incubating
+public interface RankFusionPredicateClausesStep<SR, S extends RankFusionPredicateClausesStep<SR, ?>>
+		extends RankFusionPredicateOptionsStep<S> {
+
+	/**
+	 * Add a clause to be fused, with a weight of {@code 1}.
+	 *
+	 * @param searchPredicate The predicate to add as a clause.
+	 * @return {@code this}, for method chaining.
+	 */
+	S add(SearchPredicate searchPredicate);
+
+	/**
+	 * Add a clause to be fused, with a weight of {@code 1}.
+	 *
+	 * @param dslFinalStep A final step in the predicate DSL allowing the retrieval of a {@link SearchPredicate}.
+	 * @return {@code this}, for method chaining.
+	 */
+	default S add(PredicateFinalStep dslFinalStep) {
+		return add( dslFinalStep.toPredicate() );
+	}
+
+	/**
+	 * Add a clause to be fused, with a weight of {@code 1}.
+	 *
+	 * @param clauseContributor A function that will use the factory passed in parameter to create a predicate,
+	 * returning the final step in the predicate DSL.
+	 * Should generally be a lambda expression.
+	 * @return {@code this}, for method chaining.
+	 */
+	S add(Function<? super SearchPredicateFactory<SR>, ? extends PredicateFinalStep> clauseContributor);
+
+	/**
+	 * Add a clause to be fused, with the given weight.
+	 *
+	 * @param searchPredicate The predicate to add as a clause.
+	 * @param weight The weight of this clause in the fused ranking. Must be positive or zero.
+	 * @return {@code this}, for method chaining.
+	 */
+	S add(SearchPredicate searchPredicate, float weight);
+
+	/**
+	 * Add a clause to be fused, with the given weight.
+	 *
+	 * @param dslFinalStep A final step in the predicate DSL allowing the retrieval of a {@link SearchPredicate}.
+	 * @param weight The weight of this clause in the fused ranking. Must be positive or zero.
+	 * @return {@code this}, for method chaining.
+	 */
+	default S add(PredicateFinalStep dslFinalStep, float weight) {
+		return add( dslFinalStep.toPredicate(), weight );
+	}
+
+}
@@ -0,0 +1,41 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.engine.search.predicate.dsl;
+
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * The final step in a "rank fusion" predicate definition, where optional parameters can be set.
+ *
+ * @param <S> The "self" type (the actual exposed type of this step).
+ */
+@Incubating
+public interface RankFusionPredicateOptionsStep<S extends RankFusionPredicateOptionsStep<?>>
+		extends PredicateFinalStep {
+
+	/**
+	 * @param method The method used to fuse the top hits of all clauses into a single ranking.
+	 * Defaults to {@link RankFusionMethod#RECIPROCAL_RANK}.
+	 * @return {@code this}, for method chaining.
+	 */
+	S method(RankFusionMethod method);
+
+	/**
+	 * @param rankConstant The rank constant used by {@link RankFusionMethod#RECIPROCAL_RANK reciprocal rank fusion}:
+	 * higher values give more weight to documents ranked lower in the top hits of each clause.
+	 * Must be strictly positive. Defaults to {@code 60}.
+	 * @return {@code this}, for method chaining.
+	 */
+	S rankConstant(int rankConstant);
+
+	/**
+	 * @param windowSize The number of top hits to retrieve for each clause and to consider for fusion.
+	 * Only the {@code windowSize} best documents after fusion will match.
+	 * Must be strictly positive. Defaults to {@code 100}.
+	 * @return {@code this}, for method chaining.
+	 */
+	S windowSize(int windowSize);
+
+}
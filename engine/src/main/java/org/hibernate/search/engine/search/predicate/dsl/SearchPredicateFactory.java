@@ -349,6 +349,21 @@ SimpleBooleanPredicateOptionsStep<?> or(PredicateFinalStep firstSearchPredicate,
 	PredicateFinalStep withParameters(
 			Function<? super NamedValues, ? extends PredicateFinalStep> predicateCreator);
 
+	/**
+	 * Match the best documents according to a fusion of the top hits of multiple clauses.
+	 * <p>
+	 * This is useful for hybrid search, i.e. to combine full-text search and vector search:
+	 * the scores of these predicates are on different scales and cannot be combined with a boolean predicate,
+	 * but their rankings can be fused.
+	 * <p>
+	 * Rank fusion predicates can only be used as the top-level predicate of a query.
+	 *
+	 * @return The initial step of a DSL where clauses and options of the rank fusion predicate can be defined.
+	 * @see RankFusionPredicateClausesStep
+	 */
+	@Incubating
+	RankFusionPredicateClausesStep<SR, ?> rankFusion();
+
 	/**
 	 * Extend the current factory with the given extension,
 	 * resulting in an extended factory offering different types of predicates.
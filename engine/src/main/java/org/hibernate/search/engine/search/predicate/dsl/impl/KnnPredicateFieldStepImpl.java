@@ -6,6 +6,7 @@
 
 import java.util.function.Function;
 
+import org.hibernate.search.engine.logging.impl.QueryLog;
 import org.hibernate.search.engine.search.predicate.SearchPredicate;
 import org.hibernate.search.engine.search.predicate.dsl.KnnPredicateFieldStep;
 import org.hibernate.search.engine.search.predicate.dsl.KnnPredicateOptionsStep;
@@ -85,6 +86,29 @@ public KnnPredicateOptionsStep<SR> requiredMinimumScore(float score) {
 		return this;
 	}
 
+	@Override
+	public KnnPredicateOptionsStep<SR> numCandidates(int numCandidates) {
+		if ( numCandidates < k ) {
+			throw QueryLog.INSTANCE.knnNumCandidatesLowerThanK( numCandidates, k );
+		}
+		this.builder.numCandidates( numCandidates );
+		return this;
+	}
+
+	@Override
+	public KnnPredicateOptionsStep<SR> oversample(float factor) {
+		if ( !( factor >= 1.0f ) ) {
+			throw QueryLog.INSTANCE.knnInvalidOversampleFactor( factor );
+		}
+		return numCandidates( (int) Math.min( Integer.MAX_VALUE, (long) Math.ceil( (double) k * factor ) ) );
+	}
+
+	@Override
+	public KnnPredicateOptionsStep<SR> exactRescoring() {
+		this.builder.exactRescoring();
+		return this;
+	}
+
 	@Override
 	public KnnPredicateOptionsStep<SR> boost(float boost) {
 		this.builder.boost( boost );
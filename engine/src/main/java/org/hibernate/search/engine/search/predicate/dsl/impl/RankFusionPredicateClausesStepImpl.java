@@ -0,0 +1,86 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.engine.search.predicate.dsl.impl;
+
+import java.util.function.Function;
+
+import org.hibernate.search.engine.logging.impl.QueryLog;
+import org.hibernate.search.engine.search.predicate.SearchPredicate;
+import org.hibernate.search.engine.search.predicate.dsl.PredicateFinalStep;
+import org.hibernate.search.engine.search.predicate.dsl.RankFusionMethod;
+import org.hibernate.search.engine.search.predicate.dsl.RankFusionPredicateClausesStep;
+import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
+import org.hibernate.search.engine.search.predicate.dsl.spi.AbstractPredicateFinalStep;
+import org.hibernate.search.engine.search.predicate.dsl.spi.SearchPredicateDslContext;
+import org.hibernate.search.engine.search.predicate.spi.RankFusionPredicateBuilder;
+import org.hibernate.search.util.common.impl.Contracts;
+
+public final class RankFusionPredicateClausesStepImpl<SR>
+		extends AbstractPredicateFinalStep
+		implements RankFusionPredicateClausesStep<SR, RankFusionPredicateClausesStepImpl<SR>> {
+
+	private final SearchPredicateFactory<SR> factory;
+	private final RankFusionPredicateBuilder builder;
+	private int clauseCount;
+
+	public RankFusionPredicateClausesStepImpl(SearchPredicateDslContext<?> dslContext,
+			SearchPredicateFactory<SR> factory) {
+		super( dslContext );
+		this.factory = factory;
+		this.builder = dslContext.scope().predicateBuilders().rankFusion();
+	}
+
+	@Override
+	public RankFusionPredicateClausesStepImpl<SR> add(SearchPredicate searchPredicate) {
+		return add( searchPredicate, 1.0f );
+	}
+
+	@Override
+	public RankFusionPredicateClausesStepImpl<SR> add(
+			Function<? super SearchPredicateFactory<SR>, ? extends PredicateFinalStep> clauseContributor) {
+		return add( clauseContributor.apply( factory ) );
+	}
+
+	@Override
+	public RankFusionPredicateClausesStepImpl<SR> add(SearchPredicate searchPredicate, float weight) {
+		Contracts.assertNotNull( searchPredicate, "searchPredicate" );
+		if ( !( weight >= 0.0f ) ) {
+			throw QueryLog.INSTANCE.rankFusionInvalidWeight( weight );
+		}
+		builder.add( searchPredicate, weight );
+		clauseCount++;
+		return this;
+	}
+
+	@Override
+	public RankFusionPredicateClausesStepImpl<SR> method(RankFusionMethod method) {
+		Contracts.assertNotNull( method, "method" );
+		builder.method( method );
+		return this;
+	}
+
+	@Override
+	public RankFusionPredicateClausesStepImpl<SR> rankConstant(int rankConstant) {
+		Contracts.assertStrictlyPositive( rankConstant, "rankConstant" );
+		builder.rankConstant( rankConstant );
+		return this;
+	}
+
+	@Override
+	public RankFusionPredicateClausesStepImpl<SR> windowSize(int windowSize) {
+		Contracts.assertStrictlyPositive( windowSize, "windowSize" );
+		builder.windowSize( windowSize );
+		return this;
+	}
+
+	@Override
+	protected SearchPredicate build() {
+		if ( clauseCount == 0 ) {
+			throw QueryLog.INSTANCE.rankFusionWithoutClauses();
+		}
+		return builder.build();
+	}
+
+}
@@ -30,6 +30,7 @@
 import org.hibernate.search.engine.search.predicate.dsl.PrefixPredicateFieldStep;
 import org.hibernate.search.engine.search.predicate.dsl.QueryStringPredicateFieldStep;
 import org.hibernate.search.engine.search.predicate.dsl.RangePredicateFieldStep;
+import org.hibernate.search.engine.search.predicate.dsl.RankFusionPredicateClausesStep;
 import org.hibernate.search.engine.search.predicate.dsl.RegexpPredicateFieldStep;
 import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactoryExtension;
 import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactoryExtensionIfSupportedStep;
@@ -53,6 +54,7 @@
 import org.hibernate.search.engine.search.predicate.dsl.impl.PrefixPredicateFieldStepImpl;
 import org.hibernate.search.engine.search.predicate.dsl.impl.QueryStringPredicateFieldStepImpl;
 import org.hibernate.search.engine.search.predicate.dsl.impl.RangePredicateFieldStepImpl;
+import org.hibernate.search.engine.search.predicate.dsl.impl.RankFusionPredicateClausesStepImpl;
 import org.hibernate.search.engine.search.predicate.dsl.impl.RegexpPredicateFieldStepImpl;
 import org.hibernate.search.engine.search.predicate.dsl.impl.SearchPredicateFactoryExtensionStep;
 import org.hibernate.search.engine.search.predicate.dsl.impl.SimpleBooleanPredicateClausesStepImpl;
@@ -247,6 +249,11 @@ public PredicateFinalStep withParameters(Function<? super NamedValues, ? extends
 		return new WithParametersPredicateFinalStep( dslContext, predicateCreator );
 	}
 
+	@Override
+	public RankFusionPredicateClausesStep<SR, ?> rankFusion() {
+		return new RankFusionPredicateClausesStepImpl<>( dslContext, this );
+	}
+
 	@Override
 	public <T> T extension(SearchPredicateFactoryExtension<SR, T> extension) {
 		return DslExtensionState.returnIfSupported( extension, extension.extendOptional( this ) );
@@ -20,6 +20,10 @@ public interface KnnPredicateBuilder extends SearchPredicateBuilder {
 
 	void requiredMinimumScore(float score);
 
+	void numCandidates(int numCandidates);
+
+	void exactRescoring();
+
 	/**
 	 * @return An implementation-specific view of this builder,
 	 * allowing the backend to call a {@code build()} method in particular.
@@ -0,0 +1,22 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.engine.search.predicate.spi;
+
+import org.hibernate.search.engine.search.predicate.SearchPredicate;
+import org.hibernate.search.engine.search.predicate.dsl.RankFusionMethod;
+import org.hibernate.search.util.common.annotation.Incubating;
+
+@Incubating
+public interface RankFusionPredicateBuilder extends SearchPredicateBuilder {
+
+	void add(SearchPredicate clause, float weight);
+
+	void method(RankFusionMethod method);
+
+	void rankConstant(int rankConstant);
+
+	void windowSize(int windowSize);
+
+}
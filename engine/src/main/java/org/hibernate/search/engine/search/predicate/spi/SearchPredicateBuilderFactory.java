@@ -25,4 +25,6 @@ public interface SearchPredicateBuilderFactory {
 	QueryStringPredicateBuilder queryString();
 
 	WithParametersPredicateBuilder withParameters();
+
+	RankFusionPredicateBuilder rankFusion();
 }
@@ -4,6 +4,8 @@
  */
 package org.hibernate.search.engine.search.projection.dsl;
 
+import org.hibernate.search.util.common.annotation.Incubating;
+
 /**
  * The initial and final step in a "field" projection definition, where optional parameters can be set.
  *
@@ -13,4 +15,24 @@
 public interface FieldProjectionOptionsStep<S extends FieldProjectionOptionsStep<?, T>, T>
 		extends ProjectionFinalStep<T> {
 
+	/**
+	 * Requires field values to be retrieved from doc values instead of stored fields, or the document source.
+	 * <p>
+	 * Backends may already do this automatically when it does not affect the result,
+	 * e.g. the Lucene backend retrieves values of single-valued, sortable or aggregable fields from doc values.
+	 * Calling this method forces the use of doc values, in particular for multi-valued fields,
+	 * in which case values are returned in the order of doc values
+	 * (sorted, and for strings, without duplicates)
+	 * instead of the order in which they were indexed.
+	 * <p>
+	 * Projections will fail if the field does not have doc values
+	 * holding the same values as stored fields,
+	 * e.g. if it is not sortable or aggregable, or if it has a normalizer.
+	 * Backends that cannot retrieve field values from doc values ignore this option.
+	 *
+	 * @return {@code this}, for method chaining.
+	 */
+	@Incubating
+	S fromDocValues();
+
 }
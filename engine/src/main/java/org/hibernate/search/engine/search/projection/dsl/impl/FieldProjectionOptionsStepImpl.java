@@ -21,6 +21,12 @@
 		this.collectorProvider = collectorProvider;
 	}
 
+	@Override
+	public FieldProjectionOptionsStepImpl<T, P> fromDocValues() {
+		fieldProjectionBuilder.fromDocValues();
+		return this;
+	}
+
 	@Override
 	public SearchProjection<P> toProjection() {
 		return fieldProjectionBuilder.build( collectorProvider );
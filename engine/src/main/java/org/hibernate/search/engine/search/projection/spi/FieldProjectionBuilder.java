@@ -14,6 +14,8 @@ interface TypeSelector {
 		<T> FieldProjectionBuilder<T> type(Class<T> expectedType, ValueModel valueModel);
 	}
 
+	void fromDocValues();
+
 	@Override
 	default SearchProjection<T> build() {
 		return build( ProjectionCollector.nullable() );
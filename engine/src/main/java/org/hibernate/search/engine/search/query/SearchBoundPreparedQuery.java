@@ -0,0 +1,32 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.engine.search.query;
+
+import org.hibernate.search.engine.search.query.dsl.SearchQueryFinalStep;
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * A {@link SearchPreparedQuery} bound to a session, ready to be executed.
+ *
+ * @param <H> The type of query hits.
+ */
+@Incubating
+public interface SearchBoundPreparedQuery<H> extends SearchQueryFinalStep<H> {
+
+	/**
+	 * Bind a query parameter.
+	 * <p>
+	 * This query is left unchanged:
+	 * the parameter is only bound in the returned query.
+	 *
+	 * @param parameterName The name of a query parameter.
+	 * @param value The value of a query parameter.
+	 * It overrides any value given to the same parameter previously,
+	 * including when the query was defined or prepared.
+	 * @return A new query, with the given parameter bound.
+	 */
+	SearchBoundPreparedQuery<H> param(String parameterName, Object value);
+
+}
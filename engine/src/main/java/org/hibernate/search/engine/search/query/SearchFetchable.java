@@ -6,9 +6,12 @@
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.annotation.Incubating;
 import org.hibernate.search.util.common.SearchTimeoutException;
 
 /**
@@ -138,6 +141,109 @@
 	 */
 	List<H> fetchAllHits();
 
+	/**
+	 * Execute the query asynchronously and return a future {@link SearchResult},
+	 * limiting to {@code limit} hits.
+	 * <p>
+	 * Hits are loaded in the thread that completes the execution of the query, which may be a backend thread:
+	 * use {@link #fetchAsync(Integer, Integer, Executor)} if loading may block.
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @return A {@link CompletionStage} that will complete with the {@link SearchResult},
+	 * or complete exceptionally with the same exceptions as {@link #fetch(Integer)}.
+	 */
+	@Incubating
+	CompletionStage<SearchResult<H>> fetchAsync(Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return a future {@link SearchResult},
+	 * skipping {@code offset} hits and limiting to {@code limit} hits.
+	 * <p>
+	 * Hits are loaded in the thread that completes the execution of the query, which may be a backend thread:
+	 * use {@link #fetchAsync(Integer, Integer, Executor)} if loading may block.
+	 * @param offset The number of hits to skip before adding the hits to the {@link SearchResult}. {@code null} means no offset.
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @return A {@link CompletionStage} that will complete with the {@link SearchResult},
+	 * or complete exceptionally with the same exceptions as {@link #fetch(Integer, Integer)}.
+	 */
+	@Incubating
+	CompletionStage<SearchResult<H>> fetchAsync(Integer offset, Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return a future {@link SearchResult},
+	 * skipping {@code offset} hits and limiting to {@code limit} hits.
+	 * <p>
+	 * The query is executed without blocking the caller thread where the backend allows it:
+	 * the Elasticsearch backend relies on its asynchronous HTTP client,
+	 * while the Lucene backend relies on its search thread pool when one is configured,
+	 * and executes the query in the caller thread otherwise.
+	 * <p>
+	 * Once the backend returns, hits are loaded (e.g. entities are loaded from the database)
+	 * using {@code loadingExecutor}.
+	 * Mappers whose loading blocks or is bound to a particular context, such as the Hibernate ORM mapper,
+	 * should be given an executor that is allowed to perform such operations;
+	 * with the Hibernate ORM mapper in particular, the session must not be used concurrently
+	 * until the returned {@link CompletionStage} completes.
+	 * @param offset The number of hits to skip before adding the hits to the {@link SearchResult}. {@code null} means no offset.
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @param loadingExecutor The executor to load hits with.
+	 * @return A {@link CompletionStage} that will complete with the {@link SearchResult},
+	 * or complete exceptionally with the same exceptions as {@link #fetch(Integer, Integer)}.
+	 */
+	@Incubating
+	CompletionStage<SearchResult<H>> fetchAsync(Integer offset, Integer limit, Executor loadingExecutor);
+
+	/**
+	 * Execute the query asynchronously and return the future hits as a {@link List},
+	 * limiting to {@code limit} hits.
+	 * <p>
+	 * Hits are loaded in the thread that completes the execution of the query, which may be a backend thread:
+	 * use {@link #fetchHitsAsync(Integer, Integer, Executor)} if loading may block.
+	 * @param limit The maximum number of hits to be returned. {@code null} means no limit.
+	 * @return A {@link CompletionStage} that will complete with the query hits,
+	 * or complete exceptionally with the same exceptions as {@link #fetchHits(Integer)}.
+	 */
+	@Incubating
+	CompletionStage<List<H>> fetchHitsAsync(Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return the future hits as a {@link List},
+	 * skipping {@code offset} hits and limiting to {@code limit} hits.
+	 * <p>
+	 * Hits are loaded in the thread that completes the execution of the query, which may be a backend thread:
+	 * use {@link #fetchHitsAsync(Integer, Integer, Executor)} if loading may block.
+	 * @param offset The number of hits to skip. {@code null} means no offset.
+	 * @param limit The maximum number of hits to be returned. {@code null} means no limit.
+	 * @return A {@link CompletionStage} that will complete with the query hits,
+	 * or complete exceptionally with the same exceptions as {@link #fetchHits(Integer, Integer)}.
+	 */
+	@Incubating
+	CompletionStage<List<H>> fetchHitsAsync(Integer offset, Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return the future hits as a {@link List},
+	 * skipping {@code offset} hits and limiting to {@code limit} hits.
+	 * <p>
+	 * See {@link #fetchAsync(Integer, Integer, Executor)} for details about threading.
+	 * @param offset The number of hits to skip. {@code null} means no offset.
+	 * @param limit The maximum number of hits to be returned. {@code null} means no limit.
+	 * @param loadingExecutor The executor to load hits with.
+	 * @return A {@link CompletionStage} that will complete with the query hits,
+	 * or complete exceptionally with the same exceptions as {@link #fetchHits(Integer, Integer)}.
+	 */
+	@Incubating
+	CompletionStage<List<H>> fetchHitsAsync(Integer offset, Integer limit, Executor loadingExecutor);
+
+	/**
+	 * Execute the query asynchronously and return the future total hit count.
+	 * <p>
+	 * See {@link #fetchAsync(Integer, Integer, Executor)} for details about threading;
+	 * no loading is involved here.
+	 * @return A {@link CompletionStage} that will complete with the total number of matching entities,
+	 * or complete exceptionally with the same exceptions as {@link #fetchTotalHitCount()}.
+	 */
+	@Incubating
+	CompletionStage<Long> fetchTotalHitCountAsync();
+
 	/**
 	 * Execute the query continuously to deliver results in small chunks through a {@link SearchScroll}.
 	 * <p>
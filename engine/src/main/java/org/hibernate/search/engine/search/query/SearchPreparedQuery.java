@@ -0,0 +1,45 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.engine.search.query;
+
+import org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep;
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * A search query that was defined once and can be executed many times,
+ * possibly in different sessions
+ * and with different {@link SearchQueryOptionsStep#param(String, Object) query parameters}.
+ * <p>
+ * Predicates, sorts, projections and aggregations are created and resolved against the search scope
+ * only once, when the prepared query is created.
+ * Only predicates, sorts, projections and aggregations created through {@code withParameters(...)}
+ * are re-created on each execution, according to the query parameters bound at that time.
+ * <p>
+ * A prepared query is bound to the indexes it targets, not to the session it was created from:
+ * it must be bound to a session, through a search scope targeting the same indexes,
+ * before it can be executed.
+ * Binding does not create any scope: reuse the same search scope across executions.
+ *
+ * @param <H> The type of query hits.
+ * @see SearchQueryOptionsStep#toPreparedQuery()
+ */
+@Incubating
+public interface SearchPreparedQuery<H> {
+
+	/**
+	 * Bind a default value for a query parameter.
+	 * <p>
+	 * This prepared query is left unchanged:
+	 * the parameter is only bound in the returned prepared query.
+	 *
+	 * @param parameterName The name of a query parameter.
+	 * @param value The value of a query parameter.
+	 * It overrides any value given to the same parameter previously,
+	 * including when the query was defined.
+	 * @return A new prepared query, with the given parameter bound.
+	 */
+	SearchPreparedQuery<H> param(String parameterName, Object value);
+
+}
@@ -19,6 +19,7 @@
 import org.hibernate.search.engine.search.projection.dsl.HighlightProjectionOptionsStep;
 import org.hibernate.search.engine.search.projection.dsl.SearchProjectionFactory;
 import org.hibernate.search.engine.search.query.SearchFetchable;
+import org.hibernate.search.engine.search.query.SearchPreparedQuery;
 import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.engine.search.query.SearchResultTotal;
 import org.hibernate.search.engine.search.sort.SearchSort;
@@ -240,4 +241,23 @@ S highlighter(String highlighterName,
 	 */
 	@Incubating
 	S param(String parameterName, Object value);
+
+	/**
+	 * Create a {@link SearchPreparedQuery} instance
+	 * matching the definition given in the previous DSL steps,
+	 * to execute the same query multiple times, possibly with different {@link #param(String, Object) parameters},
+	 * without defining it again.
+	 * <p>
+	 * Parameters set through {@link #param(String, Object)} before calling this method
+	 * are used as default values, and can be overridden with {@link SearchPreparedQuery#param(String, Object)}.
+	 * <p>
+	 * The prepared query does not retain the session this DSL step was created from:
+	 * it must be bound to a session, through a search scope targeting the same indexes, before each execution.
+	 * <p>
+	 * This DSL step should not be used anymore after calling this method.
+	 *
+	 * @return The {@link SearchPreparedQuery} resulting from the previous DSL steps.
+	 */
+	@Incubating
+	SearchPreparedQuery<H> toPreparedQuery();
 }
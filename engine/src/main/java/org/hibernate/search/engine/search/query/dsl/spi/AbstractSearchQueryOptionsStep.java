@@ -5,8 +5,12 @@
 package org.hibernate.search.engine.search.query.dsl.spi;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -25,11 +29,13 @@
 import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
 import org.hibernate.search.engine.search.predicate.dsl.SimpleBooleanPredicateClausesCollector;
 import org.hibernate.search.engine.search.predicate.dsl.SimpleBooleanPredicateClausesStep;
+import org.hibernate.search.engine.search.query.SearchPreparedQuery;
 import org.hibernate.search.engine.search.query.SearchQuery;
 import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.engine.search.query.SearchScroll;
 import org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep;
 import org.hibernate.search.engine.search.query.dsl.SearchQueryWhereStep;
+import org.hibernate.search.engine.search.query.impl.SearchPreparedQueryImpl;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
 import org.hibernate.search.engine.search.query.spi.SearchQueryIndexScope;
 import org.hibernate.search.engine.search.sort.SearchSort;
@@ -50,6 +56,7 @@
 	protected final SC scope;
 	private final SearchQueryBuilder<H> searchQueryBuilder;
 	private final SearchLoadingContextBuilder<?, LOS> loadingContextBuilder;
+	private final Map<String, Object> parameters = new LinkedHashMap<>();
 
 	public AbstractSearchQueryOptionsStep(SC scope,
 			SearchQueryBuilder<H> searchQueryBuilder,
@@ -185,9 +192,15 @@ public <A> S aggregation(AggregationKey<A> key,
 	@Override
 	public S param(String parameterName, Object value) {
 		searchQueryBuilder.param( parameterName, value );
+		parameters.put( parameterName, value );
 		return thisAsS();
 	}
 
+	@Override
+	public SearchPreparedQuery<H> toPreparedQuery() {
+		return new SearchPreparedQueryImpl<>( scope, searchQueryBuilder.prepare(), new LinkedHashMap<>( parameters ) );
+	}
+
 	@Override
 	public SearchQuery<H> toQuery() {
 		return searchQueryBuilder.build();
@@ -233,6 +246,41 @@ public long fetchTotalHitCount() {
 		return toQuery().fetchTotalHitCount();
 	}
 
+	@Override
+	public CompletionStage<SearchResult<H>> fetchAsync(Integer limit) {
+		return toQuery().fetchAsync( limit );
+	}
+
+	@Override
+	public CompletionStage<SearchResult<H>> fetchAsync(Integer offset, Integer limit) {
+		return toQuery().fetchAsync( offset, limit );
+	}
+
+	@Override
+	public CompletionStage<SearchResult<H>> fetchAsync(Integer offset, Integer limit, Executor loadingExecutor) {
+		return toQuery().fetchAsync( offset, limit, loadingExecutor );
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer limit) {
+		return toQuery().fetchHitsAsync( limit );
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer offset, Integer limit) {
+		return toQuery().fetchHitsAsync( offset, limit );
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer offset, Integer limit, Executor loadingExecutor) {
+		return toQuery().fetchHitsAsync( offset, limit, loadingExecutor );
+	}
+
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		return toQuery().fetchTotalHitCountAsync();
+	}
+
 	@Override
 	public SearchScroll<H> scroll(int chunkSize) {
 		return toQuery().scroll( chunkSize );
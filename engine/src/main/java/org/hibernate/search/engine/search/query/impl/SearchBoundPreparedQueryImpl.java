@@ -0,0 +1,137 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.engine.search.query.impl;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
+import org.hibernate.search.engine.search.loading.spi.SearchLoadingContextBuilder;
+import org.hibernate.search.engine.search.query.SearchBoundPreparedQuery;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.spi.QueryParameters;
+import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
+import org.hibernate.search.util.common.impl.Contracts;
+
+public final class SearchBoundPreparedQueryImpl<H> implements SearchBoundPreparedQuery<H> {
+
+	private final SearchQueryBuilder<H> preparedQueryBuilder;
+	private final BackendSessionContext sessionContext;
+	private final SearchLoadingContextBuilder<?, ?> loadingContextBuilder;
+	private final Map<String, Object> parameters;
+
+	SearchBoundPreparedQueryImpl(SearchQueryBuilder<H> preparedQueryBuilder, BackendSessionContext sessionContext,
+			SearchLoadingContextBuilder<?, ?> loadingContextBuilder, Map<String, Object> parameters) {
+		this.preparedQueryBuilder = preparedQueryBuilder;
+		this.sessionContext = sessionContext;
+		this.loadingContextBuilder = loadingContextBuilder;
+		this.parameters = parameters;
+	}
+
+	@Override
+	public SearchBoundPreparedQuery<H> param(String parameterName, Object value) {
+		Contracts.assertNotNullNorEmpty( parameterName, "parameterName" );
+		Map<String, Object> newParameters = new LinkedHashMap<>( parameters );
+		newParameters.put( parameterName, value );
+		return new SearchBoundPreparedQueryImpl<>( preparedQueryBuilder, sessionContext, loadingContextBuilder,
+				newParameters );
+	}
+
+	@Override
+	public SearchQuery<H> toQuery() {
+		QueryParameters queryParameters = new QueryParameters();
+		for ( Map.Entry<String, Object> entry : parameters.entrySet() ) {
+			queryParameters.add( entry.getKey(), entry.getValue() );
+		}
+		return preparedQueryBuilder.build( sessionContext, loadingContextBuilder, queryParameters );
+	}
+
+	@Override
+	public SearchResult<H> fetchAll() {
+		return toQuery().fetchAll();
+	}
+
+	@Override
+	public SearchResult<H> fetch(Integer limit) {
+		return toQuery().fetch( limit );
+	}
+
+	@Override
+	public SearchResult<H> fetch(Integer offset, Integer limit) {
+		return toQuery().fetch( offset, limit );
+	}
+
+	@Override
+	public List<H> fetchAllHits() {
+		return toQuery().fetchAllHits();
+	}
+
+	@Override
+	public List<H> fetchHits(Integer limit) {
+		return toQuery().fetchHits( limit );
+	}
+
+	@Override
+	public List<H> fetchHits(Integer offset, Integer limit) {
+		return toQuery().fetchHits( offset, limit );
+	}
+
+	@Override
+	public Optional<H> fetchSingleHit() {
+		return toQuery().fetchSingleHit();
+	}
+
+	@Override
+	public long fetchTotalHitCount() {
+		return toQuery().fetchTotalHitCount();
+	}
+
+	@Override
+	public CompletionStage<SearchResult<H>> fetchAsync(Integer limit) {
+		return toQuery().fetchAsync( limit );
+	}
+
+	@Override
+	public CompletionStage<SearchResult<H>> fetchAsync(Integer offset, Integer limit) {
+		return toQuery().fetchAsync( offset, limit );
+	}
+
+	@Override
+	public CompletionStage<SearchResult<H>> fetchAsync(Integer offset, Integer limit, Executor loadingExecutor) {
+		return toQuery().fetchAsync( offset, limit, loadingExecutor );
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer limit) {
+		return toQuery().fetchHitsAsync( limit );
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer offset, Integer limit) {
+		return toQuery().fetchHitsAsync( offset, limit );
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer offset, Integer limit, Executor loadingExecutor) {
+		return toQuery().fetchHitsAsync( offset, limit, loadingExecutor );
+	}
+
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		return toQuery().fetchTotalHitCountAsync();
+	}
+
+	@Override
+	public SearchScroll<H> scroll(int chunkSize) {
+		return toQuery().scroll( chunkSize );
+	}
+
+}
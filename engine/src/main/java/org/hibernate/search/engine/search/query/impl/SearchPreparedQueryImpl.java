@@ -0,0 +1,58 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.engine.search.query.impl;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
+import org.hibernate.search.engine.logging.impl.QueryLog;
+import org.hibernate.search.engine.search.loading.spi.SearchLoadingContextBuilder;
+import org.hibernate.search.engine.search.query.SearchBoundPreparedQuery;
+import org.hibernate.search.engine.search.query.SearchPreparedQuery;
+import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
+import org.hibernate.search.engine.search.query.spi.SearchQueryIndexScope;
+import org.hibernate.search.util.common.impl.Contracts;
+
+public final class SearchPreparedQueryImpl<H> implements SearchPreparedQuery<H> {
+
+	private final SearchQueryIndexScope<?> scope;
+	private final SearchQueryBuilder<H> preparedQueryBuilder;
+	private final Map<String, Object> parameters;
+
+	public SearchPreparedQueryImpl(SearchQueryIndexScope<?> scope, SearchQueryBuilder<H> preparedQueryBuilder,
+			Map<String, Object> parameters) {
+		this.scope = scope;
+		this.preparedQueryBuilder = preparedQueryBuilder;
+		this.parameters = parameters;
+	}
+
+	@Override
+	public SearchPreparedQuery<H> param(String parameterName, Object value) {
+		Contracts.assertNotNullNorEmpty( parameterName, "parameterName" );
+		Map<String, Object> newParameters = new LinkedHashMap<>( parameters );
+		newParameters.put( parameterName, value );
+		return new SearchPreparedQueryImpl<>( scope, preparedQueryBuilder, newParameters );
+	}
+
+	/**
+	 * @param bindingScope The scope to bind this query through.
+	 * @param sessionContext The session to execute the query in.
+	 * @param loadingContextBuilder The builder for the loading context to use when executing the query.
+	 * @return This query, bound to the given session.
+	 */
+	public SearchBoundPreparedQuery<H> bind(SearchQueryIndexScope<?> bindingScope, BackendSessionContext sessionContext,
+			SearchLoadingContextBuilder<?, ?> loadingContextBuilder) {
+		// Scopes are usually reused across executions: avoid comparing index names in that case.
+		if ( bindingScope != scope
+				&& !scope.hibernateSearchIndexNames().equals( bindingScope.hibernateSearchIndexNames() ) ) {
+			throw QueryLog.INSTANCE.preparedQueryBoundToDifferentIndexes( scope.hibernateSearchIndexNames(),
+					bindingScope.hibernateSearchIndexNames() );
+		}
+		return new SearchBoundPreparedQueryImpl<>( preparedQueryBuilder, sessionContext, loadingContextBuilder,
+				parameters );
+	}
+
+}
@@ -6,6 +6,8 @@
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 import org.hibernate.search.engine.logging.impl.QueryLog;
 import org.hibernate.search.engine.search.query.SearchQuery;
@@ -19,6 +21,13 @@
  */
 public abstract class AbstractSearchQuery<H, R extends SearchResult<H>> implements SearchQueryImplementor<H> {
 
+	/**
+	 * An executor running tasks in the thread that submits them,
+	 * i.e. when used with {@link java.util.concurrent.CompletableFuture#thenApplyAsync(java.util.function.Function, Executor)},
+	 * in the thread that completes the previous stage.
+	 */
+	protected static final Executor CALLBACK_THREAD_EXECUTOR = Runnable::run;
+
 	@Override
 	public String toString() {
 		return getClass().getSimpleName() + "(" + queryString() + ")";
@@ -47,6 +56,29 @@ public List<H> fetchHits(Integer limit) {
 		return fetchHits( null, limit );
 	}
 
+	@Override
+	public CompletionStage<SearchResult<H>> fetchAsync(Integer limit) {
+		return fetchAsync( null, limit );
+	}
+
+	@Override
+	public CompletionStage<SearchResult<H>> fetchAsync(Integer offset, Integer limit) {
+		return fetchAsync( offset, limit, CALLBACK_THREAD_EXECUTOR );
+	}
+
+	@Override
+	public abstract CompletionStage<SearchResult<H>> fetchAsync(Integer offset, Integer limit, Executor loadingExecutor);
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer limit) {
+		return fetchHitsAsync( null, limit );
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer offset, Integer limit) {
+		return fetchHitsAsync( offset, limit, CALLBACK_THREAD_EXECUTOR );
+	}
+
 	@Override
 	public Optional<H> fetchSingleHit() {
 		// We don't need to fetch more than two elements to detect a problem
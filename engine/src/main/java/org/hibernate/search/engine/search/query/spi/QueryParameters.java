@@ -24,4 +24,20 @@ public void add(String parameter, Object value) {
 		Contracts.assertNotNullNorEmpty( parameter, "parameter" );
 		values.put( parameter, value );
 	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( this == obj ) {
+			return true;
+		}
+		if ( obj == null || getClass() != obj.getClass() ) {
+			return false;
+		}
+		return values.equals( ( (QueryParameters) obj ).values );
+	}
+
+	@Override
+	public int hashCode() {
+		return values.hashCode();
+	}
 }
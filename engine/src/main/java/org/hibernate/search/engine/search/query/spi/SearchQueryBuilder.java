@@ -6,9 +6,11 @@
 
 import java.util.concurrent.TimeUnit;
 
+import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.aggregation.SearchAggregation;
 import org.hibernate.search.engine.search.highlighter.SearchHighlighter;
+import org.hibernate.search.engine.search.loading.spi.SearchLoadingContextBuilder;
 import org.hibernate.search.engine.search.predicate.SearchPredicate;
 import org.hibernate.search.engine.search.query.SearchQuery;
 import org.hibernate.search.engine.search.sort.SearchSort;
@@ -46,4 +48,27 @@
 
 	SearchQuery<H> build();
 
+	/**
+	 * @return A copy of this builder that no longer references the session this builder was created with,
+	 * and that will only be used through {@link #build(BackendSessionContext, SearchLoadingContextBuilder, QueryParameters)}.
+	 * Further changes to this builder must not affect the returned copy.
+	 */
+	@Incubating
+	SearchQueryBuilder<H> prepare();
+
+	/**
+	 * Builds a query executed in the given session,
+	 * using the given parameters instead of those passed to {@link #param(String, Object)}.
+	 * <p>
+	 * This method may be called multiple times, and must not alter the state of this builder.
+	 *
+	 * @param sessionContext The session to execute the query in.
+	 * @param loadingContextBuilder The builder of the loading context to use when loading hits.
+	 * @param parameters The query parameters.
+	 * @return A new query.
+	 */
+	@Incubating
+	SearchQuery<H> build(BackendSessionContext sessionContext, SearchLoadingContextBuilder<?, ?> loadingContextBuilder,
+			QueryParameters parameters);
+
 }
@@ -24,6 +24,7 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.RejectedExecutionException;
@@ -34,6 +35,8 @@
 
 import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
 import org.hibernate.search.engine.common.execution.spi.DelegatingSimpleScheduledExecutor;
+import org.hibernate.search.engine.common.metrics.spi.InMemorySearchMetrics;
+import org.hibernate.search.engine.common.metrics.spi.SearchMetricNames;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.thread.impl.EmbeddedThreadProvider;
 import org.hibernate.search.engine.environment.thread.impl.ThreadPoolProviderImpl;
@@ -59,6 +62,7 @@
 class BatchingExecutorTest {
 
 	private static final String NAME = "executor-name";
+	private static final Map<String, String> METRIC_TAGS = Map.of( SearchMetricNames.TAG_QUEUE, "0" );
 
 	public static List<? extends Arguments> params() {
 		List<Arguments> params = new ArrayList<>();
@@ -76,6 +80,8 @@ public static List<? extends Arguments> params() {
 
 	private final List<Object> mocks = new ArrayList<>();
 
+	private final InMemorySearchMetrics metrics = new InMemorySearchMetrics();
+
 	private final ThreadPoolProviderImpl threadPoolProvider =
 			new ThreadPoolProviderImpl( BeanHolder.of( new EmbeddedThreadProvider() ) );
 
@@ -373,6 +379,45 @@ void simple_newTasksBlockedException() throws InterruptedException {
 		checkPostExecution( operationSubmitter );
 	}
 
+	@Test
+	void metrics() throws InterruptedException {
+		createAndStartExecutor( 2, true );
+		OperationSubmitter operationSubmitter = OperationSubmitter.blocking();
+
+		assertThat( metrics.gaugeValue( SearchMetricNames.EXECUTOR_QUEUE_CAPACITY, METRIC_TAGS ) ).hasValue( 2 );
+		assertThat( metrics.gaugeValue( SearchMetricNames.EXECUTOR_QUEUE_SIZE, METRIC_TAGS ) ).hasValue( 0 );
+
+		Runnable unblockExecutorSwitch = blockExecutor( operationSubmitter );
+
+		StubWork work1Mock = workMock( 1 );
+		StubWork work2Mock = workMock( 2 );
+		executor.submit( work1Mock, operationSubmitter );
+		executor.submit( work2Mock, operationSubmitter );
+		assertThat( metrics.gaugeValue( SearchMetricNames.EXECUTOR_QUEUE_SIZE, METRIC_TAGS ) ).hasValue( 2 );
+
+		when( processorMock.endBatch() ).thenReturn( CompletableFuture.completedFuture( null ) );
+		unblockExecutorSwitch.run();
+		verifyAsynchronouslyAndReset( inOrder -> {
+			inOrder.verify( processorMock ).beginBatch();
+			inOrder.verify( work1Mock ).submitTo( processorMock );
+			inOrder.verify( work2Mock ).submitTo( processorMock );
+			inOrder.verify( processorMock ).endBatch();
+			inOrder.verify( processorMock ).complete();
+		} );
+
+		assertThat( metrics.gaugeValue( SearchMetricNames.EXECUTOR_QUEUE_SIZE, METRIC_TAGS ) ).hasValue( 0 );
+		// One batch with the blocking work, then one batch with work1 and work2
+		InMemorySearchMetrics.InMemoryDistribution batchSize =
+				metrics.distribution( SearchMetricNames.EXECUTOR_BATCH_SIZE, METRIC_TAGS );
+		assertThat( batchSize.count() ).isEqualTo( 2 );
+		assertThat( batchSize.total() ).isEqualTo( 3 );
+		assertThat( batchSize.max() ).isEqualTo( 2 );
+		assertThat( metrics.timer( SearchMetricNames.EXECUTOR_BATCH_DURATION, METRIC_TAGS ).count() ).isEqualTo( 2 );
+		InMemorySearchMetrics.InMemoryTimer queueWait = metrics.timer( SearchMetricNames.EXECUTOR_QUEUE_WAIT, METRIC_TAGS );
+		assertThat( queueWait.count() ).isEqualTo( 3 );
+		assertThat( queueWait.max() ).isPositive();
+	}
+
 	@ParameterizedTest(name = "operation submitter = {0}")
 	@MethodSource("params")
 	void simple_newTasksBlockedWaitAndCompletes(String name, OperationSubmitter operationSubmitter)
@@ -547,7 +592,8 @@ private void createAndStartExecutor(int maxTasksPerBatch, boolean fair) {
 	private void createAndStartExecutor(int maxTasksPerBatch, boolean fair,
 			Consumer<? super BatchedWork<? super StubWorkProcessor>> blockingRetryProducer) {
 		this.executor = new BatchingExecutor<>(
-				NAME, processorMock, maxTasksPerBatch, fair, failureHandlerMock, blockingRetryProducer
+				NAME, processorMock, maxTasksPerBatch, fair, failureHandlerMock, blockingRetryProducer,
+				metrics, METRIC_TAGS
 		);
 
 		// Having multiple threads should not matter:
@@ -46,6 +46,26 @@ void stopWhileBlockingWorkInProgress() throws Exception {
 		assertThat( failureHandler.failures ).isEmpty();
 	}
 
+	@Test
+	void stopReturnsFutureOfWorkInProgress() {
+		testSubject.ensureScheduled();
+
+		Awaitility.await().until( () -> worker.started );
+
+		CompletableFuture<?> stopFuture = testSubject.stop();
+		assertThat( stopFuture ).isNotDone();
+
+		worker.future.complete( null );
+
+		Awaitility.await().until( stopFuture::isDone );
+		assertThat( failureHandler.failures ).isEmpty();
+	}
+
+	@Test
+	void stopWithoutWorkInProgress() {
+		assertThat( testSubject.stop() ).isDone();
+	}
+
 	private static final class TestWorker implements SingletonTask.Worker {
 
 		private final CompletableFuture<Void> future = new CompletableFuture<>();
@@ -16,6 +16,7 @@
 
 import org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor;
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
+import org.hibernate.search.engine.common.metrics.spi.SearchMetrics;
 import org.hibernate.search.engine.common.resources.impl.EngineThreads;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
@@ -44,6 +45,9 @@ class SearchIntegrationImplTest {
 	@Mock
 	private BeanHolder<? extends FailureHandler> failureHandlerHolderMock;
 
+	@Mock
+	private BeanHolder<? extends SearchMetrics> metricsHolderMock;
+
 	@Mock
 	private ThreadPoolProviderImpl threadPoolProviderMock;
 
@@ -87,7 +91,7 @@ void setup() {
 		indexManagers.put( "index1", indexManager1Mock );
 		indexManagers.put( "index2", indexManager2Mock );
 
-		searchIntegration = new SearchIntegrationImpl( beanProviderMock, failureHandlerHolderMock,
+		searchIntegration = new SearchIntegrationImpl( beanProviderMock, failureHandlerHolderMock, metricsHolderMock,
 				threadPoolProviderMock, mappings, backends, indexManagers, engineThreadsMock, timingSourceMock );
 	}
 
@@ -111,6 +115,7 @@ void close_success() {
 				backend2Mock,
 				threadPoolProviderMock,
 				failureHandlerHolderMock,
+				metricsHolderMock,
 				beanProviderMock,
 				engineThreadsMock,
 				timingSourceMock
@@ -139,6 +144,7 @@ void close_success() {
 		// Then engine resources
 		inOrder.verify( threadPoolProviderMock ).close();
 		inOrder.verify( failureHandlerHolderMock ).close();
+		inOrder.verify( metricsHolderMock ).close();
 		inOrder.verify( beanProviderMock ).close();
 		inOrder.verify( engineThreadsMock ).onStop();
 		inOrder.verify( timingSourceMock ).stop();
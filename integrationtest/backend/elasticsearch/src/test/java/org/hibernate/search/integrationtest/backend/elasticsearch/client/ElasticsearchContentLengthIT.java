@@ -4,6 +4,7 @@
  */
 package org.hibernate.search.integrationtest.backend.elasticsearch.client;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
@@ -199,7 +200,37 @@ void payloadJustAboveBufferSize_requestPostProcessing() throws Exception {
 		}
 	}
 
+	/**
+	 * When compression is enabled, the content length is only known after the whole content is compressed,
+	 * so we always use the "chunked" transfer-encoding.
+	 */
+	@Test
+	void compression() throws Exception {
+		assumeFalse(
+				ElasticsearchTestHostConnectionConfiguration.get().isAws(),
+				"This test only is only relevant if Elasticsearch request are *NOT* post-processed." +
+						" Elasticsearch requests are post-processed by the AWS integration in particular."
+		);
+		wireMockRule.stubFor( post( urlPathLike( "/myIndex/myType" ) )
+				.willReturn( elasticsearchResponse().withStatus( 200 ) ) );
+
+		try ( ElasticsearchClientImplementor client = createClient( true ) ) {
+			doPost( client, "/myIndex/myType", produceBody( 1 ) );
+			wireMockRule.verify(
+					postRequestedFor( urlPathLike( "/myIndex/myType" ) )
+							.withHeader( "Content-Encoding", equalTo( "gzip" ) )
+							.withHeader( "Accept-Encoding", containing( "gzip" ) )
+							.withHeader( "Transfer-Encoding", equalTo( "chunked" ) )
+							.withoutHeader( "Content-length" )
+			);
+		}
+	}
+
 	private ElasticsearchClientImplementor createClient() {
+		return createClient( false );
+	}
+
+	private ElasticsearchClientImplementor createClient(boolean compression) {
 		Map<String, ?> defaultBackendProperties =
 				new ElasticsearchTckBackendHelper().createDefaultBackendSetupStrategy()
 						.createBackendConfigurationProperties( testConfigurationProvider );
@@ -213,6 +244,7 @@ private ElasticsearchClientImplementor createClient() {
 
 		// Target the Wiremock server using HTTP
 		clientProperties.put( ElasticsearchBackendSettings.URIS, httpUriFor( wireMockRule ) );
+		clientProperties.put( ElasticsearchBackendSettings.COMPRESSION, compression );
 
 		ConfigurationPropertySource clientPropertySource = AllAwareConfigurationPropertySource.fromMap( clientProperties );
 
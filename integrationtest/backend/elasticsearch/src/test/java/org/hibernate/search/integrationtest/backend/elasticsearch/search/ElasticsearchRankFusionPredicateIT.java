@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.search;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.search.predicate.dsl.RankFusionMethod;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.dialect.ElasticsearchTestDialect;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+class ElasticsearchRankFusionPredicateIT {
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeEach
+	void setup() {
+		setupHelper.start().withIndex( index ).setup();
+	}
+
+	@Test
+	void reciprocalRank_unsupported() {
+		assumeTrue(
+				ElasticsearchTestDialect.isActualVersion(
+						es -> es.isLessThan( "8.14" ),
+						os -> true,
+						aoss -> true
+				),
+				"This test only makes sense if the backend does not support the rrf retriever"
+		);
+
+		assertThatThrownBy( () -> index.createScope().query()
+				.where( f -> f.rankFusion()
+						.add( f.match().field( "text" ).matching( "alpha" ) )
+						.add( f.match().field( "text" ).matching( "beta" ) ) )
+				.toQuery() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "does not support rank fusion with method 'RECIPROCAL_RANK'",
+						"Reciprocal rank fusion requires the Elastic distribution of Elasticsearch 8.14 or later" );
+	}
+
+	@Test
+	void normalizedScore_unsupported() {
+		assumeTrue(
+				ElasticsearchTestDialect.isActualVersion(
+						es -> es.isLessThan( "8.18" ),
+						os -> true,
+						aoss -> true
+				),
+				"This test only makes sense if the backend does not support the linear retriever"
+		);
+
+		assertThatThrownBy( () -> index.createScope().query()
+				.where( f -> f.rankFusion()
+						.add( f.match().field( "text" ).matching( "alpha" ) )
+						.add( f.match().field( "text" ).matching( "beta" ) )
+						.method( RankFusionMethod.NORMALIZED_SCORE ) )
+				.toQuery() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "does not support rank fusion with method 'NORMALIZED_SCORE'",
+						"normalized score fusion requires the Elastic distribution of Elasticsearch 8.18 or later" );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+
+		IndexBinding(IndexSchemaElement root) {
+			text = root.field( "text", c -> c.asString() ).toReference();
+		}
+	}
+}
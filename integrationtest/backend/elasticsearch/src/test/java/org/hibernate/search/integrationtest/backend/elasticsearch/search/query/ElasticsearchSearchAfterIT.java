@@ -0,0 +1,190 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.search.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.backend.elasticsearch.ElasticsearchExtension;
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchQuery;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchScroll;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchScrollMode;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchScrollResult;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.dialect.ElasticsearchTestDialect;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+/**
+ * Test cursor-based paging with {@link ElasticsearchSearchQuery#fetchAfter(JsonArray, Integer)},
+ * and scrolling with {@link ElasticsearchSearchScrollMode#POINT_IN_TIME}.
+ */
+class ElasticsearchSearchAfterIT {
+
+	private static final int INDEX_SIZE = 300;
+	private static final int PAGE_SIZE = 37;
+
+	@RegisterExtension
+	public static final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private static final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeAll
+	static void setup() {
+		setupHelper.start()
+				.withBackendProperty( ElasticsearchBackendSettings.SCROLL_MODE, "point-in-time" )
+				.withIndex( index )
+				.setup();
+		initData();
+	}
+
+	@Test
+	void fetchAfter() {
+		ElasticsearchSearchQuery<Integer> query = index.createScope().query().extension( ElasticsearchExtension.get() )
+				.select( f -> f.field( "number", Integer.class ) )
+				.where( f -> f.range().field( "number" ).atLeast( 100 ) )
+				.sort( f -> f.field( "number" ).desc() )
+				.toQuery();
+
+		List<Integer> hits = new ArrayList<>();
+		JsonArray searchAfter = null;
+		ElasticsearchSearchResult<Integer> result;
+		do {
+			result = query.fetchAfter( searchAfter, PAGE_SIZE );
+			assertThat( result.total().hitCount() ).isEqualTo( INDEX_SIZE - 100L );
+			assertThat( result.hits() ).hasSizeLessThanOrEqualTo( PAGE_SIZE );
+			hits.addAll( result.hits() );
+			searchAfter = lastSortValues( result );
+		}
+		while ( searchAfter != null );
+
+		List<Integer> expected = new ArrayList<>();
+		for ( int i = INDEX_SIZE - 1; i >= 100; i-- ) {
+			expected.add( i );
+		}
+		assertThat( hits ).containsExactlyElementsOf( expected );
+	}
+
+	@Test
+	void scroll_pointInTime() {
+		assumePointInTimeSupported();
+
+		List<Integer> hits = new ArrayList<>();
+		try ( SearchScroll<Integer> scroll = index.createScope().query()
+				.select( f -> f.field( "number", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "number" ) )
+				.scroll( PAGE_SIZE ) ) {
+			for ( SearchScrollResult<Integer> chunk = scroll.next(); chunk.hasHits(); chunk = scroll.next() ) {
+				assertThat( chunk.total().hitCount() ).isEqualTo( INDEX_SIZE );
+				assertThat( chunk.hits() ).hasSizeLessThanOrEqualTo( PAGE_SIZE );
+				hits.addAll( chunk.hits() );
+			}
+		}
+
+		List<Integer> expected = new ArrayList<>();
+		for ( int i = 0; i < INDEX_SIZE; i++ ) {
+			expected.add( i );
+		}
+		assertThat( hits ).containsExactlyElementsOf( expected );
+	}
+
+	@Test
+	void scroll_pointInTime_scoreSort() {
+		assumePointInTimeSupported();
+
+		ElasticsearchSearchQuery<Integer> query = index.createScope().query().extension( ElasticsearchExtension.get() )
+				.select( f -> f.field( "number", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.toQuery();
+
+		List<Integer> hits = new ArrayList<>();
+		try ( ElasticsearchSearchScroll<Integer> scroll = query.scroll( PAGE_SIZE,
+				ElasticsearchSearchScrollMode.POINT_IN_TIME ) ) {
+			for ( ElasticsearchSearchScrollResult<Integer> chunk = scroll.next(); chunk.hasHits();
+					chunk = scroll.next() ) {
+				hits.addAll( chunk.hits() );
+			}
+		}
+
+		assertThat( hits ).hasSize( INDEX_SIZE ).doesNotHaveDuplicates();
+	}
+
+	@Test
+	void scroll_pointInTime_unsupported() {
+		assumeTrue(
+				ElasticsearchTestDialect.isActualVersion(
+						es -> es.isLessThan( "7.12" ),
+						os -> true,
+						aoss -> false
+				),
+				"This test only makes sense if the backend does not support point in time with the _shard_doc tiebreaker"
+		);
+
+		assertThatThrownBy( () -> index.createScope().query()
+				.select( f -> f.field( "number", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.scroll( PAGE_SIZE ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Cannot execute 'openPointInTime'",
+						"Either use the default scroll mode" );
+	}
+
+	private static void assumePointInTimeSupported() {
+		assumeTrue(
+				ElasticsearchTestDialect.isActualVersion(
+						es -> !es.isLessThan( "7.12" ),
+						os -> false,
+						aoss -> false
+				),
+				"This test only makes sense if the backend supports point in time with the _shard_doc tiebreaker"
+		);
+	}
+
+	private static JsonArray lastSortValues(ElasticsearchSearchResult<?> result) {
+		JsonArray hits = result.responseBody().getAsJsonObject( "hits" ).getAsJsonArray( "hits" );
+		if ( hits.isEmpty() ) {
+			return null;
+		}
+		JsonObject lastHit = hits.get( hits.size() - 1 ).getAsJsonObject();
+		return lastHit.getAsJsonArray( "sort" );
+	}
+
+	private static void initData() {
+		index.bulkIndexer()
+				.add( INDEX_SIZE, i -> documentProvider( String.valueOf( i ),
+						document -> document.addValue( index.binding().number, i ) ) )
+				.join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> number;
+
+		IndexBinding(IndexSchemaElement root) {
+			number = root.field( "number", c -> c.asInteger().sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+		}
+	}
+}
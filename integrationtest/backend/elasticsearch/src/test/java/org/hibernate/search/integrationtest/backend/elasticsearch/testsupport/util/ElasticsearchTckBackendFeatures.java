@@ -308,6 +308,47 @@ public boolean supportsVectorSearchRequiredMinimumSimilarity() {
 		);
 	}
 
+	@Override
+	public boolean supportsVectorSearchNumCandidates() {
+		return isActualVersion(
+				es -> true,
+				os -> false,
+				aoss -> false
+		);
+	}
+
+	@Override
+	public boolean supportsVectorSearchExactRescoring() {
+		// knn.rescore_vector was introduced in 8.18
+		return isActualVersion(
+				es -> !es.isLessThan( "8.18.0" ),
+				os -> false,
+				aoss -> false
+		);
+	}
+
+	@Override
+	public boolean supportsRankFusion() {
+		// The "linear" retriever used for normalized score fusion was introduced in 8.18
+		return isActualVersion(
+				es -> !es.isLessThan( "8.18.0" ),
+				os -> false,
+				aoss -> false
+		);
+	}
+
+	@Override
+	public boolean supportsRankFusionWithSort() {
+		// Retrievers always sort hits by fused rank
+		return false;
+	}
+
+	@Override
+	public boolean supportsRankFusionWithScroll() {
+		// Retrievers support neither scrolls nor search_after
+		return false;
+	}
+
 	@Override
 	public boolean supportsSimilarity(VectorSimilarity vectorSimilarity) {
 		switch ( vectorSimilarity ) {
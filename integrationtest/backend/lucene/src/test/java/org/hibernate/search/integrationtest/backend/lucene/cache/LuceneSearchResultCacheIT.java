@@ -0,0 +1,247 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.lucene.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatResult;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.search.backend.lucene.LuceneExtension;
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.aggregation.SearchAggregation;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Weight;
+
+class LuceneSearchResultCacheIT {
+
+	private static final AggregationKey<Map<String, Long>> AGGREGATION_KEY = AggregationKey.of( "terms" );
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private final CountingQuery countingQuery = new CountingQuery();
+
+	@Test
+	void disabledByDefault() {
+		setupHelper.start().withIndex( index ).setup();
+		initData( 0, 10 );
+
+		SearchQuery<DocumentReference> query = index.query()
+				.where( f -> f.extension( LuceneExtension.get() ).fromLuceneQuery( countingQuery ) )
+				.toQuery();
+
+		query.fetch( 5 );
+		query.fetch( 5 );
+		assertThat( countingQuery.executionCount.get() ).isEqualTo( 2 );
+	}
+
+	@Test
+	void cached() {
+		setup( 10 );
+		initData( 0, 10 );
+
+		StubMappingScope scope = index.createScope();
+		SearchAggregation<Map<String, Long>> aggregation = scope.aggregation()
+				.terms().field( "string", String.class ).toAggregation();
+
+		SearchResult<DocumentReference> firstResult = fetch( scope, aggregation, 0, 5 );
+		assertThat( countingQuery.executionCount.get() ).isEqualTo( 1 );
+		assertThatResult( firstResult ).hasTotalHitCount( 10 )
+				.hasDocRefHitsExactOrder( index.typeName(), "0", "1", "2", "3", "4" );
+		assertThat( firstResult.aggregation( AGGREGATION_KEY ) ).containsEntry( "even", 5L ).containsEntry( "odd", 5L );
+
+		// Same query, different query instance and aggregation instance re-used: cache hit
+		SearchResult<DocumentReference> secondResult = fetch( scope, aggregation, 0, 5 );
+		assertThat( countingQuery.executionCount.get() ).isEqualTo( 1 );
+		assertThatResult( secondResult ).hasTotalHitCount( 10 )
+				.hasDocRefHitsExactOrder( index.typeName(), "0", "1", "2", "3", "4" );
+		assertThat( secondResult.aggregation( AGGREGATION_KEY ) ).containsEntry( "even", 5L ).containsEntry( "odd", 5L );
+
+		// Different page: cache miss
+		SearchResult<DocumentReference> otherPageResult = fetch( scope, aggregation, 5, 5 );
+		assertThat( countingQuery.executionCount.get() ).isEqualTo( 2 );
+		assertThatResult( otherPageResult )
+				.hasDocRefHitsExactOrder( index.typeName(), "5", "6", "7", "8", "9" );
+
+		// Equal aggregation, different aggregation instance: cache hit
+		SearchAggregation<Map<String, Long>> equalAggregation = scope.aggregation()
+				.terms().field( "string", String.class ).toAggregation();
+		fetch( scope, equalAggregation, 0, 5 );
+		assertThat( countingQuery.executionCount.get() ).isEqualTo( 2 );
+
+		// Different aggregation: cache miss
+		SearchAggregation<Map<String, Long>> otherAggregation = scope.aggregation()
+				.terms().field( "string", String.class ).maxTermCount( 1 ).toAggregation();
+		SearchResult<DocumentReference> otherAggregationResult = fetch( scope, otherAggregation, 0, 5 );
+		assertThat( countingQuery.executionCount.get() ).isEqualTo( 3 );
+		assertThat( otherAggregationResult.aggregation( AGGREGATION_KEY ) ).hasSize( 1 );
+	}
+
+	@Test
+	void cached_aggregationsImmutable() {
+		setup( 10 );
+		initData( 0, 10 );
+
+		StubMappingScope scope = index.createScope();
+		SearchAggregation<Map<String, Long>> aggregation = scope.aggregation()
+				.terms().field( "string", String.class ).toAggregation();
+
+		// Altering the results of the execution that populated the cache does not affect the cache
+		SearchResult<DocumentReference> firstResult = fetch( scope, aggregation, 0, 5 );
+		firstResult.aggregation( AGGREGATION_KEY ).clear();
+
+		SearchResult<DocumentReference> secondResult = fetch( scope, aggregation, 0, 5 );
+		assertThat( countingQuery.executionCount.get() ).isEqualTo( 1 );
+		Map<String, Long> cachedAggregation = secondResult.aggregation( AGGREGATION_KEY );
+		assertThat( cachedAggregation ).containsEntry( "even", 5L ).containsEntry( "odd", 5L );
+
+		// Results served from the cache cannot be altered
+		assertThatThrownBy( () -> cachedAggregation.put( "even", 0L ) )
+				.isInstanceOf( UnsupportedOperationException.class );
+		assertThat( fetch( scope, aggregation, 0, 5 ).aggregation( AGGREGATION_KEY ) )
+				.containsEntry( "even", 5L ).containsEntry( "odd", 5L );
+	}
+
+	@Test
+	void invalidatedOnRefresh() {
+		setup( 10 );
+		initData( 0, 10 );
+
+		StubMappingScope scope = index.createScope();
+		SearchAggregation<Map<String, Long>> aggregation = scope.aggregation()
+				.terms().field( "string", String.class ).toAggregation();
+
+		fetch( scope, aggregation, 0, 5 );
+		fetch( scope, aggregation, 0, 5 );
+		assertThat( countingQuery.executionCount.get() ).isEqualTo( 1 );
+
+		// Indexing refreshes the index: the cached result is outdated
+		initData( 10, 11 );
+
+		SearchResult<DocumentReference> result = fetch( scope, aggregation, 0, 5 );
+		assertThat( countingQuery.executionCount.get() ).isEqualTo( 2 );
+		assertThatResult( result ).hasTotalHitCount( 11 );
+		assertThat( result.aggregation( AGGREGATION_KEY ) ).containsEntry( "even", 6L ).containsEntry( "odd", 5L );
+	}
+
+	@Test
+	void sizeBound() {
+		setup( 1 );
+		initData( 0, 10 );
+
+		StubMappingScope scope = index.createScope();
+		SearchAggregation<Map<String, Long>> aggregation = scope.aggregation()
+				.terms().field( "string", String.class ).toAggregation();
+
+		fetch( scope, aggregation, 0, 5 );
+		fetch( scope, aggregation, 5, 5 );
+		assertThat( countingQuery.executionCount.get() ).isEqualTo( 2 );
+
+		// The first result was evicted to make room for the second one
+		fetch( scope, aggregation, 0, 5 );
+		assertThat( countingQuery.executionCount.get() ).isEqualTo( 3 );
+	}
+
+	private SearchResult<DocumentReference> fetch(StubMappingScope scope,
+			SearchAggregation<Map<String, Long>> aggregation, int offset, int limit) {
+		return scope.query()
+				.where( f -> f.extension( LuceneExtension.get() ).fromLuceneQuery( countingQuery ) )
+				.sort( f -> f.field( "number" ) )
+				.aggregation( AGGREGATION_KEY, aggregation )
+				.fetch( offset, limit );
+	}
+
+	private void setup(int cacheSize) {
+		setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.QUERY_RESULT_CACHE_SIZE, cacheSize )
+				.withIndex( index )
+				.setup();
+	}
+
+	private void initData(int startInclusive, int endExclusive) {
+		index.bulkIndexer()
+				.add( endExclusive - startInclusive, i -> documentProvider(
+						String.valueOf( startInclusive + i ),
+						document -> {
+							int number = startInclusive + i;
+							document.addValue( index.binding().string, number % 2 == 0 ? "even" : "odd" );
+							document.addValue( index.binding().number, number );
+						}
+				) )
+				.join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> string;
+		final IndexFieldReference<Integer> number;
+
+		IndexBinding(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString().aggregable( Aggregable.YES ) )
+					.toReference();
+			number = root.field( "number", f -> f.asInteger().sortable( Sortable.YES ) )
+					.toReference();
+		}
+	}
+
+	/**
+	 * Matches all documents, counting how many times it is executed.
+	 */
+	private static class CountingQuery extends Query {
+		private final Query delegate = new MatchAllDocsQuery();
+		private final AtomicInteger executionCount = new AtomicInteger();
+
+		@Override
+		public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) throws IOException {
+			executionCount.incrementAndGet();
+			return delegate.createWeight( searcher, scoreMode, boost );
+		}
+
+		@Override
+		public void visit(QueryVisitor visitor) {
+			visitor.visitLeaf( this );
+		}
+
+		@Override
+		public String toString(String field) {
+			return getClass().getSimpleName();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return this == obj;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode( this );
+		}
+	}
+}
@@ -152,6 +152,78 @@ void ioStrategyDefault_refreshIntervalPositive_refreshStrategyForce(DocumentComm
 		assertThatQuery( query ).hasTotalHitCount( 1 );
 	}
 
+	@ParameterizedTest(name = "Commit strategy {0}, commit_interval {1}")
+	@MethodSource("params")
+	void ioRefreshStrategyBackground_refreshIntervalPositive_refreshStrategyNone(DocumentCommitStrategy commitStrategy,
+			Integer commitInterval) {
+		setup( null, NON_ZERO_DELAY, "background", commitInterval );
+
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text1" ) )
+				.toQuery();
+
+		assertThatQuery( query ).hasNoHits();
+
+		IndexIndexingPlan plan = index.createIndexingPlan(
+				commitStrategy, // This is irrelevant
+				DocumentRefreshStrategy.NONE // This means no refresh will take place until the background refresh
+		);
+		plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().textField, "text1" ) );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		// Readers should *not* be up-to-date immediately after indexing finishes
+		assertThatQuery( query ).hasNoHits();
+
+		// ... but they should be after some time, without any query having to trigger the refresh
+		Awaitility.await().untilAsserted( () -> assertThatQuery( query ).hasTotalHitCount( 1 ) );
+	}
+
+	@ParameterizedTest(name = "Commit strategy {0}, commit_interval {1}")
+	@MethodSource("params")
+	void ioRefreshStrategyBackground_refreshIntervalPositive_refreshStrategyForce(DocumentCommitStrategy commitStrategy,
+			Integer commitInterval) {
+		setup( null, NON_ZERO_DELAY, "background", commitInterval );
+
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text1" ) )
+				.toQuery();
+
+		assertThatQuery( query ).hasNoHits();
+
+		IndexIndexingPlan plan = index.createIndexingPlan(
+				commitStrategy, // This is irrelevant
+				DocumentRefreshStrategy.FORCE // This will force a refresh before the next background refresh
+		);
+		plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().textField, "text1" ) );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		// Readers should be up-to-date immediately after indexing finishes
+		assertThatQuery( query ).hasTotalHitCount( 1 );
+	}
+
+	@ParameterizedTest(name = "Commit strategy {0}, commit_interval {1}")
+	@MethodSource("params")
+	void ioRefreshStrategyBackground_refreshIntervalZero(DocumentCommitStrategy commitStrategy, Integer commitInterval) {
+		setup( null, 0, "background", commitInterval );
+
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text1" ) )
+				.toQuery();
+
+		assertThatQuery( query ).hasNoHits();
+
+		IndexIndexingPlan plan = index.createIndexingPlan(
+				commitStrategy, // This is irrelevant
+				DocumentRefreshStrategy.NONE // The refresh should be executed regardless of this parameter
+		);
+		plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().textField, "text1" ) );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		// Background refresh is ignored with a zero refresh interval:
+		// readers should be up-to-date immediately after indexing finishes
+		assertThatQuery( query ).hasTotalHitCount( 1 );
+	}
+
 	@ParameterizedTest(name = "Commit strategy {0}, commit_interval {1}")
 	@MethodSource("params")
 	void ioStrategyDebug(DocumentCommitStrategy commitStrategy, Integer commitInterval) {
@@ -175,10 +247,16 @@ void ioStrategyDebug(DocumentCommitStrategy commitStrategy, Integer commitInterv
 	}
 
 	private void setup(String ioStrategyName, Integer refreshIntervalMs, Integer commitInterval) {
+		setup( ioStrategyName, refreshIntervalMs, null, commitInterval );
+	}
+
+	private void setup(String ioStrategyName, Integer refreshIntervalMs, String refreshStrategyName,
+			Integer commitInterval) {
 		setupHelper.start()
 				.withIndex( index )
 				.withBackendProperty( LuceneIndexSettings.IO_STRATEGY, ioStrategyName )
 				.withBackendProperty( LuceneIndexSettings.IO_REFRESH_INTERVAL, refreshIntervalMs )
+				.withBackendProperty( LuceneIndexSettings.IO_REFRESH_STRATEGY, refreshStrategyName )
 				.withBackendProperty( LuceneIndexSettings.IO_COMMIT_INTERVAL, commitInterval )
 				.setup();
 	}
@@ -0,0 +1,147 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.lucene.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.LuceneExtension;
+import org.hibernate.search.backend.lucene.types.LuceneVectorFormat;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.BulkIndexer;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import org.apache.lucene.codecs.lucene99.Lucene99HnswScalarQuantizedVectorsFormat;
+import org.apache.lucene.codecs.lucene99.Lucene99ScalarQuantizedVectorsFormat;
+import org.apache.lucene.codecs.perfield.PerFieldKnnVectorsFormat;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.VectorSimilarityFunction;
+
+class LuceneVectorFormatIT {
+
+	private static final int DOCUMENT_COUNT = 10;
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	@ParameterizedTest
+	@EnumSource(LuceneVectorFormat.class)
+	void knn(LuceneVectorFormat format) throws Exception {
+		SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( root -> new IndexBinding( root, format ) );
+		setupHelper.start().withIndex( index ).setup();
+		initData( index );
+
+		// HNSW search is approximate: ask for a few candidates so that the nearest vector is found reliably
+		List<DocumentReference> hits = index.query()
+				.where( f -> f.knn( 5 ).field( "vector" ).matching( vector( 3 ) ) )
+				.fetchHits( 1 );
+		assertThat( hits ).extracting( DocumentReference::id ).containsExactly( "3" );
+
+		assertThatQuery( index.query()
+				.where( f -> f.knn( 4 ).field( "vector" ).matching( vector( 3 ) )
+						.filter( f.range().field( "number" ).atLeast( 6 ) ) ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), "6", "7", "8", "9" );
+
+		try ( IndexReader indexReader = index.createScope().extension( LuceneExtension.get() ).openIndexReader() ) {
+			assertThat( indexReader.leaves() ).isNotEmpty();
+			for ( LeafReaderContext leaf : indexReader.leaves() ) {
+				FieldInfo fieldInfo = leaf.reader().getFieldInfos().fieldInfo( "vector" );
+				assertThat( fieldInfo.getAttribute( PerFieldKnnVectorsFormat.PER_FIELD_FORMAT_KEY ) )
+						.isEqualTo( expectedLuceneFormatName( format ) );
+			}
+		}
+	}
+
+	@ParameterizedTest
+	@EnumSource(value = LuceneVectorFormat.class, names = { "INT8_HNSW", "INT4_HNSW" })
+	void exactRescoring(LuceneVectorFormat format) {
+		SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( root -> new IndexBinding( root, format ) );
+		setupHelper.start().withIndex( index ).setup();
+		initData( index );
+
+		float[] target = vector( 3 );
+		target[3] += 1.0f;
+		List<List<?>> hits = index.query()
+				.select( f -> f.composite().from( f.id( String.class ), f.score() ).asList() )
+				.where( f -> f.knn( 2 ).field( "vector" ).matching( target )
+						.numCandidates( 6 ).exactRescoring() )
+				.fetchHits( 2 );
+		assertThat( hits ).hasSize( 2 );
+		assertThat( hits.get( 0 ).get( 0 ) ).isEqualTo( "3" );
+		for ( List<?> hit : hits ) {
+			// Scores are computed according to the original vectors, not the quantized ones
+			float[] hitVector = vector( Integer.parseInt( (String) hit.get( 0 ) ) );
+			assertThat( hit.get( 1 ) ).isEqualTo( VectorSimilarityFunction.EUCLIDEAN.compare( target, hitVector ) );
+		}
+	}
+
+	@Test
+	void quantization_byteVector() {
+		assertThatThrownBy( () -> setupHelper.start()
+				.withIndex( SimpleMappedIndex.of( root -> root.field( "vector",
+						f -> f.extension( LuceneExtension.get() ).asByteVector().dimension( 2 )
+								.vectorFormat( LuceneVectorFormat.INT8_HNSW ) )
+						.toReference() ) )
+				.setup()
+		).isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Invalid vector format 'INT8_HNSW' for vectors of type 'byte[]'",
+						"quantized formats are only available for float vectors" );
+	}
+
+	private static void initData(SimpleMappedIndex<IndexBinding> index) {
+		BulkIndexer indexer = index.bulkIndexer();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int number = i;
+			indexer.add( String.valueOf( i ), document -> {
+				document.addValue( index.binding().vector, vector( number ) );
+				document.addValue( index.binding().number, number );
+			} );
+		}
+		indexer.join();
+	}
+
+	private static float[] vector(int number) {
+		// Far enough from each other that quantization does not change which vector is the nearest
+		return new float[] { number * 10.0f, ( DOCUMENT_COUNT - number ) * 10.0f, ( number % 2 ) * 50.0f, 5.0f };
+	}
+
+	private static String expectedLuceneFormatName(LuceneVectorFormat format) {
+		if ( format.isFlat() ) {
+			return Lucene99ScalarQuantizedVectorsFormat.NAME;
+		}
+		else if ( format.isQuantized() ) {
+			return Lucene99HnswScalarQuantizedVectorsFormat.NAME;
+		}
+		else {
+			return "Lucene99HnswVectorsFormat";
+		}
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<float[]> vector;
+		final IndexFieldReference<Integer> number;
+
+		IndexBinding(IndexSchemaElement root, LuceneVectorFormat format) {
+			vector = root.field( "vector", f -> f.extension( LuceneExtension.get() ).asFloatVector()
+					.dimension( 4 ).vectorFormat( format ) )
+					.toReference();
+			number = root.field( "number", f -> f.asInteger() ).toReference();
+		}
+	}
+}
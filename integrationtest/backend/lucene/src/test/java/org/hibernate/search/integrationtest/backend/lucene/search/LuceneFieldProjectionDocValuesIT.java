@@ -0,0 +1,181 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.ObjectStructure;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.common.ValueModel;
+import org.hibernate.search.engine.search.projection.ProjectionCollector;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.configuration.DefaultAnalysisDefinitions;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Test field projections served from doc values instead of stored fields.
+ */
+class LuceneFieldProjectionDocValuesIT {
+
+	@RegisterExtension
+	public static final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private static final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeAll
+	static void setup() {
+		setupHelper.start().withIndex( index ).setup();
+		initData();
+	}
+
+	@Test
+	void singleValued() {
+		assertThat( index.query()
+				.select( f -> f.composite(
+						f.field( "string", String.class ),
+						f.field( "integer", Integer.class ),
+						f.field( "date", LocalDate.class ),
+						f.field( "integer", Integer.class, ValueModel.RAW ) ) )
+				.where( f -> f.id().matching( "1" ) )
+				.fetchAllHits() )
+				.containsExactly( List.of( "Some Text", 42, LocalDate.of( 2024, 2, 29 ), 42 ) );
+	}
+
+	@Test
+	void singleValued_missing() {
+		assertThat( index.query()
+				.select( f -> f.field( "integer", Integer.class ) )
+				.where( f -> f.id().matching( "2" ) )
+				.fetchAllHits() )
+				.containsExactly( (Integer) null );
+	}
+
+	@Test
+	void nested() {
+		assertThat( index.query()
+				.select( f -> f.object( "nested" )
+						.from( f.field( "nested.integer", Integer.class ) )
+						.as( integer -> integer )
+						.collector( ProjectionCollector.list() ) )
+				.where( f -> f.id().matching( "1" ) )
+				.fetchAllHits() )
+				// Nested documents are returned in order, even though each value comes from doc values.
+				.containsExactly( List.of( 3, 1, 2 ) );
+	}
+
+	@Test
+	void multiValued_notFromDocValuesByDefault() {
+		assertThat( index.query()
+				.select( f -> f.field( "stringMulti", String.class ).collector( ProjectionCollector.list() ) )
+				.where( f -> f.id().matching( "1" ) )
+				.fetchAllHits() )
+				.containsExactly( List.of( "c", "a", "b", "a" ) );
+	}
+
+	@Test
+	void multiValued_fromDocValues() {
+		assertThat( index.query()
+				.select( f -> f.field( "stringMulti", String.class ).collector( ProjectionCollector.list() )
+						.fromDocValues() )
+				.where( f -> f.id().matching( "1" ) )
+				.fetchAllHits() )
+				// Doc values are sorted and deduplicated.
+				.containsExactly( List.of( "a", "b", "c" ) );
+	}
+
+	@Test
+	void fromDocValues_noDocValues() {
+		assertThatThrownBy( () -> index.query()
+				.select( f -> f.field( "notSortable", String.class ).fromDocValues() )
+				.where( f -> f.matchAll() )
+				.toQuery() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Cannot project on field 'notSortable' from doc values",
+						"Make sure the field is sortable or aggregable" );
+	}
+
+	@Test
+	void fromDocValues_lossyDocValues() {
+		assertThatThrownBy( () -> index.query()
+				.select( f -> f.field( "text", String.class ).fromDocValues() )
+				.where( f -> f.matchAll() )
+				.toQuery() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Cannot project on field 'text' from doc values" );
+	}
+
+	private static void initData() {
+		IndexBinding binding = index.binding();
+		index.bulkIndexer()
+				.add( documentProvider( "1", document -> {
+					document.addValue( binding.string, "Some Text" );
+					document.addValue( binding.integer, 42 );
+					document.addValue( binding.date, LocalDate.of( 2024, 2, 29 ) );
+					document.addValue( binding.notSortable, "foo" );
+					document.addValue( binding.text, "Some Text" );
+					for ( String value : new String[] { "c", "a", "b", "a" } ) {
+						document.addValue( binding.stringMulti, value );
+					}
+					for ( int value : new int[] { 3, 1, 2 } ) {
+						DocumentElement nested = document.addObject( binding.nested );
+						nested.addValue( binding.nestedInteger, value );
+					}
+				} ) )
+				.add( documentProvider( "2", document -> { } ) )
+				.join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> string;
+		final IndexFieldReference<Integer> integer;
+		final IndexFieldReference<LocalDate> date;
+		final IndexFieldReference<String> stringMulti;
+		final IndexFieldReference<String> notSortable;
+		final IndexFieldReference<String> text;
+		final IndexObjectFieldReference nested;
+		final IndexFieldReference<Integer> nestedInteger;
+
+		IndexBinding(IndexSchemaElement root) {
+			string = root.field( "string", c -> c.asString().sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			integer = root.field( "integer", c -> c.asInteger().sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			date = root.field( "date", c -> c.asLocalDate().sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			stringMulti = root.field( "stringMulti",
+					c -> c.asString().aggregable( Aggregable.YES ).projectable( Projectable.YES ) )
+					.multiValued()
+					.toReference();
+			notSortable = root.field( "notSortable", c -> c.asString().projectable( Projectable.YES ) )
+					.toReference();
+			text = root.field( "text", c -> c.asString()
+					.normalizer( DefaultAnalysisDefinitions.NORMALIZER_LOWERCASE.name )
+					.sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			IndexSchemaObjectField nestedObject = root.objectField( "nested", ObjectStructure.NESTED ).multiValued();
+			nested = nestedObject.toReference();
+			nestedInteger = nestedObject.field( "integer",
+					c -> c.asInteger().sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+		}
+	}
+}
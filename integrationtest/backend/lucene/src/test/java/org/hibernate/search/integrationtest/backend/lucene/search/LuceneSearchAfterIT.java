@@ -0,0 +1,169 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.LuceneExtension;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.search.query.LuceneSearchQuery;
+import org.hibernate.search.backend.lucene.search.query.LuceneSearchResult;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import org.apache.lucene.search.ScoreDoc;
+
+/**
+ * Test cursor-based paging with {@link LuceneSearchQuery#fetchAfter(ScoreDoc, Integer)},
+ * and scrolling through more hits than a single scroll page holds.
+ */
+class LuceneSearchAfterIT {
+
+	private static final int BATCH_COUNT = 5;
+	private static final int BATCH_SIZE = 100;
+	private static final int INDEX_SIZE = BATCH_COUNT * BATCH_SIZE;
+	private static final int PAGE_SIZE = 37;
+
+	@RegisterExtension
+	public static final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private static final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeAll
+	static void setup() {
+		setupHelper.start()
+				.withBackendProperty( LuceneIndexSettings.IO_WRITER_MAX_BUFFERED_DOCS, BATCH_SIZE / 2 )
+				.withIndex( index )
+				.setup();
+		initData();
+	}
+
+	@Test
+	void fieldSort() {
+		LuceneSearchQuery<Integer> query = index.createScope().query().extension( LuceneExtension.get() )
+				.select( f -> f.field( "number", Integer.class ) )
+				.where( f -> f.range().field( "number" ).atLeast( 100 ) )
+				.sort( f -> f.field( "number" ).desc() )
+				.toQuery();
+
+		List<Integer> hits = new ArrayList<>();
+		ScoreDoc after = null;
+		LuceneSearchResult<Integer> result;
+		do {
+			result = query.fetchAfter( after, PAGE_SIZE );
+			assertThat( result.total().hitCount() ).isEqualTo( INDEX_SIZE - 100L );
+			assertThat( result.hits() ).hasSizeLessThanOrEqualTo( PAGE_SIZE );
+			hits.addAll( result.hits() );
+			after = lastScoreDoc( result );
+		}
+		while ( after != null );
+
+		List<Integer> expected = new ArrayList<>();
+		for ( int i = INDEX_SIZE - 1; i >= 100; i-- ) {
+			expected.add( i );
+		}
+		assertThat( hits ).containsExactlyElementsOf( expected );
+	}
+
+	@Test
+	void scoreSort() {
+		LuceneSearchQuery<Integer> query = index.createScope().query().extension( LuceneExtension.get() )
+				.select( f -> f.field( "number", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.toQuery();
+
+		List<Integer> hits = new ArrayList<>();
+		ScoreDoc after = null;
+		LuceneSearchResult<Integer> result;
+		do {
+			result = query.fetchAfter( after, PAGE_SIZE );
+			hits.addAll( result.hits() );
+			after = lastScoreDoc( result );
+		}
+		while ( after != null );
+
+		assertThat( hits ).hasSize( INDEX_SIZE ).doesNotHaveDuplicates();
+		assertThat( hits ).containsExactlyInAnyOrderElementsOf( query.fetchAllHits() );
+	}
+
+	@Test
+	void fieldSort_invalidCursor() {
+		LuceneSearchQuery<Integer> query = index.createScope().query().extension( LuceneExtension.get() )
+				.select( f -> f.field( "number", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "number" ) )
+				.toQuery();
+
+		assertThatThrownBy( () -> query.fetchAfter( new ScoreDoc( 0, 1.0f ), PAGE_SIZE ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Invalid search cursor",
+						"the cursor must be a FieldDoc holding one value per sort field" );
+	}
+
+	@Test
+	void scroll() {
+		List<Integer> hits = new ArrayList<>();
+		try ( SearchScroll<Integer> scroll = index.createScope().query()
+				.select( f -> f.field( "number", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "number" ) )
+				.scroll( PAGE_SIZE ) ) {
+			for ( SearchScrollResult<Integer> chunk = scroll.next(); chunk.hasHits(); chunk = scroll.next() ) {
+				assertThat( chunk.total().hitCount() ).isEqualTo( INDEX_SIZE );
+				hits.addAll( chunk.hits() );
+			}
+		}
+
+		List<Integer> expected = new ArrayList<>();
+		for ( int i = 0; i < INDEX_SIZE; i++ ) {
+			expected.add( i );
+		}
+		assertThat( hits ).containsExactlyElementsOf( expected );
+	}
+
+	private static ScoreDoc lastScoreDoc(LuceneSearchResult<?> result) {
+		ScoreDoc[] scoreDocs = result.topDocs().scoreDocs;
+		return scoreDocs.length == 0 ? null : scoreDocs[scoreDocs.length - 1];
+	}
+
+	private static void initData() {
+		// Index in multiple batches to get multiple segments.
+		for ( int batch = 0; batch < BATCH_COUNT; batch++ ) {
+			int batchStart = batch * BATCH_SIZE;
+			index.bulkIndexer()
+					.add( BATCH_SIZE, i -> {
+						int number = batchStart + i;
+						return documentProvider( String.valueOf( number ),
+								document -> document.addValue( index.binding().number, number ) );
+					} )
+					.join();
+		}
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> number;
+
+		IndexBinding(IndexSchemaElement root) {
+			number = root.field( "number", c -> c.asInteger().sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+		}
+	}
+}
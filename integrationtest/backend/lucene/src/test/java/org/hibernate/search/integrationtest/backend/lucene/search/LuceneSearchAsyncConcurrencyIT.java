@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Test that many concurrent asynchronous search queries complete
+ * when index segments are searched concurrently with a very small search thread pool,
+ * i.e. that asynchronous queries do not starve the search thread pool of threads or queue slots.
+ */
+class LuceneSearchAsyncConcurrencyIT {
+
+	private static final int BATCH_COUNT = 10;
+	private static final int BATCH_SIZE = 100;
+	private static final int INDEX_SIZE = BATCH_COUNT * BATCH_SIZE;
+	// More than the queue size of thread pools.
+	private static final int QUERY_COUNT = 1500;
+
+	@RegisterExtension
+	public static final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private static final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeAll
+	static void setup() {
+		setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.SEARCH_THREAD_POOL_SIZE, 1 )
+				// Force multiple slices, each containing a single small segment.
+				.withBackendProperty( LuceneBackendSettings.SEARCH_SLICE_MAX_DOCS, 1 )
+				.withBackendProperty( LuceneBackendSettings.SEARCH_SLICE_MAX_SEGMENTS, 1 )
+				.withBackendProperty( LuceneIndexSettings.IO_WRITER_MAX_BUFFERED_DOCS, BATCH_SIZE / 2 )
+				.withIndex( index )
+				.setup();
+		initData();
+	}
+
+	@Test
+	// Submitting queries would block forever if the search thread pool was starved.
+	@Timeout(value = 1, unit = TimeUnit.MINUTES, threadMode = Timeout.ThreadMode.SEPARATE_THREAD)
+	void fetchAsync_concurrent() {
+		List<CompletableFuture<List<Integer>>> futures = new ArrayList<>();
+		for ( int i = 0; i < QUERY_COUNT; i++ ) {
+			int min = i % INDEX_SIZE;
+			futures.add( index.createScope().query()
+					.select( f -> f.field( "number", Integer.class ) )
+					.where( f -> f.range().field( "number" ).atLeast( min ) )
+					.sort( f -> f.field( "number" ).asc() )
+					.fetchHitsAsync( 1 )
+					.toCompletableFuture() );
+		}
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture[0] ) ).join();
+
+		for ( int i = 0; i < QUERY_COUNT; i++ ) {
+			assertThat( futures.get( i ).join() ).containsExactly( i % INDEX_SIZE );
+		}
+	}
+
+	@Test
+	// Submitting queries would block forever if the search thread pool was starved.
+	@Timeout(value = 1, unit = TimeUnit.MINUTES, threadMode = Timeout.ThreadMode.SEPARATE_THREAD)
+	void fetchTotalHitCountAsync_concurrent() {
+	List<CompletableFuture<Long>> futures = new ArrayList<>();
+		for ( int i = 0; i < QUERY_COUNT; i++ ) {
+			futures.add( index.createScope().query()
+					.where( f -> f.matchAll() )
+					.fetchTotalHitCountAsync()
+					.toCompletableFuture() );
+		}
+			CompletableFuture.allOf( futures.toArray( new CompletableFuture[0] ) ).join();
+
+		assertThat( futures ).allSatisfy( future -> assertThat( future.join() ).isEqualTo( INDEX_SIZE ) );
+	}
+
+	private static void initData() {
+		// Index in multiple batches to get multiple segments.
+		for ( int batch = 0; batch < BATCH_COUNT; batch++ ) {
+			int batchStart = batch * BATCH_SIZE;
+			index.bulkIndexer()
+					.add( BATCH_SIZE, i -> {
+						int number = batchStart + i;
+						return documentProvider( String.valueOf( number ),
+								document -> document.addValue( index.binding().number, number ) );
+					} )
+					.join();
+		}
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> number;
+
+		IndexBinding(IndexSchemaElement root) {
+			number = root.field( "number", c -> c.asInteger().sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+		}
+	}
+}
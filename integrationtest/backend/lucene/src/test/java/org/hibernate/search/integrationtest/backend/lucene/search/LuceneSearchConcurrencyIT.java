@@ -0,0 +1,134 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Test that search queries return the same results
+ * when index segments are searched concurrently within a single query.
+ */
+class LuceneSearchConcurrencyIT {
+
+	private static final int BATCH_COUNT = 10;
+	private static final int BATCH_SIZE = 100;
+	private static final int INDEX_SIZE = BATCH_COUNT * BATCH_SIZE;
+	private static final int CATEGORY_COUNT = 7;
+
+	@RegisterExtension
+	public static final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private static final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeAll
+	static void setup() {
+		setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.SEARCH_THREAD_POOL_SIZE, 4 )
+				// Force multiple slices, each containing a single small segment.
+				.withBackendProperty( LuceneBackendSettings.SEARCH_SLICE_MAX_DOCS, 1 )
+				.withBackendProperty( LuceneBackendSettings.SEARCH_SLICE_MAX_SEGMENTS, 1 )
+				.withBackendProperty( LuceneIndexSettings.IO_WRITER_MAX_BUFFERED_DOCS, BATCH_SIZE / 2 )
+				.withIndex( index )
+				.setup();
+		initData();
+	}
+
+	@Test
+	void sortAndProjection() {
+		List<Integer> hits = index.createScope().query()
+				.select( f -> f.field( "number", Integer.class ) )
+				.where( f -> f.range().field( "number" ).atLeast( 100 ) )
+				.sort( f -> f.field( "number" ).desc() )
+				.fetchHits( 50 );
+
+		List<Integer> expected = new ArrayList<>();
+		for ( int i = INDEX_SIZE - 1; i >= INDEX_SIZE - 50; i-- ) {
+			expected.add( i );
+		}
+		assertThat( hits ).containsExactlyElementsOf( expected );
+	}
+
+	@Test
+	void offset() {
+		List<Integer> hits = index.createScope().query()
+				.select( f -> f.field( "number", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "number" ).asc() )
+				.fetchHits( 555, 10 );
+
+		assertThat( hits ).containsExactly( 555, 556, 557, 558, 559, 560, 561, 562, 563, 564 );
+	}
+
+	@Test
+	void totalHitCountAndAggregation() {
+		AggregationKey<Map<String, Long>> aggregationKey = AggregationKey.of( "categories" );
+		SearchResult<?> result = index.createScope().query()
+				.where( f -> f.range().field( "number" ).lessThan( 700 ) )
+				.aggregation( aggregationKey, f -> f.terms().field( "category", String.class ) )
+				.fetch( 10 );
+
+		assertThat( result.total().hitCount() ).isEqualTo( 700L );
+		assertThat( result.aggregation( aggregationKey ) )
+				.hasSize( CATEGORY_COUNT )
+				.allSatisfy( (category, count) -> assertThat( count ).isEqualTo( 700L / CATEGORY_COUNT ) );
+	}
+
+	@Test
+	void count() {
+		long count = index.createScope().query()
+				.where( f -> f.range().field( "number" ).between( 10, 19 ) )
+				.fetchTotalHitCount();
+
+		assertThat( count ).isEqualTo( 10L );
+	}
+
+	private static void initData() {
+		// Index in multiple batches to get multiple segments.
+		for ( int batch = 0; batch < BATCH_COUNT; batch++ ) {
+			int batchStart = batch * BATCH_SIZE;
+			index.bulkIndexer()
+					.add( BATCH_SIZE, i -> {
+						int number = batchStart + i;
+						return documentProvider( String.valueOf( number ), document -> {
+							document.addValue( index.binding().number, number );
+							document.addValue( index.binding().category, "category" + ( number % CATEGORY_COUNT ) );
+						} );
+					} )
+					.join();
+		}
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> number;
+		final IndexFieldReference<String> category;
+
+		IndexBinding(IndexSchemaElement root) {
+			number = root.field( "number", c -> c.asInteger().sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			category = root.field( "category", c -> c.asString().aggregable( Aggregable.YES ) ).toReference();
+		}
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.lucene.work;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.cfg.spi.EngineSpiSettings;
+import org.hibernate.search.engine.common.metrics.spi.InMemorySearchMetrics;
+import org.hibernate.search.engine.common.metrics.spi.SearchMetricNames;
+import org.hibernate.search.engine.environment.bean.BeanReference;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapping;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+class LuceneIndexingMetricsIT {
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private final StubMappedIndex index = StubMappedIndex.withoutFields();
+
+	private final InMemorySearchMetrics metrics = new InMemorySearchMetrics();
+
+	@Test
+	void indexing() {
+		StubMapping mapping = setupHelper.start()
+				.withProperty( EngineSpiSettings.METRICS, BeanReference.ofInstance( metrics ) )
+				.withBackendProperty( LuceneIndexSettings.INDEXING_QUEUE_COUNT, 1 )
+				.withBackendProperty( LuceneIndexSettings.INDEXING_QUEUE_SIZE, 50 )
+				.withIndex( index )
+				.setup();
+
+		Map<String, String> indexTags = Map.of( SearchMetricNames.TAG_INDEX, index.name() );
+		Map<String, String> queueTags = Map.of( SearchMetricNames.TAG_INDEX, index.name(),
+				SearchMetricNames.TAG_QUEUE, "0" );
+
+		assertThat( metrics.gaugeValue( SearchMetricNames.EXECUTOR_QUEUE_CAPACITY, queueTags ) ).hasValue( 50 );
+		assertThat( metrics.gaugeValue( SearchMetricNames.EXECUTOR_QUEUE_SIZE, queueTags ) ).hasValue( 0 );
+		long commitCountBefore = metrics.timer( SearchMetricNames.INDEX_COMMIT_DURATION, indexTags ).count();
+
+		IndexIndexingPlan plan = index.createIndexingPlan( DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE );
+		plan.add( referenceProvider( "1" ), document -> {} );
+		plan.add( referenceProvider( "2" ), document -> {} );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		InMemorySearchMetrics.InMemoryDistribution batchSize =
+				metrics.distribution( SearchMetricNames.EXECUTOR_BATCH_SIZE, queueTags );
+		assertThat( batchSize.count() ).isPositive();
+		assertThat( batchSize.total() ).isEqualTo( 2 );
+		assertThat( metrics.timer( SearchMetricNames.EXECUTOR_QUEUE_WAIT, queueTags ).count() ).isEqualTo( 2 );
+		assertThat( metrics.timer( SearchMetricNames.INDEX_COMMIT_DURATION, indexTags ).count() )
+				.isGreaterThan( commitCountBefore );
+
+		mapping.close();
+
+		// Gauges are unregistered when the index stops
+		assertThat( metrics.gaugeValue( SearchMetricNames.EXECUTOR_QUEUE_SIZE, queueTags ) ).isEmpty();
+	}
+
+}
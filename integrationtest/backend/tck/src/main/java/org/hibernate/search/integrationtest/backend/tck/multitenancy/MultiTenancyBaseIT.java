@@ -23,6 +23,7 @@
 import org.hibernate.search.engine.backend.types.VectorSimilarity;
 import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.search.query.SearchPreparedQuery;
 import org.hibernate.search.engine.search.query.SearchQuery;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.util.TckBackendHelper;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.util.TckConfiguration;
@@ -134,6 +135,28 @@ void search_only_returns_elements_of_the_selected_tenant() {
 		assertThatQuery( query ).hasListHitsAnyOrder( b -> b.list( STRING_VALUE_1, INTEGER_VALUE_3 ) );
 	}
 
+	@Test
+	void preparedQuery_only_returns_elements_of_the_bound_tenant() {
+		StubMappingScope scope = index.createScope();
+
+		SearchPreparedQuery<List<?>> prepared = scope.query( tenant1SessionContext )
+				.select( f -> f.composite(
+						f.field( "string", String.class ),
+						f.field( "integer", Integer.class )
+				)
+				)
+				.where( f -> f.withParameters( params -> f.match().field( "string" )
+						.matching( params.get( "string", String.class ) ) ) )
+				.toPreparedQuery();
+
+		assertThatQuery( scope.bind( tenant1SessionContext, prepared ).param( "string", STRING_VALUE_1 )
+				.toQuery() )
+				.hasListHitsAnyOrder( b -> b.list( STRING_VALUE_1, INTEGER_VALUE_1 ) );
+		assertThatQuery( scope.bind( tenant2SessionContext, prepared ).param( "string", STRING_VALUE_1 )
+				.toQuery() )
+				.hasListHitsAnyOrder( b -> b.list( STRING_VALUE_1, INTEGER_VALUE_3 ) );
+	}
+
 	// In Elasticsearch, we used to expect the user to provide the ID already prefixed with the tenant ID, which is wrong
 	@Test
 	@TestForIssue(jiraKey = "HSEARCH-3421")
@@ -704,6 +704,93 @@ void simpleVectorPredicateWithFilter() {
 					);
 		}
 
+		@Test
+		void numCandidates() {
+			assumeTrue(
+					TckConfiguration.get().getBackendFeatures().supportsVectorSearchNumCandidates(),
+					"This test only make sense for a backend that supports specifying the number of candidates."
+			);
+			int k = 3;
+			List<float[]> result = index.createScope().query()
+					.select( f -> f.field( "location", float[].class ) )
+					.where( f -> f.knn( k )
+							.field( "location" )
+							.matching( 5f, 4f )
+							.numCandidates( 10 )
+							.filter( f.range().field( "rating" ).between( 8, 10 ) ) )
+					// Some backends return up to numCandidates hits
+					.fetchHits( k );
+
+			assertThat( result )
+					.containsExactly(
+							new float[] { 4.9f, 3.4f },
+							new float[] { 6.4f, 3.4f },
+							new float[] { 3.3f, 4.5f }
+					);
+		}
+
+		@Test
+		void oversample() {
+			assumeTrue(
+					TckConfiguration.get().getBackendFeatures().supportsVectorSearchNumCandidates(),
+					"This test only make sense for a backend that supports specifying the number of candidates."
+			);
+			int k = 3;
+			List<float[]> result = index.createScope().query()
+					.select( f -> f.field( "location", float[].class ) )
+					.where( f -> f.knn( k )
+							.field( "location" )
+							.matching( 5f, 4f )
+							.oversample( 2.5f )
+							.filter( f.range().field( "rating" ).between( 8, 10 ) ) )
+					.fetchHits( k );
+
+			assertThat( result )
+					.containsExactly(
+							new float[] { 4.9f, 3.4f },
+							new float[] { 6.4f, 3.4f },
+							new float[] { 3.3f, 4.5f }
+					);
+		}
+
+		@Test
+		void exactRescoring() {
+			assumeTrue(
+					TckConfiguration.get().getBackendFeatures().supportsVectorSearchExactRescoring(),
+					"This test only make sense for a backend that supports exact rescoring."
+			);
+			int k = 3;
+			List<float[]> result = index.createScope().query()
+					.select( f -> f.field( "location", float[].class ) )
+					.where( f -> f.knn( k )
+							.field( "location" )
+							.matching( 5f, 4f )
+							.numCandidates( 6 )
+							.exactRescoring()
+							.filter( f.range().field( "rating" ).between( 8, 10 ) ) )
+					.fetchHits( k );
+
+			assertThat( result )
+					.containsExactly(
+							new float[] { 4.9f, 3.4f },
+							new float[] { 6.4f, 3.4f },
+							new float[] { 3.3f, 4.5f }
+					);
+		}
+
+		@Test
+		void numCandidates_invalid() {
+			SearchPredicateFactory<?> f = index.createScope().predicate();
+			assertThatThrownBy( () -> f.knn( 3 ).field( "location" ).matching( 5f, 4f ).numCandidates( 2 ) )
+					.isInstanceOf( SearchException.class )
+					.hasMessageContainingAll( "Invalid number of candidates for a knn predicate: '2'",
+							"The number of candidates must be greater than or equal to k ('3')" );
+			assertThatThrownBy( () -> f.knn( 3 ).field( "location" ).matching( 5f, 4f ).oversample( 0.5f ) )
+					.isInstanceOf( SearchException.class )
+					.hasMessageContainingAll( "Invalid oversampling factor for a knn predicate: '0.5'",
+							"The oversampling factor must be greater than or equal to 1" );
+		}
+
 		@Test
 		void knnPredicateInsideOrYieldsMoreResults() {
 			int k = 3;
@@ -0,0 +1,213 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.tck.search.predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
+import org.hibernate.search.engine.backend.types.ObjectStructure;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.types.VectorSimilarity;
+import org.hibernate.search.engine.search.predicate.dsl.RankFusionMethod;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.configuration.DefaultAnalysisDefinitions;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.TckConfiguration;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+class RankFusionPredicateSpecificsIT {
+
+	private static final String TERM = "alpha";
+
+	@RegisterExtension
+	public static final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private static final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeAll
+	static void setup() {
+		assumeTrue(
+				TckConfiguration.get().getBackendFeatures().supportsVectorSearch()
+						&& TckConfiguration.get().getBackendFeatures().supportsRankFusion(),
+				"These tests only make sense for a backend where vector search and rank fusion are supported."
+		);
+		setupHelper.start().withIndex( index ).setup();
+
+		initData();
+	}
+
+	@Test
+	void reciprocalRank() {
+		// Full-text ranking: 1, 4, 2; vector ranking: 3, 2, 1, 4
+		assertThatQuery( index.query()
+				.where( f -> f.rankFusion()
+						.add( f.match().field( "text" ).matching( TERM ) )
+						.add( f.knn( 4 ).field( "vector" ).matching( 1.0f, 1.0f ) ) ) )
+				.hasDocRefHitsExactOrder( index.typeName(), "1", "2", "4", "3" );
+	}
+
+	@Test
+	void windowSize() {
+		// Full-text top hits: 1, 4, 2; vector top hits: 3, 2, 1
+		assertThatQuery( index.query()
+				.where( f -> f.rankFusion()
+						.add( f.match().field( "text" ).matching( TERM ) )
+						.add( f.knn( 4 ).field( "vector" ).matching( 1.0f, 1.0f ) )
+						.windowSize( 3 ) ) )
+				.hasDocRefHitsExactOrder( index.typeName(), "1", "2", "3" );
+	}
+
+	@Test
+	void normalizedScore() {
+		// The vector clause has more weight: its ranking prevails
+		assertThatQuery( index.query()
+				.where( f -> f.rankFusion()
+						.add( f.match().field( "text" ).matching( TERM ) )
+						.add( f.knn( 4 ).field( "vector" ).matching( 1.0f, 1.0f ), 10.0f )
+						.method( RankFusionMethod.NORMALIZED_SCORE ) ) )
+				.hasDocRefHitsExactOrder( index.typeName(), "3", "2", "1", "4" );
+	}
+
+	@Test
+	void noClause() {
+		assertThatThrownBy( () -> index.query()
+				.where( f -> f.rankFusion().windowSize( 10 ) ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid rank fusion predicate: no clause was added" );
+	}
+
+	@Test
+	void invalidWeight() {
+		assertThatThrownBy( () -> index.query()
+				.where( f -> f.rankFusion()
+						.add( f.match().field( "text" ).matching( TERM ), -1.0f ) ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid weight for a rank fusion clause: '-1.0'" );
+	}
+
+	@Test
+	void nested() {
+		assertThatThrownBy( () -> index.query()
+				.where( f -> f.nested( "nested" )
+						.add( f.rankFusion()
+								.add( f.match().field( "nested.text" ).matching( TERM ) ) ) )
+				.fetchAllHits() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "rank fusion predicate" )
+				.hasMessageContaining( "can only be used as the top-level predicate of a query" );
+	}
+
+	@Test
+	void sort() {
+		if ( TckConfiguration.get().getBackendFeatures().supportsRankFusionWithSort() ) {
+			assertThatQuery( sortedQuery() )
+					.hasDocRefHitsExactOrder( index.typeName(), "4", "3", "2", "1" );
+		}
+		else {
+			assertThatThrownBy( RankFusionPredicateSpecificsIT::sortedQuery )
+					.isInstanceOf( SearchException.class )
+					.hasMessageContaining( "Cannot sort the hits of a query whose top-level predicate is a rank fusion predicate" );
+		}
+	}
+
+	@Test
+	void scroll() {
+		SearchQuery<DocumentReference> query = index.query()
+				.where( f -> f.rankFusion()
+						.add( f.match().field( "text" ).matching( TERM ) )
+						.add( f.knn( 4 ).field( "vector" ).matching( 1.0f, 1.0f ) ) )
+				.toQuery();
+		if ( TckConfiguration.get().getBackendFeatures().supportsRankFusionWithScroll() ) {
+			try ( SearchScroll<DocumentReference> scroll = query.scroll( 2 ) ) {
+				List<DocumentReference> hits = new ArrayList<>();
+				for ( SearchScrollResult<DocumentReference> chunk = scroll.next(); chunk.hasHits();
+						chunk = scroll.next() ) {
+					hits.addAll( chunk.hits() );
+				}
+				assertThat( hits ).extracting( DocumentReference::id )
+						.containsExactly( "1", "2", "4", "3" );
+			}
+		}
+		else {
+			assertThatThrownBy( () -> query.scroll( 2 ) )
+					.isInstanceOf( SearchException.class )
+					.hasMessageContaining( "Cannot scroll through the hits of a query whose top-level predicate"
+							+ " is a rank fusion predicate" );
+		}
+	}
+
+	private static SearchQuery<DocumentReference> sortedQuery() {
+		return index.query()
+				.where( f -> f.rankFusion()
+						.add( f.match().field( "text" ).matching( TERM ) )
+						.add( f.knn( 4 ).field( "vector" ).matching( 1.0f, 1.0f ) ) )
+				.sort( f -> f.field( "sortField" ) )
+				.toQuery();
+	}
+
+	private static void initData() {
+		index.bulkIndexer()
+				.add( "1", document -> initDocument( document, "alpha alpha alpha", 4.0f, 4 ) )
+				.add( "2", document -> initDocument( document, "alpha", 2.0f, 3 ) )
+				.add( "3", document -> initDocument( document, null, 1.0f, 2 ) )
+				.add( "4", document -> initDocument( document, "alpha alpha", 8.0f, 1 ) )
+				.join();
+	}
+
+	private static void initDocument(DocumentElement document, String text, float vectorComponent, int sortValue) {
+		IndexBinding binding = index.binding();
+		if ( text != null ) {
+			document.addValue( binding.text, text );
+		}
+		document.addValue( binding.sortField, sortValue );
+		document.addValue( binding.vector, new float[] { vectorComponent, vectorComponent } );
+		DocumentElement nested = document.addObject( binding.nested );
+		if ( text != null ) {
+			nested.addValue( binding.nestedText, text );
+		}
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+		final IndexFieldReference<float[]> vector;
+		final IndexFieldReference<Integer> sortField;
+		final IndexObjectFieldReference nested;
+		final IndexFieldReference<String> nestedText;
+
+		IndexBinding(IndexSchemaElement root) {
+			text = root.field( "text", f -> f.asString()
+					.analyzer( DefaultAnalysisDefinitions.ANALYZER_STANDARD_ENGLISH.name ) )
+					.toReference();
+			vector = root.field( "vector", f -> f.asFloatVector().dimension( 2 )
+					.vectorSimilarity( VectorSimilarity.L2 ) )
+					.toReference();
+			sortField = root.field( "sortField", f -> f.asInteger().sortable( Sortable.YES ) )
+					.toReference();
+			IndexSchemaObjectField nestedObject = root.objectField( "nested", ObjectStructure.NESTED );
+			nested = nestedObject.toReference();
+			nestedText = nestedObject.field( "text", f -> f.asString()
+					.analyzer( DefaultAnalysisDefinitions.ANALYZER_STANDARD_ENGLISH.name ) )
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,211 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.tck.search.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
+import org.hibernate.search.engine.search.query.SearchPreparedQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.sort.dsl.SortOrder;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+class SearchPreparedQueryIT {
+
+	private static final int DOCUMENT_COUNT = 10;
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new ).name( "main" );
+	private final SimpleMappedIndex<IndexBinding> otherIndex = SimpleMappedIndex.of( IndexBinding::new ).name( "other" );
+
+	private StubMappingScope scope;
+
+	@BeforeEach
+	void setup() {
+		setupHelper.start().withIndexes( index, otherIndex ).setup();
+		initData();
+		// Scopes are meant to be reused across executions of prepared queries
+		scope = index.createScope();
+	}
+
+	@Test
+	void param() {
+		SearchPreparedQuery<Integer> prepared = scope.query()
+				.select( f -> f.field( "number", Integer.class ) )
+				.where( f -> f.withParameters( params -> f.range().field( "number" )
+						.between( params.get( "min", Integer.class ), params.get( "max", Integer.class ) ) ) )
+				.sort( f -> f.field( "number" ) )
+				.param( "min", 0 )
+				.param( "max", 2 )
+				.toPreparedQuery();
+
+		// Default parameters
+		assertThat( scope.bind( prepared ).fetchAllHits() ).containsExactly( 0, 1, 2 );
+		// All parameters overridden
+		assertThat( scope.bind( prepared ).param( "min", 5 ).param( "max", 7 ).fetchAllHits() )
+				.containsExactly( 5, 6, 7 );
+		// Some parameters overridden
+		assertThat( scope.bind( prepared ).param( "max", 3 ).fetchAllHits() ).containsExactly( 0, 1, 2, 3 );
+		// Default parameters overridden in the prepared query
+		SearchPreparedQuery<Integer> preparedWithOtherDefaults = prepared.param( "min", 8 );
+		assertThat( scope.bind( preparedWithOtherDefaults ).fetchAllHits() ).isEmpty();
+		assertThat( scope.bind( preparedWithOtherDefaults ).param( "max", 9 ).fetchAllHits() )
+				.containsExactly( 8, 9 );
+		// Binding parameters does not alter the original prepared query
+		assertThat( scope.bind( prepared ).fetchAllHits() ).containsExactly( 0, 1, 2 );
+	}
+
+	@Test
+	void param_sortAndAggregation() {
+		AggregationKey<Map<String, Long>> aggregationKey = AggregationKey.of( "parity" );
+		SearchPreparedQuery<Integer> prepared = scope.query()
+				.select( f -> f.field( "number", Integer.class ) )
+				.where( f -> f.range().field( "number" ).atMost( 4 ) )
+				.sort( f -> f.withParameters( params -> f.field( "number" )
+						.order( params.get( "order", SortOrder.class ) ) ) )
+				.aggregation( aggregationKey, f -> f.withParameters( params -> f.terms()
+						.field( "parity", String.class ).maxTermCount( params.get( "maxTermCount", Integer.class ) ) ) )
+				.param( "maxTermCount", 10 )
+				.toPreparedQuery();
+
+		SearchResult<Integer> result = scope.bind( prepared ).param( "order", SortOrder.ASC ).fetchAll();
+		assertThat( result.hits() ).containsExactly( 0, 1, 2, 3, 4 );
+		assertThat( result.aggregation( aggregationKey ) )
+				.containsExactly( Map.entry( "even", 3L ), Map.entry( "odd", 2L ) );
+
+		result = scope.bind( prepared ).param( "order", SortOrder.DESC ).param( "maxTermCount", 1 ).fetchAll();
+		assertThat( result.hits() ).containsExactly( 4, 3, 2, 1, 0 );
+		assertThat( result.aggregation( aggregationKey ) )
+				.containsExactly( Map.entry( "even", 3L ) );
+	}
+
+	@Test
+	void definitionEvaluatedOnce() {
+		AtomicInteger predicateDefinitionCount = new AtomicInteger();
+		AtomicInteger parameterizedPredicateDefinitionCount = new AtomicInteger();
+		SearchPreparedQuery<Integer> prepared = scope.query()
+				.select( f -> f.field( "number", Integer.class ) )
+				.where( (f, root) -> {
+					predicateDefinitionCount.incrementAndGet();
+					root.add( f.range().field( "number" ).atLeast( 5 ) );
+					root.add( f.withParameters( params -> {
+						parameterizedPredicateDefinitionCount.incrementAndGet();
+						return f.range().field( "number" ).atMost( params.get( "max", Integer.class ) );
+					} ) );
+				} )
+				.sort( f -> f.field( "number" ) )
+				.toPreparedQuery();
+
+		assertThat( scope.bind( prepared ).param( "max", 6 ).fetchAllHits() ).containsExactly( 5, 6 );
+		assertThat( scope.bind( prepared ).param( "max", 8 ).fetchAllHits() ).containsExactly( 5, 6, 7, 8 );
+		assertThat( scope.bind( prepared ).param( "max", 8 ).fetchTotalHitCount() ).isEqualTo( 4 );
+
+		// The query definition was only evaluated once,
+		// only parameterized elements are evaluated again on each execution.
+		assertThat( predicateDefinitionCount ).hasValue( 1 );
+		assertThat( parameterizedPredicateDefinitionCount ).hasValue( 3 );
+	}
+
+	@Test
+	void param_missing() {
+		SearchPreparedQuery<Integer> prepared = scope.query()
+				.select( f -> f.field( "number", Integer.class ) )
+				.where( f -> f.withParameters( params -> f.range().field( "number" )
+						.atMost( params.get( "max", Integer.class ) ) ) )
+				.toPreparedQuery();
+
+		assertThatThrownBy( () -> scope.bind( prepared ).fetchAllHits() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Query parameter 'max' is not set" );
+	}
+
+	@Test
+	void param_invalidName() {
+		SearchPreparedQuery<?> prepared = scope.query()
+				.where( SearchPredicateFactory::matchAll )
+				.toPreparedQuery();
+
+		assertThatThrownBy( () -> prepared.param( "", 1 ) )
+				.isInstanceOf( IllegalArgumentException.class )
+				.hasMessageContainingAll( "'parameterName' must not be null or empty" );
+		assertThatThrownBy( () -> prepared.param( null, 1 ) )
+				.isInstanceOf( IllegalArgumentException.class )
+				.hasMessageContainingAll( "'parameterName' must not be null or empty" );
+		assertThatThrownBy( () -> scope.bind( prepared ).param( "", 1 ) )
+				.isInstanceOf( IllegalArgumentException.class )
+				.hasMessageContainingAll( "'parameterName' must not be null or empty" );
+	}
+
+	@Test
+	void bind_otherScopeSameIndexes() {
+		SearchPreparedQuery<Integer> prepared = scope.query()
+				.select( f -> f.field( "number", Integer.class ) )
+				.where( f -> f.range().field( "number" ).atMost( 1 ) )
+				.sort( f -> f.field( "number" ) )
+				.toPreparedQuery();
+
+		assertThat( index.createScope().bind( prepared ).fetchAllHits() ).containsExactly( 0, 1 );
+	}
+
+	@Test
+	void bind_differentIndexes() {
+		SearchPreparedQuery<?> prepared = scope.query()
+				.where( SearchPredicateFactory::matchAll )
+				.toPreparedQuery();
+
+		assertThatThrownBy( () -> otherIndex.createScope().bind( prepared ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Unable to bind a prepared query to a scope targeting indexes [other]",
+						"the prepared query targets indexes [main]" );
+		assertThatThrownBy( () -> index.createScope( otherIndex ).bind( prepared ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Unable to bind a prepared query to a scope targeting indexes",
+						"the prepared query targets indexes [main]" );
+	}
+
+	private void initData() {
+		index.bulkIndexer()
+				.add( DOCUMENT_COUNT, i -> documentProvider(
+						String.valueOf( i ),
+						document -> {
+							document.addValue( index.binding().number, i );
+							document.addValue( index.binding().parity, i % 2 == 0 ? "even" : "odd" );
+						}
+				) )
+				.join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> number;
+		final IndexFieldReference<String> parity;
+
+		IndexBinding(IndexSchemaElement root) {
+			number = root.field( "number", f -> f.asInteger().projectable( Projectable.YES ).sortable( Sortable.YES ) )
+					.toReference();
+			parity = root.field( "parity", f -> f.asString().aggregable( Aggregable.YES ) )
+					.toReference();
+		}
+	}
+}
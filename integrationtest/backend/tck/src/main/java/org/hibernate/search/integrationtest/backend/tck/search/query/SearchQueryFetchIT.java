@@ -14,6 +14,10 @@
 
 import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.search.engine.backend.common.DocumentReference;
 import org.hibernate.search.engine.backend.document.IndexFieldReference;
@@ -306,6 +310,64 @@ void fetchTotalHitCount_withProjection() {
 				.isEqualTo( DOCUMENT_COUNT / 2 );
 	}
 
+	@Test
+	void fetchAsync_offset_limit() {
+		assertThatResult( matchAllQuerySortByField().fetchAsync( 1, 1 ).toCompletableFuture().join() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( index.typeName(), docId( 1 ) );
+
+		assertThatResult( matchAllQuerySortByField().toQuery().fetchAsync( 2 ).toCompletableFuture().join() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( index.typeName(), docId( 0 ), docId( 1 ) );
+	}
+
+	@Test
+	void fetchAsync_loadingExecutor() {
+		AtomicInteger loadingExecutorCalls = new AtomicInteger();
+		Executor loadingExecutor = runnable -> {
+			loadingExecutorCalls.incrementAndGet();
+			runnable.run();
+		};
+
+		assertThatResult( matchAllQuerySortByField().fetchAsync( null, 2, loadingExecutor )
+				.toCompletableFuture().join() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( index.typeName(), docId( 0 ), docId( 1 ) );
+		assertThat( loadingExecutorCalls ).hasValue( 1 );
+
+		assertThatHits( matchAllQuerySortByField().fetchHitsAsync( 1, 1, loadingExecutor )
+				.toCompletableFuture().join() )
+				.hasDocRefHitsExactOrder( index.typeName(), docId( 1 ) );
+		assertThat( loadingExecutorCalls ).hasValue( 2 );
+	}
+
+	@Test
+	void fetchAsync_failure() {
+		CompletableFuture<?> future = matchAllQuerySortByField().fetchAsync( 1, Integer.MAX_VALUE )
+				.toCompletableFuture();
+		assertThatThrownBy( future::join )
+				.isInstanceOf( CompletionException.class )
+				// error message will depend on the specific backend
+				.cause().isInstanceOf( SearchException.class );
+	}
+
+	@Test
+	void fetchHitsAsync_limit() {
+		assertThatHits( matchAllQuerySortByField().fetchHitsAsync( 2 ).toCompletableFuture().join() )
+				.hasDocRefHitsExactOrder( index.typeName(), docId( 0 ), docId( 1 ) );
+
+		assertThatHits( matchAllQuerySortByField().toQuery().fetchHitsAsync( 1, 1 ).toCompletableFuture().join() )
+				.hasDocRefHitsExactOrder( index.typeName(), docId( 1 ) );
+	}
+
+	@Test
+	void fetchTotalHitCountAsync() {
+		assertThat( matchAllQuerySortByField().fetchTotalHitCountAsync().toCompletableFuture().join() )
+				.isEqualTo( DOCUMENT_COUNT );
+		assertThat( matchFirstHalfQuery().toQuery().fetchTotalHitCountAsync().toCompletableFuture().join() )
+				.isEqualTo( DOCUMENT_COUNT / 2 );
+	}
+
 	@Test
 	void fetchSingleHit() {
 		Optional<DocumentReference> result = matchOneQuery( 4 ).fetchSingleHit();
@@ -145,6 +145,26 @@ public boolean supportsVectorSearchRequiredMinimumSimilarity() {
 		return true;
 	}
 
+	public boolean supportsVectorSearchNumCandidates() {
+		return true;
+	}
+
+	public boolean supportsVectorSearchExactRescoring() {
+		return true;
+	}
+
+	public boolean supportsRankFusion() {
+		return true;
+	}
+
+	public boolean supportsRankFusionWithSort() {
+		return true;
+	}
+
+	public boolean supportsRankFusionWithScroll() {
+		return true;
+	}
+
 	public boolean supportsSimilarity(VectorSimilarity vectorSimilarity) {
 		return true;
 	}
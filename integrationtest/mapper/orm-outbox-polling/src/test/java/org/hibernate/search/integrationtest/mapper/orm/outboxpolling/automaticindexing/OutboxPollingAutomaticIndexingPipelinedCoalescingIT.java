@@ -0,0 +1,157 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.mapper.orm.outboxpolling.automaticindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.with;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.integrationtest.mapper.orm.outboxpolling.testsupport.util.OutboxEventFilter;
+import org.hibernate.search.integrationtest.mapper.orm.outboxpolling.testsupport.util.TestingOutboxPollingInternalConfigurer;
+import org.hibernate.search.mapper.orm.outboxpolling.cfg.HibernateOrmMapperOutboxPollingSettings;
+import org.hibernate.search.mapper.orm.outboxpolling.cfg.impl.HibernateOrmMapperOutboxPollingImplSettings;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.KeywordField;
+import org.hibernate.search.util.impl.integrationtest.common.extension.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.CoordinationStrategyExpectations;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Tests automatic indexing with the outbox-polling strategy
+ * when event processing is pipelined and events targeting the same entity are coalesced.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class OutboxPollingAutomaticIndexingPipelinedCoalescingIT {
+
+	private static final OutboxEventFilter eventFilter = new OutboxEventFilter();
+
+	@RegisterExtension
+	public static BackendMock backendMock = BackendMock.create();
+
+	@RegisterExtension
+	public static OrmSetupHelper ormSetupHelper =
+			OrmSetupHelper.withCoordinationStrategy( CoordinationStrategyExpectations.outboxPolling() )
+					.withBackendMock( backendMock );
+	private SessionFactory sessionFactory;
+
+	@BeforeAll
+	void setup() {
+		backendMock.expectSchema( IndexedEntity.NAME, b -> b
+				.field( "text", String.class ) );
+
+		sessionFactory = ormSetupHelper.start()
+				.withProperty(
+						HibernateOrmMapperOutboxPollingImplSettings.COORDINATION_INTERNAL_CONFIGURER,
+						new TestingOutboxPollingInternalConfigurer().outboxEventFilter( eventFilter )
+				)
+				// Small batches, so that each event is processed in a separate batch unless coalesced.
+				.withProperty( HibernateOrmMapperOutboxPollingSettings.COORDINATION_EVENT_PROCESSOR_BATCH_SIZE, 1 )
+				.withProperty( HibernateOrmMapperOutboxPollingSettings.COORDINATION_EVENT_PROCESSOR_PIPELINED, true )
+				.withProperty( HibernateOrmMapperOutboxPollingSettings.COORDINATION_EVENT_PROCESSOR_COALESCING, true )
+				.withAnnotatedTypes( IndexedEntity.class )
+				.setup();
+	}
+
+	@BeforeEach
+	void resetFilter() {
+		eventFilter.reset();
+		// Disable the filter by default: only some of the tests actually need it.
+		eventFilter.showAllEvents();
+	}
+
+	@Test
+	void multipleBatches() {
+		with( sessionFactory ).runInTransaction( session -> {
+			BackendMock.DocumentWorkCallListContext context = backendMock.expectWorks( IndexedEntity.NAME );
+			for ( int i = 0; i < 20; i++ ) {
+				session.persist( new IndexedEntity( i, "initialValue " + i ) );
+				int id = i;
+				context.add( String.valueOf( id ), b -> b.field( "text", "initialValue " + id ) );
+			}
+		} );
+		backendMock.verifyExpectationsMet();
+
+		// Events of the last batch get deleted too, eventually.
+		await().untilAsserted( () -> with( sessionFactory ).runInTransaction( session -> assertThat(
+				eventFilter.countOutboxEventsNoFilter( session ) ).isZero() ) );
+	}
+
+	@Test
+	void coalescing_laterEventForSameEntity() {
+		with( sessionFactory ).runInTransaction( session -> {
+			session.persist( new IndexedEntity( 100, "initialValue" ) );
+			backendMock.expectWorks( IndexedEntity.NAME )
+					.add( "100", b -> b.field( "text", "initialValue" ) );
+		} );
+		backendMock.verifyExpectationsMet();
+
+		eventFilter.hideAllEvents();
+
+		// Two changes in two separate transactions: two events.
+		with( sessionFactory ).runInTransaction( session -> {
+			session.find( IndexedEntity.class, 100 ).setText( "updatedValue I" );
+		} );
+		with( sessionFactory ).runInTransaction( session -> {
+			session.find( IndexedEntity.class, 100 ).setText( "updatedValue II" );
+		} );
+		List<UUID> eventIds = with( sessionFactory ).applyInTransaction( eventFilter::findOutboxEventIdsNoFilter );
+		assertThat( eventIds ).hasSize( 2 );
+
+		// Only make one of the events visible:
+		// the other one should still be processed along with it, since it targets the same entity.
+		backendMock.expectWorks( IndexedEntity.NAME )
+				.addOrUpdate( "100", b -> b.field( "text", "updatedValue II" ) );
+		eventFilter.showOnlyEvents( Collections.singletonList( eventIds.get( 0 ) ) );
+		await().untilAsserted( () -> with( sessionFactory ).runInTransaction( session -> assertThat(
+				eventFilter.countOutboxEventsNoFilter( session ) ).isZero() ) );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Entity(name = IndexedEntity.NAME)
+	@Indexed
+	public static class IndexedEntity {
+		static final String NAME = "Indexed";
+
+		@Id
+		private Integer id;
+		@KeywordField
+		private String text;
+
+		public IndexedEntity() {
+		}
+
+		public IndexedEntity(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getText() {
+			return text;
+		}
+
+		public void setText(String text) {
+			this.text = text;
+		}
+	}
+
+}
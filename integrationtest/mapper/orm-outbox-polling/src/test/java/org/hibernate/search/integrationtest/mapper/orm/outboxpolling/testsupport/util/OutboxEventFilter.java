@@ -165,5 +165,32 @@ public List<OutboxEvent> findOutboxEvents(Session session, int maxResults) {
 				return returned;
 			}
 		}
+
+		@Override
+		public List<OutboxEvent> findOutboxEvents(Session session, int maxResults, Set<UUID> excludedIds) {
+			synchronized (OutboxEventFilter.this) {
+				OutboxEventFinder delegate = filter ? delegateWithFilter : delegateWithoutFilter;
+				List<OutboxEvent> returned = delegate.findOutboxEvents( session, maxResults, excludedIds );
+				for ( OutboxEvent outboxEvent : returned ) {
+					allowedIds.remove( outboxEvent.getId() );
+				}
+				return returned;
+			}
+		}
+
+		@Override
+		public List<OutboxEvent> findOutboxEventsForSameEntities(Session session, List<OutboxEvent> events,
+				int maxResults, Set<UUID> excludedIds) {
+			synchronized (OutboxEventFilter.this) {
+				// Hidden events are considered for coalescing too,
+				// so that tests can control which events are retrieved first.
+				List<OutboxEvent> returned = delegateWithoutFilter.findOutboxEventsForSameEntities( session, events,
+						maxResults, excludedIds );
+				for ( OutboxEvent outboxEvent : returned ) {
+					allowedIds.remove( outboxEvent.getId() );
+				}
+				return returned;
+			}
+		}
 	}
 }
@@ -174,6 +174,46 @@ Book.INDEX, targetTenantId(), DocumentCommitStrategy.NONE, DocumentRefreshStrate
 		backendMock.verifyExpectationsMet();
 	}
 
+	@Test
+	void threadsToLoadIdentifiers() {
+		with( sessionFactory, targetTenantId() ).runNoTransaction( session -> {
+			SearchSession searchSession = Search.session( session );
+			// More threads than identifiers: some partitions will be empty.
+			MassIndexer indexer = searchSession.massIndexer().threadsToLoadIdentifiers( 5 );
+
+			backendMock.expectWorks(
+					Book.INDEX, targetTenantId(), DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+			)
+					.add( "1", b -> b
+							.field( "title", TITLE_1 )
+							.field( "author", AUTHOR_1 )
+					)
+					.add( "2", b -> b
+							.field( "title", TITLE_2 )
+							.field( "author", AUTHOR_2 )
+					)
+					.add( "3", b -> b
+							.field( "title", TITLE_3 )
+							.field( "author", AUTHOR_3 )
+					);
+
+			backendMock.expectIndexScaleWorks( Book.INDEX, targetTenantId() )
+					.purge()
+					.mergeSegments()
+					.flush()
+					.refresh();
+
+			try {
+				indexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				fail( "Unexpected InterruptedException: " + e.getMessage() );
+			}
+		} );
+
+		backendMock.verifyExpectationsMet();
+	}
+
 	@Test
 	void dropAndCreateSchemaOnStart() {
 		assumeFalse(
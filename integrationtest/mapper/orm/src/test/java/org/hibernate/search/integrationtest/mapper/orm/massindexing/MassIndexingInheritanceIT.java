@@ -16,6 +16,7 @@
 import java.util.Locale;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import jakarta.persistence.DiscriminatorColumn;
 import jakarta.persistence.Entity;
@@ -260,6 +261,61 @@ void singleEntity_notTopOne() {
 		backendMock.verifyExpectationsMet();
 	}
 
+	@Test
+	void singleEntity_notTopOne_threadsToLoadIdentifiers() {
+		with( sessionFactory ).runNoTransaction( session -> {
+			SearchSession searchSession = Search.session( session );
+			MassIndexer indexer = searchSession.massIndexer( BedVehicle.class )
+					.threadsToLoadIdentifiers( 2 );
+
+			backendMock.expectWorks(
+					Truck.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+			)
+					.add( "10", b -> b
+							.field( "id", 10L )
+					);
+			backendMock.expectWorks(
+					BedVehicle.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+			)
+					.add( "100", b -> b
+							.field( "id", 100L )
+					)
+					.add( "101", b -> b
+							.field( "id", 101L )
+					);
+
+			backendMock.expectIndexScaleWorks( BedVehicle.INDEX )
+					.purge()
+					.mergeSegments()
+					.flush()
+					.refresh();
+			backendMock.expectIndexScaleWorks( Truck.INDEX )
+					.purge()
+					.mergeSegments()
+					.flush()
+					.refresh();
+
+			try {
+				indexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				fail( "Unexpected InterruptedException: " + e.getMessage() );
+			}
+
+		} );
+
+		statementInspector
+				// select count(bv1_0.id) from bedvehicle bv1_0
+				.anyMatch( "select count(_big)?\\([a-z0-9_.]+\\) from bedvehicle [a-z0-9_.]+.*" )
+				// select min(bv1_1.id),max(bv1_1.id) from bedvehicle bv1_0 join baseentity bv1_1 on bv1_0.id=bv1_1.id
+				// Identifier bounds are retrieved once for all partitions.
+				.matchCount( "select min\\([a-z0-9_.]+\\), ?max\\([a-z0-9_.]+\\) from bedvehicle [a-z0-9_.]+.*", 1 )
+				// select bv1_1.id from bedvehicle bv1_0 join baseentity bv1_1 on bv1_0.id=bv1_1.id where bv1_1.id between ? and ?
+				.anyMatch( "select [a-z0-9_.]+ from bedvehicle [a-z0-9_.]+.* where .*between \\? and \\?.*" );
+
+		backendMock.verifyExpectationsMet();
+	}
+
 	@Test
 	void multipleTopLevelEntities() {
 		with( sessionFactory ).runNoTransaction( session -> {
@@ -972,17 +1028,25 @@ public MassIndexerStatementInspector anyMatch(String pattern) {
 			return this;
 		}
 
+		public MassIndexerStatementInspector matchCount(String pattern, int count) {
+			assertThat( selectStream().filter( statement -> statement.matches( pattern ) ) ).hasSize( count );
+			return this;
+		}
+
 		private Set<String> selects() {
 			if ( selects == null ) {
-				String loggedQueries = outputStream.toString( StandardCharsets.UTF_8 );
-				selects = loggedQueries.lines()
-						.filter( log -> log.contains( "select" ) )
-						.map( log -> log.replace( "Hibernate: ", "" ).toLowerCase( Locale.ROOT ) )
-						.collect( Collectors.toSet() );
+				selects = selectStream().collect( Collectors.toSet() );
 			}
 			return selects;
 		}
 
+		private Stream<String> selectStream() {
+			String loggedQueries = outputStream.toString( StandardCharsets.UTF_8 );
+			return loggedQueries.lines()
+					.filter( log -> log.contains( "select" ) )
+					.map( log -> log.replace( "Hibernate: ", "" ).toLowerCase( Locale.ROOT ) );
+		}
+
 		public void close() throws IOException {
 			if ( selects != null ) {
 				selects.clear();
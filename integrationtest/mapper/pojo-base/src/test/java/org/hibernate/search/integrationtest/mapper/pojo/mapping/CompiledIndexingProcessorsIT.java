@@ -0,0 +1,152 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.mapper.pojo.mapping;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.mapper.pojo.automaticindexing.ReindexOnUpdate;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.DocumentId;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexingDependency;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.SearchEntity;
+import org.hibernate.search.mapper.pojo.standalone.cfg.StandalonePojoMapperSettings;
+import org.hibernate.search.mapper.pojo.standalone.mapping.SearchMapping;
+import org.hibernate.search.mapper.pojo.standalone.session.SearchSession;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.extension.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.pojo.standalone.StandalonePojoMappingSetupHelper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Test that documents are built the same way when indexing processors are compiled.
+ */
+class CompiledIndexingProcessorsIT {
+
+	@RegisterExtension
+	public BackendMock backendMock = BackendMock.create();
+
+	@RegisterExtension
+	public StandalonePojoMappingSetupHelper setupHelper =
+			StandalonePojoMappingSetupHelper.withBackendMock( MethodHandles.lookup(), backendMock );
+
+	private SearchMapping mapping;
+
+	@BeforeEach
+	void setup() {
+		backendMock.expectSchema( IndexedEntity.NAME, b -> b
+				.field( "text", String.class )
+				.field( "textAgain", String.class )
+				.field( "number", Integer.class )
+				.field( "tags", String.class, b2 -> b2.multiValued( true ) )
+				.field( "failing", String.class )
+				.objectField( "embedded", b2 -> b2
+						.field( "text", String.class )
+						.field( "textAgain", String.class )
+						.field( "number", Integer.class )
+						.field( "tags", String.class, b3 -> b3.multiValued( true ) )
+						.field( "failing", String.class )
+				)
+		);
+
+		mapping = setupHelper.start()
+				.withProperty( StandalonePojoMapperSettings.MAPPING_COMPILE_INDEXING_PROCESSORS, true )
+				.withAnnotatedTypes( IndexedEntity.class )
+				.setup();
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	void index() {
+		try ( SearchSession session = mapping.createSession() ) {
+			IndexedEntity entity1 = new IndexedEntity( 1, "text1", 42, "a", "b" );
+			IndexedEntity entity2 = new IndexedEntity( 2, "text2", null );
+			entity1.embedded = entity2;
+			entity2.embedded = new IndexedEntity( 3, "text3", 3, "c" );
+
+			session.indexingPlan().add( entity1 );
+
+			backendMock.expectWorks( IndexedEntity.NAME )
+					.add( "1", b -> b
+							.field( "text", "text1" )
+							.field( "textAgain", "text1" )
+							.field( "number", 42 )
+							.field( "tags", "a", "b" )
+							.field( "failing", null )
+							.objectField( "embedded", b2 -> b2
+									.field( "text", "text2" )
+									.field( "textAgain", "text2" )
+									.field( "number", null )
+									.field( "failing", null )
+							)
+					);
+		}
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	void failure() {
+		IndexedEntity entity1 = new IndexedEntity( 1, "text1", 42 );
+		entity1.embedded = new IndexedEntity( 2, "text2", 3 );
+		entity1.embedded.fail = true;
+
+		assertThatThrownBy( () -> {
+			try ( SearchSession session = mapping.createSession() ) {
+				session.indexingPlan().add( entity1 );
+			}
+		} )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Simulated failure", "path '.embedded<no value extractors>.failing'" );
+	}
+
+	@SearchEntity(name = IndexedEntity.NAME)
+	@Indexed(index = IndexedEntity.NAME)
+	public static class IndexedEntity {
+		static final String NAME = "indexed";
+
+		@DocumentId
+		private Integer id;
+
+		@GenericField
+		@GenericField(name = "textAgain")
+		private String text;
+
+		@GenericField
+		private Integer number;
+
+		@GenericField
+		private List<String> tags = new ArrayList<>();
+
+		@IndexedEmbedded(includeDepth = 1)
+		@IndexingDependency(reindexOnUpdate = ReindexOnUpdate.SHALLOW)
+		private IndexedEntity embedded;
+
+		private boolean fail;
+
+		IndexedEntity(Integer id, String text, Integer number, String... tags) {
+			this.id = id;
+			this.text = text;
+			this.number = number;
+			this.tags.addAll( List.of( tags ) );
+		}
+
+		@GenericField
+		public String getFailing() {
+			if ( fail ) {
+				throw new IllegalStateException( "Simulated failure" );
+			}
+			return null;
+		}
+	}
+}
@@ -4,10 +4,12 @@
  */
 package org.hibernate.search.integrationtest.mapper.pojo.massindexing;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Fail.fail;
 
 import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
@@ -31,6 +33,8 @@
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
+import org.awaitility.Awaitility;
+
 /**
  * Very basic test to probe an use of {@link MassIndexer} api.
  */
@@ -112,6 +116,59 @@ void defaultMassIndexerStartAndWait() throws Exception {
 		backendMock.verifyExpectationsMet();
 	}
 
+	@Test
+	void batchesToIndexInParallel() {
+		try ( SearchSession searchSession = mapping.createSession() ) {
+			MassIndexer indexer = searchSession.massIndexer()
+					// Simulate passing information to connect to a DB, ...
+					.context( StubLoadingContext.class, loadingContext )
+					// One entity per batch, so that multiple batches are in progress at the same time.
+					.batchSizeToLoadObjects( 1 )
+					.threadsToLoadObjects( 1 )
+					.batchesToIndexInParallel( 3 );
+
+			backendMock.expectIndexScaleWorks( Book.NAME, searchSession.tenantIdentifierValue() )
+					.purge()
+					.mergeSegments();
+
+			// Indexing does not complete until all works were submitted:
+			// if batches were not indexed in parallel,
+			// the mass indexer would wait for the first batch and never submit the other works.
+			CompletableFuture<?> indexingFuture = new CompletableFuture<>();
+			backendMock.expectWorks(
+					Book.NAME, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+			)
+					.createAndExecuteFollowingWorks( indexingFuture )
+					.add( "1", b -> b
+							.field( "title", TITLE_1 )
+							.field( "author", AUTHOR_1 )
+					)
+					.add( "2", b -> b
+							.field( "title", TITLE_2 )
+							.field( "author", AUTHOR_2 )
+					)
+					.add( "3", b -> b
+							.field( "title", TITLE_3 )
+							.field( "author", AUTHOR_3 )
+					);
+
+			CompletableFuture<?> massIndexingFuture = indexer.start().toCompletableFuture();
+
+			// Wait until the works of all three batches are in progress at the same time
+			Awaitility.await().untilAsserted( () -> backendMock.verifyExpectationsMet() );
+			assertThat( massIndexingFuture ).isNotDone();
+
+			backendMock.expectIndexScaleWorks( Book.NAME, searchSession.tenantIdentifierValue() )
+					.flush()
+					.refresh();
+
+			indexingFuture.complete( null );
+			massIndexingFuture.join();
+		}
+
+		backendMock.verifyExpectationsMet();
+	}
+
 	@Test
 	void defaultMassIndexerFromScopeStartAndWait() throws Exception {
 		try ( SearchSession searchSession = mapping.createSession() ) {
@@ -0,0 +1,236 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.performance.backend.base;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.UnsupportedOperationBehavior;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.common.SortMode;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.AbstractBackendHolder;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.MappedIndex;
+import org.hibernate.search.util.common.data.Range;
+import org.hibernate.search.util.common.impl.Futures;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Abstract class for JMH benchmarks related to search,
+ * i.e. the latency and throughput of queries involving various predicates, sorts, projections, aggregations, ...
+ * <p>
+ * Indexes are not written to during the benchmark:
+ * each thread executes queries against the index it was assigned,
+ * which holds the documents added by the {@link org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.IndexInitializer}.
+ * <p>
+ * Query parameters (terms, ranges, vectors) change from one invocation to the next,
+ * but follow the same sequence from one run to another.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@Threads(2 * AbstractBackendHolder.INDEX_COUNT)
+public abstract class AbstractSearchBenchmarks extends AbstractBackendBenchmarks {
+
+	/*
+	 * Terms that appear in a fair share of documents in every dataset.
+	 */
+	private static final List<String> TERMS = List.of( "pip", "joe", "hand", "time", "house", "long", "text", "book" );
+
+	private static final AggregationKey<Map<String, Long>> TERMS_AGGREGATION_KEY = AggregationKey.of( "terms" );
+	private static final AggregationKey<Map<Range<Long>, Long>> RANGE_AGGREGATION_KEY = AggregationKey.of( "range" );
+
+	/**
+	 * The offset of the page to fetch in deep pagination benchmarks.
+	 */
+	@Param({ "1000" })
+	private int pageOffset;
+
+	/**
+	 * The number of hits to fetch in each call to {@link SearchScroll#next()} in scroll benchmarks.
+	 */
+	@Param({ "100" })
+	private int scrollChunkSize;
+
+	private MappedIndex index;
+
+	private long invocationCount;
+
+	@Setup(Level.Iteration)
+	public void prepareIteration() {
+		index = getIndexPartition().getIndex();
+		invocationCount = 0L;
+		// Make sure the documents added by the index initializer are visible to queries
+		Futures.unwrappedExceptionJoin( index.createWorkspace()
+				.refresh( OperationSubmitter.blocking(), UnsupportedOperationBehavior.IGNORE ) );
+	}
+
+	@Benchmark
+	public void matchFullText(QueryParams params, Blackhole blackhole) {
+		String term = nextTerm();
+		SearchResult<DocumentReference> results = index.createScope().query()
+				.where( f -> f.match().field( MappedIndex.LONG_TEXT_FIELD_NAME ).matching( term ) )
+				.fetch( params.getQueryMaxResults() );
+		consume( blackhole, results );
+	}
+
+	@Benchmark
+	public void rangeAndSort(QueryParams params, Blackhole blackhole) {
+		long lowerBound = nextNumeric();
+		SearchResult<DocumentReference> results = index.createScope().query()
+				.where( f -> f.range().field( MappedIndex.NUMERIC_FIELD_NAME ).between( lowerBound, lowerBound + 100 ) )
+				.sort( f -> f.field( MappedIndex.NUMERIC_FIELD_NAME ).desc()
+						.then().field( MappedIndex.SHORT_TEXT_FIELD_NAME ) )
+				.fetch( params.getQueryMaxResults() );
+		consume( blackhole, results );
+	}
+
+	@Benchmark
+	public void termsAggregation(Blackhole blackhole) {
+		String term = nextTerm();
+		SearchResult<DocumentReference> results = index.createScope().query()
+				.where( f -> f.match().field( MappedIndex.LONG_TEXT_FIELD_NAME ).matching( term ) )
+				.aggregation( TERMS_AGGREGATION_KEY, f -> f.terms()
+						.field( MappedIndex.SHORT_TEXT_FIELD_NAME, String.class )
+						.maxTermCount( 10 ) )
+				.fetch( 0 );
+		blackhole.consume( results.total().hitCount() );
+		blackhole.consume( results.aggregation( TERMS_AGGREGATION_KEY ) );
+	}
+
+	@Benchmark
+	public void rangeAggregation(Blackhole blackhole) {
+		String term = nextTerm();
+		SearchResult<DocumentReference> results = index.createScope().query()
+				.where( f -> f.match().field( MappedIndex.LONG_TEXT_FIELD_NAME ).matching( term ) )
+				.aggregation( RANGE_AGGREGATION_KEY, f -> f.range()
+						.field( MappedIndex.NUMERIC_FIELD_NAME, Long.class )
+						.range( Range.canonical( null, 100L ) )
+						.range( Range.canonical( 100L, 500L ) )
+						.range( Range.canonical( 500L, 1000L ) )
+						.range( Range.canonical( 1000L, null ) ) )
+				.fetch( 0 );
+		blackhole.consume( results.total().hitCount() );
+		blackhole.consume( results.aggregation( RANGE_AGGREGATION_KEY ) );
+	}
+
+	@Benchmark
+	public void nestedPredicate(QueryParams params, Blackhole blackhole) {
+		String term = nextTerm();
+		long lowerBound = nextNumeric();
+		SearchResult<DocumentReference> results = index.createScope().query()
+				.where( f -> f.nested( MappedIndex.NESTED_FIELD_NAME )
+						.add( f.match().field( MappedIndex.NESTED_TEXT_FIELD_PATH ).matching( term ) )
+						.add( f.range().field( MappedIndex.NESTED_NUMERIC_FIELD_PATH ).atLeast( lowerBound ) ) )
+				.sort( f -> f.field( MappedIndex.NESTED_NUMERIC_FIELD_PATH ).mode( SortMode.MIN ) )
+				.fetch( params.getQueryMaxResults() );
+		consume( blackhole, results );
+	}
+
+	@Benchmark
+	public void fieldProjection(QueryParams params, Blackhole blackhole) {
+		String term = nextTerm();
+		SearchResult<String> results = index.createScope().query()
+				.select( f -> f.field( MappedIndex.SHORT_TEXT_FIELD_NAME, String.class ) )
+				.where( f -> f.match().field( MappedIndex.LONG_TEXT_FIELD_NAME ).matching( term ) )
+				.fetch( params.getQueryMaxResults() );
+		blackhole.consume( results.total().hitCount() );
+		for ( String hit : results.hits() ) {
+			blackhole.consume( hit );
+		}
+	}
+
+	@Benchmark
+	public void compositeProjection(QueryParams params, Blackhole blackhole) {
+		String term = nextTerm();
+		SearchResult<List<?>> results = index.createScope().query()
+				.select( f -> f.composite()
+						.from( f.id( String.class ),
+								f.field( MappedIndex.SHORT_TEXT_FIELD_NAME, String.class ),
+								f.field( MappedIndex.NUMERIC_FIELD_NAME, Long.class ),
+								f.score() )
+						.asList() )
+				.where( f -> f.match().field( MappedIndex.LONG_TEXT_FIELD_NAME ).matching( term ) )
+				.fetch( params.getQueryMaxResults() );
+		blackhole.consume( results.total().hitCount() );
+		for ( List<?> hit : results.hits() ) {
+			blackhole.consume( hit );
+		}
+	}
+
+	@Benchmark
+	public void highlighting(QueryParams params, Blackhole blackhole) {
+		String term = nextTerm();
+		SearchResult<List<String>> results = index.createScope().query()
+				.select( f -> f.highlight( MappedIndex.LONG_TEXT_FIELD_NAME ) )
+				.where( f -> f.match().field( MappedIndex.LONG_TEXT_FIELD_NAME ).matching( term ) )
+				.fetch( params.getQueryMaxResults() );
+		blackhole.consume( results.total().hitCount() );
+		for ( List<String> hit : results.hits() ) {
+			blackhole.consume( hit );
+		}
+	}
+
+	@Benchmark
+	public void knn(QueryParams params, Blackhole blackhole) {
+		float[] vector = MappedIndex.vector( nextNumeric() );
+		SearchResult<DocumentReference> results = index.createScope().query()
+				.where( f -> f.knn( params.getQueryMaxResults() )
+						.field( MappedIndex.VECTOR_FIELD_NAME ).matching( vector ) )
+				.fetch( params.getQueryMaxResults() );
+		consume( blackhole, results );
+	}
+
+	@Benchmark
+	public void deepPagination(QueryParams params, Blackhole blackhole) {
+		SearchResult<DocumentReference> results = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( MappedIndex.SHORT_TEXT_FIELD_NAME ) )
+				.fetch( pageOffset, params.getQueryMaxResults() );
+		consume( blackhole, results );
+	}
+
+	@Benchmark
+	public void scroll(Blackhole blackhole) {
+		try ( SearchScroll<DocumentReference> scroll = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.scroll( scrollChunkSize ) ) {
+			for ( SearchScrollResult<DocumentReference> chunk = scroll.next(); chunk.hasHits(); chunk = scroll.next() ) {
+				for ( DocumentReference hit : chunk.hits() ) {
+					blackhole.consume( hit );
+				}
+			}
+		}
+	}
+
+	private String nextTerm() {
+		return TERMS.get( (int) ( invocationCount++ % TERMS.size() ) );
+	}
+
+	private long nextNumeric() {
+		// Spread over the range of numeric values used in datasets, in a reproducible way
+		return ( invocationCount++ * 7919L ) % 1000L;
+	}
+
+	private static void consume(Blackhole blackhole, SearchResult<DocumentReference> results) {
+		blackhole.consume( results.total().hitCount() );
+		for ( DocumentReference hit : results.hits() ) {
+			blackhole.consume( hit );
+		}
+	}
+
+}
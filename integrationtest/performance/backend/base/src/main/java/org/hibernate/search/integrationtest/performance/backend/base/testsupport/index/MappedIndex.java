@@ -6,7 +6,12 @@
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
 import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.ObjectStructure;
+import org.hibernate.search.engine.backend.types.Projectable;
 import org.hibernate.search.engine.backend.types.Sortable;
 import org.hibernate.search.engine.mapper.mapping.building.spi.IndexedEntityBindingContext;
 import org.hibernate.search.integrationtest.performance.backend.base.testsupport.analysis.Analyzers;
@@ -20,10 +25,24 @@ public class MappedIndex extends StubMappedIndex {
 	public static final String SHORT_TEXT_FIELD_NAME = "shortText";
 	public static final String LONG_TEXT_FIELD_NAME = "longText";
 	public static final String NUMERIC_FIELD_NAME = "numeric";
+	public static final String VECTOR_FIELD_NAME = "vector";
+	public static final String NESTED_FIELD_NAME = "nested";
+	public static final String NESTED_TEXT_FIELD_PATH = NESTED_FIELD_NAME + "." + SHORT_TEXT_FIELD_NAME;
+	public static final String NESTED_NUMERIC_FIELD_PATH = NESTED_FIELD_NAME + "." + NUMERIC_FIELD_NAME;
+
+	public static final int VECTOR_DIMENSION = 16;
+	/**
+	 * The number of nested objects in each document.
+	 */
+	public static final int NESTED_OBJECT_COUNT = 2;
 
 	private IndexFieldReference<String> shortTextField;
 	private IndexFieldReference<String> longTextField;
 	private IndexFieldReference<Long> numericField;
+	private IndexFieldReference<float[]> vectorField;
+	private IndexObjectFieldReference nestedField;
+	private IndexFieldReference<String> nestedTextField;
+	private IndexFieldReference<Long> nestedNumericField;
 
 	public MappedIndex(int indexId) {
 		name( "index_" + indexId );
@@ -35,18 +54,57 @@ protected void bind(IndexedEntityBindingContext context) {
 		IndexSchemaElement root = context.schemaElement();
 		shortTextField = root.field(
 				SHORT_TEXT_FIELD_NAME,
-				f -> f.asString().normalizer( Analyzers.NORMALIZER_ENGLISH ).sortable( Sortable.YES )
+				f -> f.asString().normalizer( Analyzers.NORMALIZER_ENGLISH )
+						.sortable( Sortable.YES ).aggregable( Aggregable.YES ).projectable( Projectable.YES )
 		)
 				.toReference();
-		longTextField = root.field( LONG_TEXT_FIELD_NAME, f -> f.asString().analyzer( Analyzers.ANALYZER_ENGLISH ) )
+		// Projectable so that it can be highlighted
+		longTextField = root.field( LONG_TEXT_FIELD_NAME, f -> f.asString().analyzer( Analyzers.ANALYZER_ENGLISH )
+				.projectable( Projectable.YES ) )
+				.toReference();
+		numericField = root.field( NUMERIC_FIELD_NAME, f -> f.asLong()
+				.sortable( Sortable.YES ).aggregable( Aggregable.YES ).projectable( Projectable.YES ) )
 				.toReference();
-		numericField = root.field( NUMERIC_FIELD_NAME, f -> f.asLong() ).toReference();
+		vectorField = root.field( VECTOR_FIELD_NAME, f -> f.asFloatVector().dimension( VECTOR_DIMENSION ) )
+				.toReference();
+
+		IndexSchemaObjectField nested = root.objectField( NESTED_FIELD_NAME, ObjectStructure.NESTED ).multiValued();
+		nestedTextField = nested.field( SHORT_TEXT_FIELD_NAME, f -> f.asString().analyzer( Analyzers.ANALYZER_ENGLISH ) )
+				.toReference();
+		nestedNumericField = nested.field( NUMERIC_FIELD_NAME, f -> f.asLong().sortable( Sortable.YES ) ).toReference();
+		nestedField = nested.toReference();
 	}
 
 	public void populate(DocumentElement documentElement, String shortText, String longText, long numeric) {
 		documentElement.addValue( shortTextField, shortText );
 		documentElement.addValue( longTextField, longText );
 		documentElement.addValue( numericField, numeric );
+		documentElement.addValue( vectorField, vector( numeric ) );
+		for ( int i = 0; i < NESTED_OBJECT_COUNT; i++ ) {
+			DocumentElement nestedObject = documentElement.addObject( nestedField );
+			nestedObject.addValue( nestedTextField, shortText );
+			nestedObject.addValue( nestedNumericField, numeric + i );
+		}
+	}
+
+	/**
+	 * @param seed A seed, e.g. the numeric value of a document.
+	 * @return A vector of {@link #VECTOR_DIMENSION} components in the range {@code [-1, 1]},
+	 * always the same for a given seed.
+	 */
+	public static float[] vector(long seed) {
+		float[] vector = new float[VECTOR_DIMENSION];
+		long state = seed;
+		for ( int i = 0; i < VECTOR_DIMENSION; i++ ) {
+			// SplitMix64: cheap, deterministic, and spreads consecutive seeds well
+			state += 0x9E3779B97F4A7C15L;
+			long z = state;
+			z = ( z ^ ( z >>> 30 ) ) * 0xBF58476D1CE4E5B9L;
+			z = ( z ^ ( z >>> 27 ) ) * 0x94D049BB133111EBL;
+			z = z ^ ( z >>> 31 );
+			vector[i] = ( z >>> 40 ) / (float) ( 1L << 23 ) - 1.0f;
+		}
+		return vector;
 	}
 
 }
@@ -324,4 +324,16 @@ SearchException vectorKnnMatchVectorTypeDiffersFromField(String absoluteFieldPat
 	@Message(id = ID_OFFSET + 186, value = "A single-valued highlight projection requested, "
 			+ "but the corresponding highlighter does not set number of fragments to 1.")
 	SearchException highlighterIncompatibleCardinality();
+
+	@Message(id = ID_OFFSET + 196,
+			value = "Cannot project on field '%1$s' from doc values:"
+					+ " this field does not have doc values holding the same values as stored fields."
+					+ " Make sure the field is sortable or aggregable, and has no normalizer,"
+					+ " or do not call '.fromDocValues()' when you create the projection.")
+	SearchException cannotProjectFromDocValues(String absolutePath, @Param EventContext context);
+
+	@Message(id = ID_OFFSET + 198,
+			value = "Cannot use a rank fusion predicate within a nested predicate."
+					+ " Rank fusion predicates can only be used as the top-level predicate of a query.")
+	SearchException rankFusionInNestedContext();
 }
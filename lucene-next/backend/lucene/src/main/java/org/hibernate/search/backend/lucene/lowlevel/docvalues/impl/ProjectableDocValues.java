@@ -0,0 +1,134 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.docvalues.impl;
+
+import java.io.IOException;
+import java.util.function.LongFunction;
+
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.search.DocIdSetIterator;
+
+/**
+ * A per-document sequence of encoded field values, read from doc values.
+ * <p>
+ * Used to project on fields without loading stored fields.
+ * Values are returned in the order of doc values,
+ * i.e. sorted, and for text values, without duplicates.
+ *
+ * @param <E> The encoded type of values.
+ */
+public abstract class ProjectableDocValues<E> extends DocIdSetIterator {
+
+	public static <E> ProjectableDocValues<E> fromSortedNumeric(SortedNumericDocValues values,
+			LongFunction<E> decoder) {
+		return new SortedNumericProjectableDocValues<>( values, decoder );
+	}
+
+	public static ProjectableDocValues<String> fromSortedSet(SortedSetDocValues values) {
+		return new SortedSetProjectableDocValues( values );
+	}
+
+	private final DocIdSetIterator delegate;
+
+	private ProjectableDocValues(DocIdSetIterator delegate) {
+		this.delegate = delegate;
+	}
+
+	/**
+	 * Advance the iterator to exactly {@code target} and return whether
+	 * {@code target} has a value.
+	 *
+	 * @param target The target doc ID.
+	 * @return {@code true} if the document has a value.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	public abstract boolean advanceExact(int target) throws IOException;
+
+	/**
+	 * @return The number of values for the current document.
+	 * It is illegal to call this method after {@link #advanceExact(int)} returned {@code false}.
+	 */
+	public abstract int docValueCount();
+
+	/**
+	 * Iterates to the next value in the current document.
+	 * Do not call this more than {@link #docValueCount} times for the document.
+	 *
+	 * @return The next value.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	public abstract E nextValue() throws IOException;
+
+	@Override
+	public int docID() {
+		return delegate.docID();
+	}
+
+	@Override
+	public int nextDoc() throws IOException {
+		return delegate.nextDoc();
+	}
+
+	@Override
+	public int advance(int target) throws IOException {
+		return delegate.advance( target );
+	}
+
+	@Override
+	public long cost() {
+		return delegate.cost();
+	}
+
+	private static final class SortedNumericProjectableDocValues<E> extends ProjectableDocValues<E> {
+		private final SortedNumericDocValues values;
+		private final LongFunction<E> decoder;
+
+		private SortedNumericProjectableDocValues(SortedNumericDocValues values, LongFunction<E> decoder) {
+			super( values );
+			this.values = values;
+			this.decoder = decoder;
+		}
+
+		@Override
+		public boolean advanceExact(int target) throws IOException {
+			return values.advanceExact( target );
+		}
+
+		@Override
+		public int docValueCount() {
+			return values.docValueCount();
+		}
+
+		@Override
+		public E nextValue() throws IOException {
+			return decoder.apply( values.nextValue() );
+		}
+	}
+
+	private static final class SortedSetProjectableDocValues extends ProjectableDocValues<String> {
+		private final SortedSetDocValues values;
+
+		private SortedSetProjectableDocValues(SortedSetDocValues values) {
+			super( values );
+			this.values = values;
+		}
+
+		@Override
+		public boolean advanceExact(int target) throws IOException {
+			return values.advanceExact( target );
+		}
+
+		@Override
+		public int docValueCount() {
+			return values.docValueCount();
+		}
+
+		@Override
+		public String nextValue() throws IOException {
+			return values.lookupOrd( values.nextOrd() ).utf8ToString();
+		}
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.query.impl;
+
+import java.util.Objects;
+
+import org.apache.lucene.search.KnnFloatVectorQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TopDocs;
+
+/**
+ * A knn query that gathers more candidates than the number of nearest neighbors it returns.
+ * <p>
+ * Vectors are never quantized in this backend, so approximate search already scores candidates exactly
+ * and there is no need for rescoring.
+ */
+public final class OversamplingKnnFloatVectorQuery extends KnnFloatVectorQuery {
+
+	private final int resultCount;
+
+	public OversamplingKnnFloatVectorQuery(String field, float[] target, int k, int numCandidates, Query filter) {
+		super( field, target, numCandidates, filter );
+		this.resultCount = k;
+	}
+
+	@Override
+	protected TopDocs mergeLeafResults(TopDocs[] perLeafResults) {
+		// Candidates were gathered using k = numCandidates; only keep the best ones.
+		return TopDocs.merge( resultCount, perLeafResults );
+	}
+
+	@Override
+	public String toString(String field) {
+		return super.toString( field ) + "[resultCount=" + resultCount + "]";
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if ( !super.equals( o ) ) {
+			return false;
+		}
+		OversamplingKnnFloatVectorQuery that = (OversamplingKnnFloatVectorQuery) o;
+		return resultCount == that.resultCount;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( super.hashCode(), resultCount );
+	}
+
+}
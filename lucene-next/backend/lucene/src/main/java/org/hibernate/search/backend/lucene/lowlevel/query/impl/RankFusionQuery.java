@@ -0,0 +1,278 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.query.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.hibernate.search.engine.search.predicate.dsl.RankFusionMethod;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.ScorerSupplier;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.Weight;
+
+/**
+ * A query that executes each of its clauses separately, retrieving their top hits,
+ * then fuses these top hits into a single ranking.
+ * <p>
+ * All the work happens when the query is rewritten:
+ * the clauses are executed against the same {@link IndexSearcher},
+ * and the query is rewritten into a query matching the fused top hits with their fused score.
+ */
+public final class RankFusionQuery extends Query {
+
+	private final List<Query> clauses;
+	private final float[] weights;
+	private final RankFusionMethod method;
+	private final int rankConstant;
+	private final int windowSize;
+
+	public RankFusionQuery(List<Query> clauses, float[] weights, RankFusionMethod method, int rankConstant,
+			int windowSize) {
+		this.clauses = clauses;
+		this.weights = weights;
+		this.method = method;
+		this.rankConstant = rankConstant;
+		this.windowSize = windowSize;
+	}
+
+	@Override
+	public Query rewrite(IndexSearcher searcher) throws IOException {
+		Map<Integer, Float> fusedScores = new HashMap<>();
+		for ( int i = 0; i < clauses.size(); i++ ) {
+			TopDocs topDocs = searcher.search( clauses.get( i ), windowSize );
+			contribute( fusedScores, topDocs.scoreDocs, weights[i] );
+		}
+
+		List<Map.Entry<Integer, Float>> entries = new ArrayList<>( fusedScores.entrySet() );
+		entries.sort( Map.Entry.<Integer, Float>comparingByValue( Comparator.reverseOrder() )
+				.thenComparing( Map.Entry.comparingByKey() ) );
+		if ( entries.size() > windowSize ) {
+			entries = entries.subList( 0, windowSize );
+		}
+		// Sort by doc id so that the rewritten query can iterate on docs in order
+		entries.sort( Map.Entry.comparingByKey() );
+
+		int[] sortedDocIds = new int[entries.size()];
+		float[] scores = new float[entries.size()];
+		for ( int i = 0; i < sortedDocIds.length; i++ ) {
+			Map.Entry<Integer, Float> entry = entries.get( i );
+			sortedDocIds[i] = entry.getKey();
+			scores[i] = entry.getValue();
+		}
+		return new FusedDocsQuery( searcher.getIndexReader().getContext().id(), sortedDocIds, scores );
+	}
+
+	private void contribute(Map<Integer, Float> fusedScores, ScoreDoc[] scoreDocs, float weight) {
+		switch ( method ) {
+			case RECIPROCAL_RANK:
+				for ( int rank = 0; rank < scoreDocs.length; rank++ ) {
+					// Ranks start at 1
+					float contribution = weight / ( rankConstant + rank + 1 );
+					fusedScores.merge( scoreDocs[rank].doc, contribution, Float::sum );
+				}
+				break;
+			case NORMALIZED_SCORE:
+				float min = Float.POSITIVE_INFINITY;
+				float max = Float.NEGATIVE_INFINITY;
+				for ( ScoreDoc scoreDoc : scoreDocs ) {
+					min = Math.min( min, scoreDoc.score );
+					max = Math.max( max, scoreDoc.score );
+				}
+				for ( ScoreDoc scoreDoc : scoreDocs ) {
+					float normalized = max > min ? ( scoreDoc.score - min ) / ( max - min ) : 1.0f;
+					fusedScores.merge( scoreDoc.doc, weight * normalized, Float::sum );
+				}
+				break;
+			default:
+				throw new IllegalStateException( "Unknown rank fusion method: " + method );
+		}
+	}
+
+	@Override
+	public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) {
+		throw new IllegalStateException( "This query must be rewritten before being executed." );
+	}
+
+	@Override
+	public void visit(QueryVisitor visitor) {
+		QueryVisitor clauseVisitor = visitor.getSubVisitor( BooleanClause.Occur.SHOULD, this );
+		for ( Query clause : clauses ) {
+			clause.visit( clauseVisitor );
+		}
+	}
+
+	@Override
+	public String toString(String field) {
+		StringBuilder builder = new StringBuilder( getClass().getSimpleName() )
+				.append( "{method=" ).append( method )
+				.append( ", rankConstant=" ).append( rankConstant )
+				.append( ", windowSize=" ).append( windowSize )
+				.append( ", clauses=[" );
+		for ( int i = 0; i < clauses.size(); i++ ) {
+			if ( i > 0 ) {
+				builder.append( ", " );
+			}
+			builder.append( clauses.get( i ).toString( field ) ).append( '^' ).append( weights[i] );
+		}
+		return builder.append( "]}" ).toString();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( this == obj ) {
+			return true;
+		}
+		if ( obj == null || getClass() != obj.getClass() ) {
+			return false;
+		}
+		RankFusionQuery other = (RankFusionQuery) obj;
+		return rankConstant == other.rankConstant
+				&& windowSize == other.windowSize
+				&& method == other.method
+				&& clauses.equals( other.clauses )
+				&& Arrays.equals( weights, other.weights );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( classHash(), clauses, Arrays.hashCode( weights ), method, rankConstant, windowSize );
+	}
+
+	/**
+	 * Matches the fused top hits, with their fused score.
+	 * <p>
+	 * Doc ids are top-level doc ids, so this query can only be executed against the reader it was created for.
+	 */
+	private static final class FusedDocsQuery extends Query {
+		private final Object readerContextId;
+		private final int[] sortedDocIds;
+		private final float[] scores;
+
+		private FusedDocsQuery(Object readerContextId, int[] sortedDocIds, float[] scores) {
+			this.readerContextId = readerContextId;
+			this.sortedDocIds = sortedDocIds;
+			this.scores = scores;
+		}
+
+		@Override
+		public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) {
+			if ( searcher.getIndexReader().getContext().id() != readerContextId ) {
+				throw new IllegalStateException( "This query was created for a different reader." );
+			}
+			float maxScore = 0.0f;
+			for ( float score : scores ) {
+				maxScore = Math.max( maxScore, score );
+			}
+			float maxBoostedScore = maxScore * boost;
+			return new Weight( this ) {
+				@Override
+				public Explanation explain(LeafReaderContext context, int doc) {
+					int index = Arrays.binarySearch( sortedDocIds, context.docBase + doc );
+					if ( index < 0 ) {
+						return Explanation.noMatch( "not in the fused top hits" );
+					}
+					return Explanation.match( scores[index] * boost, "fused score of the top hits of all clauses" );
+				}
+
+				@Override
+				public ScorerSupplier scorerSupplier(LeafReaderContext context) {
+					DocIdSetIterator matchingDocs = ExplicitDocIdSetIterator.of(
+							sortedDocIds, context.docBase, context.reader().maxDoc()
+					);
+					if ( matchingDocs == null ) {
+						return null; // Skip this leaf
+					}
+					return new ScorerSupplier() {
+						@Override
+						public Scorer get(long leadCost) {
+							return new Scorer() {
+								@Override
+								public int docID() {
+									return matchingDocs.docID();
+								}
+
+								@Override
+								public DocIdSetIterator iterator() {
+									return matchingDocs;
+								}
+
+								@Override
+								public float getMaxScore(int upTo) {
+									return maxBoostedScore;
+								}
+
+								@Override
+								public float score() {
+									int index = Arrays.binarySearch( sortedDocIds,
+											context.docBase + matchingDocs.docID() );
+									return scores[index] * boost;
+								}
+							};
+						}
+
+						@Override
+						public long cost() {
+							return matchingDocs.cost();
+						}
+					};
+				}
+
+				@Override
+				public boolean isCacheable(LeafReaderContext ctx) {
+					// Matches depend on the whole index: caching per-segment makes no sense.
+					return false;
+				}
+			};
+		}
+
+		@Override
+		public void visit(QueryVisitor visitor) {
+			visitor.visitLeaf( this );
+		}
+
+		@Override
+		public String toString(String field) {
+			return getClass().getSimpleName() + "{" + Arrays.toString( sortedDocIds ) + "}";
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( this == obj ) {
+				return true;
+			}
+			if ( obj == null || getClass() != obj.getClass() ) {
+				return false;
+			}
+			FusedDocsQuery other = (FusedDocsQuery) obj;
+			return readerContextId == other.readerContextId
+					&& Arrays.equals( sortedDocIds, other.sortedDocIds )
+					&& Arrays.equals( scores, other.scores );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( classHash(), readerContextId, Arrays.hashCode( sortedDocIds ),
+					Arrays.hashCode( scores ) );
+		}
+	}
+
+}
@@ -71,6 +71,20 @@ public <T> T submit(Set<String> indexNames, Collection<? extends ReadIndexManage
 		}
 	}
 
+	@Override
+	public <T> CompletableFuture<T> submitAsync(Set<String> indexNames,
+			Collection<? extends ReadIndexManagerContext> indexManagerContexts,
+			Set<String> routingKeys, ReadWork<T> work) {
+		// This backend does not have a search thread pool:
+		// we have no choice but to execute the work in the current thread.
+		try {
+			return CompletableFuture.completedFuture( submit( indexNames, indexManagerContexts, routingKeys, work ) );
+		}
+		catch (RuntimeException e) {
+			return CompletableFuture.failedFuture( e );
+		}
+	}
+
 	@Override
 	protected void doStart(ConfigurationPropertySource propertySource) {
 		// Nothing to do
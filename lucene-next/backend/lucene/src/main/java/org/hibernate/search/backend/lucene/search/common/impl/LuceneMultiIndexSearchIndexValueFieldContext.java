@@ -62,6 +62,17 @@ public boolean hasTermVectorsConfigured() {
 				"hasTermVectorsConfigured" );
 	}
 
+	@Override
+	public boolean hasProjectableDocValues() {
+		// Codecs are compatible across indexes even if only some of them add doc values.
+		for ( LuceneSearchIndexValueFieldContext<F> indexElement : nodeForEachIndex ) {
+			if ( !indexElement.type().hasProjectableDocValues() ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	@Override
 	public LuceneFieldCodec<F, ?> codec() {
 		return fromTypeIfCompatible( LuceneSearchIndexValueFieldTypeContext::codec, LuceneFieldCodec::isCompatibleWith,
@@ -18,4 +18,11 @@
 
 	boolean hasTermVectorsConfigured();
 
+	/**
+	 * @return {@code true} if values of this field can be projected on from doc values
+	 * instead of stored fields, with the same result.
+	 * @see LuceneFieldCodec#hasProjectableDocValues()
+	 */
+	boolean hasProjectableDocValues();
+
 }
@@ -7,6 +7,8 @@
 import java.lang.reflect.Array;
 
 import org.hibernate.search.backend.lucene.logging.impl.QueryLog;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.OversamplingKnnByteVectorQuery;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.OversamplingKnnFloatVectorQuery;
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.VectorSimilarityFilterQuery;
 import org.hibernate.search.backend.lucene.search.common.impl.AbstractLuceneValueFieldSearchQueryElementFactory;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexScope;
@@ -24,6 +26,7 @@
 public abstract class LuceneKnnPredicate<T> extends AbstractLuceneSingleFieldPredicate implements LuceneSearchPredicate {
 
 	protected final int k;
+	protected final int numCandidates;
 	protected final T vector;
 	protected final Float requiredMinimumScore;
 	//protected final VectorSimilarityFunction similarityFunction;
@@ -32,6 +35,7 @@
 	private LuceneKnnPredicate(Builder<T> builder) {
 		super( builder );
 		this.k = builder.k;
+		this.numCandidates = builder.numCandidates == null ? builder.k : builder.numCandidates;
 		this.vector = builder.vector;
 		this.filter = builder.filter;
 		this.requiredMinimumScore = builder.requiredMinimumScore;
@@ -45,6 +49,7 @@ protected Query prepareFilter(PredicateRequestContext context) {
 	private abstract static class Builder<F> extends AbstractBuilder implements KnnPredicateBuilder {
 		protected final LuceneVectorFieldCodec<F> vectorCodec;
 		private int k;
+		private Integer numCandidates;
 		private F vector;
 		private LuceneSearchPredicate filter;
 		private Float requiredMinimumScore;
@@ -106,6 +111,17 @@ public void requiredMinimumSimilarity(float similarity) {
 			// similarity function:
 			requiredMinimumScore( vectorCodec.similarityDistanceToScore( similarity ) );
 		}
+
+		@Override
+		public void numCandidates(int numCandidates) {
+			this.numCandidates = numCandidates;
+		}
+
+		@Override
+		public void exactRescoring() {
+			// Vectors are never quantized in this backend:
+			// approximate search already computes the exact similarity, so there is nothing to rescore.
+		}
 	}
 
 	public static class FloatFactory extends AbstractLuceneValueFieldSearchQueryElementFactory<KnnPredicateBuilder, float[]> {
@@ -132,7 +148,9 @@ private LuceneByteKnnPredicate(ByteBuilder builder) {
 
 		@Override
 		protected Query doToQuery(PredicateRequestContext context) {
-			KnnByteVectorQuery query = new KnnByteVectorQuery( absoluteFieldPath, vector, k, prepareFilter( context ) );
+			KnnByteVectorQuery query = numCandidates == k
+					? new KnnByteVectorQuery( absoluteFieldPath, vector, k, prepareFilter( context ) )
+					: new OversamplingKnnByteVectorQuery( absoluteFieldPath, vector, k, numCandidates, prepareFilter( context ) );
 			return requiredMinimumScore == null
 					? query
 					: VectorSimilarityFilterQuery.create( query, requiredMinimumScore );
@@ -159,7 +177,9 @@ private LuceneFloatKnnPredicate(FloatBuilder builder) {
 
 		@Override
 		protected Query doToQuery(PredicateRequestContext context) {
-			KnnFloatVectorQuery query = new KnnFloatVectorQuery( absoluteFieldPath, vector, k, prepareFilter( context ) );
+			KnnFloatVectorQuery query = numCandidates == k
+					? new KnnFloatVectorQuery( absoluteFieldPath, vector, k, prepareFilter( context ) )
+					: new OversamplingKnnFloatVectorQuery( absoluteFieldPath, vector, k, numCandidates, prepareFilter( context ) );
 			return requiredMinimumScore == null ? query : VectorSimilarityFilterQuery.create( query, requiredMinimumScore );
 		}
 
@@ -7,7 +7,11 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 import org.hibernate.search.backend.lucene.logging.impl.QueryLog;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
@@ -25,6 +29,7 @@
 import org.hibernate.search.engine.common.dsl.spi.DslExtensionState;
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContext;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
+import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 import org.hibernate.search.util.common.impl.Contracts;
@@ -98,6 +103,18 @@ public List<H> fetchHits(Integer offset, Integer limit) {
 		return doFetch( offset, limit, false ).hits();
 	}
 
+	@Override
+	public CompletionStage<SearchResult<H>> fetchAsync(Integer offset, Integer limit, Executor loadingExecutor) {
+		Contracts.assertNotNull( loadingExecutor, "loadingExecutor" );
+		return doFetchAsync( offset, limit, true, result -> result, loadingExecutor );
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer offset, Integer limit, Executor loadingExecutor) {
+		Contracts.assertNotNull( loadingExecutor, "loadingExecutor" );
+		return doFetchAsync( offset, limit, false, LuceneSearchResult::hits, loadingExecutor );
+	}
+
 	@Override
 	public long fetchTotalHitCount() {
 		timeoutManager.start();
@@ -107,6 +124,17 @@ public long fetchTotalHitCount() {
 		return result;
 	}
 
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		timeoutManager.start();
+		ReadWork<Integer> work = workFactory.count( searcher );
+		return doSubmitAsync( work )
+				.thenApply( result -> {
+					timeoutManager.stop();
+					return (long) result;
+				} );
+	}
+
 	@Override
 	public LuceneSearchScroll<H> scroll(int chunkSize) {
 		Set<String> indexNames = scope.hibernateSearchIndexNames();
@@ -181,6 +209,20 @@ private LuceneSearchResult<H> doFetch(Integer offset, Integer limit, boolean tra
 		return result;
 	}
 
+	private <T> CompletableFuture<T> doFetchAsync(Integer offset, Integer limit, boolean trackTotalHitCount,
+			Function<? super LuceneSearchResult<H>, T> resultFunction, Executor loadingExecutor) {
+		ReadWork<LuceneLoadableSearchResult<H>> work =
+				workFactory.search( searcher, offset, limit, totalHitCountThreshold( trackTotalHitCount ) );
+		timeoutManager.start();
+		return doSubmitAsync( work )
+				// Loading must run in the executor provided by the user, see doFetch().
+				.thenApplyAsync( loadable -> {
+					LuceneSearchResult<H> result = loadable.loadBlocking();
+					timeoutManager.stop();
+					return resultFunction.apply( result );
+				}, loadingExecutor );
+	}
+
 	private Explanation doExplain(String typeName, String id) {
 		timeoutManager.start();
 		Query filter = scope.filterOrNull( sessionContext.tenantIdentifier() );
@@ -201,6 +243,15 @@ private <T> T doSubmit(ReadWork<T> work) {
 		);
 	}
 
+	private <T> CompletableFuture<T> doSubmitAsync(ReadWork<T> work) {
+		return queryOrchestrator.submitAsync(
+				scope.hibernateSearchIndexNames(),
+				scope.indexes(),
+				routingKeys,
+				work
+		);
+	}
+
 	private int totalHitCountThreshold(boolean trackTotalHitCount) {
 		if ( !trackTotalHitCount ) {
 			return 0;
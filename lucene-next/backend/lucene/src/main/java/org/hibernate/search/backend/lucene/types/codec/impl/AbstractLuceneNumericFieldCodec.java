@@ -4,8 +4,13 @@
  */
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.ProjectableDocValues;
 import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneNumericDomain;
 
+import org.apache.lucene.index.LeafReader;
+
 public abstract class AbstractLuceneNumericFieldCodec<F, E extends Number> implements LuceneFieldCodec<F, E> {
 
 	private final Indexing indexing;
@@ -59,8 +64,30 @@ public boolean isCompatibleWith(LuceneFieldCodec<?, ?> obj) {
 		return getClass() == obj.getClass();
 	}
 
+	@Override
+	public boolean hasProjectableDocValues() {
+		return DocValues.ENABLED == docValues && isDocValueDecodingLossless();
+	}
+
+	@Override
+	public ProjectableDocValues<E> projectableDocValues(LeafReader reader, String absoluteFieldPath)
+			throws IOException {
+		return ProjectableDocValues.fromSortedNumeric(
+				org.apache.lucene.index.DocValues.getSortedNumeric( reader, absoluteFieldPath ),
+				getDomain()::sortedDocValueToTerm );
+	}
+
 	public abstract LuceneNumericDomain<E> getDomain();
 
+	/**
+	 * @return {@code true} if {@link #decode(Object) decoding} the encoded value
+	 * yields the same value as decoding the stored field,
+	 * {@code false} if some information is lost, e.g. sub-millisecond precision or time zone.
+	 */
+	protected boolean isDocValueDecodingLossless() {
+		return false;
+	}
+
 	abstract void addStoredToDocument(LuceneDocumentContent documentBuilder, String absoluteFieldPath,
 			F value, E encodedValue);
 
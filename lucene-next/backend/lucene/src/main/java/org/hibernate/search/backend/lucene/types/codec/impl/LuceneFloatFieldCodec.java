@@ -43,6 +43,11 @@ public Float decode(Float encoded) {
 		return encoded;
 	}
 
+	@Override
+	protected boolean isDocValueDecodingLossless() {
+		return true;
+	}
+
 	@Override
 	public LuceneNumericDomain<Float> getDomain() {
 		return LuceneFloatDomain.get();
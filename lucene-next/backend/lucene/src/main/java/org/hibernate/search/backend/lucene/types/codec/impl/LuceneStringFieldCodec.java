@@ -4,13 +4,17 @@
  */
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
+import java.io.IOException;
+
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.AnalyzerConstants;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.ProjectableDocValues;
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.document.Field;
 import org.apache.lucene.document.FieldType;
 import org.apache.lucene.document.SortedSetDocValuesField;
 import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.util.BytesRef;
 
 public final class LuceneStringFieldCodec implements LuceneFieldCodec<String, String> {
@@ -76,6 +80,19 @@ public boolean isCompatibleWith(LuceneFieldCodec<?, ?> obj) {
 		return LuceneStringFieldCodec.class == obj.getClass();
 	}
 
+	@Override
+	public boolean hasProjectableDocValues() {
+		// Normalized doc values cannot be converted back to the original value.
+		return DocValues.ENABLED.equals( docValues ) && analyzerOrNormalizer == AnalyzerConstants.KEYWORD_ANALYZER;
+	}
+
+	@Override
+	public ProjectableDocValues<String> projectableDocValues(LeafReader reader, String absoluteFieldPath)
+			throws IOException {
+		return ProjectableDocValues.fromSortedSet(
+				org.apache.lucene.index.DocValues.getSortedSet( reader, absoluteFieldPath ) );
+	}
+
 	@Override
 	public String encode(String value) {
 		return value;
@@ -46,6 +46,11 @@ public Year decode(Integer encoded) {
 		return Year.of( encoded );
 	}
 
+	@Override
+	protected boolean isDocValueDecodingLossless() {
+		return true;
+	}
+
 	@Override
 	public LuceneNumericDomain<Integer> getDomain() {
 		return LuceneIntegerDomain.get();
@@ -269,6 +269,46 @@ private HibernateOrmMapperOutboxPollingSettings() {
 	public static final String COORDINATION_EVENT_PROCESSOR_RETRY_DELAY =
 			PREFIX + Radicals.COORDINATION_EVENT_PROCESSOR_RETRY_DELAY;
 
+	/**
+	 * In the event processor, whether to pipeline the processing of successive batches of outbox events.
+	 * <p>
+	 * Only available when {@value HibernateOrmMapperSettings#COORDINATION_STRATEGY} is
+	 * {@value #COORDINATION_STRATEGY_NAME}.
+	 * <p>
+	 * When enabled, the event processor no longer waits for a batch of events to be deleted
+	 * before it starts processing the next batch:
+	 * the events of a batch are deleted while the documents of the next batch are being indexed.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#COORDINATION_EVENT_PROCESSOR_PIPELINED}.
+	 */
+	public static final String COORDINATION_EVENT_PROCESSOR_PIPELINED =
+			PREFIX + Radicals.COORDINATION_EVENT_PROCESSOR_PIPELINED;
+
+	/**
+	 * In the event processor, whether to coalesce the outbox events of a batch
+	 * with later, pending outbox events targeting the same entities.
+	 * <p>
+	 * Only available when {@value HibernateOrmMapperSettings#COORDINATION_STRATEGY} is
+	 * {@value #COORDINATION_STRATEGY_NAME}.
+	 * <p>
+	 * When enabled, after retrieving a batch of events,
+	 * the event processor also retrieves pending events that target the same entities
+	 * but would otherwise be processed in later batches,
+	 * and processes them together, so that each of these entities is reindexed only once.
+	 * This requires an additional query for each batch,
+	 * but can significantly reduce the indexing work when some entities are updated very frequently.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#COORDINATION_EVENT_PROCESSOR_COALESCING}.
+	 */
+	public static final String COORDINATION_EVENT_PROCESSOR_COALESCING =
+			PREFIX + Radicals.COORDINATION_EVENT_PROCESSOR_COALESCING;
+
 	/**
 	 * In the mass indexer, how long to wait for another query to the agent table
 	 * when actively waiting for event processors to suspend themselves, in milliseconds.
@@ -516,6 +556,10 @@ private Radicals() {
 				COORDINATION_PREFIX + CoordinationRadicals.EVENT_PROCESSOR_TRANSACTION_TIMEOUT;
 		public static final String COORDINATION_EVENT_PROCESSOR_RETRY_DELAY =
 				COORDINATION_PREFIX + CoordinationRadicals.EVENT_PROCESSOR_RETRY_DELAY;
+		public static final String COORDINATION_EVENT_PROCESSOR_PIPELINED =
+				COORDINATION_PREFIX + CoordinationRadicals.EVENT_PROCESSOR_PIPELINED;
+		public static final String COORDINATION_EVENT_PROCESSOR_COALESCING =
+				COORDINATION_PREFIX + CoordinationRadicals.EVENT_PROCESSOR_COALESCING;
 		public static final String COORDINATION_MASS_INDEXER_POLLING_INTERVAL =
 				COORDINATION_PREFIX + CoordinationRadicals.MASS_INDEXER_POLLING_INTERVAL;
 		public static final String COORDINATION_MASS_INDEXER_PULSE_INTERVAL =
@@ -564,6 +608,8 @@ private CoordinationRadicals() {
 		public static final String EVENT_PROCESSOR_BATCH_SIZE = EVENT_PROCESSOR_PREFIX + "batch_size";
 		public static final String EVENT_PROCESSOR_TRANSACTION_TIMEOUT = EVENT_PROCESSOR_PREFIX + "transaction_timeout";
 		public static final String EVENT_PROCESSOR_RETRY_DELAY = EVENT_PROCESSOR_PREFIX + "retry_delay";
+		public static final String EVENT_PROCESSOR_PIPELINED = EVENT_PROCESSOR_PREFIX + "pipelined";
+		public static final String EVENT_PROCESSOR_COALESCING = EVENT_PROCESSOR_PREFIX + "coalescing";
 		public static final String MASS_INDEXER_PREFIX = "mass_indexer.";
 		public static final String MASS_INDEXER_POLLING_INTERVAL = MASS_INDEXER_PREFIX + "polling_interval";
 		public static final String MASS_INDEXER_PULSE_INTERVAL = MASS_INDEXER_PREFIX + "pulse_interval";
@@ -600,6 +646,8 @@ private Defaults() {
 		public static final OutboxEventProcessingOrder COORDINATION_EVENT_PROCESSOR_ORDER = OutboxEventProcessingOrder.AUTO;
 		public static final int COORDINATION_EVENT_PROCESSOR_BATCH_SIZE = 50;
 		public static final int COORDINATION_EVENT_PROCESSOR_RETRY_DELAY = 30;
+		public static final boolean COORDINATION_EVENT_PROCESSOR_PIPELINED = false;
+		public static final boolean COORDINATION_EVENT_PROCESSOR_COALESCING = false;
 		public static final int COORDINATION_MASS_INDEXER_POLLING_INTERVAL = 100;
 		public static final int COORDINATION_MASS_INDEXER_PULSE_INTERVAL = 2000;
 		public static final int COORDINATION_MASS_INDEXER_PULSE_EXPIRATION = 30000;
@@ -5,8 +5,12 @@
 package org.hibernate.search.mapper.orm.outboxpolling.event.impl;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import java.util.function.Function;
 
 import org.hibernate.Session;
@@ -62,6 +66,41 @@ public List<OutboxEvent> findOutboxEvents(Session session, int maxResults) {
 		return query.list();
 	}
 
+	@Override
+	public List<OutboxEvent> findOutboxEventsForSameEntities(Session session, List<OutboxEvent> events,
+			int maxResults, Set<UUID> excludedIds) {
+		Set<UUID> allExcludedIds = new HashSet<>( excludedIds );
+		Set<OutboxEventReference> references = new HashSet<>();
+		Set<Integer> entityIdHashes = new HashSet<>();
+		for ( OutboxEvent event : events ) {
+			allExcludedIds.add( event.getId() );
+			references.add( event.getReference() );
+			entityIdHashes.add( event.getEntityIdHash() );
+		}
+
+		// Filter on the entity ID hash, which is indexed, then on the actual entity reference in memory.
+		OutboxEventPredicate sameEntitiesPredicate = new EntityIdHashInFilter( entityIdHashes );
+		if ( predicate.isPresent() ) {
+			sameEntitiesPredicate = OutboxEventAndPredicate.of( predicate.get(), sameEntitiesPredicate );
+		}
+		Query<OutboxEvent> query = session.createQuery(
+				createQueryString( Optional.of( sameEntitiesPredicate ), alias -> alias, order ), OutboxEvent.class );
+		sameEntitiesPredicate.setParams( query );
+		// The query will also return the events we already know about; we need to skip those.
+		query.setMaxResults( maxResults + allExcludedIds.size() );
+
+		List<OutboxEvent> result = new ArrayList<>();
+		for ( OutboxEvent event : query.list() ) {
+			if ( result.size() >= maxResults ) {
+				break;
+			}
+			if ( !allExcludedIds.contains( event.getId() ) && references.contains( event.getReference() ) ) {
+				result.add( event );
+			}
+		}
+		return result;
+	}
+
 	public Query<OutboxEvent> createOutboxEventQuery(Session session) {
 		Query<OutboxEvent> query = session.createQuery( queryString, OutboxEvent.class );
 		if ( predicate.isPresent() ) {
@@ -101,6 +140,25 @@ public void setParams(Query<?> query) {
 		}
 	}
 
+	private static class EntityIdHashInFilter implements OutboxEventPredicate {
+
+		private final Set<Integer> entityIdHashes;
+
+		private EntityIdHashInFilter(Set<Integer> entityIdHashes) {
+			this.entityIdHashes = entityIdHashes;
+		}
+
+		@Override
+		public String queryPart(String eventAlias) {
+			return eventAlias + ".entityIdHash in :entityIdHashes";
+		}
+
+		@Override
+		public void setParams(Query<?> query) {
+			query.setParameter( "entityIdHashes", entityIdHashes );
+		}
+	}
+
 	private static class ProcessPendingFilter implements OutboxEventPredicate {
 
 		@Override
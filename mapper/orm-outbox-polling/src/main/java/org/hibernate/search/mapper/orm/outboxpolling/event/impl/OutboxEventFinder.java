@@ -4,10 +4,53 @@
  */
 package org.hibernate.search.mapper.orm.outboxpolling.event.impl;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 import org.hibernate.Session;
 
 public interface OutboxEventFinder {
 	List<OutboxEvent> findOutboxEvents(Session session, int maxResults);
+
+	/**
+	 * @param session The session to use.
+	 * @param maxResults The maximum number of events to return.
+	 * @param excludedIds The identifiers of events that must not be returned,
+	 * e.g. because they were already processed but were not deleted yet.
+	 * @return The events to process.
+	 */
+	default List<OutboxEvent> findOutboxEvents(Session session, int maxResults, Set<UUID> excludedIds) {
+		if ( excludedIds.isEmpty() ) {
+			return findOutboxEvents( session, maxResults );
+		}
+		List<OutboxEvent> events = findOutboxEvents( session, maxResults + excludedIds.size() );
+		List<OutboxEvent> result = new ArrayList<>( Math.min( events.size(), maxResults ) );
+		for ( OutboxEvent event : events ) {
+			if ( result.size() >= maxResults ) {
+				break;
+			}
+			if ( !excludedIds.contains( event.getId() ) ) {
+				result.add( event );
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @param session The session to use.
+	 * @param events A batch of events about to be processed.
+	 * @param maxResults The maximum number of events to return.
+	 * @param excludedIds The identifiers of events that must not be returned,
+	 * in addition to those in {@code events}.
+	 * @return Other events that would be processed in later batches,
+	 * but target the same entities as {@code events},
+	 * and can thus be processed along with {@code events}.
+	 */
+	default List<OutboxEvent> findOutboxEventsForSameEntities(Session session, List<OutboxEvent> events,
+			int maxResults, Set<UUID> excludedIds) {
+		return Collections.emptyList();
+	}
 }
@@ -5,10 +5,12 @@
 package org.hibernate.search.mapper.orm.outboxpolling.event.impl;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.Session;
 import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
@@ -31,6 +33,7 @@ final class OutboxEventProcessingPlan {
 	private final List<OutboxEvent> failedEvents = new ArrayList<>();
 
 	private List<OutboxEvent> events = new ArrayList<>();
+	private CompletableFuture<MultiEntityOperationExecutionReport> executionFuture;
 
 	public OutboxEventProcessingPlan(AutomaticIndexingMappingContext mapping, Session session) {
 		this.processingPlan = mapping.createIndexingQueueEventProcessingPlan( session );
@@ -39,11 +42,36 @@ public OutboxEventProcessingPlan(AutomaticIndexingMappingContext mapping, Sessio
 	}
 
 	void processEvents(List<OutboxEvent> events) {
+		startProcessingEvents( events );
+		waitForProcessingCompletion();
+	}
+
+	/**
+	 * Loads the entities targeted by the given events and builds the corresponding documents,
+	 * then starts indexing these documents without waiting for indexing to complete.
+	 * <p>
+	 * Must be followed by a call to {@link #waitForProcessingCompletion()}.
+	 *
+	 * @param events The events to process.
+	 */
+	void startProcessingEvents(List<OutboxEvent> events) {
 		this.events = events;
 		try {
 			addEventsToThePlan();
-			reportBackendResult(
-					Futures.unwrappedExceptionGet( processingPlan.executeAndReport( OperationSubmitter.blocking() ) ) );
+			executionFuture = processingPlan.executeAndReport( OperationSubmitter.blocking() );
+		}
+		catch (Throwable throwable) {
+			reportMapperFailure( throwable );
+		}
+	}
+
+	void waitForProcessingCompletion() {
+		if ( executionFuture == null ) {
+			// Nothing to wait for: either there were no events, or a failure was reported already.
+			return;
+		}
+		try {
+			reportBackendResult( Futures.unwrappedExceptionGet( executionFuture ) );
 		}
 		catch (Throwable throwable) {
 			if ( throwable instanceof InterruptedException ) {
@@ -51,6 +79,9 @@ void processEvents(List<OutboxEvent> events) {
 			}
 			reportMapperFailure( throwable );
 		}
+		finally {
+			executionFuture = null;
+		}
 	}
 
 	List<OutboxEvent> getEvents() {
@@ -76,12 +107,31 @@ EntityReference entityReference(String entityName, String entityId, Throwable th
 	}
 
 	private void addEventsToThePlan() {
+		// Hot entities may be the target of many identical events in the same batch:
+		// only append each distinct payload once per entity.
+		// Appending different payloads for the same entity is fine, as the indexing plan will merge them.
+		Map<OutboxEventReference, List<byte[]>> appendedPayloads = new HashMap<>();
 		for ( OutboxEvent event : events ) {
+			List<byte[]> entityPayloads = appendedPayloads.computeIfAbsent( event.getReference(),
+					ignored -> new ArrayList<>( 1 ) );
+			if ( containsPayload( entityPayloads, event.getPayload() ) ) {
+				continue;
+			}
+			entityPayloads.add( event.getPayload() );
 			PojoIndexingQueueEventPayload payload = EventPayloadSerializationUtils.deserialize( event.getPayload() );
 			processingPlan.append( event.getEntityName(), event.getEntityId(), payload );
 		}
 	}
 
+	private static boolean containsPayload(List<byte[]> payloads, byte[] payload) {
+		for ( byte[] candidate : payloads ) {
+			if ( Arrays.equals( candidate, payload ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	private void reportMapperFailure(Throwable throwable) {
 		try {
 			// Something failed, but we don't know what.
@@ -6,8 +6,14 @@
 
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
@@ -22,6 +28,8 @@
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.engine.common.metrics.spi.SearchMetricNames;
+import org.hibernate.search.engine.common.metrics.spi.SearchMetrics;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.mapper.orm.automaticindexing.spi.AutomaticIndexingMappingContext;
 import org.hibernate.search.mapper.orm.common.spi.SessionHelper;
@@ -31,6 +39,7 @@
 import org.hibernate.search.mapper.orm.outboxpolling.cluster.impl.ShardAssignmentDescriptor;
 import org.hibernate.search.mapper.orm.outboxpolling.logging.impl.OutboxPollingEventsLog;
 import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.spi.ToStringTreeAppendable;
 import org.hibernate.search.util.common.spi.ToStringTreeAppender;
 
@@ -87,8 +96,22 @@ public static String namePrefix(String tenantId) {
 					.withDefault( HibernateOrmMapperOutboxPollingSettings.Defaults.COORDINATION_EVENT_PROCESSOR_RETRY_DELAY )
 					.build();
 
-	public static Factory factory(AutomaticIndexingMappingContext mapping, Clock clock, String tenantId,
-			ConfigurationPropertySource configurationSource) {
+	private static final ConfigurationProperty<Boolean> PIPELINED =
+			ConfigurationProperty
+					.forKey( HibernateOrmMapperOutboxPollingSettings.CoordinationRadicals.EVENT_PROCESSOR_PIPELINED )
+					.asBoolean()
+					.withDefault( HibernateOrmMapperOutboxPollingSettings.Defaults.COORDINATION_EVENT_PROCESSOR_PIPELINED )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> COALESCING =
+			ConfigurationProperty
+					.forKey( HibernateOrmMapperOutboxPollingSettings.CoordinationRadicals.EVENT_PROCESSOR_COALESCING )
+					.asBoolean()
+					.withDefault( HibernateOrmMapperOutboxPollingSettings.Defaults.COORDINATION_EVENT_PROCESSOR_COALESCING )
+					.build();
+
+	public static Factory factory(AutomaticIndexingMappingContext mapping, Clock clock, SearchMetrics metrics,
+			String tenantId, ConfigurationPropertySource configurationSource) {
 		OutboxEventLoader loader = new OutboxEventLoader( mapping.sessionFactory().getJdbcServices().getDialect() );
 
 		Duration pollingInterval = POLLING_INTERVAL.getAndTransform( configurationSource, Duration::ofMillis );
@@ -101,14 +124,17 @@ public static Factory factory(AutomaticIndexingMappingContext mapping, Clock clo
 		int retryDelay = RETRY_DELAY.get( configurationSource );
 		Integer transactionTimeout = TRANSACTION_TIMEOUT.get( configurationSource )
 				.orElse( null );
+		boolean pipelined = PIPELINED.get( configurationSource );
+		boolean coalescing = COALESCING.get( configurationSource );
 
-		return new Factory( mapping, clock, tenantId, loader, pollingInterval, pulseInterval, pulseExpiration,
-				batchSize, retryDelay, transactionTimeout );
+		return new Factory( mapping, clock, metrics, tenantId, loader, pollingInterval, pulseInterval, pulseExpiration,
+				batchSize, retryDelay, transactionTimeout, pipelined, coalescing );
 	}
 
 	public static class Factory {
 		private final AutomaticIndexingMappingContext mapping;
 		private final Clock clock;
+		private final SearchMetrics metrics;
 		private final String tenantId;
 		private final OutboxEventLoader loader;
 		private final Duration pollingInterval;
@@ -117,12 +143,15 @@ public static class Factory {
 		private final int batchSize;
 		private final int retryDelay;
 		private final Integer transactionTimeout;
+		private final boolean pipelined;
+		private final boolean coalescing;
 
-		private Factory(AutomaticIndexingMappingContext mapping, Clock clock, String tenantId,
+		private Factory(AutomaticIndexingMappingContext mapping, Clock clock, SearchMetrics metrics, String tenantId,
 				OutboxEventLoader loader, Duration pollingInterval, Duration pulseInterval, Duration pulseExpiration,
-				int batchSize, int retryDelay, Integer transactionTimeout) {
+				int batchSize, int retryDelay, Integer transactionTimeout, boolean pipelined, boolean coalescing) {
 			this.mapping = mapping;
 			this.clock = clock;
+			this.metrics = metrics;
 			this.tenantId = tenantId;
 			this.loader = loader;
 			this.pollingInterval = pollingInterval;
@@ -131,6 +160,8 @@ private Factory(AutomaticIndexingMappingContext mapping, Clock clock, String ten
 			this.batchSize = batchSize;
 			this.retryDelay = retryDelay;
 			this.transactionTimeout = transactionTimeout;
+			this.pipelined = pipelined;
+			this.coalescing = coalescing;
 		}
 
 		public OutboxPollingEventProcessor create(ScheduledExecutorService scheduledExecutor,
@@ -159,6 +190,8 @@ private enum Status {
 	private final long pollingInterval;
 	private final int batchSize;
 	private final int retryDelay;
+	private final boolean pipelined;
+	private final boolean coalescing;
 
 	private final AtomicReference<Status> status = new AtomicReference<>( Status.STOPPED );
 	private final OutboxPollingEventProcessorClusterLink clusterLink;
@@ -169,6 +202,10 @@ private enum Status {
 	private final Worker worker;
 	private final SingletonTask processingTask;
 
+	private final SearchMetrics.Counter eventsProcessedCounter;
+	private final SearchMetrics.Distribution batchSizeDistribution;
+	private final SearchMetrics.Timer batchDurationTimer;
+
 	public OutboxPollingEventProcessor(String name, Factory factory,
 			ScheduledExecutorService executor,
 			AgentRepositoryProvider agentRepositoryProvider,
@@ -180,6 +217,8 @@ public OutboxPollingEventProcessor(String name, Factory factory,
 		this.pollingInterval = factory.pollingInterval.toMillis();
 		this.batchSize = factory.batchSize;
 		this.retryDelay = factory.retryDelay;
+		this.pipelined = factory.pipelined;
+		this.coalescing = factory.coalescing;
 		this.clusterLink = clusterLink;
 
 		transactionHelper = new TransactionHelper( mapping.sessionFactory(), factory.transactionTimeout );
@@ -188,6 +227,10 @@ public OutboxPollingEventProcessor(String name, Factory factory,
 				agentRepositoryProvider );
 
 		failureHandler = mapping.failureHandler();
+		Map<String, String> metricTags = Map.of( SearchMetricNames.TAG_PROCESSOR, name );
+		this.eventsProcessedCounter = factory.metrics.counter( SearchMetricNames.COORDINATION_EVENTS_PROCESSED, metricTags );
+		this.batchSizeDistribution = factory.metrics.distribution( SearchMetricNames.COORDINATION_BATCH_SIZE, metricTags );
+		this.batchDurationTimer = factory.metrics.timer( SearchMetricNames.COORDINATION_BATCH_DURATION, metricTags );
 		this.worker = new Worker();
 		processingTask = new SingletonTask(
 				name,
@@ -209,6 +252,8 @@ public void appendTo(ToStringTreeAppender appender) {
 				.attribute( "pollingInterval", pollingInterval )
 				.attribute( "batchSize", batchSize )
 				.attribute( "retryDelay", retryDelay )
+				.attribute( "pipelined", pipelined )
+				.attribute( "coalescing", coalescing )
 				.attribute( "clusterLink", clusterLink );
 	}
 
@@ -230,7 +275,11 @@ public CompletableFuture<?> preStop() {
 	public void stop() {
 		OutboxPollingEventsLog.INSTANCE.stoppingOutboxEventProcessor( name );
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
-			closer.push( SingletonTask::stop, processingTask );
+			// Wait for the execution in progress, if any:
+			// it may still be setting the processed events to update.
+			closer.push( task -> Futures.unwrappedExceptionJoin( task.stop() ), processingTask );
+			// In pipelined mode, the last processed events may not have been updated yet.
+			closer.push( Worker::updateProcessedEvents, worker );
 			closer.push( OutboxPollingEventProcessor::leaveCluster, this );
 		}
 	}
@@ -243,6 +292,9 @@ private class Worker implements SingletonTask.Worker {
 
 		private volatile OutboxPollingEventProcessingInstructions instructions;
 		private volatile boolean lastExecutionProcessedEvents;
+		// In pipelined mode, events that were processed during the previous execution,
+		// but that still need to be updated (deleted, or marked for retry).
+		private volatile OutboxEventProcessingPlan processedEventsToUpdate;
 
 		@Override
 		public CompletableFuture<?> work() {
@@ -259,10 +311,19 @@ public CompletableFuture<?> work() {
 			if ( !instructions.eventFinder.isPresent() ) {
 				// Processing is disabled for the time being.
 				// We will try again later (complete() will be called, re-scheduling the polling for later).
+				// Events we already processed must still be updated, though.
+				updateProcessedEvents();
 				return CompletableFuture.completedFuture( null );
 			}
 
+			long start = System.nanoTime();
 			try ( SessionImplementor session = sessionHelper.openSession() ) {
+				final OutboxEventProcessingPlan previousEventProcessing = processedEventsToUpdate;
+				// Events processed previously are still in the outbox table until we update them:
+				// make sure we don't process them again.
+				final Set<UUID> excludedEventIds = previousEventProcessing == null
+						? Collections.emptySet()
+						: eventIds( previousEventProcessing.getEvents() );
 				final OutboxEventProcessingPlan eventProcessing = new OutboxEventProcessingPlan( mapping, session );
 				transactionHelper.inTransaction( session, () -> {
 					Optional<OutboxEventFinder> eventFinder = instructions.eventFinder;
@@ -275,11 +336,21 @@ public CompletableFuture<?> work() {
 
 					List<OutboxEvent> events;
 					try {
-						events = eventFinder.get().findOutboxEvents( session, batchSize );
+						events = eventFinder.get().findOutboxEvents( session, batchSize, excludedEventIds );
 						if ( events.isEmpty() ) {
 							// Nothing to do, try again later (complete() will be called, re-scheduling the polling for later)
 							return;
 						}
+						if ( coalescing ) {
+							// Entities are loaded after this point,
+							// so later events targeting the same entities can safely be processed along with this batch.
+							List<OutboxEvent> sameEntityEvents = eventFinder.get()
+									.findOutboxEventsForSameEntities( session, events, batchSize, excludedEventIds );
+							if ( !sameEntityEvents.isEmpty() ) {
+								events = new ArrayList<>( events );
+								events.addAll( sameEntityEvents );
+							}
+						}
 					}
 					catch (PessimisticLockException | OptimisticLockException lockException) {
 						// Note OptimisticLockException is sometimes (always?) thrown to indicate a *pessimistic* lock failure.
@@ -299,32 +370,86 @@ public CompletableFuture<?> work() {
 					ensureScheduled();
 
 					OutboxPollingEventsLog.INSTANCE.processingOutboxEvents( events.size(), name, events );
+					eventsProcessedCounter.increment( events.size() );
+					batchSizeDistribution.record( events.size() );
 
 					// Process the events
-					eventProcessing.processEvents( events );
+					if ( pipelined ) {
+						// Only wait for indexing to complete after we updated the events of the previous batch, see below.
+						eventProcessing.startProcessingEvents( events );
+					}
+					else {
+						eventProcessing.processEvents( events );
+					}
 				} );
 
-				// Updating events involves database locks on a table that
-				// can see heavily concurrent access (the outbox table),
-				// so we do that in a separate transaction, one that is as short as possible.
-				OutboxEventUpdater eventUpdater = new OutboxEventUpdater(
-						failureHandler, loader, eventProcessing, session, name, retryDelay );
-				// We potentially perform this update in multiple transactions,
-				// each loading as many events as possible using SKIP_LOCKED,
-				// to only load events that are not already locked by another processor.
-				// This is to avoid problems related to lock escalation in MS SQL for example,
-				// where another processor could be locking on our own events because
-				// it locked a page instead of just a row.
-				// For more information, see
-				// org.hibernate.search.mapper.orm.outboxpolling.impl.OutboxEventLoader.tryLoadLocking
-				while ( eventUpdater.thereAreStillEventsToProcess() ) {
-					transactionHelper.inTransaction( session, eventUpdater::process );
+				if ( previousEventProcessing != null ) {
+					// In pipelined mode, we update the events of the previous batch
+					// while the documents of the current batch are being indexed.
+					updateEvents( session, previousEventProcessing );
+					processedEventsToUpdate = null;
 				}
 
+				if ( pipelined ) {
+					eventProcessing.waitForProcessingCompletion();
+					if ( lastExecutionProcessedEvents && status.get() == Status.STARTED ) {
+						// We will update these events during the next execution, which will happen immediately.
+						processedEventsToUpdate = eventProcessing;
+						recordBatchDuration( start );
+						return CompletableFuture.completedFuture( null );
+					}
+				}
+
+				updateEvents( session, eventProcessing );
+
+				recordBatchDuration( start );
 				return CompletableFuture.completedFuture( null );
 			}
 		}
 
+		private void recordBatchDuration(long start) {
+			if ( lastExecutionProcessedEvents ) {
+				batchDurationTimer.recordNanos( System.nanoTime() - start );
+			}
+		}
+
+		private void updateProcessedEvents() {
+			if ( processedEventsToUpdate == null ) {
+				return;
+			}
+			try ( SessionImplementor session = sessionHelper.openSession() ) {
+				updateEvents( session, processedEventsToUpdate );
+				processedEventsToUpdate = null;
+			}
+		}
+
+		private void updateEvents(SessionImplementor session, OutboxEventProcessingPlan eventProcessing) {
+			// Updating events involves database locks on a table that
+			// can see heavily concurrent access (the outbox table),
+			// so we do that in a separate transaction, one that is as short as possible.
+			OutboxEventUpdater eventUpdater = new OutboxEventUpdater(
+					failureHandler, loader, eventProcessing, session, name, retryDelay );
+			// We potentially perform this update in multiple transactions,
+			// each loading as many events as possible using SKIP_LOCKED,
+			// to only load events that are not already locked by another processor.
+			// This is to avoid problems related to lock escalation in MS SQL for example,
+			// where another processor could be locking on our own events because
+			// it locked a page instead of just a row.
+			// For more information, see
+			// org.hibernate.search.mapper.orm.outboxpolling.impl.OutboxEventLoader.tryLoadLocking
+			while ( eventUpdater.thereAreStillEventsToProcess() ) {
+				transactionHelper.inTransaction( session, eventUpdater::process );
+			}
+		}
+
+		private Set<UUID> eventIds(List<OutboxEvent> events) {
+			Set<UUID> ids = new HashSet<>();
+			for ( OutboxEvent event : events ) {
+				ids.add( event.getId() );
+			}
+			return ids;
+		}
+
 		@Override
 		public void complete() {
 			// Make sure we poll again in a few seconds.
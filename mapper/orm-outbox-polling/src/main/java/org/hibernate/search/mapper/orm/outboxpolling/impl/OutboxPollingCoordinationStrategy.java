@@ -221,7 +221,7 @@ void start(CoordinationStrategyStartContext context, ConfigurationPropertySource
 		private void initializeEventProcessors(CoordinationStrategyStartContext context,
 				ConfigurationPropertySource configurationSource) {
 			OutboxPollingEventProcessor.Factory factory = OutboxPollingEventProcessor.factory( context.mapping(),
-					context.clock(), tenantId, configurationSource );
+					context.clock(), context.metrics(), tenantId, configurationSource );
 
 			boolean shardsStatic = EVENT_PROCESSOR_SHARDS_TOTAL_COUNT.get( configurationSource ).isPresent()
 					|| EVENT_PROCESSOR_SHARDS_ASSIGNED.get( configurationSource ).isPresent();
@@ -7,6 +7,7 @@
 import java.time.Clock;
 
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.common.metrics.spi.SearchMetrics;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.reporting.spi.ContextualFailureCollector;
@@ -43,6 +44,11 @@ public interface CoordinationStrategyStartContext {
 	 */
 	ThreadPoolProvider threadPoolProvider();
 
+	/**
+	 * @return Metrics to report to, e.g. when processing indexing events in the background.
+	 */
+	SearchMetrics metrics();
+
 	/**
 	 * @return A {@link Clock} to be used for coordination between nodes.
 	 */
@@ -4,6 +4,7 @@
  */
 package org.hibernate.search.mapper.orm.loading.impl;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -34,7 +35,6 @@
 import org.hibernate.search.mapper.pojo.loading.spi.PojoMassLoadingContext;
 import org.hibernate.search.mapper.pojo.loading.spi.PojoSelectionEntityLoader;
 import org.hibernate.search.mapper.pojo.loading.spi.PojoSelectionLoadingContext;
-import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
 
 public abstract class AbstractHibernateOrmLoadingStrategy<E, I>
@@ -120,6 +120,17 @@ public final boolean groupingAllowed(PojoLoadingTypeContext<? extends E> type, P
 				&& ( (HibernateOrmMassLoadingContext) context ).conditionalExpression( type ).isEmpty();
 	}
 
+	@Override
+	public final boolean supportsPartitionedIdentifierLoading(
+			Set<? extends PojoLoadingTypeContext<? extends E>> expectedTypes,
+			PojoMassLoadingContext context) {
+		// Partitions are ranges of identifier values, which we can only compute for integer identifiers.
+		// The limit on the number of loaded objects applies to all partitions together,
+		// so it cannot be enforced by each partition separately.
+		return HibernateOrmMassIdentifierPartition.supports( uniquePropertyType )
+				&& ( (HibernateOrmMassLoadingContext) context ).objectsLimit() == 0;
+	}
+
 	@Override
 	public final PojoMassIdentifierLoader createIdentifierLoader(
 			Set<? extends PojoLoadingTypeContext<? extends E>> expectedTypes,
@@ -127,15 +138,26 @@ public final PojoMassIdentifierLoader createIdentifierLoader(
 		var ormContext = (HibernateOrmMassLoadingContext) context.parent();
 		SessionFactoryImplementor sessionFactory = ormContext.mapping().sessionFactory();
 
+		List<ConditionalExpression> conditionalExpressions = conditionalExpressions( expectedTypes, ormContext );
 		HibernateOrmQueryLoader<E, I> queryLoader = createQueryLoader( sessionFactory, expectedTypes,
-				conditionalExpressions( expectedTypes, ormContext ) );
+				conditionalExpressions );
+		HibernateOrmMassIdentifierPartition<E, I> partition = null;
+		if ( context.partitionCount() > 1 ) {
+			partition = new HibernateOrmMassIdentifierPartition<>( uniquePropertyType, uniquePropertyName, context,
+					range -> {
+						List<ConditionalExpression> restrictedConditionalExpressions =
+								new ArrayList<>( conditionalExpressions );
+						restrictedConditionalExpressions.add( range );
+						return createQueryLoader( sessionFactory, expectedTypes, restrictedConditionalExpressions );
+					} );
+		}
 		SharedSessionContractImplementor session = (SharedSessionContractImplementor) sessionFactory
 				.withStatelessOptions()
 				.tenantIdentifier( ormContext.tenancyConfiguration().convert( context.tenantIdentifier() ) )
 				.openStatelessSession();
 		try {
 			PojoMassIdentifierSink<I> sink = context.createSink();
-			return new HibernateOrmMassIdentifierLoader<>( queryLoader, ormContext, sink, session );
+			return new HibernateOrmMassIdentifierLoader<>( queryLoader, partition, ormContext, sink, session );
 		}
 		catch (RuntimeException e) {
 			new SuppressingCloser( e ).push( SharedSessionContractImplementor::close, session );
@@ -211,18 +233,19 @@ public HibernateOrmQueryLoader<E, I> createQueryLoader(SessionFactoryImplementor
 
 		TypeQueryFactory<E, I> actualQueryFactory = createFactory( commonSuperType );
 
+		// User-defined conditional/order expressions are always defined on a single type, see groupingAllowed().
+		// With multiple types, the only conditions are those we generate ourselves,
+		// e.g. identifier ranges for partitioned loading, which are valid on the common supertype.
+		// TODO HSEARCH-4252 Apply a condition to multiple types in the same query
+		EntityDomainType<?> entityDomainType = HibernateOrmUtils.entityDomainType( sessionFactory,
+				typeContexts.size() == 1
+						? typeContexts.iterator().next().secondaryEntityName()
+						: commonSuperType.getEntityName() );
 		if ( !conditionalExpressions.isEmpty() || order != null ) {
-			if ( typeContexts.size() != 1 ) {
-				// TODO HSEARCH-4252 Apply a condition to multiple types in the same query
-				throw new AssertionFailure( "conditional/order expression is always defined on a single type" );
-			}
-
-			EntityDomainType<?> entityDomainType = HibernateOrmUtils.entityDomainType( sessionFactory,
-					typeContexts.iterator().next().secondaryEntityName() );
 			return new HibernateOrmQueryLoaderImpl<>( actualQueryFactory, entityDomainType,
 					includedTypesFilter, conditionalExpressions, order );
 		}
-		return new HibernateOrmQueryLoaderImpl<>( actualQueryFactory, includedTypesFilter );
+		return new HibernateOrmQueryLoaderImpl<>( actualQueryFactory, entityDomainType, includedTypesFilter );
 	}
 
 	protected abstract TypeQueryFactory<E, I> createFactory(Class<E> entityClass, String ormEntityName,
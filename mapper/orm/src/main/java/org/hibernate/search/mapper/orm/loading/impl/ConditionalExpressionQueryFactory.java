@@ -54,6 +54,19 @@ public Query<I> createQueryForIdentifierListing(SharedSessionContractImplementor
 		);
 	}
 
+	@Override
+	public Query<Object[]> createQueryForIdentifierBounds(SharedSessionContractImplementor session,
+			EntityDomainType<?> entityDomainType,
+			Set<? extends Class<? extends E>> includedTypesFilter,
+			List<ConditionalExpression> conditionalExpressions) {
+		return createQueryWithConditionalExpressionsOrOrder( session,
+				"select min(e." + uniquePropertyName + "), max(e." + uniquePropertyName + ")"
+						+ " from " + entityDomainType.getName() + " e",
+				Object[].class, "e",
+				includedTypesFilter, conditionalExpressions, null
+		);
+	}
+
 	private <T> Query<T> createQueryWithConditionalExpressionsOrOrder(SharedSessionContractImplementor session,
 			String hql, Class<T> returnedType, String entityAlias,
 			Set<? extends Class<? extends E>> includedTypesFilter,
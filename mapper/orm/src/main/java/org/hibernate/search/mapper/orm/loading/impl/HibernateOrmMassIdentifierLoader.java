@@ -20,50 +20,32 @@
 
 public final class HibernateOrmMassIdentifierLoader<E, I> implements PojoMassIdentifierLoader {
 
+	private final HibernateOrmQueryLoader<E, I> typeQueryLoader;
+	private final HibernateOrmMassIdentifierPartition<E, I> partition;
 	private final HibernateOrmMassLoadingContext options;
 	private final PojoMassIdentifierSink<I> sink;
 	private final SharedSessionContractImplementor session;
 	private final TransactionHelper transactionHelper;
-	private final long totalCount;
+	private final long objectsLimit;
+	private OptionalLong totalCount;
 	private long totalLoaded = 0;
-	private final ScrollableResults<I> results;
+	private boolean resultsOpened = false;
+	private ScrollableResults<I> results;
 
 	public HibernateOrmMassIdentifierLoader(HibernateOrmQueryLoader<E, I> typeQueryLoader,
+			HibernateOrmMassIdentifierPartition<E, I> partition,
 			HibernateOrmMassLoadingContext options,
 			PojoMassIdentifierSink<I> sink,
 			SharedSessionContractImplementor session) {
+		this.typeQueryLoader = typeQueryLoader;
+		this.partition = partition;
 		this.options = options;
 		this.sink = sink;
 		this.session = session;
 		this.transactionHelper = new TransactionHelper( session.getFactory(), options.idLoadingTransactionTimeout() );
+		this.objectsLimit = options.objectsLimit();
 
 		transactionHelper.begin( session );
-
-		try {
-			long objectsLimit = options.objectsLimit();
-			long totalCountFromQuery = typeQueryLoader
-					.createCountQuery( session )
-					.setCacheable( false ).uniqueResult();
-			if ( objectsLimit != 0 && objectsLimit < totalCountFromQuery ) {
-				totalCount = objectsLimit;
-			}
-			else {
-				totalCount = totalCountFromQuery;
-			}
-
-			if ( LoadingLog.INSTANCE.isDebugEnabled() ) {
-				LoadingLog.INSTANCE.numberOfKeysToFetch( totalCount );
-			}
-
-			results = typeQueryLoader.createIdentifiersQuery( session )
-					.setCacheable( false )
-					.setFetchSize( options.idFetchSize() )
-					.scroll( ScrollMode.FORWARD_ONLY );
-		}
-		catch (RuntimeException e) {
-			transactionHelper.rollbackSafely( session, e );
-			throw e;
-		}
 	}
 
 	@Override
@@ -77,14 +59,39 @@ public void close() {
 
 	@Override
 	public OptionalLong totalCount() {
-		return OptionalLong.of( totalCount );
+		// Counting is only performed if necessary (e.g. for the monitor),
+		// since it can be expensive for large tables.
+		if ( totalCount == null ) {
+			long totalCountFromQuery = typeQueryLoader
+					.createCountQuery( session )
+					.setCacheable( false ).uniqueResult();
+			long count;
+			if ( objectsLimit != 0 && objectsLimit < totalCountFromQuery ) {
+				count = objectsLimit;
+			}
+			else {
+				count = totalCountFromQuery;
+			}
+
+			if ( LoadingLog.INSTANCE.isDebugEnabled() ) {
+				LoadingLog.INSTANCE.numberOfKeysToFetch( count );
+			}
+			totalCount = OptionalLong.of( count );
+		}
+		return totalCount;
 	}
 
 	@Override
 	public void loadNext() throws InterruptedException {
+		if ( !resultsOpened ) {
+			results = openResults();
+			resultsOpened = true;
+		}
 		int batchSize = options.objectLoadingBatchSize();
 		ArrayList<I> destinationList = new ArrayList<>( batchSize );
-		while ( destinationList.size() < batchSize && totalLoaded < totalCount && results.next() ) {
+		while ( results != null && destinationList.size() < batchSize
+				&& ( objectsLimit == 0 || totalLoaded < objectsLimit )
+				&& results.next() ) {
 			I id = results.get();
 			destinationList.add( id );
 			++totalLoaded;
@@ -103,4 +110,19 @@ public void loadNext() throws InterruptedException {
 		}
 	}
 
+	private ScrollableResults<I> openResults() {
+		HibernateOrmQueryLoader<E, I> queryLoader = typeQueryLoader;
+		if ( partition != null ) {
+			queryLoader = partition.restrict( typeQueryLoader, session );
+			if ( queryLoader == null ) {
+				// Nothing to load in this partition.
+				return null;
+			}
+		}
+		return queryLoader.createIdentifiersQuery( session )
+				.setCacheable( false )
+				.setFetchSize( options.idFetchSize() )
+				.scroll( ScrollMode.FORWARD_ONLY );
+	}
+
 }
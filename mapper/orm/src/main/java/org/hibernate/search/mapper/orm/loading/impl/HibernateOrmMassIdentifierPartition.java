@@ -0,0 +1,134 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.mapper.orm.loading.impl;
+
+import java.math.BigInteger;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.search.mapper.orm.loading.spi.ConditionalExpression;
+import org.hibernate.search.mapper.orm.loading.spi.HibernateOrmQueryLoader;
+import org.hibernate.search.mapper.pojo.loading.spi.PojoMassIdentifierLoadingContext;
+import org.hibernate.search.util.common.AssertionFailure;
+
+/**
+ * A partition of the identifiers to load during mass indexing,
+ * defined as a range of identifier values.
+ * <p>
+ * Ranges are computed by splitting the interval between the minimum and maximum identifier values
+ * into intervals of the same length,
+ * which is only possible with integer identifiers.
+ * The minimum and maximum identifier values are retrieved only once per type group,
+ * and shared by all partitions, so that the ranges of all partitions are consistent.
+ *
+ * @param <E> The type of loaded entities.
+ * @param <I> The type of entity identifiers.
+ */
+final class HibernateOrmMassIdentifierPartition<E, I> {
+
+	private static final Set<Class<?>> SUPPORTED_IDENTIFIER_TYPES = Set.of(
+			Short.class, short.class,
+			Integer.class, int.class,
+			Long.class, long.class
+	);
+
+	private static final String LOWER_BOUND_PARAM_NAME = "HIBERNATE_SEARCH_PARTITION_LOWER_BOUND";
+	private static final String UPPER_BOUND_PARAM_NAME = "HIBERNATE_SEARCH_PARTITION_UPPER_BOUND";
+
+	static boolean supports(Class<?> identifierType) {
+		return SUPPORTED_IDENTIFIER_TYPES.contains( identifierType );
+	}
+
+	private final Class<I> identifierType;
+	private final String identifierPropertyName;
+	private final PojoMassIdentifierLoadingContext<I> context;
+	private final int partitionCount;
+	private final int partitionIndex;
+	private final Function<ConditionalExpression, HibernateOrmQueryLoader<E, I>> restrictedQueryLoaderFactory;
+
+	HibernateOrmMassIdentifierPartition(Class<I> identifierType, String identifierPropertyName,
+			PojoMassIdentifierLoadingContext<I> context,
+			Function<ConditionalExpression, HibernateOrmQueryLoader<E, I>> restrictedQueryLoaderFactory) {
+		this.identifierType = identifierType;
+		this.identifierPropertyName = identifierPropertyName;
+		this.context = context;
+		this.partitionCount = context.partitionCount();
+		this.partitionIndex = context.partitionIndex();
+		this.restrictedQueryLoaderFactory = restrictedQueryLoaderFactory;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + ( partitionIndex + 1 ) + "/" + partitionCount + "]";
+	}
+
+	/**
+	 * @param queryLoader The query loader for all identifiers.
+	 * @param session The session to execute the query for identifier bounds with,
+	 * if they were not retrieved by another partition already.
+	 * @return The query loader for identifiers in this partition,
+	 * or {@code null} if there is no identifier to load in this partition.
+	 */
+	HibernateOrmQueryLoader<E, I> restrict(HibernateOrmQueryLoader<E, I> queryLoader,
+			SharedSessionContractImplementor session) {
+		Optional<Bounds> boundsOptional = context.partitionSharedState( () -> loadBounds( queryLoader, session ) );
+		if ( boundsOptional.isEmpty() ) {
+			// No entity to load.
+			return null;
+		}
+		BigInteger min = boundsOptional.get().min();
+		BigInteger max = boundsOptional.get().max();
+		BigInteger span = max.subtract( min ).add( BigInteger.ONE );
+		BigInteger lowerBound = min.add( span.multiply( BigInteger.valueOf( partitionIndex ) )
+				.divide( BigInteger.valueOf( partitionCount ) ) );
+		BigInteger upperBound = partitionIndex == partitionCount - 1
+				? max
+				: min.add( span.multiply( BigInteger.valueOf( partitionIndex + 1L ) )
+						.divide( BigInteger.valueOf( partitionCount ) ) )
+						.subtract( BigInteger.ONE );
+		if ( lowerBound.compareTo( upperBound ) > 0 ) {
+			// There are fewer possible identifier values than partitions.
+			return null;
+		}
+
+		ConditionalExpression range = new ConditionalExpression( "e." + identifierPropertyName
+				+ " between :" + LOWER_BOUND_PARAM_NAME + " and :" + UPPER_BOUND_PARAM_NAME );
+		range.param( LOWER_BOUND_PARAM_NAME, toIdentifier( lowerBound ) );
+		range.param( UPPER_BOUND_PARAM_NAME, toIdentifier( upperBound ) );
+		return restrictedQueryLoaderFactory.apply( range );
+	}
+
+	private static Optional<Bounds> loadBounds(HibernateOrmQueryLoader<?, ?> queryLoader,
+			SharedSessionContractImplementor session) {
+		Object[] bounds = queryLoader.createIdentifierBoundsQuery( session )
+				.setCacheable( false ).uniqueResult();
+		if ( bounds == null || bounds[0] == null ) {
+			return Optional.empty();
+		}
+		return Optional.of( new Bounds( BigInteger.valueOf( ( (Number) bounds[0] ).longValue() ),
+				BigInteger.valueOf( ( (Number) bounds[1] ).longValue() ) ) );
+	}
+
+	private Object toIdentifier(BigInteger value) {
+		if ( Long.class.equals( identifierType ) || long.class.equals( identifierType ) ) {
+			return value.longValue();
+		}
+		else if ( Integer.class.equals( identifierType ) || int.class.equals( identifierType ) ) {
+			return value.intValue();
+		}
+		else if ( Short.class.equals( identifierType ) || short.class.equals( identifierType ) ) {
+			return value.shortValue();
+		}
+		else {
+			throw new AssertionFailure( "Unsupported identifier type for partitioning: " + identifierType );
+		}
+	}
+
+	private record Bounds(BigInteger min, BigInteger max) {
+	}
+
+}
@@ -23,10 +23,10 @@
 	private final String order;
 
 	public HibernateOrmQueryLoaderImpl(TypeQueryFactory<E, I> queryFactory,
-			Set<Class<? extends E>> includedTypesFilter) {
+			EntityDomainType<?> entityDomainType, Set<Class<? extends E>> includedTypesFilter) {
 		this.queryFactory = queryFactory;
 		this.includedTypesFilter = includedTypesFilter;
-		this.entityDomainType = null;
+		this.entityDomainType = entityDomainType;
 		this.conditionalExpressions = List.of();
 		this.order = null;
 	}
@@ -56,6 +56,12 @@ public Query<I> createIdentifiersQuery(SharedSessionContractImplementor session)
 						conditionalExpressions, order );
 	}
 
+	@Override
+	public Query<Object[]> createIdentifierBoundsQuery(SharedSessionContractImplementor session) {
+		return queryFactory.createQueryForIdentifierBounds( session, entityDomainType, includedTypesFilter,
+				conditionalExpressions );
+	}
+
 	@Override
 	public Query<E> createLoadingQuery(SessionImplementor session, String idParameterName) {
 		return queryFactory.createQueryForLoadByUniqueProperty( session, idParameterName );
@@ -49,6 +49,11 @@ Query<I> createQueryForIdentifierListing(SharedSessionContractImplementor sessio
 			Set<? extends Class<? extends E>> includedTypesFilter,
 			List<ConditionalExpression> conditionalExpressions, String order);
 
+	Query<Object[]> createQueryForIdentifierBounds(SharedSessionContractImplementor session,
+			EntityDomainType<?> entityDomainType,
+			Set<? extends Class<? extends E>> includedTypesFilter,
+			List<ConditionalExpression> conditionalExpressions);
+
 	Query<E> createQueryForLoadByUniqueProperty(SessionImplementor session, String parameterName);
 
 	MultiIdentifierLoadAccess<E> createMultiIdentifierLoadAccess(SessionImplementor session);
@@ -14,6 +14,8 @@
 
 	Query<I> createIdentifiersQuery(SharedSessionContractImplementor session);
 
+	Query<Object[]> createIdentifierBoundsQuery(SharedSessionContractImplementor session);
+
 	Query<E> createLoadingQuery(SessionImplementor session, String idParameterName);
 
 	MultiIdentifierLoadAccess<E> createMultiIdentifierLoadAccess(SessionImplementor session);
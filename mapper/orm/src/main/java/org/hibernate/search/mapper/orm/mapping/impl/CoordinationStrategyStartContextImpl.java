@@ -7,6 +7,7 @@
 import java.time.Clock;
 
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.common.metrics.spi.SearchMetrics;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.mapper.mapping.spi.MappingStartContext;
@@ -51,6 +52,11 @@ public ThreadPoolProvider threadPoolProvider() {
 		return delegate.threadPoolProvider();
 	}
 
+	@Override
+	public SearchMetrics metrics() {
+		return delegate.metrics();
+	}
+
 	@Override
 	public Clock clock() {
 		return Clock.systemUTC();
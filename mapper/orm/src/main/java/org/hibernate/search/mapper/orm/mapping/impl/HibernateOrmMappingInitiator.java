@@ -63,6 +63,12 @@ public class HibernateOrmMappingInitiator extends AbstractPojoMappingInitiator<H
 							HibernateOrmMapperSettings.Defaults.MAPPING_DISCOVER_ANNOTATED_TYPES_FROM_ROOT_MAPPING_ANNOTATIONS )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> MAPPING_COMPILE_INDEXING_PROCESSORS =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.MAPPING_COMPILE_INDEXING_PROCESSORS )
+					.asBoolean()
+					.withDefault( HibernateOrmMapperSettings.Defaults.MAPPING_COMPILE_INDEXING_PROCESSORS )
+					.build();
+
 	private static final OptionalConfigurationProperty<
 			List<BeanReference<? extends HibernateOrmSearchMappingConfigurer>>> MAPPING_CONFIGURER =
 					ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.MAPPING_CONFIGURER )
@@ -136,6 +142,8 @@ public void configure(MappingBuildContext buildContext,
 		// and thus contained entities need to have an identity mapping.
 		containedEntityIdentityMappingRequired( configuredAutomaticIndexingStrategy.usesAsyncProcessing() );
 
+		compileIndexingProcessors( MAPPING_COMPILE_INDEXING_PROCESSORS.get( propertySource ) );
+
 		// Enable annotation mapping if necessary
 		boolean processAnnotations = MAPPING_PROCESS_ANNOTATIONS.get( propertySource );
 		if ( processAnnotations ) {
@@ -49,6 +49,46 @@ public interface MassIndexer {
 	 */
 	MassIndexer threadsToLoadObjects(int numberOfThreads);
 
+	/**
+	 * Sets the maximum number of batches of entities that each entity loading thread
+	 * may be indexing concurrently.
+	 * <p>
+	 * Each entity loading thread starts loading the next batch of entities
+	 * while previous batches are still being indexed,
+	 * waiting for the oldest batch to be indexed only once this limit is reached.
+	 * Higher values help keep the backend busy when indexing latency is higher than database latency,
+	 * e.g. with a remote Elasticsearch cluster,
+	 * at the cost of keeping more entities and documents in memory.
+	 * <p>
+	 * Defaults to {@code 2}.
+	 *
+	 * @param batches the maximum number of batches being indexed concurrently, per entity loading thread
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	MassIndexer batchesToIndexInParallel(int batches);
+
+	/**
+	 * Sets the number of threads to be used to load
+	 * the identifiers of root entities, for each type group.
+	 * <p>
+	 * With more than one thread, identifiers are split into ranges of values,
+	 * each range being loaded by a separate thread in a separate transaction.
+	 * This is only possible for entities with an integer identifier (short, int, long),
+	 * and when the number of indexed objects is not {@link #limitIndexedObjectsTo(long) limited};
+	 * otherwise a single thread is used.
+	 * <p>
+	 * Ranges are computed from the minimum and maximum identifier values,
+	 * so this works best when identifiers are evenly distributed, e.g. generated from a sequence.
+	 * <p>
+	 * Defaults to {@code 1}.
+	 *
+	 * @param numberOfThreads the number of threads
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	MassIndexer threadsToLoadIdentifiers(int numberOfThreads);
+
 	/**
 	 * Sets the batch size used to load the root entities.
 	 * @param batchSize the batch size
@@ -55,6 +55,18 @@ public MassIndexer threadsToLoadObjects(int numberOfThreads) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer batchesToIndexInParallel(int batches) {
+		delegate.batchesToIndexInParallel( batches );
+		return this;
+	}
+
+	@Override
+	public MassIndexer threadsToLoadIdentifiers(int numberOfThreads) {
+		delegate.threadsToLoadIdentifiers( numberOfThreads );
+		return this;
+	}
+
 	@Override
 	public HibernateOrmMassIndexer batchSizeToLoadObjects(int batchSize) {
 		context.objectLoadingBatchSize( batchSize );
@@ -15,6 +15,8 @@
 import org.hibernate.search.engine.search.highlighter.dsl.SearchHighlighterFactory;
 import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
 import org.hibernate.search.engine.search.projection.dsl.SearchProjectionFactory;
+import org.hibernate.search.engine.search.query.SearchBoundPreparedQuery;
+import org.hibernate.search.engine.search.query.SearchPreparedQuery;
 import org.hibernate.search.engine.search.query.dsl.SearchQuerySelectStep;
 import org.hibernate.search.engine.search.sort.dsl.SearchSortFactory;
 import org.hibernate.search.mapper.orm.common.EntityReference;
@@ -69,6 +71,12 @@ public SearchScopeImpl(HibernateOrmScopeMappingContext mappingContext,
 		return delegate.search( sessionContext, loadingContextBuilder );
 	}
 
+	public <H> SearchBoundPreparedQuery<H> bind(HibernateOrmScopeSessionContext sessionContext,
+			HibernateOrmSelectionLoadingContext.Builder loadingContextBuilder,
+			SearchPreparedQuery<H> preparedQuery) {
+		return delegate.bind( preparedQuery, sessionContext, loadingContextBuilder );
+	}
+
 	@Override
 	public SearchPredicateFactory<SR> predicate() {
 		return delegate.predicate();
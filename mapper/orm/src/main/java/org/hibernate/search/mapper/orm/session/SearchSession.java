@@ -11,6 +11,9 @@
 import jakarta.persistence.EntityManager;
 
 import org.hibernate.Session;
+import org.hibernate.search.engine.search.query.SearchBoundPreparedQuery;
+import org.hibernate.search.engine.search.query.SearchPreparedQuery;
+import org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep;
 import org.hibernate.search.engine.search.query.dsl.SearchQuerySelectStep;
 import org.hibernate.search.mapper.orm.mapping.SearchMapping;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
@@ -115,6 +118,23 @@ public interface SearchSession extends SearchScopeProvider {
 			?,
 			?> search(HibernateOrmRootReferenceScope<SR, T> scope);
 
+	/**
+	 * Bind a prepared query to this session, so that it can be executed.
+	 * <p>
+	 * Binding does not create any scope:
+	 * to avoid creating a scope on each execution, reuse the same scope across executions.
+	 *
+	 * @param scope A scope targeting the same indexes as the query the prepared query was created from.
+	 * @param preparedQuery The prepared query to bind.
+	 * @param <H> The type of query hits.
+	 * @return A query ready to be executed in this session.
+	 * @throws org.hibernate.search.util.common.SearchException If {@code scope} does not target
+	 * the same indexes as {@code preparedQuery}.
+	 * @see SearchQueryOptionsStep#toPreparedQuery()
+	 */
+	@Incubating
+	<H> SearchBoundPreparedQuery<H> bind(SearchScope<?, ?> scope, SearchPreparedQuery<H> preparedQuery);
+
 	/**
 	 * Create a {@link SearchSchemaManager} for all indexes.
 	 *
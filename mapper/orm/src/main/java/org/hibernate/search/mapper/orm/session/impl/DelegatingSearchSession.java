@@ -11,6 +11,8 @@
 
 import org.hibernate.Session;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.engine.search.query.SearchBoundPreparedQuery;
+import org.hibernate.search.engine.search.query.SearchPreparedQuery;
 import org.hibernate.search.engine.search.query.dsl.SearchQuerySelectStep;
 import org.hibernate.search.mapper.orm.common.impl.HibernateOrmUtils;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
@@ -81,6 +83,11 @@ public DelegatingSearchSession(Supplier<? extends HibernateOrmSearchSessionMappi
 		return getDelegate().search( scope );
 	}
 
+	@Override
+	public <H> SearchBoundPreparedQuery<H> bind(SearchScope<?, ?> scope, SearchPreparedQuery<H> preparedQuery) {
+		return getDelegate().bind( scope, preparedQuery );
+	}
+
 	@Override
 	public SearchSchemaManager schemaManager(Collection<? extends Class<?>> classes) {
 		return getDelegate().schemaManager( classes );
@@ -18,6 +18,8 @@
 import org.hibernate.engine.spi.ActionQueue;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
+import org.hibernate.search.engine.search.query.SearchBoundPreparedQuery;
+import org.hibernate.search.engine.search.query.SearchPreparedQuery;
 import org.hibernate.search.engine.search.query.dsl.SearchQuerySelectStep;
 import org.hibernate.search.mapper.orm.automaticindexing.session.impl.DelegatingAutomaticIndexingSynchronizationStrategy;
 import org.hibernate.search.mapper.orm.automaticindexing.spi.AutomaticIndexingEventSendingSessionContext;
@@ -164,6 +166,12 @@ public PojoIndexer createIndexer() {
 		return scope.search( this, loadingContextBuilder() );
 	}
 
+	@Override
+	public <H> SearchBoundPreparedQuery<H> bind(SearchScope<?, ?> scope, SearchPreparedQuery<H> preparedQuery) {
+		checkOpen();
+		return ( (SearchScopeImpl<?, ?>) scope ).bind( this, loadingContextBuilder(), preparedQuery );
+	}
+
 	@Override
 	public SearchSchemaManager schemaManager(Collection<? extends Class<?>> classes) {
 		return scope( classes ).schemaManager();
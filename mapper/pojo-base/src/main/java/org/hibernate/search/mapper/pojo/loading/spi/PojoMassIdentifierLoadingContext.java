@@ -4,6 +4,8 @@
  */
 package org.hibernate.search.mapper.pojo.loading.spi;
 
+import java.util.function.Supplier;
+
 /**
  * The context passed to {@link PojoMassLoadingStrategy#createIdentifierLoader(java.util.Set, PojoMassIdentifierLoadingContext)}.
  *
@@ -26,4 +28,32 @@
 	 */
 	String tenantIdentifier();
 
+	/**
+	 * @return The number of partitions the identifiers to load are split into,
+	 * each partition being loaded by a separate loader.
+	 * Always {@code 1} unless the strategy
+	 * {@link PojoMassLoadingStrategy#supportsPartitionedIdentifierLoading(java.util.Set, PojoMassLoadingContext) supports partitioning}.
+	 */
+	int partitionCount();
+
+	/**
+	 * @return The index of the partition of identifiers the loader must load,
+	 * between {@code 0} (inclusive) and {@link #partitionCount()} (exclusive).
+	 */
+	int partitionIndex();
+
+	/**
+	 * Gets state shared by the loaders of all partitions of the same type group,
+	 * creating it if necessary.
+	 * <p>
+	 * The state is created at most once per type group, by the first loader calling this method:
+	 * loaders calling this method concurrently block until the state is created, then get the same instance.
+	 * This is useful to compute partition boundaries only once, for example.
+	 *
+	 * @param stateFactory A factory for the state. Must not return {@code null}.
+	 * @param <T> The type of the state.
+	 * @return The shared state.
+	 */
+	<T> T partitionSharedState(Supplier<T> stateFactory);
+
 }
@@ -36,6 +36,20 @@
 	 */
 	boolean groupingAllowed(PojoLoadingTypeContext<? extends E> type, PojoMassLoadingContext context);
 
+	/**
+	 * @param expectedTypes The expected types of loaded entities.
+	 * The types are guaranteed to be {@link PojoLoadingTypeContext#massLoadingStrategy() assigned this strategy}.
+	 * @param context Mapper-specific loading context.
+	 * @return {@code true} if identifiers of the given types can be loaded by multiple loaders concurrently,
+	 * each loading a separate partition as defined by
+	 * {@link PojoMassIdentifierLoadingContext#partitionCount()} and {@link PojoMassIdentifierLoadingContext#partitionIndex()}.
+	 * {@code false} otherwise, in which case a single loader will be created and its partition count will be {@code 1}.
+	 */
+	default boolean supportsPartitionedIdentifierLoading(Set<? extends PojoLoadingTypeContext<? extends E>> expectedTypes,
+			PojoMassLoadingContext context) {
+		return false;
+	}
+
 	/**
 	 * @param expectedTypes The expected types of loaded entities.
 	 * The types are guaranteed to be {@link PojoLoadingTypeContext#massLoadingStrategy() assigned this strategy}.
@@ -159,4 +159,10 @@ void indexingProgressWithRemainingTime(float estimatePercentileComplete, long do
 	@LogMessage(level = DEBUG)
 	@Message(id = ID_OFFSET + 178, value = "Entity loading will attempt to load entities for ids: %s.")
 	void entityLoadingAttemptToLoadIds(List<?> ids);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = ID_OFFSET + 180,
+			value = "Identifier loading for %1$s will use a single thread instead of %2$d:"
+					+ " the loading strategy does not support partitioning identifiers.")
+	void identifierLoadingPartitioningNotSupported(String typeGroup, int requestedThreads);
 }
@@ -55,7 +55,7 @@
 	 * here to the next value.
 	 */
 	@LogMessage(level = TRACE)
-	@Message(id = ID_OFFSET + 180, value = "")
+	@Message(id = ID_OFFSET + 181, value = "")
 	void nextLoggerIdForConvenience();
 
 }
@@ -71,6 +71,7 @@
 	private final IdentityMappingMode containedEntityIdentityMappingMode;
 	private final TenancyMode tenancyMode;
 	private final ReindexOnUpdate defaultReindexOnUpdate;
+	private final boolean compileIndexingProcessors;
 
 	private final FailureHandler failureHandler;
 	private final ThreadPoolProvider threadPoolProvider;
@@ -97,12 +98,14 @@ public PojoMapper(MappingBuildContext buildContext,
 			BeanReference<? extends IdentifierBridge<Object>> providedIdentifierBridge,
 			IdentityMappingMode containedEntityIdentityMappingMode,
 			TenancyMode tenancyMode, ReindexOnUpdate defaultReindexOnUpdate,
+			boolean compileIndexingProcessors,
 			PojoMapperDelegate<MPBS> delegate) {
 		this.failureCollector = buildContext.failureCollector();
 		this.contributorProvider = contributorProvider;
 		this.containedEntityIdentityMappingMode = containedEntityIdentityMappingMode;
 		this.tenancyMode = tenancyMode;
 		this.defaultReindexOnUpdate = defaultReindexOnUpdate;
+		this.compileIndexingProcessors = compileIndexingProcessors;
 
 		this.failureHandler = buildContext.failureHandler();
 		this.threadPoolProvider = buildContext.threadPoolProvider();
@@ -381,7 +384,7 @@ private <E> void preBuildIndexingProcessorAndCollectDependencies(PojoIndexedType
 			builder.routingBridge.contributeDependencies( dependencyCollector );
 		}
 
-		builder.preBuildIndexingProcessor( dependencyCollector );
+		builder.preBuildIndexingProcessor( dependencyCollector, compileIndexingProcessors );
 	}
 
 	private <E> void preBuildIndexed(PojoIndexedTypeManager.Builder<E> builder,
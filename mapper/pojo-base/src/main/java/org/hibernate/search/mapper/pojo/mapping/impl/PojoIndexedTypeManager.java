@@ -177,13 +177,17 @@ protected PojoTypeExtendedMappingCollector extendedMappingCollector() {
 			return extendedMappingCollector;
 		}
 
-		public void preBuildIndexingProcessor(PojoIndexingDependencyCollectorTypeNode<E> dependencyCollector) {
+		public void preBuildIndexingProcessor(PojoIndexingDependencyCollectorTypeNode<E> dependencyCollector,
+				boolean compile) {
 			if ( indexingProcessor != null ) {
 				throw new AssertionFailure( "Internal error - preBuildIndexingProcessor should be called only once" );
 			}
 			this.indexingProcessor = this.indexingProcessorBuilder.build( dependencyCollector )
 					.orElseGet( PojoIndexingProcessor::noOp );
 			this.indexingProcessorBuilder = null;
+			if ( compile ) {
+				this.indexingProcessor = this.indexingProcessor.compile();
+			}
 		}
 
 		public void preBuildIndexManager() {
@@ -45,6 +45,7 @@
 	private IdentityMappingMode containedEntityIdentityMappingMode = IdentityMappingMode.OPTIONAL;
 	private TenancyMode tenancyMode = TenancyMode.SINGLE_TENANCY;
 	private ReindexOnUpdate defaultReindexOnUpdate = ReindexOnUpdate.DEFAULT;
+	private boolean compileIndexingProcessors = false;
 
 	private final AnnotationMappingConfigurationContextImpl annotationMappingConfiguration;
 
@@ -107,6 +108,16 @@ public void defaultReindexOnUpdate(ReindexOnUpdate defaultReindexOnUpdate) {
 		this.defaultReindexOnUpdate = defaultReindexOnUpdate;
 	}
 
+	/**
+	 * @param enabled {@code true} if the processors transferring data from entities to documents
+	 * should be compiled at bootstrap into a form that avoids some indirections,
+	 * at the cost of a slightly longer bootstrap;
+	 * {@code false} to use them as-is.
+	 */
+	public void compileIndexingProcessors(boolean enabled) {
+		this.compileIndexingProcessors = enabled;
+	}
+
 	/**
 	 * @param enabled {@code true} if Hibernate Search should automatically process mapping annotations
 	 * on types referenced in the mapping of other types (e.g. the target of an {@link IndexedEmbedded}, ...).
@@ -144,6 +155,7 @@ public Mapper<MPBS> createMapper(MappingBuildContext buildContext,
 				providedIdentifierBridge,
 				containedEntityIdentityMappingMode, tenancyMode,
 				defaultReindexOnUpdate,
+				compileIndexingProcessors,
 				createMapperDelegate()
 		);
 	}
@@ -7,6 +7,7 @@
 import java.util.List;
 import java.util.OptionalLong;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.hibernate.search.mapper.pojo.loading.spi.PojoLoadingTypeContext;
@@ -27,6 +28,7 @@
 	private final PojoMassIndexingIndexedTypeGroup<E> typeGroup;
 	private final PojoMassIndexingContext massIndexingContext;
 	private final String tenantId;
+	private Object partitionSharedState;
 
 	public MassIndexingTypeGroupContext(PojoMassIndexingIndexedTypeGroup<E> typeGroup,
 			PojoMassIndexingContext massIndexingContext, String tenantId) {
@@ -65,6 +67,14 @@ public String tenantIdentifier() {
 		return tenantId;
 	}
 
+	@SuppressWarnings("unchecked")
+	synchronized <T> T partitionSharedState(Supplier<T> stateFactory) {
+		if ( partitionSharedState == null ) {
+			partitionSharedState = stateFactory.get();
+		}
+		return (T) partitionSharedState;
+	}
+
 	public MassIndexingTypeGroupMonitorContext withIdentifierLoader(PojoMassIdentifierLoader loader) {
 		return loader::totalCount;
 	}
@@ -109,5 +119,20 @@ public void complete() {
 		public String tenantIdentifier() {
 			return tenantId;
 		}
+
+		@Override
+		public int partitionCount() {
+			return 1;
+		}
+
+		@Override
+		public int partitionIndex() {
+			return 0;
+		}
+
+		@Override
+		public <T> T partitionSharedState(Supplier<T> stateFactory) {
+			return stateFactory.get();
+		}
 	}
 }
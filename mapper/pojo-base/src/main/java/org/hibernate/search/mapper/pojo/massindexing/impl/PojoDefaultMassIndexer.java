@@ -53,6 +53,8 @@ public void afterExecution(Context context) {
 	// default settings defined here:
 	private int typesToIndexInParallel = 1;
 	private int documentBuilderThreads = 6;
+	private int identifierLoadingThreads = 1;
+	private int batchesToIndexInParallel = 2;
 	private Boolean mergeSegmentsOnFinish;
 	private Boolean dropAndCreateSchemaOnStart;
 	private Boolean purgeAtStart;
@@ -96,6 +98,24 @@ public PojoDefaultMassIndexer threadsToLoadObjects(int numberOfThreads) {
 		return this;
 	}
 
+	@Override
+	public PojoDefaultMassIndexer threadsToLoadIdentifiers(int numberOfThreads) {
+		if ( numberOfThreads < 1 ) {
+			throw new IllegalArgumentException( "numberOfThreads must be at least 1" );
+		}
+		this.identifierLoadingThreads = numberOfThreads;
+		return this;
+	}
+
+	@Override
+	public PojoDefaultMassIndexer batchesToIndexInParallel(int batches) {
+		if ( batches < 1 ) {
+			throw new IllegalArgumentException( "batches must be at least 1" );
+		}
+		this.batchesToIndexInParallel = batches;
+		return this;
+	}
+
 	@Override
 	public PojoDefaultMassIndexer mergeSegmentsOnFinish(boolean enable) {
 		this.mergeSegmentsOnFinish = enable;
@@ -196,7 +216,7 @@ private PojoMassIndexingBatchCoordinator createCoordinator() {
 				scopeSchemaManager,
 				pojoScopeDelegate,
 				resolvedMassIndexingEnvironment(),
-				typesToIndexInParallel, documentBuilderThreads,
+				typesToIndexInParallel, documentBuilderThreads, identifierLoadingThreads, batchesToIndexInParallel,
 				mergeSegmentsOnFinish,
 				// false by default:
 				actualDropAndCreateSchemaOnStart,
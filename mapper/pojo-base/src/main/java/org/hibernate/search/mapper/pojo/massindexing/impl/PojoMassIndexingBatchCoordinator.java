@@ -46,6 +46,8 @@ public class PojoMassIndexingBatchCoordinator extends PojoMassIndexingFailureHan
 	private final PojoScopeDelegate<?, ?, ?, ?> pojoScopeDelegate;
 	private final int typesToIndexInParallel;
 	private final int documentBuilderThreads;
+	private final int identifierLoadingThreads;
+	private final int batchesToIndexInParallel;
 	private final Boolean mergeSegmentsOnFinish;
 	private final boolean dropAndCreateSchemaOnStart;
 	private final boolean purgeAtStart;
@@ -63,7 +65,9 @@ public PojoMassIndexingBatchCoordinator(PojoMassIndexingMappingContext mappingCo
 			PojoScopeSchemaManager scopeSchemaManager,
 			PojoScopeDelegate<?, ?, ?, ?> pojoScopeDelegate,
 			MassIndexingEnvironment environment,
-			int typesToIndexInParallel, int documentBuilderThreads, Boolean mergeSegmentsOnFinish,
+			int typesToIndexInParallel, int documentBuilderThreads, int identifierLoadingThreads,
+			int batchesToIndexInParallel,
+			Boolean mergeSegmentsOnFinish,
 			boolean dropAndCreateSchemaOnStart, Boolean purgeAtStart, Boolean mergeSegmentsAfterPurge) {
 		super( notifier, environment );
 		this.mappingContext = mappingContext;
@@ -74,6 +78,8 @@ public PojoMassIndexingBatchCoordinator(PojoMassIndexingMappingContext mappingCo
 		this.massIndexingContext = massIndexingContext;
 		this.typesToIndexInParallel = typesToIndexInParallel;
 		this.documentBuilderThreads = documentBuilderThreads;
+		this.identifierLoadingThreads = identifierLoadingThreads;
+		this.batchesToIndexInParallel = batchesToIndexInParallel;
 		this.mergeSegmentsOnFinish = mergeSegmentsOnFinish;
 		this.dropAndCreateSchemaOnStart = dropAndCreateSchemaOnStart;
 		this.purgeAtStart = purgeAtStart;
@@ -192,7 +198,7 @@ private void doBatchWork() throws InterruptedException {
 		return new PojoMassIndexingBatchIndexingWorkspace<>(
 				mappingContext, getNotifier(), getMassIndexingEnvironment(), typeGroup,
 				typeGroup.loadingStrategy(), massIndexingContext,
-				documentBuilderThreads,
+				documentBuilderThreads, identifierLoadingThreads, batchesToIndexInParallel,
 				context.tenantIdentifier()
 		);
 	}
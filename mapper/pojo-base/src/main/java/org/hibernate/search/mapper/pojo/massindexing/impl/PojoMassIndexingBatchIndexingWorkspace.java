@@ -38,6 +38,8 @@
 	private final PojoMassLoadingStrategy<E, I> loadingStrategy;
 
 	private final int entityExtractingThreads;
+	private final int identifierLoadingThreads;
+	private final int batchesToIndexInParallel;
 	private final String tenantId;
 	private final MassIndexingTypeGroupMonitor typeGroupMonitor;
 	private final MassIndexingTypeGroupContext<E> massIndexingTypeGroupContext;
@@ -48,12 +50,15 @@
 			PojoMassIndexingIndexedTypeGroup<E> typeGroup,
 			PojoMassLoadingStrategy<E, I> loadingStrategy,
 			PojoMassIndexingContext massIndexingContext,
-			int entityExtractingThreads, String tenantId) {
+			int entityExtractingThreads, int identifierLoadingThreads, int batchesToIndexInParallel,
+			String tenantId) {
 		super( notifier, environment );
 		this.mappingContext = mappingContext;
 		this.typeGroup = typeGroup;
 		this.loadingStrategy = loadingStrategy;
 		this.entityExtractingThreads = entityExtractingThreads;
+		this.identifierLoadingThreads = identifierLoadingThreads;
+		this.batchesToIndexInParallel = batchesToIndexInParallel;
 		this.tenantId = tenantId;
 		this.massIndexingTypeGroupContext = new MassIndexingTypeGroupContext<>( typeGroup, massIndexingContext, tenantId );
 		this.typeGroupMonitor = notifier.typeGroupMonitor( massIndexingTypeGroupContext );
@@ -65,11 +70,12 @@ public void runWithFailureHandler() throws InterruptedException {
 			throw new AssertionFailure( "BatchIndexingWorkspace instance not expected to be reused" );
 		}
 
-		PojoProducerConsumerQueue<List<I>> identifierQueue = new PojoProducerConsumerQueue<>( 1 );
+		int partitionCount = identifierPartitionCount();
+		PojoProducerConsumerQueue<List<I>> identifierQueue = new PojoProducerConsumerQueue<>( partitionCount );
 
 		// First start the consumers, then the producers (reverse order):
 		startIndexing( identifierQueue );
-		startProducingPrimaryKeys( identifierQueue );
+		startProducingPrimaryKeys( identifierQueue, partitionCount );
 		// Wait for indexing to finish.
 		List<CompletableFuture<?>> allFutures = new ArrayList<>();
 		allFutures.addAll( identifierProducingFutures );
@@ -99,21 +105,43 @@ private void cancelPendingTasks() {
 		}
 	}
 
-	private void startProducingPrimaryKeys(PojoProducerConsumerQueue<List<I>> identifierQueue) {
-		final Runnable runnable = new PojoMassIndexingEntityIdentifierLoadingRunnable<>(
-				getNotifier(),
-				typeGroupMonitor,
-				massIndexingTypeGroupContext, getMassIndexingEnvironment(),
-				typeGroup, loadingStrategy,
-				identifierQueue
-		);
-		//execIdentifiersLoader has size 1 and is not configurable: ensures the list is consistent as produced by one transaction
+	private int identifierPartitionCount() {
+		if ( identifierLoadingThreads == 1 ) {
+			return 1;
+		}
+		if ( !loadingStrategy.supportsPartitionedIdentifierLoading( typeGroup.includedTypes(),
+				massIndexingTypeGroupContext.massIndexingContext() ) ) {
+			MassIndexingLog.INSTANCE.identifierLoadingPartitioningNotSupported( typeGroup.notifiedGroupName(),
+					identifierLoadingThreads );
+			return 1;
+		}
+		return identifierLoadingThreads;
+	}
+
+	private void startProducingPrimaryKeys(PojoProducerConsumerQueue<List<I>> identifierQueue, int partitionCount) {
+		if ( partitionCount > 1 ) {
+			// Each loader only sees its own partition, so it cannot provide the total count:
+			// notify the monitor once, using a context that will count all entities of the type group if necessary.
+			typeGroupMonitor.indexingStarted( massIndexingTypeGroupContext );
+		}
+		// Each thread loads a separate partition of identifiers, in its own transaction,
+		// so that the list of identifiers in each partition is consistent.
 		final ThreadPoolExecutor identifierProducingExecutor = mappingContext.threadPoolProvider().newFixedThreadPool(
-				1,
+				partitionCount,
 				THREAD_NAME_PREFIX + typeGroup.notifiedGroupName() + " - ID loading"
 		);
 		try {
-			identifierProducingFutures.add( Futures.runAsync( runnable, identifierProducingExecutor ) );
+			for ( int i = 0; i < partitionCount; i++ ) {
+				final Runnable runnable = new PojoMassIndexingEntityIdentifierLoadingRunnable<>(
+						getNotifier(),
+						typeGroupMonitor,
+						massIndexingTypeGroupContext, getMassIndexingEnvironment(),
+						typeGroup, loadingStrategy,
+						identifierQueue,
+						partitionCount, i
+				);
+				identifierProducingFutures.add( Futures.runAsync( runnable, identifierProducingExecutor ) );
+			}
 		}
 		finally {
 			identifierProducingExecutor.shutdown();
@@ -126,7 +154,7 @@ private void startIndexing(PojoProducerConsumerQueue<List<I>> identifierQueue) {
 				typeGroupMonitor,
 				massIndexingTypeGroupContext.massIndexingContext(), getMassIndexingEnvironment(),
 				typeGroup, loadingStrategy,
-				identifierQueue, tenantId
+				identifierQueue, batchesToIndexInParallel, tenantId
 		);
 		final ThreadPoolExecutor indexingExecutor = mappingContext.threadPoolProvider().newFixedThreadPool(
 				entityExtractingThreads,
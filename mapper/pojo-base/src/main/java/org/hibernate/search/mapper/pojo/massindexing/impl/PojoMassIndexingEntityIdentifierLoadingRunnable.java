@@ -6,6 +6,7 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 import org.hibernate.search.mapper.pojo.loading.spi.PojoMassIdentifierLoader;
 import org.hibernate.search.mapper.pojo.loading.spi.PojoMassIdentifierLoadingContext;
@@ -25,6 +26,8 @@
 	private final PojoMassIndexingIndexedTypeGroup<E> typeGroup;
 	private final PojoMassLoadingStrategy<E, I> loadingStrategy;
 	private final PojoProducerConsumerQueue<List<I>> identifierQueue;
+	private final int partitionCount;
+	private final int partitionIndex;
 	private final MassIndexingEnvironment.EntityIdentifierLoadingContext identifierLoadingContext;
 
 	public PojoMassIndexingEntityIdentifierLoadingRunnable(PojoMassIndexingNotifier notifier,
@@ -32,13 +35,16 @@ public PojoMassIndexingEntityIdentifierLoadingRunnable(PojoMassIndexingNotifier
 			MassIndexingTypeGroupContext<E> massIndexingTypeGroupContext, MassIndexingEnvironment environment,
 			PojoMassIndexingIndexedTypeGroup<E> typeGroup,
 			PojoMassLoadingStrategy<E, I> loadingStrategy,
-			PojoProducerConsumerQueue<List<I>> identifierQueue) {
+			PojoProducerConsumerQueue<List<I>> identifierQueue,
+			int partitionCount, int partitionIndex) {
 		super( notifier, environment );
 		this.typeGroupMonitor = typeGroupMonitor;
 		this.massIndexingTypeGroupContext = massIndexingTypeGroupContext;
 		this.loadingStrategy = loadingStrategy;
 		this.typeGroup = typeGroup;
 		this.identifierQueue = identifierQueue;
+		this.partitionCount = partitionCount;
+		this.partitionIndex = partitionIndex;
 
 		this.identifierLoadingContext = new EntityIdentifierLoadingContextImpl();
 	}
@@ -48,7 +54,10 @@ protected void runWithFailureHandler() throws InterruptedException {
 		MassIndexingLog.INSTANCE.identifierLoadingStarted( typeGroup.notifiedGroupName() );
 		LoadingContext context = new LoadingContext();
 		try ( PojoMassIdentifierLoader loader = loadingStrategy.createIdentifierLoader( typeGroup.includedTypes(), context ) ) {
-			typeGroupMonitor.indexingStarted( massIndexingTypeGroupContext.withIdentifierLoader( loader ) );
+			if ( partitionCount == 1 ) {
+				// With multiple partitions, the workspace notifies the monitor once for all loaders.
+				typeGroupMonitor.indexingStarted( massIndexingTypeGroupContext.withIdentifierLoader( loader ) );
+			}
 			do {
 				loader.loadNext();
 			}
@@ -116,6 +125,21 @@ public void complete() {
 		public String tenantIdentifier() {
 			return massIndexingTypeGroupContext.tenantIdentifier();
 		}
+
+		@Override
+		public int partitionCount() {
+			return partitionCount;
+		}
+
+		@Override
+		public int partitionIndex() {
+			return partitionIndex;
+		}
+
+		@Override
+		public <T> T partitionSharedState(Supplier<T> stateFactory) {
+			return massIndexingTypeGroupContext.partitionSharedState( stateFactory );
+		}
 	}
 
 	private static final class EntityIdentifierLoadingContextImpl
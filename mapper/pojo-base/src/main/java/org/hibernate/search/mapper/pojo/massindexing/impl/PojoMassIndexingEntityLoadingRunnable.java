@@ -4,7 +4,8 @@
  */
 package org.hibernate.search.mapper.pojo.massindexing.impl;
 
-import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
@@ -34,6 +35,7 @@
 	private final PojoMassIndexingIndexedTypeGroup<E> typeGroup;
 	private final PojoMassLoadingStrategy<E, I> loadingStrategy;
 	private final PojoProducerConsumerQueue<List<I>> identifierQueue;
+	private final int batchesToIndexInParallel;
 	private final String tenantId;
 	private final MassIndexingEnvironment.EntityLoadingContext entityLoadingContext;
 
@@ -43,13 +45,14 @@ protected PojoMassIndexingEntityLoadingRunnable(PojoMassIndexingNotifier notifie
 			PojoMassIndexingIndexedTypeGroup<E> typeGroup,
 			PojoMassLoadingStrategy<E, I> loadingStrategy,
 			PojoProducerConsumerQueue<List<I>> identifierQueue,
-			String tenantId) {
+			int batchesToIndexInParallel, String tenantId) {
 		super( notifier, environment );
 		this.typeGroupMonitor = typeGroupMonitor;
 		this.massIndexingContext = massIndexingContext;
 		this.typeGroup = typeGroup;
 		this.loadingStrategy = loadingStrategy;
 		this.identifierQueue = identifierQueue;
+		this.batchesToIndexInParallel = batchesToIndexInParallel;
 		this.tenantId = tenantId;
 
 		this.entityLoadingContext = new EntityLoadingContextImpl();
@@ -107,23 +110,11 @@ protected String operationName() {
 	}
 
 	private final class LoadingContext implements PojoMassEntityLoadingContext<E> {
-		// The traditional implementation was equivalent to using 1.
-		// Theoretically we could raise this above 2, but it would only help
-		// if loading performance is inconsistent, so as to provide a "buffer"
-		// of ongoing indexing operations that the backend can go through
-		// while the loader is catching up.
-		// So, for now, 2 should be enough.
-		private static final int CONCURRENT_BATCHES = 2;
-
-		private final List<IndexingBatch> batches;
-		private int currentBatchIndex = 0;
-
-		public LoadingContext() {
-			batches = new ArrayList<>( CONCURRENT_BATCHES );
-			for ( int i = 0; i < CONCURRENT_BATCHES; i++ ) {
-				batches.add( new IndexingBatch() );
-			}
-		}
+		// Batches being indexed, oldest first.
+		// Raising the limit above 1 provides a "buffer" of ongoing indexing operations
+		// that the backend can go through while the loader is loading the next batch,
+		// which helps when indexing is slower than loading (e.g. with a remote backend).
+		private final Deque<IndexingBatch> batchesInProgress = new ArrayDeque<>( batchesToIndexInParallel );
 
 		@Override
 		public PojoMassLoadingContext parent() {
@@ -139,17 +130,23 @@ public void accept(List<? extends E> batch) throws InterruptedException {
 					if ( batch == null || batch.isEmpty() ) {
 						return;
 					}
-					IndexingBatch currentBatch = batches.get( currentBatchIndex );
-					// Make sure we don't erase state about an ongoing batch:
-					// wait for an ongoing batch to finish before we start a new one.
-					currentBatch.waitForIndexingEndAndReport();
+					// Report batches that are already done, so that progress is reported as early as possible.
+					while ( !batchesInProgress.isEmpty() && batchesInProgress.peekFirst().isIndexingDone() ) {
+						batchesInProgress.removeFirst().waitForIndexingEndAndReport();
+					}
+					// Limit the amount of entities and documents held in memory:
+					// wait for the oldest batch to finish before we start a new one.
+					if ( batchesInProgress.size() >= batchesToIndexInParallel ) {
+						batchesInProgress.removeFirst().waitForIndexingEndAndReport();
+					}
 					// Start indexing the batch. Once this returns,
 					// we know the batch of entities has been processed and turned into documents,
 					// so we can safely call the loader again for the next batch,
 					// even if the loader clears the session before each batch.
+					IndexingBatch currentBatch = new IndexingBatch();
+					batchesInProgress.addLast( currentBatch );
 					currentBatch.startIndexingList( sessionContext, indexer, batch );
-					currentBatchIndex = ( currentBatchIndex + 1 ) % CONCURRENT_BATCHES;
-					// We will wait for indexing to finish either the next time this method is called,
+					// We will wait for indexing to finish either in a later call to this method,
 					// or when waitForLastBatches() is called at the end.
 				}
 			};
@@ -161,8 +158,8 @@ public String tenantIdentifier() {
 		}
 
 		public void waitForLastBatches() throws InterruptedException {
-			for ( IndexingBatch batch : batches ) {
-				batch.waitForIndexingEndAndReport();
+			while ( !batchesInProgress.isEmpty() ) {
+				batchesInProgress.removeFirst().waitForIndexingEndAndReport();
 			}
 		}
 	}
@@ -187,6 +184,18 @@ public void startIndexingList(PojoMassIndexingSessionContext sessionContext, Poj
 			}
 		}
 
+		private boolean isIndexingDone() {
+			if ( indexingFutures == null ) {
+				return true;
+			}
+			for ( CompletableFuture<?> future : indexingFutures ) {
+				if ( !future.isDone() ) {
+					return false;
+				}
+			}
+			return true;
+		}
+
 		private void waitForIndexingEndAndReport() throws InterruptedException {
 			if ( indexingFutures == null ) {
 				// No indexing in progress
@@ -40,6 +40,43 @@ public interface PojoMassIndexer {
 	 */
 	PojoMassIndexer threadsToLoadObjects(int numberOfThreads);
 
+	/**
+	 * Sets the maximum number of batches of entities that each entity loading thread
+	 * may be indexing concurrently.
+	 * <p>
+	 * Each entity loading thread starts loading the next batch of entities
+	 * while previous batches are still being indexed,
+	 * waiting for the oldest batch to be indexed only once this limit is reached.
+	 * Higher values help keep the backend busy when indexing latency is higher than database latency,
+	 * e.g. with a remote Elasticsearch cluster,
+	 * at the cost of keeping more entities and documents in memory.
+	 * <p>
+	 * Defaults to {@code 2}.
+	 *
+	 * @param batches the maximum number of batches being indexed concurrently, per entity loading thread
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	PojoMassIndexer batchesToIndexInParallel(int batches);
+
+	/**
+	 * Sets the number of threads to be used to load
+	 * the identifiers of root entities, for each type group.
+	 * <p>
+	 * With more than one thread, the identifiers of each type group are split into ranges,
+	 * each loaded by a separate thread.
+	 * This is only possible if the loading strategy
+	 * {@link org.hibernate.search.mapper.pojo.loading.spi.PojoMassLoadingStrategy#supportsPartitionedIdentifierLoading(java.util.Set, org.hibernate.search.mapper.pojo.loading.spi.PojoMassLoadingContext) supports it};
+	 * otherwise a single thread is used.
+	 * <p>
+	 * Defaults to {@code 1}.
+	 *
+	 * @param numberOfThreads the number of threads
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	PojoMassIndexer threadsToLoadIdentifiers(int numberOfThreads);
+
 	/**
 	 * Merges each index into a single segment after indexing.
 	 * <p>
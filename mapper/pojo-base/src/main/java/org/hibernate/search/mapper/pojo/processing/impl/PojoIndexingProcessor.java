@@ -26,6 +26,22 @@ public void close() {
 
 	public abstract void process(DocumentElement target, T source, PojoIndexingProcessorRootContext context);
 
+	/**
+	 * Compiles this processor into an equivalent one that avoids some of the indirections of the processor tree,
+	 * e.g. by fusing a property read with the value bridge applied to that property,
+	 * or by flattening nested lists of processors.
+	 * <p>
+	 * Nodes that cannot be compiled are preserved as-is.
+	 * <p>
+	 * The returned processor takes ownership of all resources (bridges, ...) held by this processor:
+	 * after calling this method, only the returned processor should be used and closed.
+	 *
+	 * @return A compiled processor, potentially {@code this}.
+	 */
+	public PojoIndexingProcessor<T> compile() {
+		return this;
+	}
+
 	public static <T> PojoIndexingProcessor<T> noOp() {
 		return NoOpPojoIndexingProcessor.get();
 	}
@@ -52,6 +52,12 @@ public void appendTo(ToStringTreeAppender appender) {
 		appender.attribute( "isEntityType", isEntityType );
 	}
 
+	@Override
+	public PojoIndexingProcessor<T> compile() {
+		return new PojoIndexingProcessorCastedTypeNode<T, U>( caster, parentIndexObjectReferences, nested.compile(),
+				isEntityType );
+	}
+
 	@Override
 	@SuppressWarnings("unchecked") // As long as T is not a proxy-specific interface, it will also be implemented by the unproxified object
 	public final void process(DocumentElement target, T source, PojoIndexingProcessorRootContext context) {
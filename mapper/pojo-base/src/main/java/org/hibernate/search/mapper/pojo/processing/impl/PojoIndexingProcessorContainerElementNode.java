@@ -47,6 +47,11 @@ public void appendTo(ToStringTreeAppender appender) {
 		appender.attribute( "nested", nested );
 	}
 
+	@Override
+	public PojoIndexingProcessor<C> compile() {
+		return new PojoIndexingProcessorContainerElementNode<>( extractorHolder, nested.compile() );
+	}
+
 	@Override
 	public final void process(DocumentElement target, C source, PojoIndexingProcessorRootContext context) {
 		extractingDelegate.process( target, source, context, PojoIndexingProcessorContainerExtractionContext.INSTANCE );
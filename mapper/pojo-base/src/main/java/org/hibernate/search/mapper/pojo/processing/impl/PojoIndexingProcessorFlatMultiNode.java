@@ -0,0 +1,49 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.mapper.pojo.processing.impl;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorRootContext;
+import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.spi.ToStringTreeAppender;
+
+/**
+ * A compiled {@link PojoIndexingProcessorMultiNode}:
+ * applies multiple processors, stored in a flat array without any nested multi node.
+ *
+ * @param <T> The processed type
+ * @see PojoIndexingProcessor#compile()
+ */
+final class PojoIndexingProcessorFlatMultiNode<T> extends PojoIndexingProcessor<T> {
+
+	final PojoIndexingProcessor<? super T>[] elements;
+
+	@SuppressWarnings("unchecked") // Generic array creation
+	PojoIndexingProcessorFlatMultiNode(List<PojoIndexingProcessor<? super T>> elements) {
+		this.elements = elements.toArray( new PojoIndexingProcessor[0] );
+	}
+
+	@Override
+	public void close() {
+		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			closer.pushAll( PojoIndexingProcessor::close, Arrays.asList( elements ) );
+		}
+	}
+
+	@Override
+	public void appendTo(ToStringTreeAppender appender) {
+		appender.attribute( null, Arrays.asList( elements ) );
+	}
+
+	@Override
+	public void process(DocumentElement target, T source, PojoIndexingProcessorRootContext context) {
+		for ( int i = 0; i < elements.length; i++ ) {
+			elements[i].process( target, source, context );
+		}
+	}
+}
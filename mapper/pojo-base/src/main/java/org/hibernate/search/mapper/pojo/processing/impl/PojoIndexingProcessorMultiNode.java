@@ -4,7 +4,10 @@
  */
 package org.hibernate.search.mapper.pojo.processing.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorRootContext;
@@ -36,6 +39,30 @@ public void appendTo(ToStringTreeAppender appender) {
 		appender.attribute( null, elements );
 	}
 
+	@Override
+	@SuppressWarnings("unchecked") // A processor accepting a supertype of T also accepts T
+	public PojoIndexingProcessor<T> compile() {
+		List<PojoIndexingProcessor<? super T>> flattened = new ArrayList<>();
+		for ( PojoIndexingProcessor<? super T> element : elements ) {
+			PojoIndexingProcessor<? super T> compiled = element.compile();
+			if ( compiled instanceof PojoIndexingProcessorFlatMultiNode<?> flatMultiNode ) {
+				Collections.addAll( flattened,
+						( (PojoIndexingProcessorFlatMultiNode<? super T>) flatMultiNode ).elements );
+			}
+			else if ( !( compiled instanceof NoOpPojoIndexingProcessor ) ) {
+				flattened.add( compiled );
+			}
+		}
+		switch ( flattened.size() ) {
+			case 0:
+				return noOp();
+			case 1:
+				return (PojoIndexingProcessor<T>) flattened.get( 0 );
+			default:
+				return new PojoIndexingProcessorFlatMultiNode<>( flattened );
+		}
+	}
+
 	@Override
 	public final void process(DocumentElement target, T source, PojoIndexingProcessorRootContext context) {
 		for ( PojoIndexingProcessor<? super T> element : elements ) {
@@ -50,6 +50,19 @@ public void appendTo(ToStringTreeAppender appender) {
 		appender.attribute( "nested", nested );
 	}
 
+	@Override
+	public PojoIndexingProcessor<T> compile() {
+		PojoIndexingProcessor<? super P> compiledNested = nested.compile();
+		if ( compiledNested instanceof PojoIndexingProcessorValueBridgeNode ) {
+			// Read the property and apply the value bridge in a single node.
+			@SuppressWarnings("unchecked") // The nested processor accepts values of type P
+			PojoIndexingProcessorValueBridgeNode<? super P, ?> valueBridgeNode =
+					(PojoIndexingProcessorValueBridgeNode<? super P, ?>) compiledNested;
+			return valueBridgeNode.compileWithPropertyRead( handle, modelPath );
+		}
+		return new PojoIndexingProcessorPropertyNode<>( handle, compiledNested, modelPath );
+	}
+
 	@Override
 	public final void process(DocumentElement target, T source, PojoIndexingProcessorRootContext context) {
 		try {
@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.mapper.pojo.processing.impl;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.mapper.pojo.bridge.ValueBridge;
+import org.hibernate.search.mapper.pojo.common.annotation.impl.SearchProcessingWithContextException;
+import org.hibernate.search.mapper.pojo.logging.impl.IndexingLog;
+import org.hibernate.search.mapper.pojo.model.path.PojoModelPath;
+import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorRootContext;
+import org.hibernate.search.mapper.pojo.reporting.spi.PojoEventContexts;
+import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.reflect.spi.ValueReadHandle;
+import org.hibernate.search.util.common.spi.ToStringTreeAppender;
+
+/**
+ * A compiled {@link PojoIndexingProcessorPropertyNode} whose only nested node
+ * is a {@link PojoIndexingProcessorValueBridgeNode}:
+ * extracts the value of a property and applies a {@link ValueBridge} to it,
+ * without going through a nested processor.
+ *
+ * @param <T> The property holder type
+ * @param <V> The property type
+ * @param <F> The index field type
+ * @see PojoIndexingProcessor#compile()
+ */
+final class PojoIndexingProcessorPropertyValueBridgeNode<T, V, F> extends PojoIndexingProcessor<T> {
+
+	private final ValueReadHandle<? extends V> handle;
+	private final BeanHolder<? extends ValueBridge<? super V, F>> bridgeHolder;
+	private final IndexFieldReference<F> indexFieldReference;
+	private final PojoModelPath modelPath;
+
+	PojoIndexingProcessorPropertyValueBridgeNode(ValueReadHandle<? extends V> handle,
+			BeanHolder<? extends ValueBridge<? super V, F>> bridgeHolder,
+			IndexFieldReference<F> indexFieldReference, PojoModelPath modelPath) {
+		this.handle = handle;
+		this.bridgeHolder = bridgeHolder;
+		this.indexFieldReference = indexFieldReference;
+		this.modelPath = modelPath;
+	}
+
+	@Override
+	public void close() {
+		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			closer.push( ValueBridge::close, bridgeHolder, BeanHolder::get );
+			closer.push( BeanHolder::close, bridgeHolder );
+		}
+	}
+
+	@Override
+	public void appendTo(ToStringTreeAppender appender) {
+		appender.attribute( "operation", "process property and apply value bridge (compiled)" );
+		appender.attribute( "handle", handle );
+		appender.attribute( "bridge", bridgeHolder );
+		appender.attribute( "indexField", indexFieldReference );
+	}
+
+	@Override
+	public void process(DocumentElement target, T source, PojoIndexingProcessorRootContext context) {
+		try {
+			V propertyValue = handle.get( source );
+			F indexFieldValue = bridgeHolder.get().toIndexedValue( propertyValue,
+					context.sessionContext().mappingContext().valueBridgeToIndexedValueContext() );
+			target.addValue( indexFieldReference, indexFieldValue );
+		}
+		catch (SearchProcessingWithContextException e) {
+			// The context was already added to the exception, just re-throw:
+			throw e;
+		}
+		catch (RuntimeException e) {
+			throw IndexingLog.INSTANCE.searchProcessingFailure( e, e.getMessage(), PojoEventContexts.fromPath( modelPath ) );
+		}
+	}
+}
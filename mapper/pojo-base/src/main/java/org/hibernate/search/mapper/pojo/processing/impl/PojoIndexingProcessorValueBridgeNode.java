@@ -8,8 +8,10 @@
 import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.mapper.pojo.bridge.ValueBridge;
+import org.hibernate.search.mapper.pojo.model.path.PojoModelPath;
 import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorRootContext;
 import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.reflect.spi.ValueReadHandle;
 import org.hibernate.search.util.common.spi.ToStringTreeAppender;
 
 /**
@@ -44,6 +46,10 @@ public void appendTo(ToStringTreeAppender appender) {
 		appender.attribute( "indexField", indexFieldReference );
 	}
 
+	<T> PojoIndexingProcessor<T> compileWithPropertyRead(ValueReadHandle<? extends V> handle, PojoModelPath modelPath) {
+		return new PojoIndexingProcessorPropertyValueBridgeNode<>( handle, bridgeHolder, indexFieldReference, modelPath );
+	}
+
 	@Override
 	public void process(DocumentElement target, V source, PojoIndexingProcessorRootContext context) {
 		F indexFieldValue = bridgeHolder.get().toIndexedValue( source,
@@ -22,6 +22,8 @@
 import org.hibernate.search.engine.search.highlighter.dsl.SearchHighlighterFactory;
 import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
 import org.hibernate.search.engine.search.projection.dsl.SearchProjectionFactory;
+import org.hibernate.search.engine.search.query.SearchBoundPreparedQuery;
+import org.hibernate.search.engine.search.query.SearchPreparedQuery;
 import org.hibernate.search.engine.search.query.dsl.SearchQuerySelectStep;
 import org.hibernate.search.engine.search.sort.dsl.SearchSortFactory;
 import org.hibernate.search.mapper.pojo.loading.spi.PojoSelectionLoadingContextBuilder;
@@ -83,13 +85,25 @@ public Set<C> includedIndexedTypes() {
 	public <LOS> SearchQuerySelectStep<SR, ?, R, E, LOS, SearchProjectionFactory<SR, R, E>, ?> search(
 			PojoScopeSessionContext sessionContext,
 			PojoSelectionLoadingContextBuilder<LOS> loadingContextBuilder) {
+		return getIndexScope().search( sessionContext, loadingContextBuilder( sessionContext, loadingContextBuilder ) );
+	}
+
+	@Override
+	public <H> SearchBoundPreparedQuery<H> bind(SearchPreparedQuery<H> preparedQuery,
+			PojoScopeSessionContext sessionContext,
+			PojoSelectionLoadingContextBuilder<?> loadingContextBuilder) {
+		return getIndexScope().bind( preparedQuery, sessionContext,
+				loadingContextBuilder( sessionContext, loadingContextBuilder ) );
+	}
+
+	private <LOS> PojoSearchLoadingContextBuilder<E, LOS> loadingContextBuilder(PojoScopeSessionContext sessionContext,
+			PojoSelectionLoadingContextBuilder<LOS> loadingContextBuilder) {
 		Map<String, PojoSearchLoadingIndexedTypeContext<? extends E>> targetTypesByEntityName = new LinkedHashMap<>();
 		for ( PojoScopeIndexedTypeContext<?, ? extends E> type : targetedTypeContexts ) {
 			targetTypesByEntityName.put( type.entityName(), type );
 		}
-		return getIndexScope().search( sessionContext, new PojoSearchLoadingContextBuilder<>(
-				targetTypesByEntityName, sessionContext.mappingContext().entityReferenceFactoryDelegate(),
-				sessionContext, loadingContextBuilder ) );
+		return new PojoSearchLoadingContextBuilder<>( targetTypesByEntityName,
+				sessionContext.mappingContext().entityReferenceFactoryDelegate(), sessionContext, loadingContextBuilder );
 	}
 
 	@Override
@@ -12,6 +12,8 @@
 import org.hibernate.search.engine.search.highlighter.dsl.SearchHighlighterFactory;
 import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
 import org.hibernate.search.engine.search.projection.dsl.SearchProjectionFactory;
+import org.hibernate.search.engine.search.query.SearchBoundPreparedQuery;
+import org.hibernate.search.engine.search.query.SearchPreparedQuery;
 import org.hibernate.search.engine.search.query.dsl.SearchQuerySelectStep;
 import org.hibernate.search.engine.search.sort.dsl.SearchSortFactory;
 import org.hibernate.search.mapper.pojo.loading.spi.PojoSelectionLoadingContextBuilder;
@@ -39,6 +41,10 @@
 			PojoScopeSessionContext sessionContext,
 			PojoSelectionLoadingContextBuilder<LOS> loadingContextBuilder);
 
+	<H> SearchBoundPreparedQuery<H> bind(SearchPreparedQuery<H> preparedQuery,
+			PojoScopeSessionContext sessionContext,
+			PojoSelectionLoadingContextBuilder<?> loadingContextBuilder);
+
 	SearchPredicateFactory<SR> predicate();
 
 	SearchSortFactory<SR> sort();
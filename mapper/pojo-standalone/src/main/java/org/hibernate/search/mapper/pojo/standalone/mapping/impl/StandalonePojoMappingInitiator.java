@@ -48,6 +48,12 @@ public class StandalonePojoMappingInitiator extends AbstractPojoMappingInitiator
 							.multivalued()
 							.build();
 
+	private static final ConfigurationProperty<Boolean> MAPPING_COMPILE_INDEXING_PROCESSORS =
+			ConfigurationProperty.forKey( StandalonePojoMapperSettings.Radicals.MAPPING_COMPILE_INDEXING_PROCESSORS )
+					.asBoolean()
+					.withDefault( StandalonePojoMapperSettings.Defaults.MAPPING_COMPILE_INDEXING_PROCESSORS )
+					.build();
+
 	private static final ConfigurationProperty<Boolean> MULTI_TENANCY_ENABLED =
 			ConfigurationProperty.forKey( StandalonePojoMapperSettings.Radicals.MULTI_TENANCY_ENABLED )
 					.asBoolean()
@@ -67,6 +73,7 @@ public void configure(MappingBuildContext buildContext,
 						? TenancyMode.MULTI_TENANCY
 						: TenancyMode.SINGLE_TENANCY
 		);
+		compileIndexingProcessors( MAPPING_COMPILE_INDEXING_PROCESSORS.get( propertySource ) );
 
 		// Enable annotated type discovery by default
 		annotationMapping()
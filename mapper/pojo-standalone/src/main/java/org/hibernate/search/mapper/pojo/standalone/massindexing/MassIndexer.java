@@ -42,6 +42,25 @@ public interface MassIndexer {
 	 */
 	MassIndexer threadsToLoadObjects(int numberOfThreads);
 
+	/**
+	 * Sets the maximum number of batches of entities that each entity loading thread
+	 * may be indexing concurrently.
+	 * <p>
+	 * Each entity loading thread starts loading the next batch of entities
+	 * while previous batches are still being indexed,
+	 * waiting for the oldest batch to be indexed only once this limit is reached.
+	 * Higher values help keep the backend busy when indexing latency is higher than database latency,
+	 * e.g. with a remote Elasticsearch cluster,
+	 * at the cost of keeping more entities and documents in memory.
+	 * <p>
+	 * Defaults to {@code 2}.
+	 *
+	 * @param batches the maximum number of batches being indexed concurrently, per entity loading thread
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	MassIndexer batchesToIndexInParallel(int batches);
+
 	/**
 	 * Sets the batch size used to load the root entities.
 	 * @param batchSize the batch size
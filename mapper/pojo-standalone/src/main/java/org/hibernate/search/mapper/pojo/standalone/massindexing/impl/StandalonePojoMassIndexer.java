@@ -35,6 +35,12 @@ public MassIndexer threadsToLoadObjects(int numberOfThreads) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer batchesToIndexInParallel(int batches) {
+		delegate.batchesToIndexInParallel( batches );
+		return this;
+	}
+
 	@Override
 	public MassIndexer batchSizeToLoadObjects(int batchSize) {
 		context.batchSize( batchSize );
@@ -16,6 +16,8 @@
 import org.hibernate.search.engine.search.highlighter.dsl.SearchHighlighterFactory;
 import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
 import org.hibernate.search.engine.search.projection.dsl.SearchProjectionFactory;
+import org.hibernate.search.engine.search.query.SearchBoundPreparedQuery;
+import org.hibernate.search.engine.search.query.SearchPreparedQuery;
 import org.hibernate.search.engine.search.query.dsl.SearchQuerySelectStep;
 import org.hibernate.search.engine.search.sort.dsl.SearchSortFactory;
 import org.hibernate.search.mapper.pojo.loading.spi.PojoSelectionLoadingContextBuilder;
@@ -109,6 +111,11 @@ public <T> T extension(IndexScopeExtension<T> extension) {
 		return delegate.search( sessionContext, loadingContextBuilder );
 	}
 
+	public <H> SearchBoundPreparedQuery<H> bind(PojoScopeSessionContext sessionContext,
+			PojoSelectionLoadingContextBuilder<?> loadingContextBuilder, SearchPreparedQuery<H> preparedQuery) {
+		return delegate.bind( preparedQuery, sessionContext, loadingContextBuilder );
+	}
+
 	@Override
 	public MassIndexer massIndexer() {
 		return massIndexer( Collections.emptySet() );
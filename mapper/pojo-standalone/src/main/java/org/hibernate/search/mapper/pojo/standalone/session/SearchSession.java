@@ -9,6 +9,9 @@
 import java.util.Collections;
 
 import org.hibernate.search.engine.common.EntityReference;
+import org.hibernate.search.engine.search.query.SearchBoundPreparedQuery;
+import org.hibernate.search.engine.search.query.SearchPreparedQuery;
+import org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep;
 import org.hibernate.search.engine.search.query.dsl.SearchQuerySelectStep;
 import org.hibernate.search.mapper.pojo.standalone.massindexing.MassIndexer;
 import org.hibernate.search.mapper.pojo.standalone.schema.management.SearchSchemaManager;
@@ -138,6 +141,23 @@ default MassIndexer massIndexer(Class<?>... classes) {
 			?,
 			?> search(StandalonePojoRootReferenceScope<SR, T> scope);
 
+	/**
+	 * Bind a prepared query to this session, so that it can be executed.
+	 * <p>
+	 * Binding does not create any scope:
+	 * to avoid creating a scope on each execution, reuse the same scope across executions.
+	 *
+	 * @param scope A scope targeting the same indexes as the query the prepared query was created from.
+	 * @param preparedQuery The prepared query to bind.
+	 * @param <H> The type of query hits.
+	 * @return A query ready to be executed in this session.
+	 * @throws org.hibernate.search.util.common.SearchException If {@code scope} does not target
+	 * the same indexes as {@code preparedQuery}.
+	 * @see SearchQueryOptionsStep#toPreparedQuery()
+	 */
+	@Incubating
+	<H> SearchBoundPreparedQuery<H> bind(SearchScope<?, ?> scope, SearchPreparedQuery<H> preparedQuery);
+
 	/**
 	 * Create a {@link SearchSchemaManager} for all indexes.
 	 *
@@ -10,6 +10,8 @@
 import java.util.function.Consumer;
 
 import org.hibernate.search.engine.common.EntityReference;
+import org.hibernate.search.engine.search.query.SearchBoundPreparedQuery;
+import org.hibernate.search.engine.search.query.SearchPreparedQuery;
 import org.hibernate.search.engine.search.query.dsl.SearchQuerySelectStep;
 import org.hibernate.search.mapper.pojo.loading.spi.PojoSelectionLoadingContext;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
@@ -145,6 +147,11 @@ public PojoRuntimeIntrospector runtimeIntrospector() {
 		return search( scope );
 	}
 
+	@Override
+	public <H> SearchBoundPreparedQuery<H> bind(SearchScope<?, ?> scope, SearchPreparedQuery<H> preparedQuery) {
+		return ( (SearchScopeImpl<?, ?>) scope ).bind( this, loadingContextBuilder(), preparedQuery );
+	}
+
 	@Override
 	public SearchSchemaManager schemaManager(Collection<? extends Class<?>> classes) {
 		return scope( classes ).schemaManager();
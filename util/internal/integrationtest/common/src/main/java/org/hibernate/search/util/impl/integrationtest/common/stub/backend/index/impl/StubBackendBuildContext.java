@@ -8,6 +8,7 @@
 
 import org.hibernate.search.engine.backend.spi.BackendBuildContext;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.common.metrics.spi.SearchMetrics;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
 import org.hibernate.search.engine.environment.classpath.spi.ClassResolver;
@@ -56,6 +57,11 @@ public TimingSource timingSource() {
 		return delegate.timingSource();
 	}
 
+	@Override
+	public SearchMetrics metrics() {
+		return delegate.metrics();
+	}
+
 	@Override
 	public boolean multiTenancyEnabled() {
 		return delegate.multiTenancyEnabled();
@@ -14,6 +14,7 @@
 import org.hibernate.search.engine.search.common.ValueModel;
 import org.hibernate.search.engine.search.predicate.SearchPredicate;
 import org.hibernate.search.engine.search.predicate.dsl.PredicateFinalStep;
+import org.hibernate.search.engine.search.predicate.dsl.RankFusionMethod;
 import org.hibernate.search.engine.search.predicate.dsl.RegexpQueryFlag;
 import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
 import org.hibernate.search.engine.search.predicate.dsl.SimpleQueryFlag;
@@ -30,6 +31,7 @@
 import org.hibernate.search.engine.search.predicate.spi.PrefixPredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.QueryStringPredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.RangePredicateBuilder;
+import org.hibernate.search.engine.search.predicate.spi.RankFusionPredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.RegexpPredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.SimpleQueryStringPredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.SpatialWithinBoundingBoxPredicateBuilder;
@@ -325,4 +327,26 @@ public void creator(Function<? super NamedValues, ? extends PredicateFinalStep>
 			// No-op
 		}
 	}
+
+	public static class RankFusionBuilder extends Builder implements RankFusionPredicateBuilder {
+		@Override
+		public void add(SearchPredicate clause, float weight) {
+			// No-op
+		}
+
+		@Override
+		public void method(RankFusionMethod method) {
+			// No-op
+		}
+
+		@Override
+		public void rankConstant(int rankConstant) {
+			// No-op
+		}
+
+		@Override
+		public void windowSize(int windowSize) {
+			// No-op
+		}
+	}
 }
@@ -9,6 +9,7 @@
 import org.hibernate.search.engine.search.predicate.spi.MatchIdPredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.MatchNonePredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.QueryStringPredicateBuilder;
+import org.hibernate.search.engine.search.predicate.spi.RankFusionPredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.SearchPredicateBuilderFactory;
 import org.hibernate.search.engine.search.predicate.spi.SimpleQueryStringPredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.WithParametersPredicateBuilder;
@@ -51,4 +52,9 @@ public WithParametersPredicateBuilder withParameters() {
 		return new StubSearchPredicate.WithParametersBuilder();
 	}
 
+	@Override
+	public RankFusionPredicateBuilder rankFusion() {
+		return new StubSearchPredicate.RankFusionBuilder();
+	}
+
 }
@@ -119,6 +119,11 @@ public <V> Builder<F, V> type(Class<V> expectedType, ValueModel valueModel) {
 			this.converter = converter;
 		}
 
+		@Override
+		public void fromDocValues() {
+			// No-op
+		}
+
 		@Override
 		public <P> SearchProjection<P> build(ProjectionCollector.Provider<V, P> collectorProvider) {
 			return new StubFieldProjection<>( fieldPath, valueClass, expectedType, converter,
@@ -6,6 +6,9 @@
 
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.engine.common.dsl.spi.DslExtensionState;
@@ -69,16 +72,31 @@ public SearchResult<H> fetch(Integer offset, Integer limit) {
 		return result;
 	}
 
+	@Override
+	public CompletionStage<SearchResult<H>> fetchAsync(Integer offset, Integer limit, Executor loadingExecutor) {
+		return CompletableFuture.supplyAsync( () -> fetch( offset, limit ), loadingExecutor );
+	}
+
 	@Override
 	public List<H> fetchHits(Integer offset, Integer limit) {
 		return fetch( offset, limit ).hits();
 	}
 
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer offset, Integer limit, Executor loadingExecutor) {
+		return fetchAsync( offset, limit, loadingExecutor ).thenApply( SearchResult::hits );
+	}
+
 	@Override
 	public long fetchTotalHitCount() {
 		return backend.getBehavior().executeCountWork( indexNames );
 	}
 
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		return CompletableFuture.completedFuture( fetchTotalHitCount() );
+	}
+
 	@Override
 	public SearchScroll<H> scroll(int chunkSize) {
 		return backend.getBehavior().executeScrollWork(
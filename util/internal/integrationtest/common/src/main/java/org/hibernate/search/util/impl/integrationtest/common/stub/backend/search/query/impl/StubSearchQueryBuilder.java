@@ -13,6 +13,7 @@
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContextBuilder;
 import org.hibernate.search.engine.search.predicate.SearchPredicate;
 import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.spi.QueryParameters;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
 import org.hibernate.search.engine.search.sort.SearchSort;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.index.impl.StubBackend;
@@ -104,4 +105,21 @@ public SearchQuery<H> build() {
 				loadingContextBuilder.build(), rootProjection
 		);
 	}
+
+	@Override
+	public SearchQueryBuilder<H> prepare() {
+		// prepared queries are not tested from the mapper
+		return this;
+	}
+
+	@Override
+	public SearchQuery<H> build(BackendSessionContext sessionContext,
+			SearchLoadingContextBuilder<?, ?> loadingContextBuilder, QueryParameters parameters) {
+		// parameters are not tested from the mapper
+		return new StubSearchQuery<>(
+				backend, scope.hibernateSearchIndexNames(), workBuilder,
+				new StubSearchProjectionContext( sessionContext ),
+				loadingContextBuilder.build(), rootProjection
+		);
+	}
 }
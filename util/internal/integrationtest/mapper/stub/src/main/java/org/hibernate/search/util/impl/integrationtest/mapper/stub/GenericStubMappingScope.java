@@ -12,6 +12,8 @@
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContextBuilder;
 import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
 import org.hibernate.search.engine.search.projection.dsl.SearchProjectionFactory;
+import org.hibernate.search.engine.search.query.SearchBoundPreparedQuery;
+import org.hibernate.search.engine.search.query.SearchPreparedQuery;
 import org.hibernate.search.engine.search.query.dsl.SearchQuerySelectStep;
 import org.hibernate.search.engine.search.sort.dsl.SearchSortFactory;
 
@@ -60,6 +62,26 @@ public SearchLoadingContext<E> build() {
 		return delegate.search( sessionContext, loadingContextBuilder );
 	}
 
+	public <H> SearchBoundPreparedQuery<H> bind(SearchPreparedQuery<H> preparedQuery) {
+		return bind( mapping.session(), preparedQuery );
+	}
+
+	public <H> SearchBoundPreparedQuery<H> bind(StubSession sessionContext, SearchPreparedQuery<H> preparedQuery) {
+		SearchLoadingContextBuilder<E, StubLoadingOptionsStep> loadingContextBuilder =
+				new SearchLoadingContextBuilder<E, StubLoadingOptionsStep>() {
+					@Override
+					public StubLoadingOptionsStep toAPI() {
+						return new StubLoadingOptionsStep();
+					}
+
+					@Override
+					public SearchLoadingContext<E> build() {
+						return loadingContext;
+					}
+				};
+		return delegate.bind( preparedQuery, sessionContext, loadingContextBuilder );
+	}
+
 	public SearchPredicateFactory<SR> predicate() {
 		return delegate.predicate();
 	}